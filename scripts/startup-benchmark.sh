@@ -0,0 +1,80 @@
+#!/usr/bin/env sh
+# 기동 시간 벤치마크: STARTUP_MODE=standard / aot-cds 이미지 비교
+# - time-to-ready: docker run 직후부터 /actuator/health가 UP을 반환할 때까지 (벽시계, ms)
+# - ready(jvm): JVM 기준 기동 완료 시간 (application.ready.time 메트릭, ms)
+# - RSS: ready 시점 java 프로세스 VmRSS (MiB)
+# - 모드별 요약: time-to-ready는 중앙값, 나머지는 평균
+# 사용: scripts/startup-benchmark.sh [반복 횟수, 기본 5]
+# 전제: docker, curl, GNU date (ms 단위 시각), docker-compose.yml의 postgres/redis 사용
+set -eu
+
+RUNS="${1:-5}"
+PORT="${BENCH_PORT:-18080}"
+# Actuator는 관리 포트(8081)에서만 제공, 로컬호스트에만 바인딩
+MANAGEMENT_PORT="${BENCH_MANAGEMENT_PORT:-18081}"
+CONTAINER=connecto-startup-bench
+MODES="standard aot-cds"
+
+cd "$(dirname "$0")/.."
+
+now_ms() {
+	date +%s%3N
+}
+
+cleanup() {
+	docker rm -f "$CONTAINER" > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+for mode in $MODES; do
+	echo "Building connecto:$mode ..."
+	docker build -q --build-arg STARTUP_MODE="$mode" -t "connecto:$mode" . > /dev/null
+done
+
+docker compose up -d --wait postgres redis > /dev/null
+NETWORK="$(docker inspect connecto-postgres -f '{{range $name, $_ := .NetworkSettings.Networks}}{{$name}}{{end}}')"
+
+# 한 번 기동 후 측정 (Flyway 마이그레이션 등 첫 실행에만 있는 비용 제외)
+run_once() {
+	image="$1"
+	cleanup
+	start="$(now_ms)"
+	docker run -d --name "$CONTAINER" --network "$NETWORK" -p "$PORT:8080" -p "127.0.0.1:$MANAGEMENT_PORT:8081" \
+		-e SPRING_PROFILES_ACTIVE=prod \
+		-e DB_HOST=postgres -e DB_USERNAME="${DB_USERNAME:-postgres}" -e DB_PASSWORD="${DB_PASSWORD:-postgres}" \
+		-e REDIS_HOST=redis -e REDIS_PASSWORD="${REDIS_PASSWORD:-}" \
+		-e JWT_SECRET=startup-benchmark-secret-key-minimum-256-bits-for-hs256-algorithm \
+		-e FRONTEND_URL=http://localhost:3000 \
+		"$image" > /dev/null
+	until curl -sf "http://localhost:$MANAGEMENT_PORT/actuator/health" | grep -q '"UP"'; do
+		if [ "$(docker inspect -f '{{.State.Running}}' "$CONTAINER")" != "true" ]; then
+			docker logs "$CONTAINER" >&2
+			echo "$image exited before becoming ready" >&2
+			exit 1
+		fi
+		sleep 0.05
+	done
+	ready="$(now_ms)"
+	jvm_ready="$(curl -sf "http://localhost:$MANAGEMENT_PORT/actuator/metrics/application.ready.time" \
+		| sed -n 's/.*"value":\([0-9.E-]*\).*/\1/p')"
+	rss_kb="$(docker exec "$CONTAINER" awk '/VmRSS/ { print $2 }' /proc/1/status)"
+	echo "$((ready - start)) $(awk -v s="$jvm_ready" 'BEGIN { printf "%d", s * 1000 }') $((rss_kb / 1024))"
+}
+
+run_once connecto:standard > /dev/null
+
+printf '%-10s %6s %16s %14s %10s\n' mode run time-to-ready ready\(jvm\) RSS
+for mode in $MODES; do
+	results=""
+	i=1
+	while [ "$i" -le "$RUNS" ]; do
+		set -- $(run_once "connecto:$mode")
+		printf '%-10s %6s %13s ms %11s ms %6s MiB\n' "$mode" "$i" "$1" "$2" "$3"
+		results="$results$1 $2 $3
+"
+		i=$((i + 1))
+	done
+	printf '%s' "$results" | sort -n | awk -v mode="$mode" '
+		{ ttr[NR] = $1; jvm += $2; rss += $3 }
+		END { printf "%-10s %6s %13s ms %11d ms %6d MiB\n", mode, "p50/avg", ttr[int((NR + 1) / 2)], jvm / NR, rss / NR }'
+done
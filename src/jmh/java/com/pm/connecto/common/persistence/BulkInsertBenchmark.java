@@ -0,0 +1,136 @@
+package com.pm.connecto.common.persistence;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 대량 INSERT 벤치마크 (call_sessions 형태의 테이블, H2 인메모리)
+ * - identityPerRow: IDENTITY 전략에서 Hibernate가 실행하는 방식 (행마다 INSERT + generated key 조회)
+ * - pooledSequenceBatch: PooledSequenceGenerator + hibernate.jdbc.batch_size 적용 시 실행 방식
+ *   (allocationSize 행마다 시퀀스 1회 조회, batchSize 행마다 executeBatch 1회)
+ *
+ * <p>실행: ./gradlew jmh -Pjmh.includes=BulkInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BulkInsertBenchmark {
+
+	private static final int BATCH_SIZE = 50;
+	private static final int ALLOCATION_SIZE = 50;
+
+	private static final String IDENTITY_INSERT_SQL =
+		"INSERT INTO call_sessions_identity (user1_id, user2_id, status, created_at) VALUES (?, ?, ?, ?)";
+	private static final String SEQUENCE_INSERT_SQL =
+		"INSERT INTO call_sessions_sequence (id, user1_id, user2_id, status, created_at) VALUES (?, ?, ?, ?, ?)";
+
+	@Param({"100", "1000"})
+	private int rows;
+
+	private Connection connection;
+	private PreparedStatement identityInsert;
+	private PreparedStatement sequenceInsert;
+	private PreparedStatement nextValue;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:bulk_insert_" + rows + ";DB_CLOSE_DELAY=-1");
+		try (Statement ddl = connection.createStatement()) {
+			ddl.execute("CREATE TABLE call_sessions_identity (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+				+ "user1_id BIGINT NOT NULL, user2_id BIGINT NOT NULL, status VARCHAR(20) NOT NULL, "
+				+ "created_at TIMESTAMP NOT NULL)");
+			ddl.execute("CREATE TABLE call_sessions_sequence (id BIGINT PRIMARY KEY, "
+				+ "user1_id BIGINT NOT NULL, user2_id BIGINT NOT NULL, status VARCHAR(20) NOT NULL, "
+				+ "created_at TIMESTAMP NOT NULL)");
+			ddl.execute("CREATE SEQUENCE call_sessions_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+		}
+		identityInsert = connection.prepareStatement(IDENTITY_INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+		sequenceInsert = connection.prepareStatement(SEQUENCE_INSERT_SQL);
+		nextValue = connection.prepareStatement("SELECT NEXT VALUE FOR call_sessions_seq");
+	}
+
+	@Setup(Level.Iteration)
+	public void truncate() throws SQLException {
+		try (Statement ddl = connection.createStatement()) {
+			ddl.execute("TRUNCATE TABLE call_sessions_identity");
+			ddl.execute("TRUNCATE TABLE call_sessions_sequence");
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		try (Statement drop = connection.createStatement()) {
+			drop.execute("DROP ALL OBJECTS");
+		}
+		connection.close();
+	}
+
+	@Benchmark
+	public long identityPerRow() throws SQLException {
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		long lastId = 0;
+		for (int i = 0; i < rows; i++) {
+			bindSession(identityInsert, 1, i, now);
+			identityInsert.executeUpdate();
+			try (ResultSet keys = identityInsert.getGeneratedKeys()) {
+				keys.next();
+				lastId = keys.getLong(1);
+			}
+		}
+		return lastId;
+	}
+
+	@Benchmark
+	public long pooledSequenceBatch() throws SQLException {
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		long nextId = 0;
+		long upperBound = 0;
+		for (int i = 0; i < rows; i++) {
+			if (nextId >= upperBound) {
+				// 시퀀스 1회 조회로 ALLOCATION_SIZE 개의 ID 구간 확보
+				nextId = fetchNextValue();
+				upperBound = nextId + ALLOCATION_SIZE;
+			}
+			sequenceInsert.setLong(1, nextId++);
+			bindSession(sequenceInsert, 2, i, now);
+			sequenceInsert.addBatch();
+			if ((i + 1) % BATCH_SIZE == 0) {
+				sequenceInsert.executeBatch();
+			}
+		}
+		sequenceInsert.executeBatch();
+		return nextId;
+	}
+
+	private long fetchNextValue() throws SQLException {
+		try (ResultSet rs = nextValue.executeQuery()) {
+			rs.next();
+			return rs.getLong(1);
+		}
+	}
+
+	private static void bindSession(PreparedStatement statement, int offset, int i, Timestamp now)
+		throws SQLException {
+		statement.setLong(offset, i * 2L + 1);
+		statement.setLong(offset + 1, i * 2L + 2);
+		statement.setString(offset + 2, "IN_PROGRESS");
+		statement.setTimestamp(offset + 3, now);
+	}
+}
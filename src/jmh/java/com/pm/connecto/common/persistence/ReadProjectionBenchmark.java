@@ -0,0 +1,133 @@
+package com.pm.connecto.common.persistence;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.pm.connecto.language.domain.Language;
+import com.pm.connecto.language.domain.LanguageLevel;
+import com.pm.connecto.language.domain.LanguageType;
+import com.pm.connecto.language.dto.LanguageResponse;
+import com.pm.connecto.profile.domain.Profile;
+import com.pm.connecto.profile.dto.ProfileResponse;
+import com.pm.connecto.user.domain.User;
+
+/**
+ * 조회 API 엔티티 로딩 vs record projection 벤치마크 (Hibernate + H2 인메모리, 2차 캐시 비활성)
+ * - *Entity: 엔티티 조회 후 Response.from 변환 (변경 전 GET /users/me/profile, /users/me/languages)
+ * - *Projection: constructor expression으로 응답 record 직접 생성 (변경 후)
+ * - 세션은 @Transactional(readOnly = true)와 동일하게 read-only + FlushMode.MANUAL
+ *
+ * <p>실행: ./gradlew jmh -Pjmh.includes=ReadProjectionBenchmark -Pjmh.profilers=gc
+ * <br>요청당 할당량은 gc.alloc.rate.norm (B/op)로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadProjectionBenchmark {
+
+	private static final String[] LANGUAGE_CODES = {"en", "ja", "zh-CN", "es", "fr", "de", "it", "pt", "ru"};
+
+	private SessionFactory sessionFactory;
+	private Long userId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = new Configuration()
+			.addAnnotatedClass(User.class)
+			.addAnnotatedClass(Profile.class)
+			.addAnnotatedClass(Language.class)
+			.setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:read_projection;DB_CLOSE_DELAY=-1")
+			.setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+			.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+			.setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+			.buildSessionFactory();
+
+		// 사용자 1명 + 프로필 + 언어 10개 (NATIVE 1, LEARNING 9)
+		userId = sessionFactory.fromTransaction(session -> {
+			User user = new User("bench@example.com", "encodedPassword123");
+			session.persist(user);
+			session.persist(Profile.builder().user(user).nickname("bench").bio("hello").build());
+			session.persist(Language.builder()
+				.user(user).languageCode("ko").type(LanguageType.NATIVE).level(LanguageLevel.ADVANCED).build());
+			for (String code : LANGUAGE_CODES) {
+				session.persist(Language.builder()
+					.user(user).languageCode(code).type(LanguageType.LEARNING).level(LanguageLevel.BEGINNER).build());
+			}
+			return user.getId();
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public ProfileResponse profileEntity() {
+		return inReadOnlyTransaction(session -> ProfileResponse.from(
+			session.createSelectionQuery("SELECT p FROM Profile p WHERE p.user.id = :userId", Profile.class)
+				.setParameter("userId", userId)
+				.getSingleResult()));
+	}
+
+	@Benchmark
+	public ProfileResponse profileProjection() {
+		return inReadOnlyTransaction(session -> session.createSelectionQuery(
+				"SELECT new com.pm.connecto.profile.dto.ProfileResponse(p.id, p.user.id, p.nickname, p.profileImageUrl, p.bio) "
+					+ "FROM Profile p WHERE p.user.id = :userId", ProfileResponse.class)
+			.setParameter("userId", userId)
+			.getSingleResult());
+	}
+
+	@Benchmark
+	public List<LanguageResponse> languagesEntity() {
+		return inReadOnlyTransaction(session -> session.createSelectionQuery(
+				"SELECT l FROM Language l WHERE l.user.id = :userId", Language.class)
+			.setParameter("userId", userId)
+			.getResultList()
+			.stream()
+			.map(LanguageResponse::from)
+			.toList());
+	}
+
+	@Benchmark
+	public List<LanguageResponse> languagesProjection() {
+		return inReadOnlyTransaction(session -> session.createSelectionQuery(
+				"SELECT new com.pm.connecto.language.dto.LanguageResponse(l.id, l.languageCode, l.type, l.level) "
+					+ "FROM Language l WHERE l.user.id = :userId ORDER BY l.id", LanguageResponse.class)
+			.setParameter("userId", userId)
+			.getResultList());
+	}
+
+	private <T> T inReadOnlyTransaction(Function<Session, T> work) {
+		try (Session session = sessionFactory.openSession()) {
+			session.setDefaultReadOnly(true);
+			session.setHibernateFlushMode(FlushMode.MANUAL);
+			session.beginTransaction();
+			try {
+				T result = work.apply(session);
+				session.getTransaction().commit();
+				return result;
+			} catch (RuntimeException e) {
+				session.getTransaction().rollback();
+				throw e;
+			}
+		}
+	}
+}
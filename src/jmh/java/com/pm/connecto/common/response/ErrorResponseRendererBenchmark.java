@@ -0,0 +1,85 @@
+package com.pm.connecto.common.response;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pm.connecto.common.exception.ForbiddenException;
+
+/**
+ * 거절 응답 처리량 벤치마크
+ * - legacy*: 기존 방식 (요청마다 ObjectMapper 직렬화, 스택 트레이스 포함 예외)
+ * - cached*: ErrorResponseRenderer + stackless BusinessException
+ *
+ * <p>실행: ./gradlew jmh -Pjmh.includes=ErrorResponseRendererBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class ErrorResponseRendererBenchmark {
+
+	private ObjectMapper objectMapper;
+	private ErrorResponseRenderer renderer;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		renderer = new ErrorResponseRenderer(objectMapper);
+	}
+
+	@Benchmark
+	public byte[] legacySerializeErrorBody() throws Exception {
+		return objectMapper.writeValueAsBytes(new LegacyErrorResponse(
+			false,
+			ErrorCode.INVALID_TOKEN.getCode(),
+			ErrorCode.INVALID_TOKEN.getMessage(),
+			LocalDateTime.now()
+		));
+	}
+
+	@Benchmark
+	public byte[] cachedRenderErrorBody() {
+		return renderer.render(ErrorCode.INVALID_TOKEN);
+	}
+
+	@Benchmark
+	public byte[] legacyThrowAndRender() throws Exception {
+		try {
+			throw new StackfulBusinessException(ErrorCode.ACCESS_DENIED.getMessage());
+		} catch (StackfulBusinessException e) {
+			return objectMapper.writeValueAsBytes(ApiResponse.error(ErrorCode.ACCESS_DENIED, e.getMessage()));
+		}
+	}
+
+	@Benchmark
+	public byte[] cachedThrowAndRender() {
+		try {
+			throw new ForbiddenException(ErrorCode.ACCESS_DENIED);
+		} catch (ForbiddenException e) {
+			return renderer.render(e.getErrorCode(), e.getMessage());
+		}
+	}
+
+	private record LegacyErrorResponse(boolean success, String code, String message, LocalDateTime timestamp) {
+	}
+
+	private static class StackfulBusinessException extends RuntimeException {
+		StackfulBusinessException(String message) {
+			super(message);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.pm.connecto.language.index;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.pm.connecto.language.domain.LanguageType;
+import com.pm.connecto.language.dto.LanguageIndexEntry;
+
+/**
+ * 상호 매칭 후보 조회 벤치마크
+ * - sqlFindMatchingUserIds: LanguageRepository.findMatchingUserIds와 동일한 SQL (H2 인메모리, 인덱스 동일)
+ * - indexFindReciprocalCandidates: LanguageCompatibilityIndex 집합 연산
+ *
+ * <p>실행: ./gradlew jmh -Pjmh.includes=LanguageCompatibilityIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LanguageCompatibilityIndexBenchmark {
+
+	private static final String[] LANGUAGE_CODES = {
+		"ko", "en", "ja", "zh-CN", "es", "fr", "de", "it", "pt", "ru",
+		"vi", "th", "id", "ar", "hi", "tr", "nl", "pl", "sv", "uk"
+	};
+
+	private static final String MATCHING_SQL = """
+		SELECT DISTINCT l.user_id FROM languages l
+		WHERE l.user_id <> ?
+		AND EXISTS (
+			SELECT 1 FROM languages l2
+			WHERE l2.user_id = l.user_id AND l2.language_code = ? AND l2.type = 'NATIVE'
+		)
+		AND EXISTS (
+			SELECT 1 FROM languages l3
+			WHERE l3.user_id = l.user_id AND l3.language_code = ? AND l3.type = 'LEARNING'
+		)
+		""";
+
+	@Param({"10000", "100000"})
+	private int userCount;
+
+	private Connection connection;
+	private PreparedStatement matchingStatement;
+	private LanguageCompatibilityIndex index;
+	private long probeUserId;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		List<LanguageIndexEntry> entries = generateEntries();
+
+		connection = DriverManager.getConnection("jdbc:h2:mem:bench_" + userCount + ";DB_CLOSE_DELAY=-1");
+		try (Statement ddl = connection.createStatement()) {
+			ddl.execute("CREATE TABLE languages (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT NOT NULL, "
+				+ "language_code VARCHAR(10) NOT NULL, type VARCHAR(20) NOT NULL)");
+			ddl.execute("CREATE INDEX idx_language_user_id ON languages (user_id)");
+			ddl.execute("CREATE INDEX idx_language_code ON languages (language_code)");
+			ddl.execute("CREATE INDEX idx_language_type ON languages (type)");
+			ddl.execute("CREATE INDEX idx_language_matching ON languages (language_code, type)");
+		}
+		try (PreparedStatement insert = connection.prepareStatement(
+			"INSERT INTO languages (user_id, language_code, type) VALUES (?, ?, ?)")) {
+			for (LanguageIndexEntry entry : entries) {
+				insert.setLong(1, entry.userId());
+				insert.setString(2, entry.languageCode());
+				insert.setString(3, entry.type().name());
+				insert.addBatch();
+			}
+			insert.executeBatch();
+		}
+		matchingStatement = connection.prepareStatement(MATCHING_SQL);
+
+		index = new LanguageCompatibilityIndex();
+		index.rebuild(() -> entries);
+		probeUserId = 1L;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		try (Statement drop = connection.createStatement()) {
+			drop.execute("DROP ALL OBJECTS");
+		}
+		connection.close();
+	}
+
+	@Benchmark
+	public List<Long> sqlFindMatchingUserIds() throws SQLException {
+		matchingStatement.setLong(1, probeUserId);
+		matchingStatement.setString(2, LANGUAGE_CODES[1]);
+		matchingStatement.setString(3, LANGUAGE_CODES[0]);
+		List<Long> result = new ArrayList<>();
+		try (ResultSet rs = matchingStatement.executeQuery()) {
+			while (rs.next()) {
+				result.add(rs.getLong(1));
+			}
+		}
+		return result;
+	}
+
+	@Benchmark
+	public long[] indexFindReciprocalCandidates() {
+		return index.findReciprocalCandidates(probeUserId);
+	}
+
+	/**
+	 * 사용자당 NATIVE 1개 + LEARNING 1~2개 (probe 사용자 1번은 ko 원어민, en 학습)
+	 */
+	private List<LanguageIndexEntry> generateEntries() {
+		SplittableRandom random = new SplittableRandom(42);
+		List<LanguageIndexEntry> entries = new ArrayList<>(userCount * 3);
+		entries.add(new LanguageIndexEntry(1L, LANGUAGE_CODES[0], LanguageType.NATIVE));
+		entries.add(new LanguageIndexEntry(1L, LANGUAGE_CODES[1], LanguageType.LEARNING));
+
+		for (long userId = 2; userId <= userCount; userId++) {
+			int nativeIdx = random.nextInt(LANGUAGE_CODES.length);
+			entries.add(new LanguageIndexEntry(userId, LANGUAGE_CODES[nativeIdx], LanguageType.NATIVE));
+
+			// 원어민 언어와 겹치지 않는 학습 언어 1~2개 (서로 다른 offset)
+			int firstOffset = 1 + random.nextInt(LANGUAGE_CODES.length - 1);
+			entries.add(new LanguageIndexEntry(userId,
+				LANGUAGE_CODES[(nativeIdx + firstOffset) % LANGUAGE_CODES.length], LanguageType.LEARNING));
+			if (random.nextBoolean()) {
+				int secondOffset = firstOffset % (LANGUAGE_CODES.length - 1) + 1;
+				entries.add(new LanguageIndexEntry(userId,
+					LANGUAGE_CODES[(nativeIdx + secondOffset) % LANGUAGE_CODES.length], LanguageType.LEARNING));
+			}
+		}
+		return entries;
+	}
+}
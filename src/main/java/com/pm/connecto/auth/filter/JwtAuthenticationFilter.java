@@ -1,17 +1,14 @@
 package com.pm.connecto.auth.filter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.Optional;
 
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.pm.connecto.auth.jwt.JwtTokenProvider;
 import com.pm.connecto.common.response.ErrorCode;
+import com.pm.connecto.common.response.ErrorResponseRenderer;
 import com.pm.connecto.user.domain.User;
 import com.pm.connecto.user.repository.UserRepository;
 
@@ -29,13 +26,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtTokenProvider jwtTokenProvider;
 	private final UserRepository userRepository;
-	private final ObjectMapper objectMapper;
+	private final ErrorResponseRenderer errorResponseRenderer;
 
-	public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserRepository userRepository) {
+	public JwtAuthenticationFilter(
+		JwtTokenProvider jwtTokenProvider,
+		UserRepository userRepository,
+		ErrorResponseRenderer errorResponseRenderer
+	) {
 		this.jwtTokenProvider = jwtTokenProvider;
 		this.userRepository = userRepository;
-		this.objectMapper = new ObjectMapper();
-		this.objectMapper.registerModule(new JavaTimeModule());
+		this.errorResponseRenderer = errorResponseRenderer;
 	}
 
 	@Override
@@ -96,19 +96,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	}
 
 	private void sendErrorResponse(HttpServletResponse response, int status, ErrorCode errorCode) throws IOException {
-		response.setStatus(status);
-		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-		response.setCharacterEncoding("UTF-8");
-
-		ErrorResponse errorResponse = new ErrorResponse(
-			false,
-			errorCode.getCode(),
-			errorCode.getMessage(),
-			LocalDateTime.now()
-		);
-
-		response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+		// ErrorCode별로 미리 직렬화된 본문 사용 (timestamp만 요청 시점 값으로 치환)
+		errorResponseRenderer.write(response, status, errorCode);
 	}
-
-	private record ErrorResponse(boolean success, String code, String message, LocalDateTime timestamp) {}
 }
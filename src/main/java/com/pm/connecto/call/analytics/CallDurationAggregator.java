@@ -0,0 +1,208 @@
+package com.pm.connecto.call.analytics;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.pm.connecto.call.dto.CallDurationSummary;
+import com.pm.connecto.call.dto.CallDurationSummary.Stats;
+import com.pm.connecto.match.domain.CallEndReason;
+import com.pm.connecto.match.service.CallSessionExpiryService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 통화 시간 히스토그램 노드 간 병합 (Redis)
+ * - 1분마다 CallDurationRecorder의 구간 히스토그램을 압축/Base64 인코딩해 분 단위 List에 RPUSH
+ *   (노드마다 한 항목씩 추가되므로 노드 ID나 락 없이 병합 가능)
+ * - 조회 시 구간 내 분 단위 List를 파이프라인으로 읽어 사유별로 합산 → 백분위 계산 (call_sessions 조회 없음)
+ * - 분 단위 키는 retentionHours 후 만료, 조회 구간은 maxWindowMinutes 이하 (구간 × 사유 수만큼 키를 읽으므로)
+ * - Redis 장애 시 해당 구간은 버리고 경고만 남김 (통화 처리에는 영향 없음)
+ * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
+ *
+ * <p>키 구조: call:duration:{reason}:{yyyyMMddHHmm} → List&lt;Base64(compressed histogram)&gt;
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class CallDurationAggregator {
+
+	private static final Logger log = LoggerFactory.getLogger(CallDurationAggregator.class);
+	private static final String KEY_PREFIX = "call:duration:";
+	private static final DateTimeFormatter MINUTE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+	private static final long CAP_MILLIS = CallSessionExpiryService.MAX_CALL_DURATION.toMillis();
+
+	private final CallDurationRecorder recorder;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Duration retention;
+	private final int maxWindowMinutes;
+
+	public CallDurationAggregator(
+		CallDurationRecorder recorder,
+		RedisTemplate<String, String> redisTemplate,
+		@Value("${call.analytics.retention-hours:168}") long retentionHours,
+		@Value("${call.analytics.max-window-minutes:1440}") int maxWindowMinutes
+	) {
+		this.recorder = recorder;
+		this.redisTemplate = redisTemplate;
+		this.retention = Duration.ofHours(retentionHours);
+		this.maxWindowMinutes = (int) Math.min(Math.max(maxWindowMinutes, 1), retention.toMinutes());
+	}
+
+	@Scheduled(fixedDelayString = "${call.analytics.flush-interval-ms:60000}")
+	public void flush() {
+		for (Map.Entry<CallEndReason, Histogram> entry : recorder.takeIntervalHistograms().entrySet()) {
+			Histogram interval = entry.getValue();
+			String key = key(entry.getKey(), minuteOf(interval.getStartTimeStamp()));
+			try {
+				redisTemplate.opsForList().rightPush(key, encode(interval));
+				redisTemplate.expire(key, retention);
+			} catch (RuntimeException e) {
+				log.warn("Failed to publish {} call durations for {}, dropping interval",
+					interval.getTotalCount(), key, e);
+			}
+		}
+	}
+
+	/**
+	 * 종료 시 마지막 구간 반영
+	 */
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	/**
+	 * 최근 minutes분(현재 진행 중인 분 제외, 최대 maxWindowMinutes) 통화 시간 요약
+	 */
+	public CallDurationSummary summarize(int minutes) {
+		return summarize(minutes, LocalDateTime.now());
+	}
+
+	CallDurationSummary summarize(int minutes, LocalDateTime now) {
+		int window = Math.min(Math.max(minutes, 1), maxWindowMinutes);
+		LocalDateTime to = now.truncatedTo(ChronoUnit.MINUTES);
+		LocalDateTime from = to.minusMinutes(window);
+
+		List<String> keys = new ArrayList<>();
+		List<CallEndReason> keyReasons = new ArrayList<>();
+		for (CallEndReason reason : CallEndReason.values()) {
+			for (LocalDateTime minute = from; minute.isBefore(to); minute = minute.plusMinutes(1)) {
+				keys.add(key(reason, minute));
+				keyReasons.add(reason);
+			}
+		}
+		List<Object> lists = redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings({"unchecked", "rawtypes"})
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				for (String key : keys) {
+					operations.opsForList().range(key, 0, -1);
+				}
+				return null;
+			}
+		});
+
+		Map<CallEndReason, Histogram> merged = new EnumMap<>(CallEndReason.class);
+		Histogram overall = newHistogram();
+		for (int i = 0; i < keys.size(); i++) {
+			@SuppressWarnings("unchecked")
+			List<String> encoded = (List<String>) lists.get(i);
+			if (encoded == null || encoded.isEmpty()) {
+				continue;
+			}
+			Histogram reasonHistogram = merged.computeIfAbsent(keyReasons.get(i), r -> newHistogram());
+			for (String value : encoded) {
+				Histogram decoded = decode(value, keys.get(i));
+				if (decoded != null) {
+					reasonHistogram.add(decoded);
+					overall.add(decoded);
+				}
+			}
+		}
+
+		Map<CallEndReason, Stats> byReason = new EnumMap<>(CallEndReason.class);
+		merged.forEach((reason, histogram) -> byReason.put(reason, stats(histogram)));
+		return new CallDurationSummary(from, to, stats(overall), capReachedRatio(overall), byReason);
+	}
+
+	/**
+	 * 최대 통화 시간과 같은 버킷 이상인 값의 비율 (HdrHistogram 정밀도 내에서 5분 도달로 간주)
+	 */
+	static double capReachedRatio(Histogram histogram) {
+		long total = histogram.getTotalCount();
+		if (total == 0) {
+			return 0;
+		}
+		long belowCap = histogram.getCountBetweenValues(0, histogram.lowestEquivalentValue(CAP_MILLIS) - 1);
+		return (double) (total - belowCap) / total;
+	}
+
+	static Stats stats(Histogram histogram) {
+		if (histogram.getTotalCount() == 0) {
+			return new Stats(0, 0, 0, 0, 0, 0);
+		}
+		return new Stats(
+			histogram.getTotalCount(),
+			seconds(histogram.getValueAtPercentile(50)),
+			seconds(histogram.getValueAtPercentile(90)),
+			seconds(histogram.getValueAtPercentile(99)),
+			seconds(histogram.getMaxValue()),
+			histogram.getMean() / 1000.0
+		);
+	}
+
+	static String encode(Histogram histogram) {
+		ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+		int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+		return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+	}
+
+	static Histogram decode(String value, String key) {
+		try {
+			return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(value)), 0);
+		} catch (DataFormatException | IllegalArgumentException e) {
+			log.warn("Skipping corrupt call duration histogram in {}", key, e);
+			return null;
+		}
+	}
+
+	private static Histogram newHistogram() {
+		return new Histogram(CallDurationRecorder.SIGNIFICANT_DIGITS);
+	}
+
+	private static double seconds(long millis) {
+		return millis / 1000.0;
+	}
+
+	private static LocalDateTime minuteOf(long epochMillis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+			.truncatedTo(ChronoUnit.MINUTES);
+	}
+
+	static String key(CallEndReason reason, LocalDateTime minute) {
+		return KEY_PREFIX + reason.name().toLowerCase() + ":" + MINUTE_FORMAT.format(minute);
+	}
+}
@@ -0,0 +1,35 @@
+package com.pm.connecto.call.analytics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.pm.connecto.call.dto.CallDurationSummary;
+
+/**
+ * 통화 시간 분포 조회 (운영자용 Actuator 엔드포인트)
+ * - GET /actuator/callDurations?minutes=60 → 최근 60분 p50/p90/p99, 5분 도달 비율, 종료 사유별 통계
+ * - 인증이 없으므로 서비스 포트가 아닌 관리 포트(management.server.port, 기본 8081)에서만 제공, 외부에 공개하지 않음
+ * - 조회 구간은 CallDurationAggregator에서 최대 call.analytics.max-window-minutes로 제한
+ * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
+ */
+@Component
+@Endpoint(id = "callDurations")
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class CallDurationEndpoint {
+
+	private static final int DEFAULT_MINUTES = 60;
+
+	private final CallDurationAggregator aggregator;
+
+	public CallDurationEndpoint(CallDurationAggregator aggregator) {
+		this.aggregator = aggregator;
+	}
+
+	@ReadOperation
+	public CallDurationSummary summary(@Nullable Integer minutes) {
+		return aggregator.summarize(minutes == null ? DEFAULT_MINUTES : minutes);
+	}
+}
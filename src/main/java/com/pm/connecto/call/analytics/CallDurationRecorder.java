@@ -0,0 +1,94 @@
+package com.pm.connecto.call.analytics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.pm.connecto.match.domain.CallEndReason;
+import com.pm.connecto.match.dto.ExpiredCallSession;
+import com.pm.connecto.match.event.CallSessionEndedEvent;
+import com.pm.connecto.match.event.CallSessionsExpiredEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 통화 시간 스트리밍 집계 (노드 로컬)
+ * - 종료 사유별 HdrHistogram Recorder에 통화 시간(ms) 기록 (wait-free, 요청 스레드 부담 없음)
+ * - CallDurationAggregator가 1분마다 구간 히스토그램을 꺼내 Redis로 병합
+ * - 종료 건수는 Micrometer 카운터(call.session.ended, reason 태그)로도 노출
+ * - 시작 전에 종료된 세션은 건수만 세고 히스토그램에는 기록하지 않음
+ */
+@Component
+public class CallDurationRecorder {
+
+	/**
+	 * 유효 숫자 3자리 (최대 5분 통화 기준 오차 ±0.3초 이하)
+	 */
+	static final int SIGNIFICANT_DIGITS = 3;
+
+	private final Map<CallEndReason, Recorder> recorders = new EnumMap<>(CallEndReason.class);
+	private final Map<CallEndReason, Histogram> recycled = new EnumMap<>(CallEndReason.class);
+	private final Map<CallEndReason, Counter> endedCounters = new EnumMap<>(CallEndReason.class);
+
+	public CallDurationRecorder(MeterRegistry meterRegistry) {
+		for (CallEndReason reason : CallEndReason.values()) {
+			recorders.put(reason, new Recorder(SIGNIFICANT_DIGITS));
+			endedCounters.put(reason, Counter.builder("call.session.ended")
+				.description("Ended call sessions by end reason")
+				.tag("reason", reason.name().toLowerCase())
+				.register(meterRegistry));
+		}
+	}
+
+	/**
+	 * 사용자 종료 (USER/DISCONNECT), endCall 트랜잭션 커밋 이후
+	 */
+	@TransactionalEventListener
+	public void onCallSessionEnded(CallSessionEndedEvent event) {
+		record(event.reason(), event.startedAt(), event.endedAt());
+	}
+
+	/**
+	 * 시간 초과 종료 (EXPIRED), 트랜잭션 밖에서 발행되므로 fallbackExecution
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCallSessionsExpired(CallSessionsExpiredEvent event) {
+		for (ExpiredCallSession session : event.sessions()) {
+			record(CallEndReason.EXPIRED, session.startedAt(), event.endedAt());
+		}
+	}
+
+	public void record(CallEndReason reason, LocalDateTime startedAt, LocalDateTime endedAt) {
+		endedCounters.get(reason).increment();
+		if (startedAt == null || endedAt == null) {
+			return;
+		}
+		// 노드 간 시계 차이로 음수가 나오면 0으로 기록
+		long millis = Math.max(0, Duration.between(startedAt, endedAt).toMillis());
+		recorders.get(reason).recordValue(millis);
+	}
+
+	/**
+	 * 마지막 호출 이후 기록된 구간 히스토그램 (사유별, 기록이 없는 사유는 제외)
+	 * - 단일 스레드(CallDurationAggregator 스케줄러)에서만 호출
+	 * - 반환된 히스토그램은 다음 호출에서 재사용되므로 호출자는 다음 호출 전에 사용을 끝내야 함
+	 */
+	public Map<CallEndReason, Histogram> takeIntervalHistograms() {
+		Map<CallEndReason, Histogram> intervals = new EnumMap<>(CallEndReason.class);
+		for (Map.Entry<CallEndReason, Recorder> entry : recorders.entrySet()) {
+			Histogram interval = entry.getValue().getIntervalHistogram(recycled.get(entry.getKey()));
+			recycled.put(entry.getKey(), interval);
+			if (interval.getTotalCount() > 0) {
+				intervals.put(entry.getKey(), interval);
+			}
+		}
+		return intervals;
+	}
+}
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.pm.connecto.common.context.UserContext;
 import com.pm.connecto.common.response.ApiResponse;
 import com.pm.connecto.call.dto.CallAgainRequest;
+import com.pm.connecto.call.dto.CallAgainResponse;
 import com.pm.connecto.call.dto.CallEndRequest;
 import com.pm.connecto.call.service.CallService;
 
@@ -35,7 +36,7 @@ public class CallController {
 		this.userContext = userContext;
 	}
 
-	@Operation(summary = "통화 종료", description = "통화를 종료하고 세션을 종료 상태로 변경합니다.")
+	@Operation(summary = "통화 종료", description = "통화를 종료하고 세션을 종료 상태로 변경합니다. 연결 끊김으로 종료하는 경우 reason=DISCONNECT")
 	@SecurityRequirement(name = "Bearer Authentication")
 	@ApiResponses({
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "종료 성공"),
@@ -43,19 +44,19 @@ public class CallController {
 	})
 	@PostMapping("/end")
 	public ApiResponse<Void> endCall(@Valid @RequestBody CallEndRequest request) {
-		callService.endCall(request.sessionId(), userContext.getUserId());
+		callService.endCall(request.sessionId(), userContext.getUserId(), request.endReason());
 		return ApiResponse.success(null);
 	}
 
-	@Operation(summary = "재연결 의사 표현", description = "통화 종료 후 상대방과 다시 통화하고 싶은 의사를 표현합니다. (👍)")
+	@Operation(summary = "재연결 의사 표현", description = "통화 종료 후 상대방과 다시 통화하고 싶은 의사를 표현합니다. (👍) 양측 모두 👍이면 대기열 없이 새 세션이 생성됩니다.")
 	@SecurityRequirement(name = "Bearer Authentication")
 	@ApiResponses({
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "의사 표현 성공"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "접근 권한 없음")
 	})
 	@PostMapping("/again")
-	public ApiResponse<Void> expressCallAgain(@Valid @RequestBody CallAgainRequest request) {
-		callService.expressCallAgain(request.sessionId(), userContext.getUserId(), request.wantAgain());
-		return ApiResponse.success(null);
+	public ApiResponse<CallAgainResponse> expressCallAgain(@Valid @RequestBody CallAgainRequest request) {
+		return ApiResponse.success(
+			callService.expressCallAgain(request.sessionId(), userContext.getUserId(), request.wantAgain()));
 	}
 }
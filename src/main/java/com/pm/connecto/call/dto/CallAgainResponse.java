@@ -0,0 +1,19 @@
+package com.pm.connecto.call.dto;
+
+/**
+ * 재연결 의사 표현 응답
+ * - 양측 모두 👍이면 새 세션 정보 포함 (상대방은 /match/status에서 같은 세션 확인)
+ */
+public record CallAgainResponse(
+	boolean rematched,
+	Long sessionId,
+	String webrtcChannelId
+) {
+	public static CallAgainResponse waiting() {
+		return new CallAgainResponse(false, null, null);
+	}
+
+	public static CallAgainResponse rematched(Long sessionId, String webrtcChannelId) {
+		return new CallAgainResponse(true, sessionId, webrtcChannelId);
+	}
+}
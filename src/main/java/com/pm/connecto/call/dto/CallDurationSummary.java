@@ -0,0 +1,35 @@
+package com.pm.connecto.call.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.pm.connecto.match.domain.CallEndReason;
+
+/**
+ * 통화 시간 분포 요약 (전체 노드 병합, 분 단위 구간)
+ *
+ * @param from 조회 구간 시작 (포함, 분 단위)
+ * @param to 조회 구간 끝 (미포함, 분 단위)
+ * @param capReachedRatio 최대 통화 시간(5분)에 도달한 통화 비율 (0~1)
+ */
+public record CallDurationSummary(
+	LocalDateTime from,
+	LocalDateTime to,
+	Stats overall,
+	double capReachedRatio,
+	Map<CallEndReason, Stats> byReason
+) {
+
+	/**
+	 * 통화 시간 통계 (초 단위, HdrHistogram 유효 숫자 3자리 정밀도)
+	 */
+	public record Stats(
+		long count,
+		double p50Seconds,
+		double p90Seconds,
+		double p99Seconds,
+		double maxSeconds,
+		double meanSeconds
+	) {
+	}
+}
@@ -1,12 +1,21 @@
 package com.pm.connecto.call.dto;
 
+import com.pm.connecto.match.domain.CallEndReason;
+
 import jakarta.validation.constraints.NotNull;
 
 /**
  * 통화 종료 요청
+ *
+ * @param reason 생략 시 USER, 연결 끊김으로 종료하는 경우 DISCONNECT (EXPIRED는 서버 전용이라 USER로 처리)
  */
 public record CallEndRequest(
 	@NotNull(message = "세션 ID는 필수입니다.")
-	Long sessionId
+	Long sessionId,
+	CallEndReason reason
 ) {
+
+	public CallEndReason endReason() {
+		return reason == CallEndReason.DISCONNECT ? CallEndReason.DISCONNECT : CallEndReason.USER;
+	}
 }
@@ -1,21 +1,38 @@
 package com.pm.connecto.call.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.pm.connecto.call.dto.CallAgainResponse;
 import com.pm.connecto.common.exception.ForbiddenException;
 import com.pm.connecto.common.exception.ResourceNotFoundException;
 import com.pm.connecto.common.response.ErrorCode;
+import com.pm.connecto.match.domain.CallEndReason;
 import com.pm.connecto.match.domain.CallSession;
+import com.pm.connecto.match.dto.CallSessionState;
+import com.pm.connecto.match.event.CallSessionEndedEvent;
 import com.pm.connecto.match.repository.CallSessionRepository;
+import com.pm.connecto.match.service.ActiveCallSessionStore;
+import com.pm.connecto.match.service.ActiveCallSessionStore.WantAgainResult;
+import com.pm.connecto.match.service.MatchRevealCache;
+import com.pm.connecto.match.service.MatchService;
 
 /**
  * 통화 서비스 (프로덕션 수준)
  * - 통화 종료 처리
  * - 재연결 의사 표현
  * - 로깅 및 모니터링
+ * - 진행 중/종료 직후 세션은 ActiveCallSessionStore에서 처리 (DB 반영은 write-behind),
+ *   저장소에 없는 세션(저장소 도입 이전, 보존 시간 경과, Redis 장애 중 생성)은 DB 경로로 처리
  */
 @Service
 public class CallService {
@@ -23,18 +40,45 @@ public class CallService {
 	private static final Logger log = LoggerFactory.getLogger(CallService.class);
 
 	private final CallSessionRepository callSessionRepository;
+	private final ObjectProvider<MatchRevealCache> matchRevealCache;
+	private final ObjectProvider<ActiveCallSessionStore> activeCallSessionStore;
+	private final ObjectProvider<MatchService> matchService;
+	private final ApplicationEventPublisher eventPublisher;
 
-	public CallService(CallSessionRepository callSessionRepository) {
+	/**
+	 * @param matchRevealCache Redis가 설정된 경우에만 존재 (없으면 스냅샷 갱신 생략)
+	 * @param activeCallSessionStore Redis가 설정된 경우에만 존재 (없으면 DB 경로만 사용)
+	 * @param matchService Redis가 설정된 경우에만 존재 (없으면 재연결 세션 생성 생략)
+	 */
+	public CallService(
+		CallSessionRepository callSessionRepository,
+		ObjectProvider<MatchRevealCache> matchRevealCache,
+		ObjectProvider<ActiveCallSessionStore> activeCallSessionStore,
+		ObjectProvider<MatchService> matchService,
+		ApplicationEventPublisher eventPublisher
+	) {
 		this.callSessionRepository = callSessionRepository;
+		this.matchRevealCache = matchRevealCache;
+		this.activeCallSessionStore = activeCallSessionStore;
+		this.matchService = matchService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	/**
 	 * 통화 종료
 	 * - 통화 중인 세션만 종료 가능
 	 * - 종료 시간 기록 및 로깅
+	 * - 통화 시간은 종료 사유별로 CallDurationRecorder가 집계 (커밋 이후 이벤트)
 	 */
 	@Transactional
-	public void endCall(Long sessionId, Long userId) {
+	public void endCall(Long sessionId, Long userId, CallEndReason reason) {
+		ActiveCallSessionStore store = activeCallSessionStore.getIfAvailable();
+		Optional<CallSessionState> active = findActive(store, sessionId);
+		if (active.isPresent()) {
+			endActiveCall(store, active.get(), userId, reason);
+			return;
+		}
+
 		CallSession session = callSessionRepository.findByIdAndUserId(sessionId, userId)
 			.orElseThrow(() -> {
 				log.warn("Session {} not found or user {} not authorized", sessionId, userId);
@@ -48,16 +92,54 @@ public class CallService {
 		}
 
 		session.end();
-		
+		callSessionRepository.releaseParticipants(sessionId);
+		onCallEnded(sessionId, session.getStartedAt(), session.getEndedAt(),
+			session.getUser1().getId(), session.getUser2().getId(), reason);
+	}
+
+	/**
+	 * Redis 장애 시 DB 경로로 처리 (장애 중 생성된 세션은 DB에만 존재)
+	 */
+	private Optional<CallSessionState> findActive(ActiveCallSessionStore store, Long sessionId) {
+		if (store == null) {
+			return Optional.empty();
+		}
+		try {
+			return store.find(sessionId);
+		} catch (DataAccessException e) {
+			log.warn("Active call session store unavailable, falling back to database for session {}", sessionId, e);
+			return Optional.empty();
+		}
+	}
+
+	private void endActiveCall(ActiveCallSessionStore store, CallSessionState session, Long userId,
+		CallEndReason reason) {
+		Long sessionId = session.sessionId();
+		if (!session.isParticipant(userId)) {
+			log.warn("Session {} not found or user {} not authorized", sessionId, userId);
+			throw new ResourceNotFoundException(ErrorCode.SESSION_NOT_FOUND);
+		}
+
+		// 통화 중인 세션만 종료 가능 (타이머 등에 의해 동시에 종료된 경우 포함)
+		CallSessionState ended = store.end(sessionId, LocalDateTime.now())
+			.orElseThrow(() -> {
+				log.warn("User {} attempted to end non-in-progress session {}", userId, sessionId);
+				return new ForbiddenException(ErrorCode.ACCESS_DENIED);
+			});
+
+		onCallEnded(sessionId, ended.startedAt(), ended.endedAt(), ended.user1Id(), ended.user2Id(), reason);
+	}
+
+	private void onCallEnded(Long sessionId, LocalDateTime startedAt, LocalDateTime endedAt, Long user1Id, Long user2Id,
+		CallEndReason reason) {
+		matchRevealCache.ifAvailable(cache -> cache.markEnded(sessionId));
+		eventPublisher.publishEvent(new CallSessionEndedEvent(sessionId, startedAt, endedAt, reason));
+
 		// 통화 시간 계산 및 로깅
-		if (session.getStartedAt() != null) {
-			long durationSeconds = java.time.Duration.between(
-				session.getStartedAt(), 
-				session.getEndedAt()
-			).getSeconds();
-			
-			log.info("Call ended: Session {}, Duration: {} seconds, Users: {} and {}", 
-				sessionId, durationSeconds, session.getUser1().getId(), session.getUser2().getId());
+		if (startedAt != null) {
+			long durationSeconds = Duration.between(startedAt, endedAt).getSeconds();
+			log.info("Call ended: Session {}, Duration: {} seconds, Reason: {}, Users: {} and {}", 
+				sessionId, durationSeconds, reason, user1Id, user2Id);
 		} else {
 			log.warn("Call ended without start time: Session {}", sessionId);
 		}
@@ -66,10 +148,16 @@ public class CallService {
 	/**
 	 * 재연결 의사 표현 (👍)
 	 * - 종료된 세션만 재연결 의사 표현 가능
-	 * - 양측 모두 👍를 누른 경우 재연결 처리
+	 * - 양측 모두 👍를 누른 경우 같은 두 사용자로 새 세션 생성 (대기열 우회, 원 세션 기준 멱등)
 	 */
 	@Transactional
-	public void expressCallAgain(Long sessionId, Long userId, boolean wantAgain) {
+	public CallAgainResponse expressCallAgain(Long sessionId, Long userId, boolean wantAgain) {
+		ActiveCallSessionStore store = activeCallSessionStore.getIfAvailable();
+		Optional<CallSessionState> active = findActive(store, sessionId);
+		if (active.isPresent()) {
+			return expressActiveCallAgain(store, active.get(), userId, wantAgain);
+		}
+
 		CallSession session = callSessionRepository.findByIdAndUserId(sessionId, userId)
 			.orElseThrow(() -> {
 				log.warn("Session {} not found or user {} not authorized", sessionId, userId);
@@ -83,8 +171,6 @@ public class CallService {
 		}
 
 		// 사용자별 재연결 의사 설정
-		boolean wasBothWantAgain = session.bothWantAgain();
-		
 		if (userId.equals(session.getUser1().getId())) {
 			session.setUser1WantAgain(wantAgain);
 		} else if (userId.equals(session.getUser2().getId())) {
@@ -95,14 +181,51 @@ public class CallService {
 			throw new ForbiddenException(ErrorCode.ACCESS_DENIED);
 		}
 
+		return onCallAgainExpressed(sessionId, userId, wantAgain,
+			session.bothWantAgain(), session.getUser1().getId(), session.getUser2().getId());
+	}
+
+	private CallAgainResponse expressActiveCallAgain(ActiveCallSessionStore store, CallSessionState session, Long userId,
+		boolean wantAgain) {
+		Long sessionId = session.sessionId();
+		if (!session.isParticipant(userId)) {
+			log.warn("Session {} not found or user {} not authorized", sessionId, userId);
+			throw new ResourceNotFoundException(ErrorCode.SESSION_NOT_FOUND);
+		}
+
+		WantAgainResult result = store.setWantAgain(sessionId, userId, wantAgain, LocalDateTime.now());
+		if (result == WantAgainResult.NOT_FOUND) {
+			log.warn("Session {} not found or user {} not authorized", sessionId, userId);
+			throw new ResourceNotFoundException(ErrorCode.SESSION_NOT_FOUND);
+		}
+		// 종료된 세션만 재연결 의사 표현 가능
+		if (result == WantAgainResult.NOT_ENDED) {
+			log.warn("User {} attempted to express call again for non-ended session {}", userId, sessionId);
+			throw new ForbiddenException(ErrorCode.ACCESS_DENIED);
+		}
+
+		// 상대가 먼저 👍한 상태에서 다시 누른 경우(재시도)도 재연결 대상, 생성은 멱등이라 중복되지 않음
+		boolean bothWantAgain = result == WantAgainResult.BOTH_WANT_AGAIN
+			|| (wantAgain && session.wantAgain(session.partnerId(userId)));
+		return onCallAgainExpressed(sessionId, userId, wantAgain, bothWantAgain, session.user1Id(), session.user2Id());
+	}
+
+	private CallAgainResponse onCallAgainExpressed(Long sessionId, Long userId, boolean wantAgain,
+		boolean bothWantAgain, Long user1Id, Long user2Id) {
+		matchRevealCache.ifAvailable(cache -> cache.markWantAgain(sessionId, userId, wantAgain));
+
 		log.info("User {} expressed call again preference: {} for session {}", userId, wantAgain, sessionId);
 
-		// 양측 모두 👍를 누른 경우 재연결 처리
-		if (!wasBothWantAgain && session.bothWantAgain()) {
-			log.info("Both users want to reconnect: Session {}, Users: {} and {}", 
-				sessionId, session.getUser1().getId(), session.getUser2().getId());
-			// TODO: 재연결 로직 구현 (친구 맺기 또는 다시 통화)
-			// - 친구 관계 생성 또는 재매칭 트리거
+		// 양측 모두 👍를 누른 경우 재연결 (동시에 눌러도 새 세션은 1개)
+		MatchService matcher = matchService.getIfAvailable();
+		if (!bothWantAgain || matcher == null) {
+			return CallAgainResponse.waiting();
 		}
+		log.info("Both users want to reconnect: Session {}, Users: {} and {}", 
+			sessionId, user1Id, user2Id);
+		return matcher.rematch(sessionId, user1Id, user2Id)
+			.filter(CallSessionState::isInProgress)
+			.map(rematch -> CallAgainResponse.rematched(rematch.sessionId(), rematch.webrtcChannelId()))
+			.orElseGet(CallAgainResponse::waiting);
 	}
 }
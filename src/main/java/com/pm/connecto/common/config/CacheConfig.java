@@ -0,0 +1,39 @@
+package com.pm.connecto.common.config;
+
+import java.time.Duration;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 로컬 캐시 설정 (Caffeine)
+ * - 캐시별 크기/TTL을 개별 등록
+ * - TransactionAwareCacheManagerProxy: put/evict를 트랜잭션 커밋 이후로 지연
+ *   (커밋 전 무효화 → 다른 요청이 이전 데이터로 재적재하는 경쟁 방지)
+ * - 노드 로컬 캐시이므로 다른 노드의 쓰기는 TTL 만료로 반영됨
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	/**
+	 * /users/me 통합 응답 (key: userId)
+	 */
+	public static final String USER_ME = "userMe";
+
+	@Bean
+	public CacheManager cacheManager() {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.registerCustomCache(USER_ME, Caffeine.newBuilder()
+			.maximumSize(10_000)
+			.expireAfterWrite(Duration.ofSeconds(60))
+			.build());
+		return new TransactionAwareCacheManagerProxy(cacheManager);
+	}
+}
@@ -0,0 +1,99 @@
+package com.pm.connecto.common.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.pm.connecto.common.datasource.ReplicaRoutingDataSource;
+import com.pm.connecto.common.datasource.ReplicaStickinessFilter;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 읽기 전용 트랜잭션 replica 라우팅 설정
+ * - datasource.replica.urls(쉼표 구분)가 설정되어 있을 때만 라우팅 (미설정 시 primary 풀을 그대로 DataSource로 사용)
+ * - 라우팅 여부는 클래스 단위 조건(@ConditionalOnProperty)이 아니라 빈 생성 시 결정
+ *   (AOT 빌드는 조건을 processAot 시점 값으로 고정하므로, 실행 시 지정한 replica 설정이 무시되지 않도록)
+ * - primary: spring.datasource.*, replica: 동일 드라이버/계정 (datasource.replica.username/password로 변경 가능)
+ * - 두 풀 모두 spring.datasource.hikari.* 설정을 공유, replica 풀은 read-only + 짧은 커넥션 타임아웃
+ */
+@Configuration
+public class DataSourceRoutingConfig {
+
+	private static final long REPLICA_CONNECTION_TIMEOUT_MS = 2000;
+	private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+	@Bean(destroyMethod = "close")
+	public ReplicaRoutingDataSource replicaRoutingDataSource(
+		DataSourceProperties properties,
+		Environment environment,
+		@Value("${datasource.replica.urls:}") List<String> replicaUrls,
+		@Value("${datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+		@Value("${datasource.replica.password:${spring.datasource.password:}}") String replicaPassword
+	) {
+		Binder binder = Binder.get(environment);
+
+		HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		binder.bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+		primary.setPoolName("primary");
+
+		List<DataSource> replicas = new ArrayList<>();
+		for (String url : replicaUrls) {
+			if (url.isBlank()) {
+				continue;
+			}
+			HikariDataSource replica = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.driverClassName(properties.determineDriverClassName())
+				.url(url.trim())
+				.username(replicaUsername)
+				.password(replicaPassword)
+				.build();
+			binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+			replica.setPoolName("replica-" + replicas.size());
+			replica.setReadOnly(true);
+			replica.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT_MS);
+			// replica가 내려가 있어도 기동은 가능하도록 (헬스 체크 후 primary로 폴백)
+			replica.setInitializationFailTimeout(-1);
+			replicas.add(replica);
+		}
+
+		return new ReplicaRoutingDataSource(primary, replicas);
+	}
+
+	/**
+	 * JPA/JDBC가 사용하는 DataSource
+	 * - replica가 있으면 첫 SQL 실행 시점까지 커넥션 획득을 지연하여 트랜잭션 readOnly 플래그로 라우팅
+	 * - replica가 없으면 primary 풀 (지연 프록시 없이 기존 단일 DataSource와 동일)
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+		if (!replicaRoutingDataSource.hasReplicas()) {
+			return replicaRoutingDataSource.getPrimary();
+		}
+		return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+	}
+
+	@Bean
+	public FilterRegistrationBean<ReplicaStickinessFilter> replicaStickinessFilterRegistration() {
+		FilterRegistrationBean<ReplicaStickinessFilter> registration = new FilterRegistrationBean<>();
+		registration.setFilter(new ReplicaStickinessFilter());
+		registration.addUrlPatterns("/*");
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+}
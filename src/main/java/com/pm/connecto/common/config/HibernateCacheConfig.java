@@ -0,0 +1,83 @@
+package com.pm.connecto.common.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine)
+ * - 엔티티/쿼리 region별 크기/TTL을 개별 등록
+ * - 노드 로컬 캐시이므로 다른 노드의 쓰기는 TTL 만료로 반영됨 (인증 경로의 User는 TTL을 짧게)
+ * - 벌크 JPQL(UPDATE/DELETE)은 Hibernate가 해당 엔티티 region 전체와 쿼리 캐시를 무효화
+ * - 적중/미스 통계는 hibernate.generate_statistics + hibernate-micrometer로 /actuator/metrics에 노출
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+	// ========== 엔티티 region ==========
+	public static final String USER_REGION = "user";
+	public static final String PROFILE_REGION = "profile";
+	public static final String LANGUAGE_REGION = "language";
+
+	// ========== 쿼리 region ==========
+	public static final String PROFILE_BY_USER_QUERY_REGION = "query.profileByUserId";
+	public static final String LANGUAGES_BY_USER_QUERY_REGION = "query.languagesByUserId";
+
+	// Hibernate 기본 region (쿼리 캐시 사용 시 필수)
+	private static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+	private static final String DEFAULT_UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+	/**
+	 * 컨텍스트 종료 시 함께 닫아 다음 컨텍스트가 이전 캐시 내용을 재사용하지 않도록 함
+	 * - 기본 URI의 CacheManager는 클래스로더 단위 싱글턴이므로 컨텍스트마다 고유 URI로 생성
+	 *   (한 컨텍스트가 닫을 때 같은 JVM의 다른 컨텍스트 캐시까지 닫히지 않도록)
+	 */
+	@Bean(destroyMethod = "close")
+	public CacheManager hibernateCacheManager() {
+		CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+		CacheManager cacheManager = provider.getCacheManager(
+			URI.create("hibernate-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+		createRegion(cacheManager, USER_REGION, 10_000, Duration.ofSeconds(30));
+		createRegion(cacheManager, PROFILE_REGION, 10_000, Duration.ofMinutes(5));
+		createRegion(cacheManager, LANGUAGE_REGION, 50_000, Duration.ofMinutes(5));
+		createRegion(cacheManager, PROFILE_BY_USER_QUERY_REGION, 10_000, Duration.ofMinutes(5));
+		createRegion(cacheManager, LANGUAGES_BY_USER_QUERY_REGION, 10_000, Duration.ofMinutes(5));
+		createRegion(cacheManager, DEFAULT_QUERY_RESULTS_REGION, 1_000, Duration.ofMinutes(1));
+		// 테이블별 마지막 변경 시각 (만료/축출되면 오래된 쿼리 결과가 유효해 보일 수 있으므로 제한 없음)
+		createRegion(cacheManager, DEFAULT_UPDATE_TIMESTAMPS_REGION, null, null);
+		return cacheManager;
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+		return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+	}
+
+	private static void createRegion(CacheManager cacheManager, String region, Integer maximumSize, Duration ttl) {
+		if (cacheManager.getCache(region) != null) {
+			return;
+		}
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		if (maximumSize != null) {
+			configuration.setMaximumSize(OptionalLong.of(maximumSize));
+		}
+		if (ttl != null) {
+			configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+		}
+		configuration.setStatisticsEnabled(true);
+		cacheManager.createCache(region, configuration);
+	}
+}
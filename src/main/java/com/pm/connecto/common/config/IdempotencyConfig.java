@@ -0,0 +1,39 @@
+package com.pm.connecto.common.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.pm.connecto.common.idempotency.IdempotencyFilter;
+import com.pm.connecto.common.idempotency.IdempotencyStore;
+import com.pm.connecto.common.response.ErrorResponseRenderer;
+
+/**
+ * Idempotency-Key 필터 등록
+ * - 모바일 재시도가 잦은 상태 변경 API에만 적용 (/match/start, /call/end, /call/again)
+ * - JwtAuthenticationFilter(order 1) 다음에 실행
+ * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class IdempotencyConfig {
+
+	@Bean
+	public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(
+		IdempotencyStore idempotencyStore,
+		ErrorResponseRenderer errorResponseRenderer,
+		@Value("${idempotency.ttl-seconds:300}") long ttlSeconds,
+		@Value("${idempotency.in-flight-timeout-ms:10000}") long inFlightTimeoutMillis
+	) {
+		FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>();
+		registration.setFilter(new IdempotencyFilter(idempotencyStore, errorResponseRenderer,
+			Duration.ofSeconds(ttlSeconds), Duration.ofMillis(inFlightTimeoutMillis)));
+		registration.addUrlPatterns("/match/start", "/call/end", "/call/again");
+		registration.setOrder(2);
+		return registration;
+	}
+}
@@ -0,0 +1,73 @@
+package com.pm.connecto.common.config;
+
+import java.util.List;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 기동 시 필요 없는 빈 지연 초기화
+ * - Swagger/OpenAPI(springdoc) 빈은 첫 /v3/api-docs, /swagger-ui 요청 시 생성 (기동 시간, 초기 메모리 감소)
+ * - 매칭/통화 경로(컨트롤러, 필터, JPA, Redis)는 즉시 초기화 유지 (첫 요청 지연 방지, 전역 lazy-initialization 미사용)
+ * - 대상: startup.lazy-bean-prefixes (빈 클래스 또는 @Bean 메서드를 선언한 설정 클래스 이름의 접두사)
+ */
+@Configuration(proxyBeanMethods = false)
+public class LazyInitializationConfig {
+
+	static final List<String> DEFAULT_LAZY_BEAN_PREFIXES = List.of(
+		"org.springdoc.",
+		SwaggerConfig.class.getName()
+	);
+
+	/**
+	 * 다른 빈보다 먼저 생성되어야 하므로 static
+	 */
+	@Bean
+	public static BeanFactoryPostProcessor nonHotBeanLazyInitializer(Environment environment) {
+		List<String> prefixes = Binder.get(environment)
+			.bind("startup.lazy-bean-prefixes", Bindable.listOf(String.class))
+			.orElse(DEFAULT_LAZY_BEAN_PREFIXES);
+		return new NonHotBeanLazyInitializer(prefixes);
+	}
+
+	static class NonHotBeanLazyInitializer implements BeanFactoryPostProcessor {
+
+		private final List<String> prefixes;
+
+		NonHotBeanLazyInitializer(List<String> prefixes) {
+			this.prefixes = prefixes;
+		}
+
+		@Override
+		public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+			for (String beanName : beanFactory.getBeanDefinitionNames()) {
+				BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+				String declaringClass = declaringClassName(beanFactory, definition);
+				if (declaringClass != null && prefixes.stream().anyMatch(declaringClass::startsWith)) {
+					definition.setLazyInit(true);
+				}
+			}
+		}
+
+		/**
+		 * @Bean 메서드로 등록된 빈은 클래스 이름이 없으므로 메서드를 선언한 설정 클래스 기준
+		 */
+		private String declaringClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+			if (definition.getBeanClassName() != null) {
+				return definition.getBeanClassName();
+			}
+			String factoryBeanName = definition.getFactoryBeanName();
+			if (factoryBeanName == null || !beanFactory.containsBeanDefinition(factoryBeanName)) {
+				return null;
+			}
+			return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+		}
+	}
+}
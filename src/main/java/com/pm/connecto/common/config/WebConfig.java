@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.pm.connecto.common.idempotency.IdempotencyFilter;
+
 /**
  * 웹 설정 (CORS 등)
  * 
@@ -27,7 +29,7 @@ public class WebConfig implements WebMvcConfigurer {
 			.allowedOrigins(allowedOrigins)
 			.allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
 			.allowedHeaders("*")
-			.exposedHeaders("Set-Cookie", "Authorization")
+			.exposedHeaders("Set-Cookie", "Authorization", IdempotencyFilter.REPLAYED_HEADER)
 			.allowCredentials(true)
 			.maxAge(3600);  // 1시간 동안 preflight 캐시
 	}
@@ -0,0 +1,43 @@
+package com.pm.connecto.common.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * primary 고정 상태 (read-your-writes)
+ * - 현재 스레드에서 쓰기 트랜잭션이 primary 커넥션을 사용하면 이후 읽기 전용 트랜잭션도 primary로 라우팅
+ * - 웹 요청: 요청 단위로 고정, ReplicaStickinessFilter가 요청 종료 시 초기화
+ * - 요청 밖 스레드(스케줄러, @Async 등): 고정한 트랜잭션 종료 시 초기화 (스레드 재사용 시 계속 primary로 가는 것 방지)
+ */
+public final class ReplicaRoutingContext {
+
+	private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+	private ReplicaRoutingContext() {
+	}
+
+	public static void pinPrimary() {
+		if (isPrimaryPinned()) {
+			return;
+		}
+		PRIMARY_PINNED.set(Boolean.TRUE);
+		if (RequestContextHolder.getRequestAttributes() == null
+			&& TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					clear();
+				}
+			});
+		}
+	}
+
+	public static boolean isPrimaryPinned() {
+		return PRIMARY_PINNED.get() != null;
+	}
+
+	public static void clear() {
+		PRIMARY_PINNED.remove();
+	}
+}
@@ -0,0 +1,144 @@
+package com.pm.connecto.common.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * primary / replica 라우팅 DataSource
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 정상 replica 중 하나로 (round-robin)
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 primary
+ * - 현재 요청에서 쓰기가 발생했으면 이후 읽기도 primary (ReplicaRoutingContext, 복제 지연 회피)
+ * - replica 커넥션 획득 실패 시 비정상으로 표시 후 primary로 폴백, 주기적 헬스 체크로 복구 감지
+ *
+ * <p>트랜잭션의 readOnly 플래그는 커넥션 획득 이후에 설정되므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용
+ * (첫 SQL 실행 시점에 라우팅 결정)
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+	private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+	private static final int HEALTHY = 1;
+	private static final int UNHEALTHY = 0;
+
+	private final DataSource primary;
+	private final List<DataSource> replicas;
+	private final AtomicIntegerArray replicaHealth;
+	private final AtomicInteger nextReplica = new AtomicInteger();
+
+	public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+		this.primary = primary;
+		this.replicas = List.copyOf(replicas);
+		this.replicaHealth = new AtomicIntegerArray(this.replicas.size());
+		for (int i = 0; i < this.replicas.size(); i++) {
+			replicaHealth.set(i, HEALTHY);
+		}
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		int replicaIndex = selectReplica();
+		if (replicaIndex < 0) {
+			return primary.getConnection();
+		}
+		try {
+			return replicas.get(replicaIndex).getConnection();
+		} catch (SQLException e) {
+			markUnhealthy(replicaIndex, e);
+			return primary.getConnection();
+		}
+	}
+
+	/**
+	 * 명시적 계정 지정은 라우팅 없이 primary로 (replica 계정은 풀 설정으로만 관리)
+	 */
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return primary.getConnection(username, password);
+	}
+
+	/**
+	 * replica 헬스 체크 (비정상 → 정상 복구 감지 포함)
+	 */
+	@Scheduled(fixedDelayString = "${datasource.replica.health-check-interval-ms:5000}")
+	public void checkHealth() {
+		for (int i = 0; i < replicas.size(); i++) {
+			try (Connection connection = replicas.get(i).getConnection()) {
+				if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+					if (replicaHealth.getAndSet(i, HEALTHY) == UNHEALTHY) {
+						log.info("Replica {} recovered, routing read-only transactions to it again", i);
+					}
+				} else {
+					markUnhealthy(i, null);
+				}
+			} catch (SQLException e) {
+				markUnhealthy(i, e);
+			}
+		}
+	}
+
+	public boolean hasReplicas() {
+		return !replicas.isEmpty();
+	}
+
+	public DataSource getPrimary() {
+		return primary;
+	}
+
+	public boolean isReplicaHealthy(int replicaIndex) {
+		return replicaHealth.get(replicaIndex) == HEALTHY;
+	}
+
+	@Override
+	public void close() throws Exception {
+		for (DataSource replica : replicas) {
+			if (replica instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
+		if (primary instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+	/**
+	 * 라우팅 대상 replica 선택 (-1: primary)
+	 */
+	private int selectReplica() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (TransactionSynchronizationManager.isActualTransactionActive()) {
+				ReplicaRoutingContext.pinPrimary();
+			}
+			return -1;
+		}
+		if (ReplicaRoutingContext.isPrimaryPinned() || replicas.isEmpty()) {
+			return -1;
+		}
+
+		int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+		for (int offset = 0; offset < replicas.size(); offset++) {
+			int candidate = (start + offset) % replicas.size();
+			if (replicaHealth.get(candidate) == HEALTHY) {
+				return candidate;
+			}
+		}
+		return -1;
+	}
+
+	private void markUnhealthy(int replicaIndex, SQLException cause) {
+		if (replicaHealth.getAndSet(replicaIndex, UNHEALTHY) == HEALTHY) {
+			log.warn("Replica {} marked unhealthy, falling back to primary: {}", replicaIndex,
+				cause != null ? cause.getMessage() : "connection validation failed");
+		}
+	}
+}
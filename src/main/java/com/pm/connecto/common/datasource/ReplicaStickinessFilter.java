@@ -0,0 +1,29 @@
+package com.pm.connecto.common.datasource;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 종료 시 primary 고정 상태 초기화 (요청 간 전파 방지)
+ */
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+
+	@Override
+	protected void doFilterInternal(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		FilterChain filterChain
+	) throws ServletException, IOException {
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			ReplicaRoutingContext.clear();
+		}
+	}
+}
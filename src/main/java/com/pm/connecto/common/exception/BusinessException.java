@@ -2,17 +2,27 @@ package com.pm.connecto.common.exception;
 
 import com.pm.connecto.common.response.ErrorCode;
 
+/**
+ * 비즈니스 예외 최상위 클래스
+ * - 예상 가능한 실패(권한 없음, 리소스 없음, 중복 등)를 표현하는 제어 흐름용 예외
+ * - GlobalExceptionHandler가 ErrorCode만으로 응답을 만들고 스택 트레이스는 로깅하지 않으므로
+ *   기본적으로 스택 트레이스를 채우지 않음 (stackless)
+ * - 인프라 장애처럼 추적이 필요한 하위 예외는 writableStackTrace = true 생성자 사용
+ */
 public class BusinessException extends RuntimeException {
 
 	private final ErrorCode errorCode;
 
 	public BusinessException(ErrorCode errorCode) {
-		super(errorCode.getMessage());
-		this.errorCode = errorCode;
+		this(errorCode, errorCode.getMessage(), false);
 	}
 
 	public BusinessException(ErrorCode errorCode, String message) {
-		super(message);
+		this(errorCode, message, false);
+	}
+
+	protected BusinessException(ErrorCode errorCode, String message, boolean writableStackTrace) {
+		super(message, null, false, writableStackTrace);
 		this.errorCode = errorCode;
 	}
 
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -17,6 +18,7 @@ import org.springframework.web.method.annotation.HandlerMethodValidationExceptio
 
 import com.pm.connecto.common.response.ApiResponse;
 import com.pm.connecto.common.response.ErrorCode;
+import com.pm.connecto.common.response.ErrorResponseRenderer;
 
 import jakarta.validation.ConstraintViolationException;
 
@@ -25,16 +27,33 @@ public class GlobalExceptionHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+	private final ErrorResponseRenderer errorResponseRenderer;
+
+	public GlobalExceptionHandler(ErrorResponseRenderer errorResponseRenderer) {
+		this.errorResponseRenderer = errorResponseRenderer;
+	}
+
 	/**
 	 * 비즈니스 예외 처리
+	 * - 기본 메시지인 경우 미리 직렬화된 본문 사용 (ErrorResponseRenderer)
 	 */
 	@ExceptionHandler(BusinessException.class)
-	public ResponseEntity<ApiResponse<Void>> handleBusinessException(BusinessException e) {
+	public ResponseEntity<byte[]> handleBusinessException(BusinessException e) {
 		ErrorCode errorCode = e.getErrorCode();
 		log.warn("Business exception: {} - {}", errorCode.getCode(), e.getMessage());
-		return ResponseEntity
-			.status(errorCode.getHttpStatus())
-			.body(ApiResponse.error(errorCode, e.getMessage()));
+		return errorResponseRenderer.toResponseEntity(errorCode, e.getMessage());
+	}
+
+	/**
+	 * 과부하 거절 (Retry-After 헤더 포함, 로깅 없음)
+	 */
+	@ExceptionHandler(OverloadedException.class)
+	public ResponseEntity<byte[]> handleOverloadedException(OverloadedException e) {
+		ResponseEntity<byte[]> response = errorResponseRenderer.toResponseEntity(e.getErrorCode(), e.getMessage());
+		return ResponseEntity.status(response.getStatusCode())
+			.headers(response.getHeaders())
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+			.body(response.getBody());
 	}
 
 	/**
@@ -4,14 +4,15 @@ import com.pm.connecto.common.response.ErrorCode;
 
 /**
  * 분산 락 획득 실패 예외
+ * - Redis 장애 추적을 위해 스택 트레이스 유지
  */
 public class LockAcquisitionException extends BusinessException {
 
 	public LockAcquisitionException() {
-		super(ErrorCode.REDIS_ERROR, "분산 락 획득에 실패했습니다. 잠시 후 다시 시도해주세요.");
+		super(ErrorCode.REDIS_ERROR, "분산 락 획득에 실패했습니다. 잠시 후 다시 시도해주세요.", true);
 	}
 
 	public LockAcquisitionException(String message) {
-		super(ErrorCode.REDIS_ERROR, message);
+		super(ErrorCode.REDIS_ERROR, message, true);
 	}
 }
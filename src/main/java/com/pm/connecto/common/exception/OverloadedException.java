@@ -0,0 +1,22 @@
+package com.pm.connecto.common.exception;
+
+import java.time.Duration;
+
+import com.pm.connecto.common.response.ErrorCode;
+
+/**
+ * 과부하로 요청을 즉시 거절한 예외 (429 + Retry-After)
+ */
+public class OverloadedException extends BusinessException {
+
+	private final Duration retryAfter;
+
+	public OverloadedException(Duration retryAfter) {
+		super(ErrorCode.TOO_MANY_REQUESTS);
+		this.retryAfter = retryAfter;
+	}
+
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+}
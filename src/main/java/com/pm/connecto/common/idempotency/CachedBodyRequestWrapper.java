@@ -0,0 +1,68 @@
+package com.pm.connecto.common.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * 요청 본문을 미리 읽어 보관하는 래퍼 (fingerprint 계산 후 핸들러가 다시 읽을 수 있도록)
+ */
+class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
+
+	private final byte[] body;
+
+	CachedBodyRequestWrapper(HttpServletRequest request) throws IOException {
+		super(request);
+		this.body = request.getInputStream().readAllBytes();
+	}
+
+	byte[] getBody() {
+		return body;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() {
+		ByteArrayInputStream source = new ByteArrayInputStream(body);
+		return new ServletInputStream() {
+			@Override
+			public boolean isFinished() {
+				return source.available() == 0;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setReadListener(ReadListener readListener) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public int read() {
+				return source.read();
+			}
+
+			@Override
+			public int read(byte[] buffer, int offset, int length) {
+				return source.read(buffer, offset, length);
+			}
+		};
+	}
+
+	@Override
+	public BufferedReader getReader() {
+		String encoding = getCharacterEncoding();
+		Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+		return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+	}
+}
@@ -0,0 +1,262 @@
+package com.pm.connecto.common.idempotency;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.pm.connecto.common.response.ErrorCode;
+import com.pm.connecto.common.response.ErrorResponseRenderer;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Idempotency-Key 처리 필터 (상태를 바꾸는 매칭/통화 API 재시도 보호)
+ * - 같은 사용자 + 같은 API + 같은 키의 첫 응답을 저장하고, 재전송은 핸들러 실행 없이 그대로 재생
+ *   (락 재획득, 트랜잭션 재실행, ALREADY_IN_QUEUE 같은 재시도 전용 오류 없음)
+ * - 동시에 들어온 중복 요청은 실행 중인 요청의 결과를 기다려 같은 응답을 받음
+ *   (같은 노드는 CompletableFuture, 다른 노드는 Redis 폴링, inFlightTimeout 초과 시 409)
+ * - 처리 중 표시(TTL inFlightTimeout)는 핸들러 실행 동안 inFlightTimeout / 3마다 연장
+ *   (핸들러가 inFlightTimeout보다 오래 걸려도 표시가 만료되어 같은 키가 다시 실행되지 않음)
+ * - 5xx, 429 응답은 저장하지 않음 (재시도 시 다시 실행)
+ * - 요청 본문의 SHA-256을 응답과 함께 저장, 같은 키를 다른 본문으로 재사용하면 422 (다른 요청의 응답 재생 방지)
+ * - 헤더가 없거나 인증되지 않은 요청은 그대로 통과, Redis 오류 시에도 그대로 실행 (fail-open)
+ * - JwtAuthenticationFilter 다음에 실행 (요청 속성 userId로 키 범위 지정)
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+	private static final String USER_ID_ATTRIBUTE = "userId";
+	private static final int MAX_KEY_LENGTH = 64;
+	private static final long POLL_INTERVAL_MILLIS = 50;
+
+	private final IdempotencyStore idempotencyStore;
+	private final ErrorResponseRenderer errorResponseRenderer;
+	private final Duration ttl;
+	private final Duration inFlightTimeout;
+
+	/**
+	 * 이 노드에서 실행 중인 요청 (같은 노드 중복 요청은 Redis 폴링 없이 대기)
+	 */
+	private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * 처리 중 표시 연장 (Redis 호출 1회씩, 스레드 1개로 충분)
+	 */
+	private final ScheduledExecutorService renewer;
+
+	public IdempotencyFilter(IdempotencyStore idempotencyStore, ErrorResponseRenderer errorResponseRenderer,
+		Duration ttl, Duration inFlightTimeout) {
+		this.idempotencyStore = idempotencyStore;
+		this.errorResponseRenderer = errorResponseRenderer;
+		this.ttl = ttl;
+		this.inFlightTimeout = inFlightTimeout;
+		this.renewer = Executors.newSingleThreadScheduledExecutor(new DefaultThreadFactory("idempotency-renew", true));
+	}
+
+	@Override
+	public void destroy() {
+		renewer.shutdownNow();
+	}
+
+	@Override
+	protected void doFilterInternal(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		FilterChain filterChain
+	) throws ServletException, IOException {
+		String idempotencyKey = request.getHeader(HEADER);
+		Object userId = request.getAttribute(USER_ID_ATTRIBUTE);
+		if (idempotencyKey == null || userId == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			errorResponseRenderer.write(response, HttpServletResponse.SC_BAD_REQUEST, ErrorCode.INVALID_IDEMPOTENCY_KEY);
+			return;
+		}
+
+		String key = userId + ":" + request.getMethod() + ":" + request.getRequestURI() + ":" + idempotencyKey;
+		CachedBodyRequestWrapper cachedRequest = new CachedBodyRequestWrapper(request);
+		String fingerprint = fingerprint(cachedRequest.getBody());
+		CompletableFuture<IdempotentResponse> mine = new CompletableFuture<>();
+		CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(key, mine);
+		if (running != null) {
+			replay(awaitLocal(running), fingerprint, response);
+			return;
+		}
+		try {
+			mine.complete(executeOnce(key, fingerprint, cachedRequest, response, filterChain));
+		} catch (IOException | ServletException | RuntimeException e) {
+			mine.complete(null);
+			throw e;
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+	/**
+	 * @return 대기 중인 같은 노드 중복 요청에 넘길 응답 (null = 결과 없음)
+	 */
+	private IdempotentResponse executeOnce(String key, String fingerprint, HttpServletRequest request,
+		HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+		String token;
+		Optional<IdempotentResponse> stored;
+		try {
+			token = idempotencyStore.tryBegin(key, inFlightTimeout);
+			stored = token != null ? Optional.empty() : idempotencyStore.find(key);
+		} catch (RuntimeException e) {
+			log.warn("Idempotency store unavailable, executing {} without idempotency", request.getRequestURI(), e);
+			filterChain.doFilter(request, response);
+			return null;
+		}
+
+		if (token == null) {
+			IdempotentResponse result = stored.filter(r -> !r.isPending()).orElseGet(() -> pollStore(key));
+			replay(result, fingerprint, response);
+			return result;
+		}
+
+		ScheduledFuture<?> renewal = scheduleRenewal(key, token);
+		ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+		IdempotentResponse result = null;
+		try {
+			filterChain.doFilter(request, wrapper);
+			result = new IdempotentResponse(wrapper.getStatus(), wrapper.getContentType(),
+				new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8), fingerprint);
+			wrapper.copyBodyToResponse();
+			return result;
+		} finally {
+			renewal.cancel(false);
+			store(key, token, result);
+		}
+	}
+
+	/**
+	 * 핸들러 실행 동안 처리 중 표시 연장
+	 * - 표시가 이미 사라졌으면(Redis 유실 등) 연장 중단, 실행은 계속
+	 */
+	private ScheduledFuture<?> scheduleRenewal(String key, String token) {
+		long periodMillis = Math.max(1L, inFlightTimeout.toMillis() / 3);
+		return renewer.scheduleAtFixedRate(() -> {
+			boolean renewed;
+			try {
+				renewed = idempotencyStore.renew(key, token, inFlightTimeout);
+			} catch (RuntimeException e) {
+				log.warn("Failed to renew idempotency marker for {}", key, e);
+				return;
+			}
+			if (!renewed) {
+				log.warn("Idempotency marker for {} expired while the request was running", key);
+				// 예외를 던지면 이후 주기 실행이 중단됨 (scheduleAtFixedRate)
+				throw new IllegalStateException("Idempotency marker lost for " + key);
+			}
+		}, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private void store(String key, String token, IdempotentResponse result) {
+		try {
+			if (result != null && result.isReplayable()) {
+				idempotencyStore.complete(key, token, result, ttl);
+			} else {
+				idempotencyStore.release(key, token);
+			}
+		} catch (RuntimeException e) {
+			log.warn("Failed to store idempotent response for {}", key, e);
+		}
+	}
+
+	private IdempotentResponse awaitLocal(CompletableFuture<IdempotentResponse> running) {
+		try {
+			return running.get(inFlightTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException | TimeoutException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 다른 노드에서 실행 중인 요청의 완료 대기 (키가 사라지면 실행 실패로 간주)
+	 */
+	private IdempotentResponse pollStore(String key) {
+		long deadline = System.nanoTime() + inFlightTimeout.toNanos();
+		try {
+			while (System.nanoTime() < deadline) {
+				Thread.sleep(POLL_INTERVAL_MILLIS);
+				Optional<IdempotentResponse> stored = idempotencyStore.find(key);
+				if (stored.isEmpty()) {
+					return null;
+				}
+				if (!stored.get().isPending()) {
+					return stored.get();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException e) {
+			log.warn("Failed to poll idempotent response for {}", key, e);
+		}
+		return null;
+	}
+
+	/**
+	 * 저장된 응답 재생
+	 * - 결과가 없으면 409 (클라이언트는 같은 키로 재시도)
+	 * - 첫 요청과 본문이 다르면 422 (클라이언트 버그, 새 키로 보내야 함)
+	 */
+	private void replay(IdempotentResponse result, String fingerprint, HttpServletResponse response)
+		throws IOException {
+		if (result == null) {
+			errorResponseRenderer.write(response, HttpServletResponse.SC_CONFLICT, ErrorCode.IDEMPOTENCY_KEY_IN_USE);
+			return;
+		}
+		if (!result.matches(fingerprint)) {
+			errorResponseRenderer.write(response, HttpStatus.UNPROCESSABLE_ENTITY.value(),
+				ErrorCode.IDEMPOTENCY_KEY_REUSED);
+			return;
+		}
+		byte[] body = result.body() == null ? new byte[0] : result.body().getBytes(StandardCharsets.UTF_8);
+		response.setStatus(result.status());
+		if (result.contentType() != null) {
+			response.setContentType(result.contentType());
+		}
+		response.setHeader(REPLAYED_HEADER, "true");
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	private static String fingerprint(byte[] body) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package com.pm.connecto.common.idempotency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Idempotency-Key 응답 저장소 (Redis)
+ * - 첫 요청이 SET NX로 처리 중 표시(PENDING:소유 토큰)를 선점하고, 완료 후 응답(JSON)으로 덮어씀
+ * - 처리 중 표시는 짧은 TTL로 두고 실행 중에는 소유 노드가 주기적으로 연장 (renew)
+ *   → 핸들러가 오래 걸려도 표시가 만료되어 중복 실행되지 않고, 실행 노드가 죽으면 곧 만료
+ * - 연장/완료/해제는 토큰이 일치할 때만 반영 (만료 후 다른 요청이 선점한 표시를 덮어쓰지 않음)
+ * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
+ *
+ * <p>키 구조: idempotency:{userId}:{method}:{path}:{Idempotency-Key}
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class IdempotencyStore {
+
+	private static final String KEY_PREFIX = "idempotency:";
+	private static final String PENDING_PREFIX = "PENDING:";
+
+	/**
+	 * KEYS: key / ARGV: pending marker, ttlMillis
+	 */
+	private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('get', KEYS[1]) ~= ARGV[1] then
+			return 0
+		end
+		return redis.call('pexpire', KEYS[1], ARGV[2])""", Long.class);
+
+	/**
+	 * KEYS: key / ARGV: pending marker, response, ttlMillis
+	 */
+	private static final DefaultRedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('get', KEYS[1]) ~= ARGV[1] then
+			return 0
+		end
+		redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3])
+		return 1""", Long.class);
+
+	/**
+	 * KEYS: key / ARGV: pending marker
+	 */
+	private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('get', KEYS[1]) ~= ARGV[1] then
+			return 0
+		end
+		return redis.call('del', KEYS[1])""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	public IdempotencyStore(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 처리 중 표시 선점
+	 *
+	 * @return 소유 토큰 (연장/완료/해제에 사용), 이미 처리 중이거나 완료된 키면 null
+	 */
+	public String tryBegin(String key, Duration pendingTtl) {
+		String token = UUID.randomUUID().toString();
+		boolean begun = Boolean.TRUE.equals(
+			redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, PENDING_PREFIX + token, pendingTtl));
+		return begun ? token : null;
+	}
+
+	/**
+	 * 처리 중 표시 TTL 연장 (표시가 이미 만료되었거나 다른 요청 소유면 false)
+	 */
+	public boolean renew(String key, String token, Duration pendingTtl) {
+		Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + key),
+			PENDING_PREFIX + token, String.valueOf(pendingTtl.toMillis()));
+		return renewed != null && renewed == 1L;
+	}
+
+	/**
+	 * 저장된 응답 (처리 중이면 IdempotentResponse.PENDING, 키가 없으면 empty)
+	 */
+	public Optional<IdempotentResponse> find(String key) {
+		String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+		if (value == null) {
+			return Optional.empty();
+		}
+		if (value.startsWith(PENDING_PREFIX)) {
+			return Optional.of(IdempotentResponse.PENDING);
+		}
+		try {
+			return Optional.of(objectMapper.readValue(value, IdempotentResponse.class));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Corrupt idempotent response for " + key, e);
+		}
+	}
+
+	public void complete(String key, String token, IdempotentResponse response, Duration ttl) {
+		String serialized;
+		try {
+			serialized = objectMapper.writeValueAsString(response);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize idempotent response for " + key, e);
+		}
+		redisTemplate.execute(COMPLETE_SCRIPT, List.of(KEY_PREFIX + key),
+			PENDING_PREFIX + token, serialized, String.valueOf(ttl.toMillis()));
+	}
+
+	/**
+	 * 처리 중 표시 해제 (저장하지 않는 응답, 실행 실패)
+	 */
+	public void release(String key, String token) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + key), PENDING_PREFIX + token);
+	}
+}
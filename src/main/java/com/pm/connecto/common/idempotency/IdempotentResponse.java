@@ -0,0 +1,36 @@
+package com.pm.connecto.common.idempotency;
+
+/**
+ * Idempotency-Key로 저장된 첫 응답 (재전송 시 그대로 재생)
+ *
+ * @param status 0이면 아직 처리 중 (다른 노드가 실행 중)
+ * @param requestFingerprint 첫 요청 본문의 SHA-256 (같은 키 재사용 시 본문 일치 확인용)
+ */
+public record IdempotentResponse(
+	int status,
+	String contentType,
+	String body,
+	String requestFingerprint
+) {
+
+	static final IdempotentResponse PENDING = new IdempotentResponse(0, null, null, null);
+
+	public boolean isPending() {
+		return status == 0;
+	}
+
+	/**
+	 * 같은 요청 본문으로 보낸 재전송인지 확인
+	 * - fingerprint 없이 저장된 응답(배포 이전 기록)은 본문 확인 없이 재생
+	 */
+	public boolean matches(String fingerprint) {
+		return requestFingerprint == null || requestFingerprint.equals(fingerprint);
+	}
+
+	/**
+	 * 5xx와 429는 저장하지 않음 (일시 장애/과부하 거절은 재시도 시 다시 실행)
+	 */
+	public boolean isReplayable() {
+		return status > 0 && status < 500 && status != 429;
+	}
+}
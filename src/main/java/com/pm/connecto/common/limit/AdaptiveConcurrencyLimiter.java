@@ -0,0 +1,124 @@
+package com.pm.connecto.common.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.pm.connecto.common.exception.OverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 적응형 동시 실행 제한 (AIMD, 관측 지연 기반)
+ * - 동시 실행 수가 limit 이상이면 대기 없이 즉시 거절 (OverloadedException → 429 + Retry-After)
+ *   → 느려진 의존성(Redis 락 대기 등)에 요청 스레드가 묶여 톰캣 풀 전체가 멈추는 상황 방지
+ * - 지연이 latencyThreshold 이하로 끝난 요청: limit을 +1/limit 증가 (limit개 완료당 약 +1)
+ *   단, 실제로 limit의 절반 이상을 쓰고 있을 때만 증가 (한가할 때 limit이 무한정 커지는 것 방지)
+ * - 지연 초과 또는 인프라 실패(isDrop): limit × backoffRatio로 감소
+ * - limit은 [minLimit, maxLimit] 범위, 현재 값은 {name}.limit 게이지로 노출
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double backoffRatio;
+	private final long latencyThresholdNanos;
+	private final Duration retryAfter;
+	private final Predicate<RuntimeException> isDrop;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final Counter rejectedCounter;
+	private volatile double limit;
+
+	/**
+	 * @param isDrop 실패 중 과부하 신호로 볼 예외 (그 외 예외는 정상 완료와 같이 지연만 반영)
+	 */
+	public AdaptiveConcurrencyLimiter(
+		String name,
+		MeterRegistry meterRegistry,
+		int initialLimit,
+		int minLimit,
+		int maxLimit,
+		double backoffRatio,
+		Duration latencyThreshold,
+		Duration retryAfter,
+		Predicate<RuntimeException> isDrop
+	) {
+		if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+			throw new IllegalArgumentException("Expected 1 <= minLimit <= initialLimit <= maxLimit");
+		}
+		this.limit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.backoffRatio = backoffRatio;
+		this.latencyThresholdNanos = latencyThreshold.toNanos();
+		this.retryAfter = retryAfter;
+		this.isDrop = isDrop;
+		Gauge.builder(name + ".limit", this, AdaptiveConcurrencyLimiter::getLimit)
+			.description("Current adaptive concurrency limit")
+			.register(meterRegistry);
+		Gauge.builder(name + ".in-flight", inFlight, AtomicInteger::get)
+			.description("Requests currently admitted")
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder(name + ".rejected")
+			.description("Requests shed because the concurrency limit was reached")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * limit 내에서 실행, 초과 시 즉시 OverloadedException
+	 */
+	public <T> T execute(Supplier<T> action) {
+		int current = tryAcquire();
+		if (current < 0) {
+			rejectedCounter.increment();
+			throw new OverloadedException(retryAfter);
+		}
+
+		long start = System.nanoTime();
+		boolean dropped = false;
+		try {
+			return action.get();
+		} catch (RuntimeException e) {
+			dropped = isDrop.test(e);
+			throw e;
+		} finally {
+			inFlight.decrementAndGet();
+			onSample(System.nanoTime() - start, current, dropped);
+		}
+	}
+
+	/**
+	 * @return 진입 후 동시 실행 수, 거절 시 -1
+	 */
+	private int tryAcquire() {
+		while (true) {
+			int current = inFlight.get();
+			if (current >= (int) limit) {
+				return -1;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return current + 1;
+			}
+		}
+	}
+
+	synchronized void onSample(long latencyNanos, int inFlightAtStart, boolean dropped) {
+		double current = limit;
+		if (dropped || latencyNanos > latencyThresholdNanos) {
+			limit = Math.max(minLimit, current * backoffRatio);
+		} else if (inFlightAtStart * 2 >= current) {
+			limit = Math.min(maxLimit, current + 1.0 / current);
+		}
+	}
+
+	public double getLimit() {
+		return limit;
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+}
@@ -0,0 +1,26 @@
+package com.pm.connecto.common.persistence;
+
+import java.sql.DatabaseMetaData;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+/**
+ * 네이티브 SQL 분기용 DB 구분 (운영: PostgreSQL, 개발/테스트: H2)
+ */
+public enum DatabaseDialect {
+
+	POSTGRESQL,
+	H2;
+
+	public static DatabaseDialect detect(DataSource dataSource) {
+		try {
+			String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+			return "H2".equalsIgnoreCase(productName) ? H2 : POSTGRESQL;
+		} catch (MetaDataAccessException e) {
+			throw new IllegalStateException("Failed to detect database product", e);
+		}
+	}
+}
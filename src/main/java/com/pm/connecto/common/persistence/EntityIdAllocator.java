@@ -0,0 +1,38 @@
+package com.pm.connecto.common.persistence;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 엔티티 ID 선할당 (INSERT 이전에 ID가 필요한 경우)
+ * - 엔티티에 매핑된 Hibernate 생성기(PooledSequenceGenerator)를 그대로 사용 → JPA 저장과 ID 범위 공유, 충돌 없음
+ * - pooled optimizer가 메모리에서 할당하므로 DB 조회는 allocation size 건당 1회
+ * - 새 블록이 필요할 때만 StatelessSession이 커넥션을 획득
+ */
+@Component
+public class EntityIdAllocator {
+
+	private final SessionFactoryImplementor sessionFactory;
+
+	public EntityIdAllocator(EntityManagerFactory entityManagerFactory) {
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+	}
+
+	public long allocate(Class<?> entityType) {
+		Generator generator = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityType).getGenerator();
+		if (!(generator instanceof BeforeExecutionGenerator beforeExecution)) {
+			throw new IllegalArgumentException(entityType.getSimpleName() + " does not use a pre-insert id generator");
+		}
+		try (StatelessSession session = sessionFactory.openStatelessSession()) {
+			Object id = beforeExecution.generate((SharedSessionContractImplementor) session, null, null, EventType.INSERT);
+			return ((Number) id).longValue();
+		}
+	}
+}
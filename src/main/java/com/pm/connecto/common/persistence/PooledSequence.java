@@ -0,0 +1,25 @@
+package com.pm.connecto.common.persistence;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * pooled optimizer 시퀀스로 ID 생성 (PooledSequenceGenerator)
+ * - @GeneratedValue 없이 @Id 필드에 단독으로 사용
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface PooledSequence {
+
+	/**
+	 * DB 시퀀스 이름
+	 */
+	String value();
+}
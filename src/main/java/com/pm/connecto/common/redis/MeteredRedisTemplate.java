@@ -0,0 +1,81 @@
+package com.pm.connecto.common.redis;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 메트릭을 기록하는 RedisTemplate
+ * - redis.client.connection.wait: 연결 획득 대기 시간 (공유 네이티브 연결 재연결, 트랜잭션/블로킹용 풀 대기)
+ * - redis.client.commands: 명령(파이프라인/스크립트 포함 execute 1회) 지연, outcome=success|error
+ * - redis.client.commands.in-flight: 실행 중인 명령 수
+ * - SessionCallback 안에서 중첩 실행되는 명령은 바깥 실행 1건으로만 기록
+ * - 명령 종류별 지연은 Lettuce 기본 메트릭(lettuce.command.completion) 참고
+ */
+public class MeteredRedisTemplate extends RedisTemplate<String, String> {
+
+	/**
+	 * 바깥 실행의 {시작 시각, 연결 대기 기록 여부}
+	 */
+	private final ThreadLocal<long[]> outermost = new ThreadLocal<>();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final Timer connectionWaitTimer;
+	private final Timer successTimer;
+	private final Timer errorTimer;
+
+	public MeteredRedisTemplate(MeterRegistry meterRegistry) {
+		this.connectionWaitTimer = Timer.builder("redis.client.connection.wait")
+			.description("Time spent obtaining a Redis connection")
+			.register(meterRegistry);
+		this.successTimer = commandTimer(meterRegistry, "success");
+		this.errorTimer = commandTimer(meterRegistry, "error");
+		Gauge.builder("redis.client.commands.in-flight", inFlight, AtomicInteger::get)
+			.description("Redis commands currently executing")
+			.register(meterRegistry);
+	}
+
+	private static Timer commandTimer(MeterRegistry meterRegistry, String outcome) {
+		return Timer.builder("redis.client.commands")
+			.description("Redis command latency including connection acquisition")
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+		if (outermost.get() != null) {
+			return super.execute(action, exposeConnection, pipeline);
+		}
+
+		long[] state = {System.nanoTime(), 0};
+		outermost.set(state);
+		inFlight.incrementAndGet();
+		Timer timer = errorTimer;
+		try {
+			T result = super.execute(action, exposeConnection, pipeline);
+			timer = successTimer;
+			return result;
+		} finally {
+			inFlight.decrementAndGet();
+			outermost.remove();
+			timer.record(System.nanoTime() - state[0], TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	protected RedisConnection preProcessConnection(RedisConnection connection, boolean existingConnection) {
+		long[] state = outermost.get();
+		if (state != null && state[1] == 0) {
+			state[1] = 1;
+			connectionWaitTimer.record(System.nanoTime() - state[0], TimeUnit.NANOSECONDS);
+		}
+		return super.preProcessConnection(connection, existingConnection);
+	}
+}
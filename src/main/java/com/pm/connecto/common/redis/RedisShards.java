@@ -0,0 +1,20 @@
+package com.pm.connecto.common.redis;
+
+/**
+ * hash tag 샤드 수 검증 (매칭 대기열, 통화 세션)
+ * - 명시 설정값만 사용 (기본 1), Redis Cluster에서는 master 수 이상으로 설정해야 여러 master에 분산
+ * - 노드 목록/토폴로지에서 추정하지 않음 (노드 추가·replica 포함으로 값이 바뀌면 기존 키의 샤드 계산이 어긋남)
+ * - 샤드 수 변경 처리는 사용처별로 다름 (RedisMatchQueue: 기동 시 이관, RedisActiveCallSessionStore: 드레인 후 적용)
+ */
+public final class RedisShards {
+
+	private RedisShards() {
+	}
+
+	public static int resolve(String property, int configured) {
+		if (configured < 1) {
+			throw new IllegalArgumentException(property + " must be at least 1");
+		}
+		return configured;
+	}
+}
@@ -0,0 +1,157 @@
+package com.pm.connecto.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 서킷 브레이커 (연속 실패 기반)
+ * - CLOSED: primary 실행, isFailure 예외가 failureThreshold번 연속되면 OPEN
+ * - OPEN: openDuration 동안 primary를 호출하지 않고 바로 fallback (장애 의존성 타임아웃 대기 없음)
+ * - HALF_OPEN: openDuration 경과 후 호출 1건만 primary로 시험, 성공하면 CLOSED, 실패하면 다시 OPEN
+ * - isFailure에 해당하지 않는 예외(비즈니스 예외 등)는 성공으로 간주하고 그대로 전파
+ * - 현재 상태는 {name}.state 게이지로 노출 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)
+ */
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+	private final String name;
+	private final int failureThreshold;
+	private final long openNanos;
+	private final Predicate<RuntimeException> isFailure;
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+	private final AtomicBoolean probing = new AtomicBoolean();
+	private final Counter openedCounter;
+	private final Counter fallbackCounter;
+	private volatile State state = State.CLOSED;
+	private volatile long openedAt;
+
+	/**
+	 * @param isFailure 의존성 장애로 볼 예외
+	 */
+	public CircuitBreaker(
+		String name,
+		MeterRegistry meterRegistry,
+		int failureThreshold,
+		Duration openDuration,
+		Predicate<RuntimeException> isFailure
+	) {
+		if (failureThreshold < 1) {
+			throw new IllegalArgumentException("failureThreshold must be positive");
+		}
+		this.name = name;
+		this.failureThreshold = failureThreshold;
+		this.openNanos = openDuration.toNanos();
+		this.isFailure = isFailure;
+		Gauge.builder(name + ".state", this, breaker -> breaker.getState().ordinal())
+			.description("Circuit breaker state (0=closed, 1=open, 2=half-open)")
+			.register(meterRegistry);
+		this.openedCounter = Counter.builder(name + ".opened")
+			.description("Times the circuit breaker opened")
+			.register(meterRegistry);
+		this.fallbackCounter = Counter.builder(name + ".fallback")
+			.description("Calls served by the fallback")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * primary 실행, 차단 중이거나 장애 예외 발생 시 fallback 결과 반환
+	 */
+	public <T> T call(Supplier<T> primary, Supplier<T> fallback) {
+		if (!tryAcquirePermission()) {
+			fallbackCounter.increment();
+			return fallback.get();
+		}
+		try {
+			T result = primary.get();
+			onSuccess();
+			return result;
+		} catch (RuntimeException e) {
+			if (!isFailure.test(e)) {
+				onSuccess();
+				throw e;
+			}
+			onFailure(e);
+			fallbackCounter.increment();
+			return fallback.get();
+		}
+	}
+
+	public void run(Runnable primary, Runnable fallback) {
+		call(() -> {
+			primary.run();
+			return null;
+		}, () -> {
+			fallback.run();
+			return null;
+		});
+	}
+
+	private boolean tryAcquirePermission() {
+		State current = state;
+		if (current == State.CLOSED) {
+			return true;
+		}
+		if (current == State.OPEN) {
+			if (System.nanoTime() - openedAt < openNanos) {
+				return false;
+			}
+			synchronized (this) {
+				if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+					state = State.HALF_OPEN;
+					probing.set(false);
+				}
+			}
+		}
+		return state == State.HALF_OPEN && probing.compareAndSet(false, true);
+	}
+
+	private void onSuccess() {
+		if (state == State.HALF_OPEN) {
+			synchronized (this) {
+				if (state == State.HALF_OPEN) {
+					state = State.CLOSED;
+					consecutiveFailures.set(0);
+					log.info("Circuit breaker {} closed", name);
+				}
+			}
+		} else if (consecutiveFailures.get() != 0) {
+			consecutiveFailures.set(0);
+		}
+	}
+
+	private void onFailure(RuntimeException e) {
+		if (state == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+			synchronized (this) {
+				if (state != State.OPEN) {
+					state = State.OPEN;
+					openedAt = System.nanoTime();
+					openedCounter.increment();
+					log.warn("Circuit breaker {} opened: {}", name, e.toString());
+				}
+			}
+		}
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	public boolean isClosed() {
+		return state == State.CLOSED;
+	}
+}
@@ -7,6 +7,7 @@ public enum ErrorCode {
 	// 400 Bad Request
 	INVALID_INPUT(HttpStatus.BAD_REQUEST, "INVALID_INPUT", "잘못된 입력값입니다."),
 	MAX_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "MAX_LIMIT_EXCEEDED", "최대 허용 개수를 초과했습니다."),
+	INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY", "유효하지 않은 Idempotency-Key입니다."),
 
 	// 401 Unauthorized
 	UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "인증이 필요합니다."),
@@ -37,6 +38,13 @@ public enum ErrorCode {
 	DUPLICATE_INTEREST(HttpStatus.CONFLICT, "DUPLICATE_INTEREST", "이미 존재하는 관심사입니다."),
 	ALREADY_IN_QUEUE(HttpStatus.CONFLICT, "ALREADY_IN_QUEUE", "이미 매칭 대기열에 있습니다."),
 	ALREADY_IN_CALL(HttpStatus.CONFLICT, "ALREADY_IN_CALL", "이미 통화 중입니다."),
+	IDEMPOTENCY_KEY_IN_USE(HttpStatus.CONFLICT, "IDEMPOTENCY_KEY_IN_USE", "같은 Idempotency-Key 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+
+	// 422 Unprocessable Entity
+	IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED", "같은 Idempotency-Key가 다른 요청 본문으로 사용되었습니다."),
+
+	// 429 Too Many Requests
+	TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
 
 	// 500 Internal Server Error
 	INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR", "서버 오류가 발생했습니다."),
@@ -0,0 +1,114 @@
+package com.pm.connecto.common.response;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 에러 응답 렌더러
+ * - ErrorCode별 JSON 본문을 기동 시 미리 직렬화해 두고, 요청 시에는 timestamp만 끼워 넣음
+ * - JwtAuthenticationFilter와 GlobalExceptionHandler가 공통으로 사용
+ * - 인증 실패/폴링 남용 등 거절 트래픽에서 ObjectMapper 직렬화 비용 제거
+ *
+ * <p>출력 형식은 {@link ApiResponse#error(ErrorCode)}의 직렬화 결과와 동일합니다.
+ * <pre>
+ * {"success":false,"code":"INVALID_TOKEN","message":"유효하지 않은 토큰입니다.","timestamp":"2024-01-23T10:30:00.123"}
+ * </pre>
+ */
+@Component
+public class ErrorResponseRenderer {
+
+	private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+	private static final byte[] BODY_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+	private final ObjectMapper objectMapper;
+	private final Map<ErrorCode, byte[]> bodyPrefixes = new EnumMap<>(ErrorCode.class);
+
+	public ErrorResponseRenderer(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+		for (ErrorCode errorCode : ErrorCode.values()) {
+			bodyPrefixes.put(errorCode, buildPrefix(errorCode));
+		}
+	}
+
+	/**
+	 * ErrorCode 기본 메시지로 에러 본문 생성 (캐시 사용)
+	 */
+	public byte[] render(ErrorCode errorCode) {
+		return render(errorCode, LocalDateTime.now());
+	}
+
+	/**
+	 * 에러 본문 생성
+	 * - 기본 메시지와 같으면 캐시된 본문 사용
+	 * - 상세 메시지가 지정된 경우에만 ObjectMapper로 직렬화
+	 */
+	public byte[] render(ErrorCode errorCode, String message) {
+		if (message == null || message.equals(errorCode.getMessage())) {
+			return render(errorCode);
+		}
+		try {
+			return objectMapper.writeValueAsBytes(ApiResponse.error(errorCode, message));
+		} catch (JsonProcessingException e) {
+			return render(errorCode);
+		}
+	}
+
+	byte[] render(ErrorCode errorCode, LocalDateTime timestamp) {
+		byte[] prefix = bodyPrefixes.get(errorCode);
+		byte[] time = TIMESTAMP_FORMAT.format(timestamp).getBytes(StandardCharsets.US_ASCII);
+
+		byte[] body = new byte[prefix.length + time.length + BODY_SUFFIX.length];
+		System.arraycopy(prefix, 0, body, 0, prefix.length);
+		System.arraycopy(time, 0, body, prefix.length, time.length);
+		System.arraycopy(BODY_SUFFIX, 0, body, prefix.length + time.length, BODY_SUFFIX.length);
+		return body;
+	}
+
+	/**
+	 * 서블릿 응답에 직접 기록 (필터용)
+	 * - ErrorCode의 HttpStatus와 다른 상태 코드가 필요한 경우 status 지정
+	 */
+	public void write(HttpServletResponse response, int status, ErrorCode errorCode) throws IOException {
+		byte[] body = render(errorCode);
+		response.setStatus(status);
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	/**
+	 * ResponseEntity로 변환 (ExceptionHandler용)
+	 */
+	public ResponseEntity<byte[]> toResponseEntity(ErrorCode errorCode, String message) {
+		return ResponseEntity
+			.status(errorCode.getHttpStatus())
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(render(errorCode, message));
+	}
+
+	private byte[] buildPrefix(ErrorCode errorCode) {
+		try {
+			String prefix = "{\"success\":false"
+				+ ",\"code\":" + objectMapper.writeValueAsString(errorCode.getCode())
+				+ ",\"message\":" + objectMapper.writeValueAsString(errorCode.getMessage())
+				+ ",\"timestamp\":\"";
+			return prefix.getBytes(StandardCharsets.UTF_8);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to precompute error body for " + errorCode, e);
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.pm.connecto.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 관련 유틸리티
+ */
+public final class TransactionUtils {
+
+	private TransactionUtils() {
+	}
+
+	/**
+	 * 현재 트랜잭션 커밋 이후 실행
+	 * - 활성 트랜잭션이 없으면 즉시 실행
+	 * - 롤백 시 실행되지 않음 (캐시/인메모리 인덱스에 미커밋 데이터 반영 방지)
+	 */
+	public static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+}
@@ -70,18 +70,14 @@ public class LanguageController {
 	) {
 		Long userId = userContext.getUserId();
 
-		List<Language> languages;
+		List<LanguageResponse> languages;
 		if (type != null) {
 			languages = languageService.getLanguagesByType(userId, type);
 		} else {
 			languages = languageService.getLanguages(userId);
 		}
 
-		return ApiResponse.success(
-			languages.stream()
-				.map(LanguageResponse::from)
-				.toList()
-		);
+		return ApiResponse.success(languages);
 	}
 
 	@Operation(summary = "언어 전체 교체", description = "기존 언어를 모두 삭제하고 새로운 목록으로 교체합니다.")
@@ -2,15 +2,19 @@ package com.pm.connecto.language.domain;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.pm.connecto.common.config.HibernateCacheConfig;
+import com.pm.connecto.common.persistence.PooledSequence;
 import com.pm.connecto.user.domain.User;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -24,15 +28,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.LANGUAGE_REGION)
 @Table(name = "languages",
 	uniqueConstraints = {
 		@UniqueConstraint(name = "uk_user_language_type", columnNames = {"user_id", "language_code", "type"})
 	},
 	indexes = {
-		@Index(name = "idx_language_user_id", columnList = "user_id"),
-		@Index(name = "idx_language_code", columnList = "language_code"),
-		@Index(name = "idx_language_type", columnList = "type"),
-		@Index(name = "idx_language_matching", columnList = "language_code, type, level")
+		// 운영(PostgreSQL)은 INCLUDE (user_id) 커버링 인덱스 (db/migration V4)
+		@Index(name = "idx_language_matching_covering", columnList = "language_code, type, level")
 	}
 )
 @Getter
@@ -40,7 +44,7 @@ import lombok.NoArgsConstructor;
 public class Language {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@PooledSequence("languages_seq")
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,13 @@
+package com.pm.connecto.language.dto;
+
+import com.pm.connecto.language.domain.LanguageType;
+
+/**
+ * 언어 호환성 인덱스 적재용 projection (userId, languageCode, type)
+ */
+public record LanguageIndexEntry(
+	Long userId,
+	String languageCode,
+	LanguageType type
+) {
+}
@@ -0,0 +1,9 @@
+package com.pm.connecto.language.event;
+
+/**
+ * 사용자 언어 변경 이벤트
+ * - LanguageService의 추가/삭제/교체 시 발행
+ * - 매칭 대기열의 언어 마스크 갱신 등 다른 도메인에서 커밋 이후 구독
+ */
+public record UserLanguagesChangedEvent(Long userId) {
+}
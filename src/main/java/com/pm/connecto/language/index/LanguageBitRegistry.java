@@ -0,0 +1,61 @@
+package com.pm.connecto.language.index;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지원 언어 코드 → 비트 위치 레지스트리 (최대 63개, bit 0 ~ 62)
+ * - 사용자별 NATIVE/LEARNING 언어를 64비트 마스크로 압축하기 위한 매핑
+ * - 마스크는 Redis 대기열에 저장되어 노드 간 공유되므로 비트 위치는 모든 노드에서 동일해야 함
+ *   → 순서 변경/삭제 금지, 새 언어는 목록 끝에만 추가
+ * - 목록에 없는 언어 코드(요청 검증은 형식만 확인)는 모두 bit 63(UNREGISTERED_BIT) 하나로 표시
+ *   → 마스크만으로는 어떤 언어인지 알 수 없으므로 호환성 판정에서 제외하고 후보 목록으로 재확인 (LanguageMask.isExact)
+ */
+public final class LanguageBitRegistry {
+
+	public static final int NO_BIT = -1;
+	public static final int UNREGISTERED_BIT = Long.SIZE - 1;
+	public static final long UNREGISTERED_MASK = 1L << UNREGISTERED_BIT;
+
+	private static final List<String> SUPPORTED_CODES = List.of(
+		"ko", "en", "ja", "zh-CN", "zh-TW", "es", "fr", "de", "it", "pt",
+		"pt-BR", "ru", "vi", "th", "id", "ms", "tl", "ar", "hi", "bn",
+		"tr", "nl", "pl", "sv", "no", "da", "fi", "el", "cs", "hu",
+		"ro", "uk", "he", "fa", "ur", "ta", "mn", "kk", "uz", "sw"
+	);
+
+	private static final Map<String, Integer> BIT_BY_CODE = new HashMap<>();
+
+	static {
+		if (SUPPORTED_CODES.size() > UNREGISTERED_BIT) {
+			throw new IllegalStateException("Too many supported language codes: " + SUPPORTED_CODES.size());
+		}
+		for (int bit = 0; bit < SUPPORTED_CODES.size(); bit++) {
+			BIT_BY_CODE.put(SUPPORTED_CODES.get(bit), bit);
+		}
+	}
+
+	private LanguageBitRegistry() {
+	}
+
+	/**
+	 * 언어 코드의 비트 위치 (미지원 코드는 NO_BIT)
+	 */
+	public static int bitOf(String languageCode) {
+		Integer bit = BIT_BY_CODE.get(languageCode);
+		return bit != null ? bit : NO_BIT;
+	}
+
+	/**
+	 * 언어 코드의 단일 비트 마스크 (미지원 코드는 UNREGISTERED_MASK)
+	 */
+	public static long maskOf(String languageCode) {
+		int bit = bitOf(languageCode);
+		return bit == NO_BIT ? UNREGISTERED_MASK : 1L << bit;
+	}
+
+	public static boolean isSupported(String languageCode) {
+		return BIT_BY_CODE.containsKey(languageCode);
+	}
+}
@@ -0,0 +1,256 @@
+package com.pm.connecto.language.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+
+import com.pm.connecto.language.domain.LanguageType;
+import com.pm.connecto.language.dto.LanguageIndexEntry;
+
+/**
+ * 인메모리 언어 호환성 역색인 (languageCode + type → userId 집합)
+ * - userId 집합은 Roaring64Bitmap (primitive long, 압축 비트맵)
+ * - 상호 매칭 후보 = (내 LEARNING 언어를 NATIVE로 쓰는 사용자 합집합)
+ *                    ∩ (내 NATIVE 언어를 LEARNING으로 쓰는 사용자 합집합) - 나
+ * - 사용자의 모든 NATIVE/LEARNING 언어를 고려 (SQL 버전은 첫 번째 언어 조합만 사용)
+ * - LanguageService의 쓰기와 UserService의 탈퇴(커밋 이후)로 증분 갱신, 기동 시 DB에서 재구성 (LanguageIndexInitializer, 탈퇴 사용자 제외)
+ *
+ * <p>동시성:
+ * <ul>
+ *   <li>조회는 read lock, 갱신은 write lock</li>
+ *   <li>재구성 중 발생한 증분 갱신은 journal에 기록 후 새 인덱스에 재적용 (유실 방지)</li>
+ * </ul>
+ */
+@Component
+public class LanguageCompatibilityIndex {
+
+	private static final long[] EMPTY = new long[0];
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private State state = new State();
+	private List<Consumer<State>> journal;
+	private volatile boolean ready;
+
+	/**
+	 * DB 적재 완료 여부 (false인 동안 호출자는 SQL 경로로 폴백)
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	public void add(long userId, String languageCode, LanguageType type) {
+		mutate(s -> s.add(userId, new LanguageKey(languageCode, type)));
+	}
+
+	public void remove(long userId, String languageCode, LanguageType type) {
+		mutate(s -> s.remove(userId, new LanguageKey(languageCode, type)));
+	}
+
+	/**
+	 * 사용자 언어 전체 교체
+	 */
+	public void replace(long userId, Collection<LanguageKey> languages) {
+		Set<LanguageKey> snapshot = Set.copyOf(languages);
+		mutate(s -> s.replace(userId, snapshot));
+	}
+
+	/**
+	 * 사용자 언어 전체 제거 (회원 탈퇴)
+	 */
+	public void removeUser(long userId) {
+		mutate(s -> s.replace(userId, Set.of()));
+	}
+
+	/**
+	 * 상호 매칭 후보 조회 (자기 자신 제외, 오름차순)
+	 */
+	public long[] findReciprocalCandidates(long userId) {
+		Roaring64Bitmap nativeOfMyLearning = new Roaring64Bitmap();
+		Roaring64Bitmap learningOfMyNative = new Roaring64Bitmap();
+
+		lock.readLock().lock();
+		try {
+			Set<LanguageKey> mine = state.userLanguages.get(userId);
+			if (mine == null) {
+				return EMPTY;
+			}
+			for (LanguageKey key : mine) {
+				if (key.type() == LanguageType.LEARNING) {
+					Roaring64Bitmap users = state.postings(LanguageType.NATIVE).get(key.languageCode());
+					if (users != null) {
+						nativeOfMyLearning.or(users);
+					}
+				} else {
+					Roaring64Bitmap users = state.postings(LanguageType.LEARNING).get(key.languageCode());
+					if (users != null) {
+						learningOfMyNative.or(users);
+					}
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		nativeOfMyLearning.and(learningOfMyNative);
+		nativeOfMyLearning.removeLong(userId);
+		return nativeOfMyLearning.toArray();
+	}
+
+	/**
+	 * 사용자 언어 비트마스크 계산 (인덱스에 없는 사용자는 EMPTY)
+	 */
+	public LanguageMask maskOf(long userId) {
+		long nativeMask = 0L;
+		long learningMask = 0L;
+
+		lock.readLock().lock();
+		try {
+			Set<LanguageKey> mine = state.userLanguages.get(userId);
+			if (mine == null) {
+				return LanguageMask.EMPTY;
+			}
+			for (LanguageKey key : mine) {
+				if (key.type() == LanguageType.NATIVE) {
+					nativeMask |= LanguageBitRegistry.maskOf(key.languageCode());
+				} else {
+					learningMask |= LanguageBitRegistry.maskOf(key.languageCode());
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return new LanguageMask(nativeMask, learningMask);
+	}
+
+	/**
+	 * 전체 재구성
+	 * - journal 기록을 먼저 시작한 뒤 loader(DB 조회)를 lock 밖에서 실행하여 조회를 막지 않음
+	 * - 적재 중 커밋된 증분 갱신은 journal에서 새 인덱스에 재적용 (모든 연산은 멱등)
+	 */
+	public synchronized void rebuild(Supplier<? extends Collection<LanguageIndexEntry>> loader) {
+		lock.writeLock().lock();
+		try {
+			journal = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		State fresh = new State();
+		try {
+			for (LanguageIndexEntry entry : loader.get()) {
+				fresh.add(entry.userId(), new LanguageKey(entry.languageCode(), entry.type()));
+			}
+		} catch (RuntimeException e) {
+			lock.writeLock().lock();
+			try {
+				journal = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			throw e;
+		}
+
+		lock.writeLock().lock();
+		try {
+			journal.forEach(op -> op.accept(fresh));
+			journal = null;
+			state = fresh;
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 인덱스에 등록된 사용자 수
+	 */
+	public int userCount() {
+		lock.readLock().lock();
+		try {
+			return state.userLanguages.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void mutate(Consumer<State> op) {
+		lock.writeLock().lock();
+		try {
+			op.accept(state);
+			if (journal != null) {
+				journal.add(op);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 인덱스 키 (languageCode + type)
+	 */
+	public record LanguageKey(String languageCode, LanguageType type) {
+	}
+
+	private static final class State {
+
+		private final Map<LanguageType, Map<String, Roaring64Bitmap>> postings = new EnumMap<>(LanguageType.class);
+		private final Map<Long, Set<LanguageKey>> userLanguages = new HashMap<>();
+
+		private State() {
+			for (LanguageType type : LanguageType.values()) {
+				postings.put(type, new HashMap<>());
+			}
+		}
+
+		private Map<String, Roaring64Bitmap> postings(LanguageType type) {
+			return postings.get(type);
+		}
+
+		private void add(long userId, LanguageKey key) {
+			postings(key.type()).computeIfAbsent(key.languageCode(), code -> new Roaring64Bitmap()).addLong(userId);
+			userLanguages.computeIfAbsent(userId, id -> new HashSet<>()).add(key);
+		}
+
+		private void remove(long userId, LanguageKey key) {
+			Map<String, Roaring64Bitmap> byCode = postings(key.type());
+			Roaring64Bitmap users = byCode.get(key.languageCode());
+			if (users != null) {
+				users.removeLong(userId);
+				if (users.isEmpty()) {
+					byCode.remove(key.languageCode());
+				}
+			}
+
+			Set<LanguageKey> keys = userLanguages.get(userId);
+			if (keys != null) {
+				keys.remove(key);
+				if (keys.isEmpty()) {
+					userLanguages.remove(userId);
+				}
+			}
+		}
+
+		private void replace(long userId, Set<LanguageKey> languages) {
+			Set<LanguageKey> current = userLanguages.get(userId);
+			if (current != null) {
+				for (LanguageKey key : List.copyOf(current)) {
+					remove(userId, key);
+				}
+			}
+			for (LanguageKey key : languages) {
+				add(userId, key);
+			}
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.pm.connecto.language.index;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.pm.connecto.language.repository.LanguageRepository;
+
+/**
+ * 언어 호환성 인덱스 적재
+ * - 애플리케이션 기동 완료 시 DB에서 전체 재구성
+ * - 다른 노드에서 발생한 변경을 반영하기 위해 주기적으로 재구성 (기본 5분)
+ */
+@Component
+public class LanguageIndexInitializer {
+
+	private static final Logger log = LoggerFactory.getLogger(LanguageIndexInitializer.class);
+
+	private final LanguageCompatibilityIndex languageCompatibilityIndex;
+	private final LanguageRepository languageRepository;
+
+	public LanguageIndexInitializer(
+		LanguageCompatibilityIndex languageCompatibilityIndex,
+		LanguageRepository languageRepository
+	) {
+		this.languageCompatibilityIndex = languageCompatibilityIndex;
+		this.languageRepository = languageRepository;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	@Scheduled(
+		initialDelayString = "${language.index.rebuild-interval-ms:300000}",
+		fixedDelayString = "${language.index.rebuild-interval-ms:300000}"
+	)
+	public void scheduledRebuild() {
+		rebuild();
+	}
+
+	private void rebuild() {
+		long startedAt = System.currentTimeMillis();
+		try {
+			languageCompatibilityIndex.rebuild(languageRepository::findAllIndexEntries);
+			log.info("Rebuilt language compatibility index ({} users, {} ms)",
+				languageCompatibilityIndex.userCount(), System.currentTimeMillis() - startedAt);
+		} catch (Exception e) {
+			log.error("Failed to rebuild language compatibility index", e);
+		}
+	}
+}
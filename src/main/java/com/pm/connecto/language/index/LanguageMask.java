@@ -0,0 +1,91 @@
+package com.pm.connecto.language.index;
+
+/**
+ * 사용자별 언어 비트마스크 (LanguageBitRegistry 기준)
+ * - nativeMask: NATIVE 언어 비트 OR
+ * - learningMask: LEARNING 언어 비트 OR
+ *
+ * <p>호환성: 내 NATIVE ∈ 상대 LEARNING AND 상대 NATIVE ∈ 내 LEARNING → AND 연산 2회
+ * <p>Redis 저장 형식: "{nativeMask}:{learningMask}" (부호 없는 10진수)
+ */
+public record LanguageMask(long nativeMask, long learningMask) {
+
+	public static final LanguageMask EMPTY = new LanguageMask(0L, 0L);
+
+	private static final char SEPARATOR = ':';
+	private static final long REGISTERED_BITS = ~LanguageBitRegistry.UNREGISTERED_MASK;
+
+	public boolean isEmpty() {
+		return nativeMask == 0L && learningMask == 0L;
+	}
+
+	public LanguageMask withNative(String languageCode) {
+		return new LanguageMask(nativeMask | LanguageBitRegistry.maskOf(languageCode), learningMask);
+	}
+
+	public LanguageMask withLearning(String languageCode) {
+		return new LanguageMask(nativeMask, learningMask | LanguageBitRegistry.maskOf(languageCode));
+	}
+
+	public String encode() {
+		return Long.toUnsignedString(nativeMask) + SEPARATOR + Long.toUnsignedString(learningMask);
+	}
+
+	public static LanguageMask decode(String encoded) {
+		if (encoded == null) {
+			return EMPTY;
+		}
+		return new LanguageMask(decodeNative(encoded), decodeLearning(encoded));
+	}
+
+	/**
+	 * 상호 언어 교환 가능 여부 (할당 없음)
+	 * - NATIVE/LEARNING 비트가 각각 겹쳐야 하므로 빈 마스크(언어 미등록, 마스크 미저장)는 누구와도 비호환
+	 * - 미지원 언어 비트(UNREGISTERED_MASK)는 서로 다른 언어일 수 있으므로 겹쳐도 호환 근거가 아님
+	 * - false여도 한쪽이 isExact가 아니면 실제로는 호환일 수 있음 → 호출자가 후보 목록으로 재확인
+	 */
+	public static boolean compatible(long myNative, long myLearning, long otherNative, long otherLearning) {
+		return (myNative & otherLearning & REGISTERED_BITS) != 0L && (otherNative & myLearning & REGISTERED_BITS) != 0L;
+	}
+
+	/**
+	 * 비트마스크만으로 호환성을 판정할 수 있는지 여부
+	 * - NATIVE/LEARNING 중 비어 있는 쪽이 있으면 언어 미등록인지 마스크 미저장인지 구분 불가
+	 * - 미지원 언어 코드가 있으면 그 언어끼리의 호환 여부를 알 수 없음
+	 */
+	public static boolean isExact(long nativeMask, long learningMask) {
+		return nativeMask != 0L && learningMask != 0L
+			&& ((nativeMask | learningMask) & LanguageBitRegistry.UNREGISTERED_MASK) == 0L;
+	}
+
+	/**
+	 * 인코딩된 문자열에서 nativeMask 추출 (substring 없이 파싱)
+	 */
+	public static long decodeNative(CharSequence encoded) {
+		if (encoded == null) {
+			return 0L;
+		}
+		int separator = indexOfSeparator(encoded);
+		return separator < 0 ? 0L : Long.parseUnsignedLong(encoded, 0, separator, 10);
+	}
+
+	/**
+	 * 인코딩된 문자열에서 learningMask 추출 (substring 없이 파싱)
+	 */
+	public static long decodeLearning(CharSequence encoded) {
+		if (encoded == null) {
+			return 0L;
+		}
+		int separator = indexOfSeparator(encoded);
+		return separator < 0 ? 0L : Long.parseUnsignedLong(encoded, separator + 1, encoded.length(), 10);
+	}
+
+	private static int indexOfSeparator(CharSequence encoded) {
+		for (int i = 0; i < encoded.length(); i++) {
+			if (encoded.charAt(i) == SEPARATOR) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -3,14 +3,22 @@ package com.pm.connecto.language.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.pm.connecto.common.config.HibernateCacheConfig;
 import com.pm.connecto.language.domain.Language;
 import com.pm.connecto.language.domain.LanguageLevel;
 import com.pm.connecto.language.domain.LanguageType;
+import com.pm.connecto.language.dto.LanguageIndexEntry;
+import com.pm.connecto.language.dto.LanguageResponse;
+import com.pm.connecto.user.domain.UserStatus;
+
+import jakarta.persistence.QueryHint;
 
 public interface LanguageRepository extends JpaRepository<Language, Long> {
 
@@ -18,10 +26,35 @@ public interface LanguageRepository extends JpaRepository<Language, Long> {
 	LanguageType NATIVE_TYPE = LanguageType.NATIVE;
 	LanguageType LEARNING_TYPE = LanguageType.LEARNING;
 
+	/**
+	 * 사용자 언어 조회 (쿼리 캐시 적용, languages 테이블 변경 시 자동 무효화)
+	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.LANGUAGES_BY_USER_QUERY_REGION)
+	})
 	List<Language> findByUserId(Long userId);
 
 	List<Language> findByUserIdAndType(Long userId, LanguageType type);
 
+	// ========== 조회 API용 projection (엔티티 로딩/스냅샷 없음) ==========
+
+	@Query("SELECT new com.pm.connecto.language.dto.LanguageResponse(l.id, l.languageCode, l.type, l.level) "
+		+ "FROM Language l WHERE l.user.id = :userId ORDER BY l.id")
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.LANGUAGES_BY_USER_QUERY_REGION)
+	})
+	List<LanguageResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+	@Query("SELECT new com.pm.connecto.language.dto.LanguageResponse(l.id, l.languageCode, l.type, l.level) "
+		+ "FROM Language l WHERE l.user.id = :userId AND l.type = :type ORDER BY l.id")
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.LANGUAGES_BY_USER_QUERY_REGION)
+	})
+	List<LanguageResponse> findResponsesByUserIdAndType(@Param("userId") Long userId, @Param("type") LanguageType type);
+
 	Optional<Language> findByIdAndUserId(Long id, Long userId);
 
 	boolean existsByUserIdAndLanguageCodeAndType(Long userId, String languageCode, LanguageType type);
@@ -39,6 +72,8 @@ public interface LanguageRepository extends JpaRepository<Language, Long> {
 	 * 
 	 * <p>주의: 이 메서드 호출 후 기존 영속 객체는 DETACHED 상태가 됨.
 	 * 후속 INSERT 시 getReferenceById()로 User 프록시 재생성 권장.
+	 *
+	 * <p>2차 캐시: 벌크 DELETE이므로 Hibernate가 language region 전체와 languages 테이블의 쿼리 캐시를 무효화
 	 */
 	@Modifying(flushAutomatically = true, clearAutomatically = true)
 	@Query("DELETE FROM Language l WHERE l.user.id = :userId")
@@ -90,6 +125,28 @@ public interface LanguageRepository extends JpaRepository<Language, Long> {
 		return findMatchingUserIds(userId, myNativeCode, myLearningCode, NATIVE_TYPE, LEARNING_TYPE);
 	}
 
+	/**
+	 * 언어 호환성 인덱스 재구성용 전체 조회 (projection, 특정 상태 사용자 제외)
+	 */
+	@Query("SELECT new com.pm.connecto.language.dto.LanguageIndexEntry(l.user.id, l.languageCode, l.type) "
+		+ "FROM Language l WHERE l.user.status != :excludedStatus")
+	List<LanguageIndexEntry> findIndexEntriesExcludingUserStatus(@Param("excludedStatus") UserStatus excludedStatus);
+
+	/**
+	 * 언어 호환성 인덱스 재구성용 전체 조회 (탈퇴 사용자 제외, soft delete로 언어 행이 남아 있음)
+	 */
+	default List<LanguageIndexEntry> findAllIndexEntries() {
+		return findIndexEntriesExcludingUserStatus(UserStatus.DELETED);
+	}
+
+	/**
+	 * 사용자 언어 비트마스크 계산용 조회 (projection, 2차 캐시 미사용)
+	 * - 노드 로컬 캐시/인덱스를 거치지 않고 다른 노드에서 커밋된 변경까지 반영
+	 */
+	@Query("SELECT new com.pm.connecto.language.dto.LanguageIndexEntry(l.user.id, l.languageCode, l.type) "
+		+ "FROM Language l WHERE l.user.id = :userId")
+	List<LanguageIndexEntry> findIndexEntriesByUserId(@Param("userId") Long userId);
+
 	/**
 	 * 특정 레벨 이상의 사용자 조회 (매칭 필터용)
 	 */
@@ -1,18 +1,32 @@
 package com.pm.connecto.language.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.pm.connecto.common.config.CacheConfig;
 import com.pm.connecto.common.exception.DuplicateResourceException;
 import com.pm.connecto.common.exception.MaxLimitExceededException;
 import com.pm.connecto.common.exception.ResourceNotFoundException;
 import com.pm.connecto.common.response.ErrorCode;
+import com.pm.connecto.common.util.TransactionUtils;
 import com.pm.connecto.language.domain.Language;
 import com.pm.connecto.language.domain.LanguageLevel;
 import com.pm.connecto.language.domain.LanguageType;
+import com.pm.connecto.language.dto.LanguageIndexEntry;
 import com.pm.connecto.language.dto.LanguageRequest.LanguageItem;
+import com.pm.connecto.language.dto.LanguageResponse;
+import com.pm.connecto.language.event.UserLanguagesChangedEvent;
+import com.pm.connecto.language.index.LanguageCompatibilityIndex;
+import com.pm.connecto.language.index.LanguageCompatibilityIndex.LanguageKey;
+import com.pm.connecto.language.index.LanguageMask;
 import com.pm.connecto.language.repository.LanguageRepository;
 import com.pm.connecto.user.domain.User;
 import com.pm.connecto.user.repository.UserRepository;
@@ -24,12 +38,22 @@ public class LanguageService {
 
 	private final LanguageRepository languageRepository;
 	private final UserRepository userRepository;
-
-	public LanguageService(LanguageRepository languageRepository, UserRepository userRepository) {
+	private final LanguageCompatibilityIndex languageCompatibilityIndex;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public LanguageService(
+		LanguageRepository languageRepository,
+		UserRepository userRepository,
+		LanguageCompatibilityIndex languageCompatibilityIndex,
+		ApplicationEventPublisher eventPublisher
+	) {
 		this.languageRepository = languageRepository;
 		this.userRepository = userRepository;
+		this.languageCompatibilityIndex = languageCompatibilityIndex;
+		this.eventPublisher = eventPublisher;
 	}
 
+	@CacheEvict(cacheNames = CacheConfig.USER_ME, key = "#userId")
 	@Transactional
 	public Language addLanguage(Long userId, String languageCode, LanguageType type, LanguageLevel level) {
 		User user = userRepository.findActiveById(userId)
@@ -52,27 +76,40 @@ public class LanguageService {
 			.level(level)
 			.build();
 
-		return languageRepository.save(language);
+		Language saved = languageRepository.save(language);
+		TransactionUtils.afterCommit(() -> languageCompatibilityIndex.add(userId, languageCode, type));
+		eventPublisher.publishEvent(new UserLanguagesChangedEvent(userId));
+		return saved;
 	}
 
+	/**
+	 * 언어 목록 조회 (응답 record로 직접 projection)
+	 */
 	@Transactional(readOnly = true)
-	public List<Language> getLanguages(Long userId) {
-		return languageRepository.findByUserId(userId);
+	public List<LanguageResponse> getLanguages(Long userId) {
+		return languageRepository.findResponsesByUserId(userId);
 	}
 
 	@Transactional(readOnly = true)
-	public List<Language> getLanguagesByType(Long userId, LanguageType type) {
-		return languageRepository.findByUserIdAndType(userId, type);
+	public List<LanguageResponse> getLanguagesByType(Long userId, LanguageType type) {
+		return languageRepository.findResponsesByUserIdAndType(userId, type);
 	}
 
+	@CacheEvict(cacheNames = CacheConfig.USER_ME, key = "#userId")
 	@Transactional
 	public void deleteLanguage(Long userId, Long languageId) {
 		Language language = languageRepository.findByIdAndUserId(languageId, userId)
 			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.LANGUAGE_NOT_FOUND));
 
 		languageRepository.delete(language);
+
+		String languageCode = language.getLanguageCode();
+		LanguageType type = language.getType();
+		TransactionUtils.afterCommit(() -> languageCompatibilityIndex.remove(userId, languageCode, type));
+		eventPublisher.publishEvent(new UserLanguagesChangedEvent(userId));
 	}
 
+	@CacheEvict(cacheNames = CacheConfig.USER_ME, key = "#userId")
 	@Transactional
 	public Language updateLanguageLevel(Long userId, Long languageId, LanguageLevel level) {
 		Language language = languageRepository.findByIdAndUserId(languageId, userId)
@@ -83,23 +120,20 @@ public class LanguageService {
 	}
 
 	/**
-	 * 사용자 언어 전체 교체 (기존 삭제 후 새로 저장)
+	 * 사용자 언어 전체 교체 (diff 기반)
 	 * 
 	 * <p>동작 순서:
 	 * <ol>
 	 *   <li>사용자 존재 여부 확인 (ACTIVE 상태)</li>
 	 *   <li>요청 데이터 검증 (개수 제한, 중복 체크)</li>
-	 *   <li>기존 언어 전체 삭제 (JPQL DELETE → 영속성 컨텍스트 클리어)</li>
-	 *   <li>User 프록시 재생성 (DETACHED 문제 방지)</li>
-	 *   <li>새 언어 저장</li>
+	 *   <li>기존 언어 조회 후 (languageCode, type) 기준으로 diff 계산</li>
+	 *   <li>제거된 언어 DELETE 1회</li>
+	 *   <li>레벨 변경(dirty checking)과 신규 언어 저장은 커밋 시 UPDATE/INSERT batch 각 1회</li>
 	 * </ol>
 	 * 
-	 * <p>Flush 전략:
-	 * <ul>
-	 *   <li>deleteByUserId: flushAutomatically + clearAutomatically 적용</li>
-	 *   <li>DELETE 실행 후 getReferenceById로 User 프록시 재생성</li>
-	 * </ul>
+	 * <p>언어 개수와 무관하게 DB 왕복 횟수가 일정함 (변경이 없으면 쓰기 없음)
 	 */
+	@CacheEvict(cacheNames = CacheConfig.USER_ME, key = "#userId")
 	@Transactional
 	public List<Language> replaceLanguages(Long userId, List<LanguageItem> languageItems) {
 		// 1. 사용자 존재 여부 검증 (ACTIVE 상태만)
@@ -114,23 +148,44 @@ public class LanguageService {
 		}
 
 		// 3. 중복 검증 (같은 languageCode + type 조합)
-		long uniqueCount = languageItems.stream()
-			.map(item -> item.languageCode() + "_" + item.type())
-			.distinct()
-			.count();
-		if (uniqueCount != languageItems.size()) {
-			throw new DuplicateResourceException(ErrorCode.DUPLICATE_LANGUAGE);
+		Map<LanguageKey, LanguageItem> requested = new LinkedHashMap<>();
+		for (LanguageItem item : languageItems) {
+			if (requested.put(new LanguageKey(item.languageCode(), item.type()), item) != null) {
+				throw new DuplicateResourceException(ErrorCode.DUPLICATE_LANGUAGE);
+			}
 		}
 
-		// 4. 기존 언어 전체 삭제 (JPQL DELETE → 영속성 컨텍스트 클리어됨)
-		languageRepository.deleteByUserId(userId);
+		// 4. 기존 언어와 diff 계산
+		List<Language> current = languageRepository.findByUserId(userId);
+		List<Language> kept = new ArrayList<>(current.size());
+		List<Language> removed = new ArrayList<>();
+		Map<LanguageKey, LanguageItem> additions = new LinkedHashMap<>(requested);
+		boolean levelChanged = false;
+		for (Language language : current) {
+			LanguageItem item = additions.remove(new LanguageKey(language.getLanguageCode(), language.getType()));
+			if (item == null) {
+				removed.add(language);
+				continue;
+			}
+			if (item.level() != language.getLevel()) {
+				language.updateLevel(item.level());
+				levelChanged = true;
+			}
+			kept.add(language);
+		}
 
-		// 5. User 프록시 재생성 (DETACHED 문제 방지)
-		// getReferenceById는 DB 조회 없이 프록시 객체 반환 (MANAGED 상태)
-		User userProxy = userRepository.getReferenceById(userId);
+		if (removed.isEmpty() && !levelChanged && additions.isEmpty()) {
+			return current;
+		}
 
-		// 6. 새 언어 저장
-		List<Language> newLanguages = languageItems.stream()
+		// 5. 제거된 언어 DELETE 1회
+		if (!removed.isEmpty()) {
+			languageRepository.deleteAllInBatch(removed);
+		}
+
+		// 6. 신규 언어 저장 (pooled 시퀀스 ID → 레벨 변경 UPDATE와 함께 flush 시 JDBC batch로 실행)
+		User userProxy = userRepository.getReferenceById(userId);
+		List<Language> newLanguages = additions.values().stream()
 			.map(item -> Language.builder()
 				.user(userProxy)
 				.languageCode(item.languageCode())
@@ -138,14 +193,49 @@ public class LanguageService {
 				.level(item.level())
 				.build())
 			.toList();
+		kept.addAll(languageRepository.saveAll(newLanguages));
 
-		return languageRepository.saveAll(newLanguages);
+		List<LanguageKey> keys = List.copyOf(requested.keySet());
+		TransactionUtils.afterCommit(() -> languageCompatibilityIndex.replace(userId, keys));
+		eventPublisher.publishEvent(new UserLanguagesChangedEvent(userId));
+
+		return kept;
 	}
 
 	// ========== 매칭용 메서드 ==========
 
+	/**
+	 * 사용자 언어 비트마스크 조회 (매칭 대기열 저장용)
+	 * - 항상 DB에서 계산 (인덱스는 노드 로컬이고 주기적으로만 재구성되므로
+	 *   다른 노드에서 방금 등록한 언어가 빠진 빈 마스크로 대기열에 들어가는 것을 방지)
+	 * - 대기열 진입/언어 변경 시에만 호출되는 단건 조회
+	 */
+	@Transactional(readOnly = true)
+	public LanguageMask getLanguageMask(Long userId) {
+		LanguageMask mask = LanguageMask.EMPTY;
+		for (LanguageIndexEntry entry : languageRepository.findIndexEntriesByUserId(userId)) {
+			mask = entry.type() == LanguageType.NATIVE
+				? mask.withNative(entry.languageCode())
+				: mask.withLearning(entry.languageCode());
+		}
+		return mask;
+	}
+
+	/**
+	 * 상호 언어 교환 가능한 사용자 조회
+	 * - 인메모리 역색인(LanguageCompatibilityIndex)의 집합 연산으로 처리 (DB 접근 없음)
+	 * - 사용자의 모든 NATIVE/LEARNING 언어를 고려
+	 * - 인덱스 적재 전에는 SQL 쿼리로 폴백 (첫 번째 NATIVE/LEARNING 조합만 사용)
+	 * - 매칭 대기열에서 비트마스크로 판정할 수 없는 후보의 호환성 판정에 사용 (MatchService.startMatching)
+	 */
 	@Transactional(readOnly = true)
 	public List<Long> findMatchingUsers(Long userId) {
+		if (languageCompatibilityIndex.isReady()) {
+			return Arrays.stream(languageCompatibilityIndex.findReciprocalCandidates(userId))
+				.boxed()
+				.toList();
+		}
+
 		List<Language> nativeLanguages = languageRepository.findByUserIdAndType(userId, LanguageType.NATIVE);
 		List<Language> learningLanguages = languageRepository.findByUserIdAndType(userId, LanguageType.LEARNING);
 
@@ -0,0 +1,42 @@
+package com.pm.connecto.match.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+
+import com.pm.connecto.common.exception.LockAcquisitionException;
+import com.pm.connecto.common.limit.AdaptiveConcurrencyLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * /match/start 적응형 동시 실행 제한 설정
+ * - 대기열 샤드 락 대기(tryLock 3초)가 길어지면 limit을 줄여 초과 요청을 즉시 429로 거절
+ * - 락 획득 실패와 Redis/DB 접근 실패는 과부하 신호로 취급
+ * - 현재 limit: match.admission.limit 게이지
+ * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class MatchAdmissionConfig {
+
+	@Bean
+	public AdaptiveConcurrencyLimiter matchStartLimiter(
+		MeterRegistry meterRegistry,
+		@Value("${match.admission.initial-limit:20}") int initialLimit,
+		@Value("${match.admission.min-limit:2}") int minLimit,
+		@Value("${match.admission.max-limit:100}") int maxLimit,
+		@Value("${match.admission.backoff-ratio:0.9}") double backoffRatio,
+		@Value("${match.admission.latency-threshold-ms:500}") long latencyThresholdMillis,
+		@Value("${match.admission.retry-after-seconds:1}") long retryAfterSeconds
+	) {
+		return new AdaptiveConcurrencyLimiter("match.admission", meterRegistry,
+			initialLimit, minLimit, maxLimit, backoffRatio,
+			Duration.ofMillis(latencyThresholdMillis), Duration.ofSeconds(retryAfterSeconds),
+			e -> e instanceof LockAcquisitionException || e instanceof DataAccessException);
+	}
+}
@@ -0,0 +1,37 @@
+package com.pm.connecto.match.config;
+
+import java.time.Duration;
+
+import org.redisson.client.RedisException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+
+import com.pm.connecto.common.exception.LockAcquisitionException;
+import com.pm.connecto.common.resilience.CircuitBreaker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 매칭 Redis 장애 격리 설정
+ * - 대기열(MatchQueueService)과 진행 중 세션 저장소(MatchService) 호출을 하나의 breaker로 보호
+ * - Redis 연결/명령 실패(DataAccessException, RedisException)와 락 획득 실패를 장애로 취급
+ * - 현재 상태: match.redis.breaker.state 게이지
+ * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class MatchResilienceConfig {
+
+	@Bean
+	public CircuitBreaker matchRedisCircuitBreaker(
+		MeterRegistry meterRegistry,
+		@Value("${match.redis.breaker.failure-threshold:5}") int failureThreshold,
+		@Value("${match.redis.breaker.open-ms:5000}") long openMillis
+	) {
+		return new CircuitBreaker("match.redis.breaker", meterRegistry, failureThreshold, Duration.ofMillis(openMillis),
+			e -> e instanceof LockAcquisitionException || e instanceof DataAccessException || e instanceof RedisException);
+	}
+}
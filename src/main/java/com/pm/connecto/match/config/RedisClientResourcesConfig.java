@@ -0,0 +1,110 @@
+package com.pm.connecto.match.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.lettuce.core.resource.EventLoopGroupProvider;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.MultithreadEventExecutorGroup;
+
+/**
+ * Redis 클라이언트 공용 리소스 (Lettuce + Redisson)
+ * - Netty I/O 이벤트 루프와 계산(콜백) 스레드 풀을 하나씩 만들어 두 클라이언트가 공유
+ *   (클라이언트별 스레드 풀 중복 제거, Redisson 기본 nettyThreads 32 + threads 16 등)
+ * - 스레드 수: redis.client.io-threads, redis.client.computation-threads (0 = CPU 수, 최소 2)
+ * - Lettuce ClientResources를 직접 제공하므로 Spring Boot의 ClientResourcesBuilderCustomizer
+ *   (명령별 지연 메트릭 lettuce.command.* 등)를 여기서 적용
+ * - 공유 리소스는 두 클라이언트가 종료된 뒤 이 설정에서 종료 (각 클라이언트는 외부 리소스를 종료하지 않음)
+ * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class RedisClientResourcesConfig {
+
+	@Bean(destroyMethod = "shutdownGracefully")
+	public EventLoopGroup redisEventLoopGroup(@Value("${redis.client.io-threads:0}") int ioThreads) {
+		return new NioEventLoopGroup(threads(ioThreads), new DefaultThreadFactory("redis-io", true));
+	}
+
+	@Bean(destroyMethod = "shutdownGracefully")
+	public EventExecutorGroup redisComputationGroup(
+		@Value("${redis.client.computation-threads:0}") int computationThreads
+	) {
+		return new DefaultEventExecutorGroup(threads(computationThreads),
+			new DefaultThreadFactory("redis-compute", true));
+	}
+
+	@Bean(destroyMethod = "shutdown")
+	public ClientResources lettuceClientResources(
+		EventLoopGroup redisEventLoopGroup,
+		EventExecutorGroup redisComputationGroup,
+		ObjectProvider<ClientResourcesBuilderCustomizer> customizers
+	) {
+		DefaultClientResources.Builder builder = DefaultClientResources.builder()
+			.eventLoopGroupProvider(new SharedEventLoopGroupProvider(redisEventLoopGroup))
+			.eventExecutorGroup(redisComputationGroup);
+		customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+		return builder.build();
+	}
+
+	private static int threads(int configured) {
+		return configured > 0 ? configured : Math.max(2, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Lettuce에 공유 이벤트 루프를 넘기는 provider (종료는 Spring 빈 소멸 시점에 수행)
+	 */
+	private static final class SharedEventLoopGroupProvider implements EventLoopGroupProvider {
+
+		private final EventLoopGroup eventLoopGroup;
+
+		private SharedEventLoopGroupProvider(EventLoopGroup eventLoopGroup) {
+			this.eventLoopGroup = eventLoopGroup;
+		}
+
+		@Override
+		public <T extends EventLoopGroup> T allocate(Class<T> type) {
+			if (!type.isInstance(eventLoopGroup)) {
+				throw new IllegalStateException("Shared Redis event loop is " + eventLoopGroup.getClass().getSimpleName()
+					+ ", but Lettuce requested " + type.getSimpleName());
+			}
+			return type.cast(eventLoopGroup);
+		}
+
+		/**
+		 * 공유 이벤트 루프의 실제 스레드 수 (Lettuce가 연결별 스레드 배분에 사용)
+		 */
+		@Override
+		public int threadPoolSize() {
+			if (eventLoopGroup instanceof MultithreadEventExecutorGroup multithreaded) {
+				return multithreaded.executorCount();
+			}
+			return 1;
+		}
+
+		@Override
+		public Future<Boolean> release(EventExecutorGroup eventLoopGroup, long quietPeriod, long timeout,
+			TimeUnit unit) {
+			return ImmediateEventExecutor.INSTANCE.newSucceededFuture(true);
+		}
+
+		@Override
+		public Future<Boolean> shutdown(long quietPeriod, long timeout, TimeUnit timeUnit) {
+			return ImmediateEventExecutor.INSTANCE.newSucceededFuture(true);
+		}
+	}
+}
@@ -7,9 +7,13 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.pm.connecto.common.redis.MeteredRedisTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Redis 설정
- * - 매칭 대기열 관리용 RedisTemplate
+ * - 매칭 대기열 관리용 RedisTemplate (연결 대기/명령 지연/실행 중 명령 수 메트릭 기록)
  * - RedisConnectionFactory가 있을 때만 활성화 (테스트 환경에서는 비활성화)
  */
 @Configuration
@@ -17,8 +21,9 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 public class RedisConfig {
 
 	@Bean
-	public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory) {
-		RedisTemplate<String, String> template = new RedisTemplate<>();
+	public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory,
+		MeterRegistry meterRegistry) {
+		RedisTemplate<String, String> template = new MeteredRedisTemplate(meterRegistry);
 		template.setConnectionFactory(connectionFactory);
 		template.setKeySerializer(new StringRedisSerializer());
 		template.setValueSerializer(new StringRedisSerializer());
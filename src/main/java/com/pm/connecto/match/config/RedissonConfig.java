@@ -1,47 +1,105 @@
 package com.pm.connecto.match.config;
 
+import java.util.List;
+
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
+import org.redisson.config.BaseConfig;
+import org.redisson.config.BaseMasterSlaveServersConfig;
+import org.redisson.config.ClusterServersConfig;
 import org.redisson.config.Config;
-import org.springframework.beans.factory.annotation.Value;
+import org.redisson.config.ReadMode;
+import org.redisson.config.SentinelServersConfig;
+import org.redisson.config.SingleServerConfig;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
 
 /**
  * Redisson 설정 (분산 락용)
+ * - Lettuce(RedisTemplate)와 같은 spring.data.redis.* 설정으로 토폴로지 결정
+ *   sentinel.master가 있으면 Sentinel, cluster.nodes가 있으면 Cluster, 둘 다 없으면 단일 서버
+ * - Sentinel/Cluster에서도 모든 명령은 master로 (락, fencing token 확인은 복제 지연 없이 읽어야 함)
+ * - I/O 이벤트 루프/콜백 스레드는 Lettuce와 공유 (RedisClientResourcesConfig)
+ * - 연결 풀 크기도 Lettuce와 같은 spring.data.redis.lettuce.pool.max-active / min-idle 사용
+ *   (Lettuce는 commons-pool2로 트랜잭션/블로킹 전용 연결만 풀링, Redisson은 모든 명령이 풀 연결)
  * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
  */
 @Configuration
 @ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
 public class RedissonConfig {
 
-	@Value("${spring.data.redis.host:localhost}")
-	private String redisHost;
-
-	@Value("${spring.data.redis.port:6379}")
-	private int redisPort;
-
-	@Value("${spring.data.redis.password:}")
-	private String redisPassword;
+	private static final int TIMEOUT_MILLIS = 3000;
+	private static final int RETRY_ATTEMPTS = 3;
+	private static final int RETRY_INTERVAL_MILLIS = 1500;
+	private static final int CLUSTER_SCAN_INTERVAL_MILLIS = 2000;
 
 	@Bean
-	public RedissonClient redissonClient() {
+	public RedissonClient redissonClient(
+		RedisProperties properties,
+		EventLoopGroup redisEventLoopGroup,
+		EventExecutorGroup redisComputationGroup
+	) {
 		Config config = new Config();
-		String address = String.format("redis://%s:%d", redisHost, redisPort);
-		
-		config.useSingleServer()
-			.setAddress(address)
-			.setConnectionMinimumIdleSize(5)
-			.setConnectionPoolSize(16)
-			.setTimeout(3000)
-			.setRetryAttempts(3)
-			.setRetryInterval(1500);
-
-		if (redisPassword != null && !redisPassword.isEmpty()) {
-			config.useSingleServer().setPassword(redisPassword);
+		config.setEventLoopGroup(redisEventLoopGroup);
+		config.setExecutor(redisComputationGroup);
+		RedisProperties.Pool pool = properties.getLettuce().getPool();
+		int poolSize = pool.getMaxActive();
+		int minimumIdleSize = Math.min(poolSize, Math.max(1, pool.getMinIdle()));
+		String scheme = properties.getSsl().isEnabled() ? "rediss://" : "redis://";
+		RedisProperties.Sentinel sentinel = properties.getSentinel();
+		RedisProperties.Cluster cluster = properties.getCluster();
+
+		if (sentinel != null && StringUtils.hasText(sentinel.getMaster())) {
+			SentinelServersConfig servers = config.useSentinelServers()
+				.setMasterName(sentinel.getMaster())
+				.addSentinelAddress(addresses(scheme, sentinel.getNodes()));
+			if (StringUtils.hasText(sentinel.getPassword())) {
+				servers.setSentinelPassword(sentinel.getPassword());
+			}
+			applyMasterSlave(servers, properties, poolSize, minimumIdleSize);
+		} else if (cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty()) {
+			ClusterServersConfig servers = config.useClusterServers()
+				.addNodeAddress(addresses(scheme, cluster.getNodes()))
+				.setScanInterval(CLUSTER_SCAN_INTERVAL_MILLIS);
+			applyMasterSlave(servers, properties, poolSize, minimumIdleSize);
+		} else {
+			SingleServerConfig server = config.useSingleServer()
+				.setAddress(String.format("%s%s:%d", scheme, properties.getHost(), properties.getPort()))
+				.setConnectionMinimumIdleSize(minimumIdleSize)
+				.setConnectionPoolSize(poolSize);
+			applyCommon(server, properties);
 		}
 
 		return Redisson.create(config);
 	}
+
+	private static void applyMasterSlave(BaseMasterSlaveServersConfig<?> servers, RedisProperties properties,
+		int poolSize, int minimumIdleSize) {
+		servers.setReadMode(ReadMode.MASTER);
+		servers.setMasterConnectionMinimumIdleSize(minimumIdleSize);
+		servers.setMasterConnectionPoolSize(poolSize);
+		applyCommon(servers, properties);
+	}
+
+	private static void applyCommon(BaseConfig<?> servers, RedisProperties properties) {
+		servers.setTimeout(TIMEOUT_MILLIS);
+		servers.setRetryAttempts(RETRY_ATTEMPTS);
+		servers.setRetryInterval(RETRY_INTERVAL_MILLIS);
+		if (StringUtils.hasText(properties.getUsername())) {
+			servers.setUsername(properties.getUsername());
+		}
+		if (StringUtils.hasText(properties.getPassword())) {
+			servers.setPassword(properties.getPassword());
+		}
+	}
+
+	private static String[] addresses(String scheme, List<String> nodes) {
+		return nodes.stream().map(node -> scheme + node.trim()).toArray(String[]::new);
+	}
 }
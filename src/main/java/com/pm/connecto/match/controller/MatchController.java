@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.pm.connecto.common.context.UserContext;
+import com.pm.connecto.common.limit.AdaptiveConcurrencyLimiter;
 import com.pm.connecto.common.response.ApiResponse;
 import com.pm.connecto.match.dto.MatchResultResponse;
 import com.pm.connecto.match.dto.MatchStartResponse;
@@ -35,21 +36,26 @@ public class MatchController {
 
 	private final MatchService matchService;
 	private final UserContext userContext;
+	private final AdaptiveConcurrencyLimiter matchStartLimiter;
 
-	public MatchController(MatchService matchService, UserContext userContext) {
+	public MatchController(MatchService matchService, UserContext userContext,
+		AdaptiveConcurrencyLimiter matchStartLimiter) {
 		this.matchService = matchService;
 		this.userContext = userContext;
+		this.matchStartLimiter = matchStartLimiter;
 	}
 
 	@Operation(summary = "매칭 시작", description = "대기열에 진입하여 매칭을 시작합니다.")
 	@SecurityRequirement(name = "Bearer Authentication")
 	@ApiResponses({
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "매칭 시작 성공"),
-		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요")
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "과부하로 거절 (Retry-After 이후 재시도)")
 	})
 	@PostMapping("/start")
 	public ApiResponse<MatchStartResponse> startMatching() {
-		MatchStartResponse response = matchService.startMatching(userContext.getUserId());
+		Long userId = userContext.getUserId();
+		MatchStartResponse response = matchStartLimiter.execute(() -> matchService.startMatching(userId));
 		return ApiResponse.success(response);
 	}
 
@@ -0,0 +1,40 @@
+package com.pm.connecto.match.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 진행 중 통화 참여자 (사용자당 1행)
+ * - PK가 user_id → "사용자의 진행 중 세션" 조회가 PK 단건 조회, 사용자당 진행 중 통화 1개를 DB가 보장
+ * - 세션이 IN_PROGRESS인 동안만 존재 (write-behind upsert/만료 UPDATE/종료 시 함께 갱신)
+ * - JDBC로만 기록하므로 엔티티는 조회/DDL 용도
+ * - session_id는 FK 없음 (call_sessions PK가 (id, created_at) 파티션 키라 id 단독 참조 불가, V5에서 제거)
+ *   → DB cascade 없이 세션을 종료하는 경로(write-behind/만료/종료)가 같은 트랜잭션에서 직접 삭제
+ */
+@Entity
+@Table(name = "active_call_participants", indexes = {
+	@Index(name = "idx_active_call_participant_session", columnList = "session_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ActiveCallParticipant {
+
+	@Id
+	@Column(name = "user_id")
+	private Long userId;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "session_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+	private CallSession session;
+}
@@ -0,0 +1,13 @@
+package com.pm.connecto.match.domain;
+
+/**
+ * 통화 종료 사유
+ * - USER: 참여자가 종료 버튼으로 종료
+ * - EXPIRED: 최대 통화 시간 초과로 서버가 종료
+ * - DISCONNECT: 연결 끊김을 감지한 클라이언트가 종료 보고
+ */
+public enum CallEndReason {
+	USER,
+	EXPIRED,
+	DISCONNECT
+}
@@ -1,7 +1,11 @@
 package com.pm.connecto.match.domain;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
+import org.hibernate.annotations.PartitionKey;
+
+import com.pm.connecto.common.persistence.PooledSequence;
 import com.pm.connecto.user.domain.User;
 
 import jakarta.persistence.Column;
@@ -9,8 +13,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -22,11 +24,16 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 통화 세션
+ * - 운영(PostgreSQL) 스키마/인덱스는 db/migration이 관리 (만료 조회는 부분 인덱스 idx_call_session_in_progress_started)
+ * - 아래 @Index는 ddl-auto(H2) 환경용, H2는 부분 인덱스를 지원하지 않아 (status, started_at) 복합 인덱스로 대체
+ * - 운영 테이블은 created_at 월별 범위 파티션 (@PartitionKey → UPDATE/DELETE 조건에 포함되어 해당 파티션만 접근)
+ */
 @Entity
 @Table(name = "call_sessions", indexes = {
 	@Index(name = "idx_call_session_user1", columnList = "user1_id"),
 	@Index(name = "idx_call_session_user2", columnList = "user2_id"),
-	@Index(name = "idx_call_session_status", columnList = "status"),
 	@Index(name = "idx_call_session_created_at", columnList = "created_at"),
 	@Index(name = "idx_call_session_started_at", columnList = "started_at"),
 	@Index(name = "idx_call_session_status_started", columnList = "status,started_at")
@@ -36,7 +43,7 @@ import lombok.NoArgsConstructor;
 public class CallSession {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@PooledSequence("call_sessions_seq")
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -51,6 +58,7 @@ public class CallSession {
 	@Column(nullable = false, length = 20)
 	private CallSessionStatus status;
 
+	@PartitionKey
 	@Column(nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
@@ -63,15 +71,21 @@ public class CallSession {
 	@Column(length = 100)
 	private String webrtcChannelId;
 
-	@Column(nullable = false)
+	// 숫자 뒤 대문자는 기본 명명 전략에서 '_'가 붙지 않으므로 명시 (기존 DB의 user1want_again은 V4_1에서 변경)
+	@Column(name = "user1_want_again", nullable = false)
 	private Boolean user1WantAgain = false;
 
-	@Column(nullable = false)
+	@Column(name = "user2_want_again", nullable = false)
 	private Boolean user2WantAgain = false;
 
+	// write-behind upsert는 이 값보다 큰 version만 반영 (DB 경로 갱신도 증가시켜 이전 Redis 상태가 덮어쓰지 않도록)
+	@Column(nullable = false)
+	private Long version = 0L;
+
 	@PrePersist
 	protected void onCreate() {
-		createdAt = LocalDateTime.now();
+		// 파티션 키는 UPDATE 조건에 쓰이므로 DB 정밀도(마이크로초)로 맞춤
+		createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
 		updatedAt = LocalDateTime.now();
 		if (status == null) {
 			status = CallSessionStatus.WAITING;
@@ -81,6 +95,7 @@ public class CallSession {
 	@PreUpdate
 	protected void onUpdate() {
 		updatedAt = LocalDateTime.now();
+		version++;
 	}
 
 	public CallSession(User user1, User user2) {
@@ -0,0 +1,12 @@
+package com.pm.connecto.match.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중 세션의 시작 시각 (종료 타이머 재등록용)
+ */
+public record ActiveCallSession(
+	Long sessionId,
+	LocalDateTime startedAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.pm.connecto.match.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * call_sessions 파티션 (월별 범위, upperBound 미포함)
+ *
+ * @param detachPending DETACH ... CONCURRENTLY가 중단되어 FINALIZE가 필요한 상태
+ */
+public record CallSessionPartition(
+	String name,
+	LocalDateTime upperBound,
+	boolean detachPending
+) {
+}
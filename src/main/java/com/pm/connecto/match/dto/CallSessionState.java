@@ -0,0 +1,71 @@
+package com.pm.connecto.match.dto;
+
+import java.time.LocalDateTime;
+
+import com.pm.connecto.match.domain.CallSession;
+import com.pm.connecto.match.domain.CallSessionStatus;
+
+/**
+ * 진행 중/종료 직후 통화 세션 상태 (ActiveCallSessionStore 저장 단위)
+ * - call_sessions 행과 같은 컬럼 구성, write-behind로 그대로 upsert
+ * - version은 Redis에서 변경될 때마다 증가 (flush 완료 확인, DB에는 더 큰 version만 반영)
+ */
+public record CallSessionState(
+	Long sessionId,
+	Long user1Id,
+	Long user2Id,
+	CallSessionStatus status,
+	String webrtcChannelId,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt,
+	LocalDateTime startedAt,
+	LocalDateTime endedAt,
+	boolean user1WantAgain,
+	boolean user2WantAgain,
+	long version
+) {
+
+	/**
+	 * 매칭 성립 직후 (IN_PROGRESS) 상태
+	 */
+	public static CallSessionState started(Long sessionId, Long user1Id, Long user2Id, String webrtcChannelId,
+		LocalDateTime now) {
+		return new CallSessionState(sessionId, user1Id, user2Id, CallSessionStatus.IN_PROGRESS, webrtcChannelId,
+			now, now, now, null, false, false, 0L);
+	}
+
+	/**
+	 * DB 행 기준 상태 (Redis 장애 시 조회 경로)
+	 */
+	public static CallSessionState from(CallSession session) {
+		return new CallSessionState(session.getId(), session.getUser1().getId(), session.getUser2().getId(),
+			session.getStatus(), session.getWebrtcChannelId(), session.getCreatedAt(), session.getUpdatedAt(),
+			session.getStartedAt(), session.getEndedAt(), Boolean.TRUE.equals(session.getUser1WantAgain()),
+			Boolean.TRUE.equals(session.getUser2WantAgain()), session.getVersion());
+	}
+
+	public CallSessionState ended(LocalDateTime endedAt) {
+		return new CallSessionState(sessionId, user1Id, user2Id, CallSessionStatus.ENDED, webrtcChannelId,
+			createdAt, endedAt, startedAt, endedAt, user1WantAgain, user2WantAgain, version + 1);
+	}
+
+	public boolean isParticipant(Long userId) {
+		return user1Id.equals(userId) || user2Id.equals(userId);
+	}
+
+	public boolean isInProgress() {
+		return status == CallSessionStatus.IN_PROGRESS;
+	}
+
+	public boolean isEnded() {
+		return status == CallSessionStatus.ENDED;
+	}
+
+	public Long partnerId(Long userId) {
+		return user1Id.equals(userId) ? user2Id : user1Id;
+	}
+
+	public boolean wantAgain(Long userId) {
+		return user1Id.equals(userId) ? user1WantAgain : user2WantAgain;
+	}
+}
@@ -0,0 +1,14 @@
+package com.pm.connecto.match.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 만료 처리된 세션 (UPDATE ... RETURNING 결과)
+ */
+public record ExpiredCallSession(
+	Long sessionId,
+	Long user1Id,
+	Long user2Id,
+	LocalDateTime startedAt
+) {
+}
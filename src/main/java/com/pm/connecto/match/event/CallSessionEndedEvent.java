@@ -0,0 +1,18 @@
+package com.pm.connecto.match.event;
+
+import java.time.LocalDateTime;
+
+import com.pm.connecto.match.domain.CallEndReason;
+
+/**
+ * 사용자 요청으로 통화가 종료된 이벤트 (종료 타이머 해제, 통화 시간 집계용)
+ *
+ * @param startedAt 통화 시작 전에 종료된 세션이면 null
+ */
+public record CallSessionEndedEvent(
+	Long sessionId,
+	LocalDateTime startedAt,
+	LocalDateTime endedAt,
+	CallEndReason reason
+) {
+}
@@ -0,0 +1,9 @@
+package com.pm.connecto.match.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통화 시작 이벤트 (종료 타이머 등록용)
+ */
+public record CallSessionStartedEvent(Long sessionId, LocalDateTime startedAt) {
+}
@@ -0,0 +1,13 @@
+package com.pm.connecto.match.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.pm.connecto.match.dto.ExpiredCallSession;
+
+/**
+ * 통화 시간 초과로 자동 종료된 세션 이벤트 (배치 단위, 커밋 이후 발행)
+ * - 프론트엔드 종료 알림(WebSocket/SSE) 등 후속 처리용
+ */
+public record CallSessionsExpiredEvent(List<ExpiredCallSession> sessions, LocalDateTime endedAt) {
+}
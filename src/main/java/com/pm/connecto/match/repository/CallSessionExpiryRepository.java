@@ -0,0 +1,20 @@
+package com.pm.connecto.match.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.pm.connecto.match.dto.ExpiredCallSession;
+
+/**
+ * 통화 세션 일괄 만료용 커스텀 리포지토리 (JDBC)
+ * - 단일 UPDATE ... RETURNING (H2는 FINAL TABLE) 으로 조회/갱신을 한 번에 처리
+ * - 영속성 컨텍스트를 거치지 않으므로 호출 트랜잭션에서 같은 세션 엔티티를 수정하지 말 것
+ */
+public interface CallSessionExpiryRepository {
+
+	/**
+	 * cutoffTime 이전에 시작된 진행 중 세션을 최대 limit건 종료 처리하고 종료된 세션 반환
+	 * - 종료된 세션의 active_call_participants 행도 함께 삭제
+	 */
+	List<ExpiredCallSession> expireStartedBefore(LocalDateTime cutoffTime, LocalDateTime endedAt, int limit);
+}
@@ -0,0 +1,83 @@
+package com.pm.connecto.match.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.pm.connecto.common.persistence.DatabaseDialect;
+import com.pm.connecto.match.dto.ExpiredCallSession;
+
+class CallSessionExpiryRepositoryImpl implements CallSessionExpiryRepository {
+
+	private static final String UPDATE_ENDED = """
+		UPDATE call_sessions SET status = 'ENDED', ended_at = :endedAt, updated_at = :endedAt, version = version + 1
+		WHERE status = 'IN_PROGRESS' AND\s""";
+
+	private static final String RETURNED_COLUMNS = "id, user1_id, user2_id, started_at";
+
+	private static final String EXPIRE_TARGETS = """
+		SELECT id FROM call_sessions
+		WHERE status = 'IN_PROGRESS' AND started_at < :cutoffTime
+		ORDER BY started_at
+		FETCH FIRST :limit ROWS ONLY""";
+
+	private static final String RELEASE_PARTICIPANTS = "DELETE FROM active_call_participants WHERE session_id IN (:ids)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private volatile DatabaseDialect dialect;
+
+	CallSessionExpiryRepositoryImpl(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+	}
+
+	@Override
+	public List<ExpiredCallSession> expireStartedBefore(LocalDateTime cutoffTime, LocalDateTime endedAt, int limit) {
+		// PostgreSQL: 다른 노드/요청이 잠근 행은 건너뜀 (SKIP LOCKED)
+		String condition = isH2()
+			? "id IN (" + EXPIRE_TARGETS + ")"
+			: "id IN (" + EXPIRE_TARGETS + " FOR UPDATE SKIP LOCKED)";
+		List<ExpiredCallSession> expired = jdbcTemplate.query(updateReturning(condition), Map.of(
+			"endedAt", endedAt,
+			"cutoffTime", cutoffTime,
+			"limit", limit
+		), this::mapRow);
+		if (!expired.isEmpty()) {
+			jdbcTemplate.update(RELEASE_PARTICIPANTS,
+				Map.of("ids", expired.stream().map(ExpiredCallSession::sessionId).toList()));
+		}
+		return expired;
+	}
+
+	/**
+	 * H2는 RETURNING 미지원 → data change delta table (FINAL TABLE)
+	 */
+	private String updateReturning(String condition) {
+		String update = UPDATE_ENDED + condition;
+		return isH2()
+			? "SELECT " + RETURNED_COLUMNS + " FROM FINAL TABLE (" + update + ")"
+			: update + " RETURNING " + RETURNED_COLUMNS;
+	}
+
+	private ExpiredCallSession mapRow(ResultSet rs, int rowNum) throws SQLException {
+		return new ExpiredCallSession(
+			rs.getLong("id"),
+			rs.getLong("user1_id"),
+			rs.getLong("user2_id"),
+			rs.getObject("started_at", LocalDateTime.class)
+		);
+	}
+
+	private boolean isH2() {
+		DatabaseDialect result = dialect;
+		if (result == null) {
+			result = DatabaseDialect.detect(jdbcTemplate.getJdbcTemplate().getDataSource());
+			dialect = result;
+		}
+		return result == DatabaseDialect.H2;
+	}
+}
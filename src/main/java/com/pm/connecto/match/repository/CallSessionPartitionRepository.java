@@ -0,0 +1,59 @@
+package com.pm.connecto.match.repository;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+import com.pm.connecto.match.dto.CallSessionPartition;
+
+/**
+ * call_sessions 파티션 관리 / 보존 기간 경과 세션 이관용 커스텀 리포지토리 (JDBC, PostgreSQL 전용)
+ * - 파티셔닝은 db/migration V5에서 적용, H2(ddl-auto)는 일반 테이블이므로 isPartitioned() == false
+ * - DETACH CONCURRENTLY는 트랜잭션 밖에서만 실행 가능하므로 호출 트랜잭션 없이 사용 (문장 단위 auto-commit)
+ */
+public interface CallSessionPartitionRepository {
+
+	/**
+	 * call_sessions가 파티션 테이블인지 여부
+	 */
+	boolean isPartitioned();
+
+	/**
+	 * 연결된 파티션 목록 (upperBound 오름차순)
+	 */
+	List<CallSessionPartition> findPartitions();
+
+	/**
+	 * 월별 파티션 생성 (이미 있으면 무시)
+	 */
+	void createMonthlyPartition(YearMonth month);
+
+	/**
+	 * 진행 중/대기 세션이 남아 있는지 여부
+	 */
+	boolean hasUnfinishedSessions(String partitionName);
+
+	/**
+	 * 파티션 분리 (DETACH ... CONCURRENTLY, 중단된 분리는 FINALIZE)
+	 */
+	void detachPartition(CallSessionPartition partition);
+
+	/**
+	 * 분리되었지만 아직 이관되지 않은 테이블 목록
+	 */
+	List<String> findDetachedPartitions();
+
+	/**
+	 * 분리된 테이블에서 최대 limit건을 call_sessions_archive로 이관 (DELETE ... RETURNING → INSERT, 1문장 1트랜잭션)
+	 * - 여러 노드가 겹쳐 실행해도 DELETE 행 잠금으로 같은 행은 한 번만 이관
+	 *
+	 * @param timeout 문장 실행 상한 (초과 시 취소 후 예외, 이관은 롤백)
+	 * @return 이관한 행 수
+	 */
+	int archiveChunk(String tableName, int limit, Duration timeout);
+
+	/**
+	 * 이관이 끝난 분리 테이블 삭제
+	 */
+	void dropDetachedPartition(String tableName);
+}
@@ -0,0 +1,149 @@
+package com.pm.connecto.match.repository;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.pm.connecto.common.persistence.DatabaseDialect;
+import com.pm.connecto.match.dto.CallSessionPartition;
+
+class CallSessionPartitionRepositoryImpl implements CallSessionPartitionRepository {
+
+	private static final String LEGACY_PARTITION = "call_sessions_legacy";
+	private static final Pattern MANAGED_TABLE = Pattern.compile("call_sessions_y\\d{4}m\\d{2}|" + LEGACY_PARTITION);
+	private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+	private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	private static final String IS_PARTITIONED = "SELECT relkind = 'p' FROM pg_class WHERE oid = to_regclass('call_sessions')";
+
+	private static final String FIND_PARTITIONS = """
+		SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) AS bound, i.inhdetachpending
+		FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+		WHERE i.inhparent = 'call_sessions'::regclass""";
+
+	private static final String FIND_DETACHED = """
+		SELECT c.relname FROM pg_class c
+		WHERE c.relkind = 'r' AND NOT c.relispartition
+		AND c.relnamespace = to_regnamespace(current_schema())
+		AND (c.relname ~ '^call_sessions_y[0-9]{4}m[0-9]{2}$' OR c.relname = 'call_sessions_legacy')
+		ORDER BY c.relname""";
+
+	private static final String ARCHIVE_CHUNK = """
+		WITH moved AS (
+			DELETE FROM %1$s WHERE id IN (SELECT id FROM %1$s ORDER BY id LIMIT ?)
+			RETURNING id, user1_id, user2_id, created_at, started_at, ended_at, user1_want_again, user2_want_again
+		)
+		INSERT INTO call_sessions_archive
+			(id, user1_id, user2_id, created_at, started_at, ended_at, user1_want_again, user2_want_again)
+		SELECT id, user1_id, user2_id, created_at, started_at, ended_at, user1_want_again, user2_want_again
+		FROM moved""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private volatile DatabaseDialect dialect;
+
+	CallSessionPartitionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public boolean isPartitioned() {
+		if (dialect() == DatabaseDialect.H2) {
+			return false;
+		}
+		List<Boolean> result = jdbcTemplate.queryForList(IS_PARTITIONED, Boolean.class);
+		return !result.isEmpty() && Boolean.TRUE.equals(result.get(0));
+	}
+
+	@Override
+	public List<CallSessionPartition> findPartitions() {
+		return jdbcTemplate.query(FIND_PARTITIONS, (rs, rowNum) -> new CallSessionPartition(
+				rs.getString("relname"),
+				upperBound(rs.getString("bound")),
+				rs.getBoolean("inhdetachpending")
+			)).stream()
+			.sorted(Comparator.comparing(CallSessionPartition::upperBound))
+			.toList();
+	}
+
+	@Override
+	public void createMonthlyPartition(YearMonth month) {
+		LocalDate from = month.atDay(1);
+		LocalDate to = month.plusMonths(1).atDay(1);
+		String name = "call_sessions_y%04dm%02d".formatted(month.getYear(), month.getMonthValue());
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF call_sessions FOR VALUES FROM ('%s') TO ('%s')"
+			.formatted(name, from, to));
+	}
+
+	@Override
+	public boolean hasUnfinishedSessions(String partitionName) {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM %s WHERE status <> 'ENDED')".formatted(managed(partitionName)), Boolean.class));
+	}
+
+	@Override
+	public void detachPartition(CallSessionPartition partition) {
+		String mode = partition.detachPending() ? "FINALIZE" : "CONCURRENTLY";
+		jdbcTemplate.execute("ALTER TABLE call_sessions DETACH PARTITION %s %s".formatted(managed(partition.name()), mode));
+	}
+
+	@Override
+	public List<String> findDetachedPartitions() {
+		return jdbcTemplate.queryForList(FIND_DETACHED, String.class);
+	}
+
+	@Override
+	public int archiveChunk(String tableName, int limit, Duration timeout) {
+		String sql = ARCHIVE_CHUNK.formatted(managed(tableName));
+		return jdbcTemplate.update(connection -> {
+			PreparedStatement ps = connection.prepareStatement(sql);
+			ps.setInt(1, limit);
+			ps.setQueryTimeout((int) Math.max(1, timeout.toSeconds()));
+			return ps;
+		});
+	}
+
+	@Override
+	public void dropDetachedPartition(String tableName) {
+		jdbcTemplate.execute("DROP TABLE IF EXISTS " + managed(tableName));
+	}
+
+	/**
+	 * SQL에 직접 넣는 테이블명은 관리 대상 이름만 허용
+	 */
+	private static String managed(String tableName) {
+		if (!MANAGED_TABLE.matcher(tableName).matches()) {
+			throw new IllegalArgumentException("Not a call_sessions partition: " + tableName);
+		}
+		return tableName;
+	}
+
+	/**
+	 * "FOR VALUES FROM (...) TO ('2026-11-01 00:00:00')" → 2026-11-01T00:00
+	 */
+	private static LocalDateTime upperBound(String bound) {
+		Matcher matcher = UPPER_BOUND.matcher(bound);
+		if (!matcher.find()) {
+			// TO (MAXVALUE) 등 월별 범위가 아닌 파티션은 이관 대상에서 제외
+			return LocalDateTime.MAX;
+		}
+		return LocalDateTime.parse(matcher.group(1), BOUND_FORMAT);
+	}
+
+	private DatabaseDialect dialect() {
+		DatabaseDialect result = dialect;
+		if (result == null) {
+			result = DatabaseDialect.detect(jdbcTemplate.getDataSource());
+			dialect = result;
+		}
+		return result;
+	}
+}
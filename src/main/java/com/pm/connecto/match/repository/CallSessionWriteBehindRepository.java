@@ -0,0 +1,19 @@
+package com.pm.connecto.match.repository;
+
+import java.util.List;
+
+import com.pm.connecto.match.dto.CallSessionState;
+
+/**
+ * ActiveCallSessionStore → call_sessions write-behind 반영용 커스텀 리포지토리 (JDBC)
+ */
+public interface CallSessionWriteBehindRepository {
+
+	/**
+	 * 세션 상태 일괄 upsert (JDBC 배치, 같은 상태를 여러 번 반영해도 결과 동일)
+	 * - DB 행의 version보다 큰 상태만 반영 (이전 상태가 늦게 도착해도 최신 상태 유지)
+	 * - active_call_participants도 함께 갱신 (IN_PROGRESS → 등록, 그 외 → 해제, 반영된 세션만)
+	 * - 다른 진행 중 세션에 참여 중인 사용자가 있으면 제약 위반으로 실패
+	 */
+	void upsertAll(List<CallSessionState> states);
+}
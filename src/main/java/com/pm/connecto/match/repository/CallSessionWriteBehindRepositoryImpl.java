@@ -0,0 +1,136 @@
+package com.pm.connecto.match.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.pm.connecto.common.persistence.DatabaseDialect;
+import com.pm.connecto.match.dto.CallSessionState;
+
+class CallSessionWriteBehindRepositoryImpl implements CallSessionWriteBehindRepository {
+
+	private static final String COLUMNS = """
+		id, user1_id, user2_id, status, webrtc_channel_id, created_at, updated_at, started_at, ended_at,
+		user1_want_again, user2_want_again, version""";
+
+	private static final String VALUES = "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?";
+
+	// 파티션 테이블 PK (id, created_at), created_at은 세션 생성 시 고정
+	// DB의 version이 같거나 크면 건너뜀 (늦게 도착한 이전 상태, DB 경로에서 먼저 갱신된 세션)
+	private static final String POSTGRES_UPSERT_SQL = """
+		INSERT INTO call_sessions (%s) VALUES (%s)
+		ON CONFLICT (id, created_at) DO UPDATE SET
+			status = EXCLUDED.status,
+			updated_at = EXCLUDED.updated_at,
+			ended_at = EXCLUDED.ended_at,
+			user1_want_again = EXCLUDED.user1_want_again,
+			user2_want_again = EXCLUDED.user2_want_again,
+			version = EXCLUDED.version
+		WHERE call_sessions.version < EXCLUDED.version""".formatted(COLUMNS, VALUES);
+
+	private static final String H2_UPSERT_SQL = """
+		MERGE INTO call_sessions t
+		USING (VALUES (%s)) s (%s)
+		ON t.id = s.id
+		WHEN MATCHED AND t.version < s.version THEN UPDATE SET
+			status = s.status,
+			updated_at = s.updated_at,
+			ended_at = s.ended_at,
+			user1_want_again = s.user1_want_again,
+			user2_want_again = s.user2_want_again,
+			version = s.version
+		WHEN NOT MATCHED THEN INSERT (%s) VALUES (
+			s.id, s.user1_id, s.user2_id, s.status, s.webrtc_channel_id, s.created_at, s.updated_at, s.started_at,
+			s.ended_at, s.user1_want_again, s.user2_want_again, s.version)""".formatted(VALUES, COLUMNS, COLUMNS);
+
+	// 같은 세션으로 이미 등록된 경우만 건너뜀, 다른 세션이 같은 사용자를 점유 중이면 PK 위반으로 실패
+	private static final String INSERT_PARTICIPANT_SQL = """
+		INSERT INTO active_call_participants (user_id, session_id)
+		SELECT CAST(? AS BIGINT), CAST(? AS BIGINT)
+		WHERE NOT EXISTS (SELECT 1 FROM active_call_participants WHERE user_id = ? AND session_id = ?)""";
+
+	private static final String RELEASE_PARTICIPANTS_SQL = "DELETE FROM active_call_participants WHERE session_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private volatile DatabaseDialect dialect;
+
+	CallSessionWriteBehindRepositoryImpl(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public void upsertAll(List<CallSessionState> states) {
+		if (states.isEmpty()) {
+			return;
+		}
+		String sql = dialect() == DatabaseDialect.H2 ? H2_UPSERT_SQL : POSTGRES_UPSERT_SQL;
+		int[] counts = jdbcTemplate.batchUpdate(sql, states, states.size(), this::bind)[0];
+
+		// version이 낮아 건너뛴 세션은 참여자도 반영하지 않음 (건수를 알 수 없는 드라이버 응답은 반영된 것으로 처리)
+		List<CallSessionState> applied = new ArrayList<>(states.size());
+		for (int i = 0; i < states.size(); i++) {
+			if (counts[i] != 0) {
+				applied.add(states.get(i));
+			}
+		}
+
+		// 해제를 먼저 반영 (같은 배치에서 종료된 세션의 사용자가 새 세션을 시작한 경우)
+		List<CallSessionState> released = applied.stream().filter(state -> !state.isInProgress()).toList();
+		if (!released.isEmpty()) {
+			jdbcTemplate.batchUpdate(RELEASE_PARTICIPANTS_SQL, released, released.size(),
+				(ps, state) -> ps.setLong(1, state.sessionId()));
+		}
+		List<long[]> participants = applied.stream()
+			.filter(CallSessionState::isInProgress)
+			.flatMap(state -> Stream.of(
+				new long[] {state.user1Id(), state.sessionId()},
+				new long[] {state.user2Id(), state.sessionId()}))
+			.toList();
+		if (!participants.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_PARTICIPANT_SQL, participants, participants.size(), (ps, participant) -> {
+				ps.setLong(1, participant[0]);
+				ps.setLong(2, participant[1]);
+				ps.setLong(3, participant[0]);
+				ps.setLong(4, participant[1]);
+			});
+		}
+	}
+
+	private void bind(PreparedStatement ps, CallSessionState state) throws SQLException {
+		ps.setLong(1, state.sessionId());
+		ps.setLong(2, state.user1Id());
+		ps.setLong(3, state.user2Id());
+		ps.setString(4, state.status().name());
+		ps.setString(5, state.webrtcChannelId());
+		setTime(ps, 6, state.createdAt());
+		setTime(ps, 7, state.updatedAt());
+		setTime(ps, 8, state.startedAt());
+		setTime(ps, 9, state.endedAt());
+		ps.setBoolean(10, state.user1WantAgain());
+		ps.setBoolean(11, state.user2WantAgain());
+		ps.setLong(12, state.version());
+	}
+
+	private static void setTime(PreparedStatement ps, int index, LocalDateTime time) throws SQLException {
+		if (time == null) {
+			ps.setNull(index, Types.TIMESTAMP);
+		} else {
+			ps.setObject(index, time);
+		}
+	}
+
+	private DatabaseDialect dialect() {
+		DatabaseDialect result = dialect;
+		if (result == null) {
+			result = DatabaseDialect.detect(jdbcTemplate.getDataSource());
+			dialect = result;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,196 @@
+package com.pm.connecto.match.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.pm.connecto.match.dto.ActiveCallSession;
+import com.pm.connecto.match.dto.ExpiredCallSession;
+import com.pm.connecto.match.event.CallSessionEndedEvent;
+import com.pm.connecto.match.event.CallSessionStartedEvent;
+import com.pm.connecto.match.service.ActiveCallSessionStore;
+import com.pm.connecto.match.service.CallSessionExpiryService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 통화 마감 시각 타이머 (hashed timer wheel)
+ * - 통화 시작 커밋 시 세션당 Timeout 1개 등록, startedAt + 5분에 정확히 종료
+ * - 사용자 종료 시 Timeout 해제, 기동 시 ActiveCallSessionStore의 진행 중 세션으로 재등록
+ * - 휠 한 바퀴(tick × ticksPerWheel)가 최대 통화 시간보다 길어 모든 Timeout이 1회전 안에 만료
+ *   → tick마다 해당 버킷의 Timeout만 처리 (등록된 세션 수와 무관한 tick 비용)
+ * - 만료 처리는 휠 스레드가 아닌 별도 스레드에서 batchSize 단위로 모아 UPDATE
+ * - 노드 장애 등으로 놓친 세션은 CallSessionScheduler 폴링이 정리
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class CallDeadlineTimer {
+
+	private static final Logger log = LoggerFactory.getLogger(CallDeadlineTimer.class);
+
+	private final CallSessionExpiryService callSessionExpiryService;
+	private final ActiveCallSessionStore activeCallSessionStore;
+	private final int batchSize;
+	private final HashedWheelTimer wheel;
+	private final ExecutorService expiryExecutor;
+	private final Map<Long, Timeout> timeouts = new ConcurrentHashMap<>();
+	private final Queue<Long> due = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final Counter expiredCounter;
+
+	public CallDeadlineTimer(
+		CallSessionExpiryService callSessionExpiryService,
+		ActiveCallSessionStore activeCallSessionStore,
+		MeterRegistry meterRegistry,
+		@Value("${call.deadline.tick-ms:100}") long tickMillis,
+		@Value("${call.expiry.batch-size:500}") int batchSize
+	) {
+		this.callSessionExpiryService = callSessionExpiryService;
+		this.activeCallSessionStore = activeCallSessionStore;
+		this.batchSize = batchSize;
+		this.wheel = new HashedWheelTimer(new DefaultThreadFactory("call-deadline-wheel", true),
+			tickMillis, TimeUnit.MILLISECONDS, ticksPerWheel(tickMillis));
+		this.expiryExecutor = Executors.newSingleThreadExecutor(new DefaultThreadFactory("call-deadline-expiry", true));
+		Gauge.builder("call.session.deadline.armed", timeouts, Map::size)
+			.description("Call sessions with an armed deadline timeout")
+			.register(meterRegistry);
+		this.expiredCounter = Counter.builder("call.session.deadline.expired")
+			.description("Call sessions ended by the deadline timer")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 최대 통화 시간을 1회전 안에 담는 버킷 수 (HashedWheelTimer가 2의 거듭제곱으로 올림)
+	 */
+	static int ticksPerWheel(long tickMillis) {
+		return (int) (CallSessionExpiryService.MAX_CALL_DURATION.toMillis() / tickMillis) + 1;
+	}
+
+	@TransactionalEventListener
+	public void onCallSessionStarted(CallSessionStartedEvent event) {
+		arm(event.sessionId(), event.startedAt());
+	}
+
+	@TransactionalEventListener
+	public void onCallSessionEnded(CallSessionEndedEvent event) {
+		cancel(event.sessionId());
+	}
+
+	/**
+	 * 기동 시 진행 중 세션 재등록 (이미 마감 시각이 지난 세션은 즉시 만료 대상)
+	 * - DB에만 남은 진행 중 행은 CallSessionScheduler 안전망이 종료
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rearmActiveSessions() {
+		List<ActiveCallSession> sessions = activeCallSessionStore.activeSessions();
+		for (ActiveCallSession session : sessions) {
+			arm(session.sessionId(), session.startedAt());
+		}
+		log.info("Re-armed {} call deadline timeouts", sessions.size());
+	}
+
+	/**
+	 * 마감 Timeout 등록 (같은 세션 재등록 시 기존 Timeout 교체)
+	 */
+	public void arm(Long sessionId, LocalDateTime startedAt) {
+		LocalDateTime deadline = startedAt.plus(CallSessionExpiryService.MAX_CALL_DURATION);
+		long delayNanos = Math.max(0L, Duration.between(LocalDateTime.now(), deadline).toNanos());
+
+		Timeout armed = wheel.newTimeout(timeout -> onDeadline(sessionId, timeout), delayNanos, TimeUnit.NANOSECONDS);
+		Timeout previous = timeouts.put(sessionId, armed);
+		if (previous != null) {
+			previous.cancel();
+		}
+	}
+
+	public void cancel(Long sessionId) {
+		Timeout timeout = timeouts.remove(sessionId);
+		if (timeout != null) {
+			timeout.cancel();
+		}
+	}
+
+	/**
+	 * 등록된 Timeout 수
+	 */
+	public int armedCount() {
+		return timeouts.size();
+	}
+
+	/**
+	 * 휠 스레드에서 실행 - 큐에 넣기만 하고 즉시 반환 (DB 작업으로 tick을 지연시키지 않음)
+	 */
+	private void onDeadline(Long sessionId, Timeout timeout) {
+		timeouts.remove(sessionId, timeout);
+		due.add(sessionId);
+		scheduleDrain();
+	}
+
+	private void scheduleDrain() {
+		if (draining.compareAndSet(false, true)) {
+			expiryExecutor.execute(this::drain);
+		}
+	}
+
+	private void drain() {
+		try {
+			List<Long> batch = new ArrayList<>(batchSize);
+			Long sessionId;
+			while ((sessionId = due.poll()) != null) {
+				batch.add(sessionId);
+				if (batch.size() == batchSize) {
+					expire(batch);
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+			if (!batch.isEmpty()) {
+				expire(batch);
+			}
+		} finally {
+			draining.set(false);
+			if (!due.isEmpty()) {
+				scheduleDrain();
+			}
+		}
+	}
+
+	private void expire(List<Long> sessionIds) {
+		try {
+			List<ExpiredCallSession> expired = callSessionExpiryService.expireSessions(sessionIds);
+			expiredCounter.increment(expired.size());
+		} catch (RuntimeException e) {
+			// 실패한 세션은 진행 중 상태로 남아 안전망 폴링이 종료
+			log.error("Failed to expire {} call sessions at deadline", sessionIds.size(), e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		wheel.stop();
+		expiryExecutor.shutdown();
+	}
+}
@@ -0,0 +1,186 @@
+package com.pm.connecto.match.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.pm.connecto.match.dto.CallSessionPartition;
+import com.pm.connecto.match.repository.CallSessionRepository;
+import com.pm.connecto.match.scheduler.SchedulerLease.Lease;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * call_sessions 파티션 유지보수
+ * - 앞으로 monthsAhead개월 파티션을 미리 생성 (INSERT 시점에 파티션이 없어 실패하는 일 방지)
+ * - 상한이 (이번 달 - retentionMonths) 이전인 파티션은 분리 (DETACH CONCURRENTLY, 종료되지 않은 세션이 있으면 보류)
+ * - 분리된 테이블은 batchSize 단위로 call_sessions_archive에 이관 후 삭제
+ *   (배치 사이 pause, 실행당 최대 maxBatchesPerRun 배치, 남은 행은 다음 실행에서 이어서 처리)
+ * - SchedulerLease로 클러스터에서 1개 노드만 실행, 배치마다 fencing token과 남은 lease 시간 확인
+ *   (token은 권고용: 배치는 문장 timeout으로 lease 안에서 끝나고, 겹쳐 실행되어도 같은 행은 한 번만 이관)
+ * - 파티셔닝이 적용되지 않은 DB(H2, V5 이전)에서는 아무것도 하지 않음
+ * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class CallSessionPartitionMaintenance {
+
+	private static final Logger log = LoggerFactory.getLogger(CallSessionPartitionMaintenance.class);
+	private static final String JOB = "call-partition";
+	private static final Duration LEASE = Duration.ofMinutes(50);
+	// 이관 배치 1회 상한 (문장 timeout), lease 남은 시간이 이보다 짧으면 다음 실행으로 넘김
+	private static final Duration ARCHIVE_BATCH_TIMEOUT = Duration.ofSeconds(60);
+
+	private final CallSessionRepository callSessionRepository;
+	private final SchedulerLease schedulerLease;
+	private final int monthsAhead;
+	private final int retentionMonths;
+	private final int batchSize;
+	private final int maxBatchesPerRun;
+	private final Duration pause;
+	private final Counter archivedCounter;
+	private final Timer runTimer;
+
+	public CallSessionPartitionMaintenance(
+		CallSessionRepository callSessionRepository,
+		SchedulerLease schedulerLease,
+		MeterRegistry meterRegistry,
+		@Value("${call.partition.months-ahead:3}") int monthsAhead,
+		@Value("${call.partition.retention-months:6}") int retentionMonths,
+		@Value("${call.archive.batch-size:1000}") int batchSize,
+		@Value("${call.archive.max-batches-per-run:500}") int maxBatchesPerRun,
+		@Value("${call.archive.pause-ms:50}") long pauseMillis
+	) {
+		this.callSessionRepository = callSessionRepository;
+		this.schedulerLease = schedulerLease;
+		this.monthsAhead = monthsAhead;
+		this.retentionMonths = retentionMonths;
+		this.batchSize = batchSize;
+		this.maxBatchesPerRun = maxBatchesPerRun;
+		this.pause = Duration.ofMillis(pauseMillis);
+		this.archivedCounter = Counter.builder("call.session.archive.rows")
+			.description("Ended call sessions moved to call_sessions_archive")
+			.register(meterRegistry);
+		this.runTimer = Timer.builder("call.session.partition.maintenance")
+			.description("Duration of a call_sessions partition maintenance run")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 매일 04:30 (트래픽이 적은 시간대)
+	 */
+	@Scheduled(cron = "${call.partition.cron:0 30 4 * * *}")
+	public void maintain() {
+		maintain(LocalDateTime.now());
+	}
+
+	void maintain(LocalDateTime now) {
+		Optional<Lease> lease = schedulerLease.tryAcquire(JOB, LEASE);
+		if (lease.isEmpty()) {
+			log.debug("Skipping partition maintenance, lease held by another node");
+			return;
+		}
+		if (!callSessionRepository.isPartitioned()) {
+			log.debug("call_sessions is not partitioned, skipping maintenance");
+			return;
+		}
+
+		Timer.Sample sample = Timer.start();
+		try {
+			YearMonth currentMonth = YearMonth.from(now);
+			List<CallSessionPartition> partitions = callSessionRepository.findPartitions();
+			createFuturePartitions(partitions, currentMonth);
+			detachExpiredPartitions(partitions, currentMonth);
+			archiveDetachedPartitions(lease.get());
+		} catch (RuntimeException e) {
+			log.error("call_sessions partition maintenance failed", e);
+		} finally {
+			sample.stop(runTimer);
+		}
+	}
+
+	/**
+	 * 마지막 파티션 상한부터 (이번 달 + monthsAhead)까지 빈 달 없이 생성
+	 */
+	private void createFuturePartitions(List<CallSessionPartition> partitions, YearMonth currentMonth) {
+		YearMonth horizon = currentMonth.plusMonths(monthsAhead);
+		YearMonth next = partitions.stream()
+			.map(CallSessionPartition::upperBound)
+			.filter(bound -> !bound.equals(LocalDateTime.MAX))
+			.max(LocalDateTime::compareTo)
+			.map(YearMonth::from)
+			.orElse(currentMonth);
+
+		for (YearMonth month = next; !month.isAfter(horizon); month = month.plusMonths(1)) {
+			callSessionRepository.createMonthlyPartition(month);
+			log.info("Created call_sessions partition for {}", month);
+		}
+	}
+
+	private void detachExpiredPartitions(List<CallSessionPartition> partitions, YearMonth currentMonth) {
+		LocalDateTime retentionStart = currentMonth.minusMonths(retentionMonths).atDay(1).atStartOfDay();
+		for (CallSessionPartition partition : partitions) {
+			if (partition.upperBound().isAfter(retentionStart)) {
+				continue;
+			}
+			// 만료 스케줄러가 종료할 때까지 보류
+			if (!partition.detachPending() && callSessionRepository.hasUnfinishedSessions(partition.name())) {
+				log.warn("Partition {} still has unfinished call sessions, postponing detach", partition.name());
+				continue;
+			}
+			callSessionRepository.detachPartition(partition);
+			log.info("Detached call_sessions partition {} (upper bound {})", partition.name(), partition.upperBound());
+		}
+	}
+
+	private void archiveDetachedPartitions(Lease lease) {
+		int batches = 0;
+		for (String table : callSessionRepository.findDetachedPartitions()) {
+			long archived = 0;
+			while (true) {
+				if (batches >= maxBatchesPerRun) {
+					log.info("Archived {} rows from {}, batch limit reached, continuing next run", archived, table);
+					return;
+				}
+				if (batches > 0 && !lease.hasTimeFor(ARCHIVE_BATCH_TIMEOUT)) {
+					log.warn("Partition maintenance lease (token {}) expiring or taken over by another node, stopping",
+						lease.token());
+					return;
+				}
+				int moved = callSessionRepository.archiveChunk(table, batchSize, ARCHIVE_BATCH_TIMEOUT);
+				batches++;
+				archived += moved;
+				archivedCounter.increment(moved);
+				if (moved < batchSize) {
+					break;
+				}
+				pause();
+			}
+			callSessionRepository.dropDetachedPartition(table);
+			log.info("Archived {} rows and dropped detached partition {}", archived, table);
+		}
+	}
+
+	private void pause() {
+		if (pause.isZero()) {
+			return;
+		}
+		try {
+			Thread.sleep(pause.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while archiving call sessions", e);
+		}
+	}
+}
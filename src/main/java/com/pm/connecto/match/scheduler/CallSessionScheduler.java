@@ -3,23 +3,29 @@ package com.pm.connecto.match.scheduler;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.pm.connecto.match.domain.CallSession;
-import com.pm.connecto.match.domain.CallSessionStatus;
-import com.pm.connecto.match.repository.CallSessionRepository;
+import com.pm.connecto.match.dto.ExpiredCallSession;
+import com.pm.connecto.match.scheduler.SchedulerLease.Lease;
+import com.pm.connecto.match.service.CallSessionExpiryService;
 import com.pm.connecto.match.service.MatchQueueService;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * 통화 세션 스케줄러
- * - 5분 초과 통화 자동 종료
+ * - 5분 초과 통화 자동 종료 (CallDeadlineTimer의 안전망)
  * - 타임아웃된 대기열 사용자 정리
+ * - 각 작업은 SchedulerLease로 주기당 클러스터 전체에서 1개 노드만 실행 (노드 수와 무관한 DB/Redis 부하)
  * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
  */
 @Component
@@ -27,52 +33,101 @@ import com.pm.connecto.match.service.MatchQueueService;
 public class CallSessionScheduler {
 
 	private static final Logger log = LoggerFactory.getLogger(CallSessionScheduler.class);
-	private static final int MAX_CALL_DURATION_MINUTES = 5;
+	private static final String EXPIRY_JOB = "call-expiry";
+	private static final String QUEUE_CLEANUP_JOB = "queue-cleanup";
+	// 주기보다 짧게 유지하여 다음 주기에는 어느 노드든 획득 가능
+	private static final Duration EXPIRY_LEASE = Duration.ofSeconds(55);
+	private static final Duration QUEUE_CLEANUP_LEASE = Duration.ofSeconds(290);
+	// 배치 1회 상한 (저장소 종료 + DB 트랜잭션 timeout), lease 남은 시간이 이보다 짧으면 다음 실행으로 넘김
+	private static final Duration EXPIRY_BATCH_TIMEOUT = CallSessionExpiryService.DB_BATCH_TIMEOUT.multipliedBy(2);
 
-	private final CallSessionRepository callSessionRepository;
+	private final CallSessionExpiryService callSessionExpiryService;
 	private final MatchQueueService matchQueueService;
+	private final SchedulerLease schedulerLease;
+	private final int batchSize;
+	private final int maxBatchesPerRun;
+	private final DistributionSummary expiredRowsPerRun;
+	private final Timer expiryRunTimer;
 
 	public CallSessionScheduler(
-		CallSessionRepository callSessionRepository,
-		MatchQueueService matchQueueService
+		CallSessionExpiryService callSessionExpiryService,
+		MatchQueueService matchQueueService,
+		SchedulerLease schedulerLease,
+		MeterRegistry meterRegistry,
+		@Value("${call.expiry.batch-size:500}") int batchSize,
+		@Value("${call.expiry.max-batches-per-run:20}") int maxBatchesPerRun
 	) {
-		this.callSessionRepository = callSessionRepository;
+		this.callSessionExpiryService = callSessionExpiryService;
 		this.matchQueueService = matchQueueService;
+		this.schedulerLease = schedulerLease;
+		this.batchSize = batchSize;
+		this.maxBatchesPerRun = maxBatchesPerRun;
+		this.expiredRowsPerRun = DistributionSummary.builder("call.session.expiry.rows")
+			.description("Call sessions auto-expired per scheduler run")
+			.baseUnit("rows")
+			.register(meterRegistry);
+		this.expiryRunTimer = Timer.builder("call.session.expiry.duration")
+			.description("Duration of a call session expiry run")
+			.register(meterRegistry);
 	}
 
 	/**
-	 * 5분 초과 통화 자동 종료
+	 * 5분 초과 통화 자동 종료 (안전망)
+	 * - 정확한 마감 시각 종료는 CallDeadlineTimer가 담당, 여기서는 타이머가 놓친 세션만 정리
+	 *   (타이머 미등록 노드 장애, 재등록 이전 구간 등)
 	 * - 1분마다 실행
+	 * - batchSize 단위 UPDATE ... RETURNING, 배치마다 별도 트랜잭션 (잠금/트랜잭션 길이 제한)
+	 * - 한 번의 실행은 최대 maxBatchesPerRun 배치까지, 남은 세션은 다음 실행에서 처리
+	 * - 배치마다 fencing token과 남은 lease 시간 확인, 다른 노드가 인계받았거나 배치를 lease 안에서
+	 *   끝낼 수 없으면 중단 (token은 권고용, 겹쳐 실행되어도 IN_PROGRESS 조건 UPDATE라 중복 종료 없음)
 	 */
 	@Scheduled(fixedRate = 60000) // 1분
-	@Transactional
 	public void expireLongCalls() {
-		LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(MAX_CALL_DURATION_MINUTES);
-		
-		// 인덱스를 활용한 효율적인 쿼리
-		List<CallSession> expiredSessions = callSessionRepository.findInProgressSessionsStartedBefore(
-			CallSessionStatus.IN_PROGRESS,
-			cutoffTime
-		);
+		Optional<Lease> lease = schedulerLease.tryAcquire(EXPIRY_JOB, EXPIRY_LEASE);
+		if (lease.isEmpty()) {
+			log.debug("Skipping call expiry, lease held by another node");
+			return;
+		}
+
+		Timer.Sample sample = Timer.start();
+		LocalDateTime cutoffTime = LocalDateTime.now().minus(CallSessionExpiryService.MAX_CALL_DURATION);
+		int expiredCount = 0;
+		int batches = 0;
+		boolean finished = false;
+
+		try {
+			while (batches < maxBatchesPerRun) {
+				if (batches > 0 && !lease.get().hasTimeFor(EXPIRY_BATCH_TIMEOUT)) {
+					log.warn("Call expiry lease (token {}) expiring or taken over by another node, stopping",
+						lease.get().token());
+					finished = true;
+					break;
+				}
+				List<ExpiredCallSession> expired = callSessionExpiryService.expireStartedBefore(cutoffTime, batchSize);
+				batches++;
+
+				if (expired.isEmpty()) {
+					finished = true;
+					break;
+				}
+				expiredCount += expired.size();
 
-		for (CallSession session : expiredSessions) {
-			session.end();
-			
-			long durationSeconds = java.time.Duration.between(
-				session.getStartedAt(), 
-				LocalDateTime.now()
-			).getSeconds();
-			
-			log.info("Auto-expired call session {} (duration: {} seconds, exceeded {} minutes limit)", 
-				session.getId(), durationSeconds, MAX_CALL_DURATION_MINUTES);
-			
-			// TODO: 프론트엔드에 종료 이벤트 전송 (WebSocket 또는 SSE)
-			// - WebSocket: /topic/call/{sessionId}/expired
-			// - 또는 SSE: /events/call/{sessionId}
+				if (expired.size() < batchSize) {
+					finished = true;
+					break;
+				}
+			}
+		} finally {
+			expiredRowsPerRun.record(expiredCount);
+			sample.stop(expiryRunTimer);
 		}
 
-		if (!expiredSessions.isEmpty()) {
-			log.info("Expired {} long-running call sessions", expiredSessions.size());
+		if (expiredCount > 0) {
+			log.info("Safety-net expired {} long-running call sessions in {} batch(es)", expiredCount, batches);
+		}
+		if (!finished) {
+			log.warn("Call session expiry hit batch limit ({} x {}), remaining sessions deferred to next run",
+				maxBatchesPerRun, batchSize);
 		}
 	}
 
@@ -82,6 +137,10 @@ public class CallSessionScheduler {
 	 */
 	@Scheduled(fixedRate = 300000) // 5분
 	public void cleanupExpiredQueueUsers() {
+		if (schedulerLease.tryAcquire(QUEUE_CLEANUP_JOB, QUEUE_CLEANUP_LEASE).isEmpty()) {
+			log.debug("Skipping queue cleanup, lease held by another node");
+			return;
+		}
 		try {
 			matchQueueService.cleanupExpiredUsers();
 		} catch (Exception e) {
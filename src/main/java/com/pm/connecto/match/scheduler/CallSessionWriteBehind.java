@@ -0,0 +1,122 @@
+package com.pm.connecto.match.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pm.connecto.match.dto.CallSessionState;
+import com.pm.connecto.match.repository.CallSessionRepository;
+import com.pm.connecto.match.service.ActiveCallSessionStore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 통화 세션 write-behind (ActiveCallSessionStore → call_sessions)
+ * - flush 대기 세션을 batchSize 단위로 선점 → JDBC 배치 upsert → 커밋 이후 ack
+ * - 모든 노드가 실행, 선점(claim)으로 같은 세션을 동시에 flush하지 않음
+ * - 어느 단계에서 중단되어도 ack 전까지 대기열에 남아 claimTimeout 이후 재flush (upsert는 멱등)
+ * - 배치 실패 시 건별로 재시도하여 문제 행만 대기열에 남김
+ * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class CallSessionWriteBehind {
+
+	private static final Logger log = LoggerFactory.getLogger(CallSessionWriteBehind.class);
+
+	private final ActiveCallSessionStore activeCallSessionStore;
+	private final CallSessionRepository callSessionRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private final Duration claimTimeout;
+	private final Counter flushedCounter;
+	private final Counter failedCounter;
+	private final Timer flushTimer;
+
+	public CallSessionWriteBehind(
+		ActiveCallSessionStore activeCallSessionStore,
+		CallSessionRepository callSessionRepository,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${call.write-behind.batch-size:200}") int batchSize,
+		@Value("${call.write-behind.claim-timeout-ms:10000}") long claimTimeoutMillis
+	) {
+		this.activeCallSessionStore = activeCallSessionStore;
+		this.callSessionRepository = callSessionRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.claimTimeout = Duration.ofMillis(claimTimeoutMillis);
+		this.flushedCounter = Counter.builder("call.session.write_behind.flushed")
+			.description("Call session states written to the database")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("call.session.write_behind.failed")
+			.description("Call session states that failed to flush and stay pending")
+			.register(meterRegistry);
+		this.flushTimer = Timer.builder("call.session.write_behind.batch")
+			.description("Duration of a write-behind batch")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 대기열이 빌 때까지 batchSize 단위로 flush
+	 */
+	@Scheduled(fixedDelayString = "${call.write-behind.flush-interval-ms:200}")
+	public void flush() {
+		try {
+			int claimed;
+			do {
+				claimed = flushBatch();
+			} while (claimed == batchSize);
+		} catch (RuntimeException e) {
+			// 선점한 세션은 claimTimeout 이후 재선점
+			log.error("Call session write-behind failed", e);
+		}
+	}
+
+	/**
+	 * 1배치 flush
+	 *
+	 * @return 선점한 세션 수
+	 */
+	int flushBatch() {
+		List<CallSessionState> claimed = activeCallSessionStore.claimPending(batchSize, claimTimeout);
+		if (claimed.isEmpty()) {
+			return 0;
+		}
+
+		Timer.Sample sample = Timer.start();
+		try {
+			transactionTemplate.executeWithoutResult(status -> callSessionRepository.upsertAll(claimed));
+			claimed.forEach(activeCallSessionStore::ackFlushed);
+			flushedCounter.increment(claimed.size());
+		} catch (RuntimeException e) {
+			log.warn("Write-behind batch of {} call sessions failed, retrying one by one", claimed.size(), e);
+			claimed.forEach(this::flushOne);
+		} finally {
+			sample.stop(flushTimer);
+		}
+		return claimed.size();
+	}
+
+	private void flushOne(CallSessionState state) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> callSessionRepository.upsertAll(List.of(state)));
+			activeCallSessionStore.ackFlushed(state);
+			flushedCounter.increment();
+		} catch (RuntimeException e) {
+			failedCounter.increment();
+			log.error("Failed to flush call session {} (version {}), will retry after {}",
+				state.sessionId(), state.version(), claimTimeout, e);
+		}
+	}
+}
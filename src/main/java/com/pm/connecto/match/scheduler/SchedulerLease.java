@@ -0,0 +1,127 @@
+package com.pm.connecto.match.scheduler;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄 작업 클러스터 단일 실행 보장 (Redisson 기반 lease)
+ * - 주기마다 먼저 lease를 획득한 노드 1개만 작업 실행, 나머지 노드는 건너뜀
+ * - lease는 작업 종료 후에도 해제하지 않고 만료까지 유지 → 주기당 1회 실행 (노드 간 tick 어긋남 무관)
+ * - 획득 시마다 fencing token(단조 증가)을 발급, 실행 중인 노드는 배치 시작 전에 자신의 token이
+ *   최신인지 확인 → lease 만료 후 다른 노드가 인계받으면 이전 실행은 중단
+ * - fencing token은 권고(advisory): DB 문장에 token 조건이 없으므로 이미 시작한 배치는 인계 후에도 끝까지 실행됨
+ *   → 작업은 배치 단위로 멱등해야 하고 (겹쳐 실행되어도 결과 동일), 배치 시작 전 남은 lease 시간이
+ *     배치 시간 상한(문장/트랜잭션 timeout) 이상인지 확인하여 배치가 lease 안에서 끝나도록 함 (hasTimeFor)
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class SchedulerLease {
+
+	private static final String KEY_PREFIX = "scheduler:{";
+
+	/**
+	 * lease가 비어 있을 때만 token 발급 후 lease 설정 (0 = 다른 노드가 보유 중)
+	 */
+	private static final String ACQUIRE_SCRIPT = """
+		if redis.call('exists', KEYS[1]) == 1 then
+			return 0
+		end
+		local token = redis.call('incr', KEYS[2])
+		redis.call('set', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2])
+		return token""";
+
+	private final RedissonClient redissonClient;
+	private final String nodeId;
+
+	public SchedulerLease(RedissonClient redissonClient) {
+		this.redissonClient = redissonClient;
+		this.nodeId = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	/**
+	 * lease 획득 시도 (대기 없음)
+	 *
+	 * @param leaseTime 작업 주기보다 약간 짧게 설정 (다음 주기에는 다시 획득 가능해야 함)
+	 */
+	public Optional<Lease> tryAcquire(String jobName, Duration leaseTime) {
+		long requestedAt = System.nanoTime();
+		Long token = redissonClient.getScript(StringCodec.INSTANCE).eval(
+			RScript.Mode.READ_WRITE,
+			ACQUIRE_SCRIPT,
+			RScript.ReturnType.INTEGER,
+			List.of(leaseKey(jobName), fenceKey(jobName)),
+			nodeId,
+			String.valueOf(leaseTime.toMillis())
+		);
+		if (token == null || token == 0L) {
+			return Optional.empty();
+		}
+		return Optional.of(new Lease(jobName, token, leaseTime, requestedAt));
+	}
+
+	public String nodeId() {
+		return nodeId;
+	}
+
+	private static String leaseKey(String jobName) {
+		return KEY_PREFIX + jobName + "}:lease";
+	}
+
+	private static String fenceKey(String jobName) {
+		return KEY_PREFIX + jobName + "}:fence";
+	}
+
+	/**
+	 * 획득한 lease와 fencing token
+	 */
+	public final class Lease {
+
+		private final String jobName;
+		private final long token;
+		private final Duration leaseTime;
+		private final long acquiredAtNanos;
+
+		private Lease(String jobName, long token, Duration leaseTime, long acquiredAtNanos) {
+			this.jobName = jobName;
+			this.token = token;
+			this.leaseTime = leaseTime;
+			this.acquiredAtNanos = acquiredAtNanos;
+		}
+
+		public long token() {
+			return token;
+		}
+
+		/**
+		 * 이후 다른 노드가 lease를 인계받지 않았는지 확인 (발급된 최신 token과 비교)
+		 */
+		public boolean isCurrent() {
+			String latest = redissonClient.<String>getBucket(fenceKey(jobName), StringCodec.INSTANCE).get();
+			return latest != null && Long.parseLong(latest) == token;
+		}
+
+		/**
+		 * 남은 lease 시간 (획득 요청 전 시각 기준 로컬 계산 → 실제 Redis TTL보다 짧거나 같음)
+		 */
+		public Duration remaining() {
+			Duration elapsed = Duration.ofNanos(System.nanoTime() - acquiredAtNanos);
+			return leaseTime.minus(elapsed);
+		}
+
+		/**
+		 * 최대 batchTimeout 걸리는 배치를 lease 안에서 끝낼 수 있는지 (남은 시간 + 최신 token)
+		 */
+		public boolean hasTimeFor(Duration batchTimeout) {
+			return remaining().compareTo(batchTimeout) >= 0 && isCurrent();
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.pm.connecto.match.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.pm.connecto.match.dto.ActiveCallSession;
+import com.pm.connecto.match.dto.CallSessionState;
+
+/**
+ * 진행 중인 통화 세션 저장소 (활성 구간의 source of truth)
+ * - 생성/종료/재연결 의사 변경은 저장소에 먼저 반영하고 응답, call_sessions에는 write-behind로 반영
+ * - 변경된 세션은 flush 대기(pending)에 등록되고, flush 완료 확인(ack) 전까지 유지 → 응답 이후 유실 없음
+ * - 종료된 세션은 마지막 flush 확인 이후 일정 시간(/match/result, /call/again 구간)만 유지
+ */
+public interface ActiveCallSessionStore {
+
+	/**
+	 * 세션 생성 (두 참여자 중 한 명이라도 진행 중인 세션이 있으면 false)
+	 */
+	boolean create(CallSessionState state);
+
+	/**
+	 * 재연결 세션 생성 (원 세션 ID 기준 멱등)
+	 * - 원 세션으로 이미 생성된 재연결 세션이 있으면 새로 만들지 않고 그 세션을 반환
+	 * - 두 참여자 중 한 명이라도 다른 진행 중 세션이 있으면 empty
+	 */
+	Optional<CallSessionState> createRematch(Long originalSessionId, CallSessionState state);
+
+	Optional<CallSessionState> find(Long sessionId);
+
+	/**
+	 * 사용자가 참여 중인 진행 중 세션 ID
+	 */
+	Optional<Long> findActiveSessionId(Long userId);
+
+	/**
+	 * 진행 중 세션 종료 (이미 종료되었거나 없으면 empty)
+	 */
+	Optional<CallSessionState> end(Long sessionId, LocalDateTime endedAt);
+
+	/**
+	 * 종료된 세션의 재연결 의사 반영
+	 */
+	WantAgainResult setWantAgain(Long sessionId, Long userId, boolean wantAgain, LocalDateTime updatedAt);
+
+	/**
+	 * 진행 중인 모든 세션 (종료 타이머 재등록용)
+	 */
+	List<ActiveCallSession> activeSessions();
+
+	/**
+	 * cutoffTime 이전에 시작된 진행 중 세션 ID (오래된 순, 최대 limit건)
+	 */
+	List<Long> overdueSessionIds(LocalDateTime cutoffTime, int limit);
+
+	/**
+	 * flush 대기 세션을 최대 limit건 선점하여 반환
+	 * - 선점한 세션은 claimTimeout 동안 다른 flusher에 노출되지 않음 (flusher 장애 시 이후 재선점)
+	 */
+	List<CallSessionState> claimPending(int limit, Duration claimTimeout);
+
+	/**
+	 * flush 완료 확인
+	 * - flush 이후 변경이 없으면(version 동일) 대기 해제, 변경되었으면 즉시 재flush 대상으로 되돌림
+	 */
+	void ackFlushed(CallSessionState flushed);
+
+	enum WantAgainResult {
+		NOT_FOUND,
+		NOT_ENDED,
+		UPDATED,
+		BOTH_WANT_AGAIN
+	}
+}
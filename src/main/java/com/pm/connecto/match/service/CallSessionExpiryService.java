@@ -0,0 +1,118 @@
+package com.pm.connecto.match.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pm.connecto.match.dto.CallSessionState;
+import com.pm.connecto.match.dto.ExpiredCallSession;
+import com.pm.connecto.match.event.CallSessionsExpiredEvent;
+import com.pm.connecto.match.repository.CallSessionRepository;
+
+/**
+ * 통화 시간 초과 세션 종료 처리
+ * - CallDeadlineTimer(정확한 마감 시각)와 CallSessionScheduler(안전망 폴링)가 공유
+ * - 진행 중 세션의 source of truth인 ActiveCallSessionStore에서 종료 (DB 반영은 write-behind)
+ * - 저장소에 없는 진행 중 행(저장소 도입 이전 세션, 저장소 유실)은 DB UPDATE로 종료
+ * - 종료 후 reveal 캐시 종료 표시 및 만료 이벤트 발행
+ * - 종료는 IN_PROGRESS 조건으로 멱등 (타이머/폴링/사용자 종료가 겹쳐도 한 번만 종료)
+ */
+@Service
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class CallSessionExpiryService {
+
+	public static final Duration MAX_CALL_DURATION = Duration.ofMinutes(5);
+	/**
+	 * DB 만료 트랜잭션 상한 (JdbcTemplate 문장 timeout으로 적용, 스케줄러가 lease 남은 시간과 비교)
+	 */
+	public static final Duration DB_BATCH_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final Logger log = LoggerFactory.getLogger(CallSessionExpiryService.class);
+
+	private final CallSessionRepository callSessionRepository;
+	private final ActiveCallSessionStore activeCallSessionStore;
+	private final MatchRevealCache matchRevealCache;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+
+	public CallSessionExpiryService(
+		CallSessionRepository callSessionRepository,
+		ActiveCallSessionStore activeCallSessionStore,
+		MatchRevealCache matchRevealCache,
+		ApplicationEventPublisher eventPublisher,
+		PlatformTransactionManager transactionManager
+	) {
+		this.callSessionRepository = callSessionRepository;
+		this.activeCallSessionStore = activeCallSessionStore;
+		this.matchRevealCache = matchRevealCache;
+		this.eventPublisher = eventPublisher;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setTimeout((int) DB_BATCH_TIMEOUT.toSeconds());
+	}
+
+	/**
+	 * cutoffTime 이전에 시작된 진행 중 세션을 최대 limit건 종료 (안전망 폴링용)
+	 * - 저장소의 진행 중 세션을 먼저 종료하고, 남은 건수만큼 DB에만 남은 진행 중 행을 종료
+	 */
+	public List<ExpiredCallSession> expireStartedBefore(LocalDateTime cutoffTime, int limit) {
+		LocalDateTime endedAt = LocalDateTime.now();
+		List<ExpiredCallSession> expired = endInStore(
+			activeCallSessionStore.overdueSessionIds(cutoffTime, limit), endedAt);
+		if (expired.size() < limit) {
+			int remaining = limit - expired.size();
+			List<ExpiredCallSession> dbOnly = transactionTemplate.execute(status ->
+				callSessionRepository.expireStartedBefore(cutoffTime, endedAt, remaining));
+			if (dbOnly != null) {
+				expired.addAll(dbOnly);
+			}
+		}
+		return afterExpired(expired, endedAt);
+	}
+
+	/**
+	 * 마감 시각이 지난 세션 종료 (타이머용, 이미 종료된 세션은 무시)
+	 */
+	public List<ExpiredCallSession> expireSessions(Collection<Long> sessionIds) {
+		LocalDateTime endedAt = LocalDateTime.now();
+		return afterExpired(endInStore(sessionIds, endedAt), endedAt);
+	}
+
+	private List<ExpiredCallSession> endInStore(Collection<Long> sessionIds, LocalDateTime endedAt) {
+		List<ExpiredCallSession> expired = new ArrayList<>(sessionIds.size());
+		for (Long sessionId : sessionIds) {
+			activeCallSessionStore.end(sessionId, endedAt)
+				.map(CallSessionExpiryService::toExpired)
+				.ifPresent(expired::add);
+		}
+		return expired;
+	}
+
+	private static ExpiredCallSession toExpired(CallSessionState state) {
+		return new ExpiredCallSession(state.sessionId(), state.user1Id(), state.user2Id(), state.startedAt());
+	}
+
+	private List<ExpiredCallSession> afterExpired(List<ExpiredCallSession> expired, LocalDateTime endedAt) {
+		if (expired.isEmpty()) {
+			return List.of();
+		}
+		for (ExpiredCallSession session : expired) {
+			matchRevealCache.markEnded(session.sessionId());
+			if (log.isDebugEnabled()) {
+				log.debug("Auto-expired call session {} (started at {}, exceeded {} limit)",
+					session.sessionId(), session.startedAt(), MAX_CALL_DURATION);
+			}
+		}
+		eventPublisher.publishEvent(new CallSessionsExpiredEvent(expired, endedAt));
+		return expired;
+	}
+}
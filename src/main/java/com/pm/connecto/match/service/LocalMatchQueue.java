@@ -0,0 +1,110 @@
+package com.pm.connecto.match.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.pm.connecto.common.exception.DuplicateResourceException;
+import com.pm.connecto.common.response.ErrorCode;
+import com.pm.connecto.language.index.LanguageMask;
+
+/**
+ * 노드 로컬 매칭 대기열 (Redis 장애 시 임시 대기열)
+ * - 같은 노드에 들어온 사용자끼리만 매칭 (다른 노드와는 Redis 복구 후 재합류)
+ * - 삽입 순서(LinkedHashMap) = 대기 시작 순서, RedisMatchQueue와 같은 FIFO + 언어 호환성 규칙
+ * - 대기 인원이 적은 장애 구간 전용이므로 단일 모니터로 보호
+ */
+class LocalMatchQueue {
+
+	record Entry(Long userId, LanguageMask languageMask, long enqueuedAtMillis) {
+	}
+
+	private final Map<Long, Entry> waiting = new LinkedHashMap<>();
+
+	synchronized void enqueue(Long userId, LanguageMask languageMask, long enqueuedAtMillis) {
+		if (waiting.containsKey(userId)) {
+			throw new DuplicateResourceException(ErrorCode.ALREADY_IN_QUEUE);
+		}
+		waiting.put(userId, new Entry(userId, languageMask, enqueuedAtMillis));
+	}
+
+	synchronized boolean remove(Long userId) {
+		return waiting.remove(userId) != null;
+	}
+
+	/**
+	 * Redis로 옮긴 항목 제거 (옮기는 사이 로컬에서 매칭/이탈/재진입했으면 false)
+	 */
+	synchronized boolean remove(Entry entry) {
+		return waiting.remove(entry.userId(), entry);
+	}
+
+	synchronized boolean contains(Long userId) {
+		return waiting.containsKey(userId);
+	}
+
+	synchronized void updateLanguageMask(Long userId, LanguageMask languageMask) {
+		waiting.computeIfPresent(userId, (id, entry) -> new Entry(id, languageMask, entry.enqueuedAtMillis()));
+	}
+
+	/**
+	 * 가장 오래 기다린 언어 호환 상대와 매칭, 두 사용자 모두 제거
+	 * - 비트마스크로 판정할 수 없는 쌍은 compatibleUserIds(최초 필요 시 1회 조회)로 판정
+	 */
+	synchronized Long findMatch(Long userId, Supplier<Set<Long>> compatibleUserIds) {
+		Entry me = waiting.get(userId);
+		if (me == null) {
+			return null;
+		}
+		LanguageMask myMask = me.languageMask();
+		Set<Long> candidateIds = null;
+		for (Entry candidate : waiting.values()) {
+			if (candidate.userId().equals(userId)) {
+				continue;
+			}
+			LanguageMask otherMask = candidate.languageMask();
+			boolean compatible = LanguageMask.compatible(myMask.nativeMask(), myMask.learningMask(),
+				otherMask.nativeMask(), otherMask.learningMask());
+			if (!compatible && !(LanguageMask.isExact(myMask.nativeMask(), myMask.learningMask())
+				&& LanguageMask.isExact(otherMask.nativeMask(), otherMask.learningMask()))) {
+				if (candidateIds == null) {
+					candidateIds = compatibleUserIds.get();
+				}
+				compatible = candidateIds.contains(candidate.userId());
+			}
+			if (compatible) {
+				waiting.remove(userId);
+				waiting.remove(candidate.userId());
+				return candidate.userId();
+			}
+		}
+		return null;
+	}
+
+	synchronized List<Entry> snapshot() {
+		return new ArrayList<>(waiting.values());
+	}
+
+	synchronized int size() {
+		return waiting.size();
+	}
+
+	/**
+	 * @return 제거된 사용자 수
+	 */
+	synchronized int removeEnqueuedBefore(long cutoffMillis) {
+		int removed = 0;
+		Iterator<Entry> iterator = waiting.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().enqueuedAtMillis() <= cutoffMillis) {
+				iterator.remove();
+				removed++;
+			}
+		}
+		return removed;
+	}
+}
@@ -1,29 +1,32 @@
 package com.pm.connecto.match.service;
 
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.pm.connecto.common.exception.DuplicateResourceException;
-import com.pm.connecto.common.exception.LockAcquisitionException;
+import com.pm.connecto.common.resilience.CircuitBreaker;
 import com.pm.connecto.common.response.ErrorCode;
+import com.pm.connecto.language.index.LanguageMask;
 
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
- * Redis 기반 매칭 대기열 서비스 (프로덕션 수준)
- * - Sorted Set을 활용한 FIFO 대기열
- * - 분산 락을 통한 동시성 제어
- * - Lua 스크립트를 통한 원자적 매칭 연산
+ * 매칭 대기열 서비스 (Redis 대기열 + 장애 시 노드 로컬 대기열)
+ * - 평소에는 RedisMatchQueue로 클러스터 전체 FIFO 매칭
+ * - Redis 장애(연결 실패, 락 획득 실패)가 이어지면 circuit breaker가 열리고 LocalMatchQueue로 전환
+ *   → 같은 노드 사용자끼리는 계속 매칭, Redis 타임아웃 대기 없이 즉시 응답
+ * - 로컬 대기 중인 사용자는 로컬에서만 매칭, 복구 후 reconcile()이 원래 대기 시작 시각으로 Redis에 되돌림
+ * - Redis에 반영하지 못한 이탈은 보관했다가 복구 후 반영
+ * - 로컬 대기 인원: match.queue.local.size 게이지
  * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
  */
 @Service
@@ -31,251 +34,147 @@ import jakarta.annotation.PostConstruct;
 public class MatchQueueService {
 
 	private static final Logger log = LoggerFactory.getLogger(MatchQueueService.class);
-	private static final String QUEUE_KEY = "match:queue";
-	private static final String USER_QUEUE_KEY_PREFIX = "match:user:";
-	private static final String LOCK_KEY = "match:lock";
-	private static final long QUEUE_TIMEOUT_SECONDS = 300; // 5분 타임아웃
-	private static final int LOCK_WAIT_SECONDS = 3;
-	private static final int LOCK_LEASE_SECONDS = 10;
 
-	private final RedisTemplate<String, String> redisTemplate;
-	private final RedissonClient redissonClient;
-	private DefaultRedisScript<Long> atomicMatchScript;
+	private final RedisMatchQueue redisMatchQueue;
+	private final CircuitBreaker circuitBreaker;
+	private final LocalMatchQueue localMatchQueue = new LocalMatchQueue();
 
-	public MatchQueueService(RedisTemplate<String, String> redisTemplate, RedissonClient redissonClient) {
-		this.redisTemplate = redisTemplate;
-		this.redissonClient = redissonClient;
-	}
-
-	@PostConstruct
-	public void init() {
-		// Lua 스크립트 초기화 (인라인으로 작성)
-		atomicMatchScript = new DefaultRedisScript<>();
-		atomicMatchScript.setScriptText(
-			// 두 사용자를 원자적으로 제거하는 Lua 스크립트
-			// 반환값: 0=실패, 1=성공
-			"local queueKey = KEYS[1]\n" +
-			"local user1 = ARGV[1]\n" +
-			"local user2 = ARGV[2]\n" +
-			"local removed1 = redis.call('ZREM', queueKey, user1)\n" +
-			"local removed2 = redis.call('ZREM', queueKey, user2)\n" +
-			"if removed1 == 1 and removed2 == 1 then\n" +
-			"  return 1\n" +
-			"else\n" +
-			"  -- 롤백: 하나라도 실패하면 둘 다 다시 추가 (원래 score 유지 필요)\n" +
-			"  if removed1 == 1 then\n" +
-			"    local score1 = ARGV[3]\n" +
-			"    redis.call('ZADD', queueKey, score1, user1)\n" +
-			"  end\n" +
-			"  if removed2 == 1 then\n" +
-			"    local score2 = ARGV[4]\n" +
-			"    redis.call('ZADD', queueKey, score2, user2)\n" +
-			"  end\n" +
-			"  return 0\n" +
-			"end"
-		);
-		atomicMatchScript.setResultType(Long.class);
+	/**
+	 * Redis 장애 중 이탈한 사용자 (Redis 대기열에 남아 있을 수 있음)
+	 */
+	private final Set<Long> pendingDequeues = ConcurrentHashMap.newKeySet();
+
+	public MatchQueueService(
+		RedisMatchQueue redisMatchQueue,
+		@Qualifier("matchRedisCircuitBreaker") CircuitBreaker circuitBreaker,
+		MeterRegistry meterRegistry
+	) {
+		this.redisMatchQueue = redisMatchQueue;
+		this.circuitBreaker = circuitBreaker;
+		Gauge.builder("match.queue.local.size", localMatchQueue, LocalMatchQueue::size)
+			.description("Users waiting in the node-local fallback queue")
+			.register(meterRegistry);
 	}
 
 	/**
 	 * 대기열 진입
-	 * - 락을 먼저 획득한 후 isInQueue 체크 및 삽입 수행 (Race Condition 방지)
-	 * - 분산 락을 사용하여 동시성 제어
-	 * - Sorted Set에 타임스탬프와 함께 추가
+	 * - Redis 장애 시 로컬 대기열에 추가
 	 */
-	public void enqueue(Long userId) {
-		RLock lock = redissonClient.getLock(LOCK_KEY);
-		try {
-			// 락 획득 시도 (시작 시점부터 락 보호)
-			if (lock.tryLock(LOCK_WAIT_SECONDS, LOCK_LEASE_SECONDS, TimeUnit.SECONDS)) {
-				try {
-					// 락 내부에서 isInQueue 체크 (Race Condition 방지)
-					if (isInQueueLocked(userId)) {
-						log.warn("User {} is already in queue", userId);
-						throw new DuplicateResourceException(ErrorCode.ALREADY_IN_QUEUE);
-					}
-
-					// 진행 중인 통화가 있는지 확인은 MatchService에서 처리
-
-					// Sorted Set에 추가 (score = 현재 시간)
-					long score = System.currentTimeMillis();
-					redisTemplate.opsForZSet().add(QUEUE_KEY, String.valueOf(userId), score);
-					
-					// 사용자별 대기열 키 설정 (타임아웃 관리용)
-					String userQueueKey = USER_QUEUE_KEY_PREFIX + userId;
-					redisTemplate.opsForValue().set(userQueueKey, "1", QUEUE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-
-					log.info("User {} entered match queue", userId);
-				} finally {
-					lock.unlock();
-				}
-			} else {
-				log.error("Failed to acquire lock for enqueue (userId: {})", userId);
-				throw new LockAcquisitionException("대기열 진입을 위한 락 획득에 실패했습니다.");
-			}
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			log.error("Interrupted while acquiring lock for enqueue (userId: {})", userId, e);
-			throw new LockAcquisitionException("대기열 진입 중 인터럽트가 발생했습니다.");
+	public void enqueue(Long userId, LanguageMask languageMask) {
+		if (localMatchQueue.contains(userId)) {
+			throw new DuplicateResourceException(ErrorCode.ALREADY_IN_QUEUE);
 		}
+		long now = System.currentTimeMillis();
+		pendingDequeues.remove(userId);
+		circuitBreaker.run(
+			() -> redisMatchQueue.enqueue(userId, languageMask, now),
+			() -> {
+				localMatchQueue.enqueue(userId, languageMask, now);
+				log.info("User {} entered local match queue (Redis unavailable)", userId);
+			});
 	}
 
 	/**
 	 * 대기열 이탈
-	 * - 예외 처리 강화: 락 획득 실패 시 예외 발생
+	 * - Redis에 반영하지 못하면 복구 후 반영
 	 */
 	public void dequeue(Long userId) {
-		RLock lock = redissonClient.getLock(LOCK_KEY);
-		try {
-			if (lock.tryLock(LOCK_WAIT_SECONDS, LOCK_LEASE_SECONDS, TimeUnit.SECONDS)) {
-				try {
-					redisTemplate.opsForZSet().remove(QUEUE_KEY, String.valueOf(userId));
-					redisTemplate.delete(USER_QUEUE_KEY_PREFIX + userId);
-					log.info("User {} left match queue", userId);
-				} finally {
-					lock.unlock();
-				}
-			} else {
-				log.error("Failed to acquire lock for dequeue (userId: {})", userId);
-				throw new LockAcquisitionException("대기열 이탈을 위한 락 획득에 실패했습니다.");
-			}
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			log.error("Interrupted while acquiring lock for dequeue (userId: {})", userId, e);
-			throw new LockAcquisitionException("대기열 이탈 중 인터럽트가 발생했습니다.");
+		if (localMatchQueue.remove(userId)) {
+			log.info("User {} left local match queue", userId);
+			return;
 		}
+		circuitBreaker.run(
+			() -> redisMatchQueue.dequeue(userId),
+			() -> pendingDequeues.add(userId));
 	}
 
-	/**
-	 * 대기열에서 매칭 상대 찾기 (FIFO)
-	 * - 가장 오래된 사용자와 매칭
-	 * - Lua 스크립트를 통한 원자적 연산으로 Race Condition 완벽 방지
-	 * - 롤백 시 원래 score 유지하여 FIFO 순서 보장
-	 */
-	public Long findMatch(Long userId) {
-		RLock lock = redissonClient.getLock(LOCK_KEY);
-		try {
-			if (lock.tryLock(LOCK_WAIT_SECONDS, LOCK_LEASE_SECONDS, TimeUnit.SECONDS)) {
-				try {
-					// 현재 사용자가 대기열에 있는지 확인
-					if (!isInQueueLocked(userId)) {
-						return null;
-					}
-
-					ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
-					
-					// 대기열에서 가장 오래된 사용자부터 순회 (score 기준 오름차순)
-					Set<ZSetOperations.TypedTuple<String>> queueMembers = zSetOps.rangeWithScores(QUEUE_KEY, 0, -1);
-					
-					if (queueMembers == null || queueMembers.isEmpty()) {
-						return null;
-					}
-
-					String userIdStr = String.valueOf(userId);
-					
-					// 현재 사용자의 원래 score 조회 (롤백 시 사용)
-					Double userScore = zSetOps.score(QUEUE_KEY, userIdStr);
-					if (userScore == null) {
-						// 이미 대기열에서 제거된 경우
-						return null;
-					}
-					
-					// 가장 오래된 사용자부터 순회
-					for (ZSetOperations.TypedTuple<String> tuple : queueMembers) {
-						String candidateUserIdStr = tuple.getValue();
-						
-						if (candidateUserIdStr == null) {
-							continue;
-						}
-						
-						Long candidateUserId = Long.parseLong(candidateUserIdStr);
-						
-						// 자신은 제외
-						if (candidateUserId.equals(userId)) {
-							continue;
-						}
-
-						// 후보자의 원래 score 저장 (롤백 시 사용)
-						Double candidateScore = tuple.getScore();
-						
-						if (candidateScore == null) {
-							// 이미 제거된 경우 다음 후보 시도
-							continue;
-						}
-
-						// Lua 스크립트를 통한 원자적 제거 연산
-						Long result = redisTemplate.execute(
-							atomicMatchScript,
-							java.util.Collections.singletonList(QUEUE_KEY),
-							userIdStr,
-							candidateUserIdStr,
-							userScore.toString(),
-							candidateScore.toString()
-						);
-
-						if (result != null && result == 1) {
-							// 매칭 성공: 두 사용자 모두 원자적으로 제거됨
-							// 사용자별 키도 삭제
-							redisTemplate.delete(USER_QUEUE_KEY_PREFIX + userId);
-							redisTemplate.delete(USER_QUEUE_KEY_PREFIX + candidateUserId);
-							
-							log.info("Matched users: {} and {} (atomic operation)", userId, candidateUserId);
-							return candidateUserId;
-						}
-						// 실패 시 다음 후보 시도 (Lua 스크립트가 자동으로 롤백 처리)
-					}
-
-					return null;
-				} finally {
-					lock.unlock();
-				}
-			} else {
-				log.error("Failed to acquire lock for findMatch (userId: {})", userId);
-				return null; // findMatch는 실패해도 예외를 던지지 않음 (재시도 가능)
-			}
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			log.error("Interrupted while acquiring lock for findMatch (userId: {})", userId, e);
-			return null;
+	public void updateLanguageMask(Long userId, LanguageMask languageMask) {
+		if (localMatchQueue.contains(userId)) {
+			localMatchQueue.updateLanguageMask(userId, languageMask);
+			return;
 		}
+		circuitBreaker.run(() -> redisMatchQueue.updateLanguageMask(userId, languageMask), () -> { });
 	}
 
 	/**
-	 * 대기열에 있는지 확인 (락 보호 버전)
-	 * - 락 내부에서 호출되어야 함
+	 * 매칭 상대 찾기
+	 * - 로컬 대기 중인 사용자는 로컬 대기열에서만 탐색
+	 *
+	 * @param compatibleUserIds 상호 언어 교환 가능한 사용자 (비트마스크로 판정할 수 없는 후보에만 사용)
 	 */
-	private boolean isInQueueLocked(Long userId) {
-		Double score = redisTemplate.opsForZSet().score(QUEUE_KEY, String.valueOf(userId));
-		return score != null;
+	public Long findMatch(Long userId, Supplier<Set<Long>> compatibleUserIds) {
+		if (localMatchQueue.contains(userId)) {
+			return localMatchQueue.findMatch(userId, compatibleUserIds);
+		}
+		return circuitBreaker.call(() -> redisMatchQueue.findMatch(userId, compatibleUserIds), () -> null);
 	}
 
-	/**
-	 * 대기열에 있는지 확인 (공개 메서드)
-	 * - 락 없이 호출 가능 (읽기 전용이므로)
-	 */
 	public boolean isInQueue(Long userId) {
-		Double score = redisTemplate.opsForZSet().score(QUEUE_KEY, String.valueOf(userId));
-		return score != null;
+		if (localMatchQueue.contains(userId)) {
+			return true;
+		}
+		return circuitBreaker.call(() -> redisMatchQueue.isInQueue(userId), () -> false);
 	}
 
-	/**
-	 * 대기열 크기 조회
-	 */
 	public long getQueueSize() {
-		Long size = redisTemplate.opsForZSet().zCard(QUEUE_KEY);
-		return size != null ? size : 0;
+		return localMatchQueue.size() + circuitBreaker.call(redisMatchQueue::getQueueSize, () -> 0L);
 	}
 
 	/**
-	 * 타임아웃된 사용자 정리
+	 * 타임아웃된 사용자 정리 (Redis 대기열, CallSessionScheduler에서 호출)
 	 */
 	public void cleanupExpiredUsers() {
-		long currentTime = System.currentTimeMillis();
-		long expiredTime = currentTime - (QUEUE_TIMEOUT_SECONDS * 1000);
-		
-		Long removed = redisTemplate.opsForZSet().removeRangeByScore(QUEUE_KEY, 0, expiredTime);
-		if (removed != null && removed > 0) {
-			log.info("Cleaned up {} expired users from queue", removed);
+		circuitBreaker.run(redisMatchQueue::cleanupExpiredUsers, () -> { });
+	}
+
+	/**
+	 * 로컬 대기열 → Redis 재합류
+	 * - 로컬 타임아웃 정리 후, 보관된 이탈 반영 → 로컬 대기자를 원래 대기 시작 시각으로 Redis에 추가
+	 * - breaker가 열려 있으면 호출하지 않음 (HALF_OPEN 시험 호출 역할도 겸함)
+	 * - 옮기는 사이 로컬에서 매칭/이탈한 사용자는 Redis에서 다시 제거
+	 */
+	@Scheduled(fixedDelayString = "${match.queue.reconcile-interval-ms:1000}")
+	public void reconcile() {
+		long cutoff = System.currentTimeMillis() - RedisMatchQueue.QUEUE_TIMEOUT_SECONDS * 1000;
+		int expired = localMatchQueue.removeEnqueuedBefore(cutoff);
+		if (expired > 0) {
+			log.info("Cleaned up {} expired users from local match queue", expired);
 		}
+
+		for (Long userId : pendingDequeues) {
+			if (!tryOnRedis(() -> redisMatchQueue.dequeue(userId))) {
+				return;
+			}
+			pendingDequeues.remove(userId);
+		}
+
+		int moved = 0;
+		for (LocalMatchQueue.Entry entry : localMatchQueue.snapshot()) {
+			boolean enqueued = tryOnRedis(() -> {
+				try {
+					redisMatchQueue.enqueue(entry.userId(), entry.languageMask(), entry.enqueuedAtMillis());
+				} catch (DuplicateResourceException e) {
+					// 장애 직전 Redis에 이미 들어가 있던 사용자
+				}
+			});
+			if (!enqueued) {
+				break;
+			}
+			if (localMatchQueue.remove(entry)) {
+				moved++;
+			} else if (!tryOnRedis(() -> redisMatchQueue.dequeue(entry.userId()))) {
+				pendingDequeues.add(entry.userId());
+			}
+		}
+		if (moved > 0) {
+			log.info("Moved {} users from local match queue back to Redis", moved);
+		}
+	}
+
+	private boolean tryOnRedis(Runnable action) {
+		return circuitBreaker.call(() -> {
+			action.run();
+			return true;
+		}, () -> false);
 	}
 }
@@ -0,0 +1,167 @@
+package com.pm.connecto.match.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pm.connecto.common.util.TransactionUtils;
+import com.pm.connecto.profile.dto.ProfileResponse;
+
+/**
+ * 통화 종료 후 상대방 프로필 공개(reveal)용 스냅샷 캐시
+ * - 매칭 성립 시 양쪽 참여자의 ProfileResponse를 세션 단위로 Redis Hash에 저장
+ * - 통화 종료 직후 두 사용자가 동시에 조회하는 /match/result를 HGETALL 1회로 처리
+ * - 통화 최대 5분 + 결정 시간 10초를 넉넉히 덮는 짧은 TTL
+ * - 캐시 장애는 조회/저장 실패로만 처리하고 DB 경로로 폴백 (예외 전파 안 함)
+ * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
+ *
+ * <p>Hash 구조 (key: match:reveal:{sessionId}):
+ * <ul>
+ *   <li>user1, user2: 참여자 ID (권한 검증용)</li>
+ *   <li>profile:{userId}: 해당 사용자의 ProfileResponse JSON (프로필이 없으면 필드 없음)</li>
+ *   <li>ended: 통화 종료 여부 ("1")</li>
+ *   <li>wantAgain:{userId}: 재연결 의사 ("1"/"0")</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class MatchRevealCache {
+
+	private static final Logger log = LoggerFactory.getLogger(MatchRevealCache.class);
+	private static final String KEY_PREFIX = "match:reveal:";
+	private static final String FIELD_USER1 = "user1";
+	private static final String FIELD_USER2 = "user2";
+	private static final String FIELD_ENDED = "ended";
+	private static final String FIELD_PROFILE_PREFIX = "profile:";
+	private static final String FIELD_WANT_AGAIN_PREFIX = "wantAgain:";
+	private static final Duration REVEAL_TTL = Duration.ofMinutes(10);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	public MatchRevealCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 매칭 성립 시 참여자 및 프로필 스냅샷 저장
+	 *
+	 * @param profiles userId → ProfileResponse (프로필이 없는 사용자는 제외)
+	 */
+	public void put(Long sessionId, Long user1Id, Long user2Id, Map<Long, ProfileResponse> profiles) {
+		try {
+			Map<String, String> fields = new HashMap<>();
+			fields.put(FIELD_USER1, String.valueOf(user1Id));
+			fields.put(FIELD_USER2, String.valueOf(user2Id));
+			for (Map.Entry<Long, ProfileResponse> entry : profiles.entrySet()) {
+				fields.put(FIELD_PROFILE_PREFIX + entry.getKey(), objectMapper.writeValueAsString(entry.getValue()));
+			}
+
+			String key = key(sessionId);
+			redisTemplate.opsForHash().putAll(key, fields);
+			redisTemplate.expire(key, REVEAL_TTL);
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("Failed to cache reveal snapshot for session {}", sessionId, e);
+		}
+	}
+
+	/**
+	 * 스냅샷 조회 (HGETALL 1회)
+	 * - 캐시 miss 또는 Redis 오류 시 empty
+	 */
+	public Optional<Snapshot> find(Long sessionId) {
+		try {
+			Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(sessionId));
+			if (entries == null || !entries.containsKey(FIELD_USER1) || !entries.containsKey(FIELD_USER2)) {
+				return Optional.empty();
+			}
+			return Optional.of(new Snapshot(entries));
+		} catch (RuntimeException e) {
+			log.warn("Failed to read reveal snapshot for session {}", sessionId, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 통화 종료 표시 (트랜잭션 커밋 이후 반영)
+	 */
+	public void markEnded(Long sessionId) {
+		TransactionUtils.afterCommit(() -> putIfPresent(sessionId, FIELD_ENDED, "1"));
+	}
+
+	/**
+	 * 재연결 의사 반영 (트랜잭션 커밋 이후 반영)
+	 */
+	public void markWantAgain(Long sessionId, Long userId, boolean wantAgain) {
+		TransactionUtils.afterCommit(() -> putIfPresent(sessionId, FIELD_WANT_AGAIN_PREFIX + userId, wantAgain ? "1" : "0"));
+	}
+
+	private void putIfPresent(Long sessionId, String field, String value) {
+		try {
+			String key = key(sessionId);
+			// 스냅샷이 이미 만료된 경우 부분 Hash를 새로 만들지 않음
+			if (Boolean.TRUE.equals(redisTemplate.opsForHash().hasKey(key, FIELD_USER1))) {
+				redisTemplate.opsForHash().put(key, field, value);
+			}
+		} catch (RuntimeException e) {
+			log.warn("Failed to update reveal snapshot for session {} ({})", sessionId, field, e);
+		}
+	}
+
+	private String key(Long sessionId) {
+		return KEY_PREFIX + sessionId;
+	}
+
+	/**
+	 * 세션 스냅샷 (HGETALL 결과 래퍼)
+	 */
+	public class Snapshot {
+
+		private final Map<Object, Object> entries;
+
+		private Snapshot(Map<Object, Object> entries) {
+			this.entries = entries;
+		}
+
+		public boolean isParticipant(Long userId) {
+			String id = String.valueOf(userId);
+			return id.equals(entries.get(FIELD_USER1)) || id.equals(entries.get(FIELD_USER2));
+		}
+
+		public boolean isEnded() {
+			return "1".equals(entries.get(FIELD_ENDED));
+		}
+
+		public boolean wantAgain(Long userId) {
+			return "1".equals(entries.get(FIELD_WANT_AGAIN_PREFIX + userId));
+		}
+
+		/**
+		 * 상대방 프로필 (프로필이 없거나 역직렬화 실패 시 empty)
+		 */
+		public Optional<ProfileResponse> partnerProfile(Long userId) {
+			String id = String.valueOf(userId);
+			Object partnerId = id.equals(entries.get(FIELD_USER1)) ? entries.get(FIELD_USER2) : entries.get(FIELD_USER1);
+			Object json = entries.get(FIELD_PROFILE_PREFIX + partnerId);
+			if (json == null) {
+				return Optional.empty();
+			}
+			try {
+				return Optional.of(objectMapper.readValue(json.toString(), ProfileResponse.class));
+			} catch (JsonProcessingException e) {
+				log.warn("Corrupted reveal snapshot profile for user {}", partnerId, e);
+				return Optional.empty();
+			}
+		}
+	}
+}
@@ -1,22 +1,39 @@
 package com.pm.connecto.match.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.pm.connecto.common.exception.ForbiddenException;
+import com.pm.connecto.common.persistence.EntityIdAllocator;
+import com.pm.connecto.common.resilience.CircuitBreaker;
 import com.pm.connecto.common.exception.ResourceNotFoundException;
 import com.pm.connecto.common.response.ErrorCode;
+import com.pm.connecto.common.util.TransactionUtils;
+import com.pm.connecto.language.event.UserLanguagesChangedEvent;
+import com.pm.connecto.language.service.LanguageService;
 import com.pm.connecto.match.domain.CallSession;
+import com.pm.connecto.match.dto.CallSessionState;
 import com.pm.connecto.match.dto.MatchResultResponse;
 import com.pm.connecto.match.dto.MatchStartResponse;
 import com.pm.connecto.match.dto.MatchStatusResponse;
+import com.pm.connecto.match.event.CallSessionStartedEvent;
 import com.pm.connecto.match.repository.CallSessionRepository;
-import com.pm.connecto.profile.domain.Profile;
 import com.pm.connecto.profile.dto.ProfileResponse;
 import com.pm.connecto.profile.repository.ProfileRepository;
 import com.pm.connecto.user.domain.User;
@@ -26,6 +43,7 @@ import com.pm.connecto.user.repository.UserRepository;
  * 매칭 서비스 (프로덕션 수준)
  * - Redis 기반 FIFO 매칭 엔진
  * - 동시성 제어 및 보안 강화
+ * - Redis 장애(matchRedisCircuitBreaker 열림) 시 진행 중 세션 확인/생성은 DB(active_call_participants)로 대체
  * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
  */
 @Service
@@ -38,17 +56,35 @@ public class MatchService {
 	private final ProfileRepository profileRepository;
 	private final UserRepository userRepository;
 	private final MatchQueueService matchQueueService;
+	private final MatchRevealCache matchRevealCache;
+	private final LanguageService languageService;
+	private final ActiveCallSessionStore activeCallSessionStore;
+	private final EntityIdAllocator entityIdAllocator;
+	private final CircuitBreaker circuitBreaker;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public MatchService(
 		CallSessionRepository callSessionRepository,
 		ProfileRepository profileRepository,
 		UserRepository userRepository,
-		MatchQueueService matchQueueService
+		MatchQueueService matchQueueService,
+		MatchRevealCache matchRevealCache,
+		LanguageService languageService,
+		ActiveCallSessionStore activeCallSessionStore,
+		EntityIdAllocator entityIdAllocator,
+		@Qualifier("matchRedisCircuitBreaker") CircuitBreaker circuitBreaker,
+		ApplicationEventPublisher eventPublisher
 	) {
 		this.callSessionRepository = callSessionRepository;
 		this.profileRepository = profileRepository;
 		this.userRepository = userRepository;
 		this.matchQueueService = matchQueueService;
+		this.matchRevealCache = matchRevealCache;
+		this.languageService = languageService;
+		this.activeCallSessionStore = activeCallSessionStore;
+		this.entityIdAllocator = entityIdAllocator;
+		this.circuitBreaker = circuitBreaker;
+		this.eventPublisher = eventPublisher;
 	}
 
 	/**
@@ -58,17 +94,21 @@ public class MatchService {
 	 */
 	@Transactional
 	public MatchStartResponse startMatching(Long userId) {
-		// 진행 중인 통화 확인
-		if (callSessionRepository.findInProgressByUserId(userId).isPresent()) {
+		// 진행 중인 통화 확인 (ActiveCallSessionStore, Redis 장애 시 DB)
+		boolean inCall = circuitBreaker.call(
+			() -> activeCallSessionStore.findActiveSessionId(userId).isPresent(),
+			() -> callSessionRepository.findInProgressByUserId(userId).isPresent());
+		if (inCall) {
 			log.warn("User {} is already in a call", userId);
 			throw new ForbiddenException(ErrorCode.ALREADY_IN_CALL);
 		}
 
-		// 대기열 진입
-		matchQueueService.enqueue(userId);
+		// 대기열 진입 (언어 비트마스크 함께 저장)
+		matchQueueService.enqueue(userId, languageService.getLanguageMask(userId));
 
-		// 즉시 매칭 시도
-		Long matchedUserId = matchQueueService.findMatch(userId);
+		// 즉시 매칭 시도 (비트마스크로 판정할 수 없는 후보는 언어 호환성 인덱스로 판정)
+		Long matchedUserId = matchQueueService.findMatch(userId,
+			() -> Set.copyOf(languageService.findMatchingUsers(userId)));
 
 		if (matchedUserId != null) {
 			// 매칭 성공
@@ -81,12 +121,15 @@ public class MatchService {
 			String webrtcChannelId = generateWebRTCChannelId();
 
 			// 세션 생성
-			CallSession session = createMatchedSession(user1, user2, webrtcChannelId);
+			CallSessionState session = createMatchedSession(user1, user2, webrtcChannelId);
+
+			// 통화 종료 후 프로필 공개용 스냅샷 선적재
+			prefetchRevealSnapshot(session.sessionId(), userId, matchedUserId);
 
 			log.info("Match successful: User {} matched with User {}, Session ID: {}", 
-				userId, matchedUserId, session.getId());
+				userId, matchedUserId, session.sessionId());
 
-			return MatchStartResponse.matched(session.getId(), webrtcChannelId);
+			return MatchStartResponse.matched(session.sessionId(), webrtcChannelId);
 		}
 
 		// 매칭 대기 중
@@ -103,15 +146,26 @@ public class MatchService {
 		log.info("User {} cancelled matching", userId);
 	}
 
+	/**
+	 * 언어 변경 시 대기 중인 사용자의 언어 비트마스크 갱신 (커밋 이후)
+	 */
+	@TransactionalEventListener
+	public void onUserLanguagesChanged(UserLanguagesChangedEvent event) {
+		Long userId = event.userId();
+		if (matchQueueService.isInQueue(userId)) {
+			matchQueueService.updateLanguageMask(userId, languageService.getLanguageMask(userId));
+		}
+	}
+
 	/**
 	 * 매칭 상태 확인
+	 * - 진행 중 세션은 ActiveCallSessionStore에서 조회 (DB 조회 없음, Redis 장애 시에만 DB)
 	 */
-	@Transactional(readOnly = true)
 	public MatchStatusResponse getMatchStatus(Long userId) {
-		return callSessionRepository.findInProgressByUserId(userId)
+		return findActiveSession(userId)
 			.map(session -> {
-				log.debug("User {} has active session: {}", userId, session.getId());
-				return MatchStatusResponse.matched(session.getId(), session.getWebrtcChannelId());
+				log.debug("User {} has active session: {}", userId, session.sessionId());
+				return MatchStatusResponse.matched(session.sessionId(), session.webrtcChannelId());
 			})
 			.orElseGet(() -> {
 				// 대기열에 있는지 확인
@@ -127,9 +181,41 @@ public class MatchService {
 	 * 통화 종료 후 상대방 프로필 조회 (보안 강화)
 	 * - 세션이 종료된 상태이고, 요청한 사용자가 세션에 참여한 경우에만 허용
 	 * - 세션 참여 여부를 엄격히 검증
+	 * - 매칭 시 저장한 스냅샷(MatchRevealCache)이 있으면 Redis 조회 1회로 응답
+	 * - 스냅샷이 없으면 ActiveCallSessionStore의 세션 상태 + 프로필 조회, 저장소에도 없으면 DB 경로로 폴백
 	 */
 	@Transactional(readOnly = true)
 	public MatchResultResponse getMatchResult(Long sessionId, Long userId) {
+		MatchRevealCache.Snapshot snapshot = matchRevealCache.find(sessionId).orElse(null);
+		if (snapshot != null) {
+			if (!snapshot.isParticipant(userId)) {
+				log.warn("Session {} not found or user {} not authorized", sessionId, userId);
+				throw new ResourceNotFoundException(ErrorCode.SESSION_NOT_FOUND);
+			}
+			if (snapshot.isEnded()) {
+				ProfileResponse otherProfile = snapshot.partnerProfile(userId)
+					.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
+				log.info("User {} retrieved match result for session {} (snapshot)", userId, sessionId);
+				return new MatchResultResponse(otherProfile, snapshot.wantAgain(userId));
+			}
+		}
+
+		CallSessionState state = activeCallSessionStore.find(sessionId).orElse(null);
+		if (state != null) {
+			if (!state.isParticipant(userId)) {
+				log.warn("Session {} not found or user {} not authorized", sessionId, userId);
+				throw new ResourceNotFoundException(ErrorCode.SESSION_NOT_FOUND);
+			}
+			if (!state.isEnded()) {
+				log.warn("User {} attempted to access non-ended session {}", userId, sessionId);
+				throw new ForbiddenException(ErrorCode.ACCESS_DENIED);
+			}
+			ProfileResponse otherProfile = profileRepository.findResponseByUserId(state.partnerId(userId))
+				.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
+			log.info("User {} retrieved match result for session {}", userId, sessionId);
+			return new MatchResultResponse(otherProfile, state.wantAgain(userId));
+		}
+
 		CallSession session = callSessionRepository.findByIdAndUserId(sessionId, userId)
 			.orElseThrow(() -> {
 				log.warn("Session {} not found or user {} not authorized", sessionId, userId);
@@ -153,7 +239,7 @@ public class MatchService {
 
 		// 상대방 정보 조회
 		User otherUser = session.getOtherUser(userId);
-		Profile otherProfile = profileRepository.findByUserId(otherUser.getId())
+		ProfileResponse otherProfile = profileRepository.findResponseByUserId(otherUser.getId())
 			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
 
 		// 재연결 의사 확인
@@ -162,21 +248,102 @@ public class MatchService {
 			: session.getUser2WantAgain();
 
 		log.info("User {} retrieved match result for session {}", userId, sessionId);
-		return new MatchResultResponse(
-			ProfileResponse.from(otherProfile),
-			wantAgain
-		);
+		return new MatchResultResponse(otherProfile, wantAgain);
 	}
 
 	/**
 	 * 매칭 완료 처리 (내부 메서드)
 	 * - Redis 매칭 엔진에서 호출
+	 * - 세션 ID는 DB 시퀀스 블록에서 선할당, 세션은 ActiveCallSessionStore에 저장 (call_sessions는 write-behind)
+	 * - Redis 장애 시 call_sessions/active_call_participants에 바로 기록 (통화 종료는 CallService DB 경로)
+	 * - 커밋 이후 통화 마감 타이머 등록 (CallSessionStartedEvent)
 	 */
 	@Transactional
-	public CallSession createMatchedSession(User user1, User user2, String webrtcChannelId) {
-		CallSession session = new CallSession(user1, user2);
-		session.start(webrtcChannelId);
-		return callSessionRepository.save(session);
+	public CallSessionState createMatchedSession(User user1, User user2, String webrtcChannelId) {
+		Long sessionId = entityIdAllocator.allocate(CallSession.class);
+		CallSessionState session = CallSessionState.started(sessionId, user1.getId(), user2.getId(), webrtcChannelId,
+			LocalDateTime.now());
+		boolean created = circuitBreaker.call(
+			() -> activeCallSessionStore.create(session),
+			() -> createInDatabase(session));
+		if (!created) {
+			log.warn("Match aborted: User {} or {} is already in a call", user1.getId(), user2.getId());
+			throw new ForbiddenException(ErrorCode.ALREADY_IN_CALL);
+		}
+		eventPublisher.publishEvent(new CallSessionStartedEvent(sessionId, session.startedAt()));
+		return session;
+	}
+
+	/**
+	 * 재연결 (양측 모두 👍)
+	 * - 대기열(락, 후보 탐색)을 거치지 않고 같은 두 사용자로 새 세션 생성
+	 * - 원 세션 ID 기준 멱등 생성: 양쪽이 동시에 눌러도 새 세션은 1개, 이후 호출은 같은 세션 반환
+	 * - 두 사용자 모두 /match/status에서 새 세션을 바로 확인 (다시 대기열에 들어가 있었다면 제거)
+	 * - 둘 중 한 명이 이미 다른 통화 중이면 empty
+	 */
+	@Transactional
+	public Optional<CallSessionState> rematch(Long originalSessionId, Long user1Id, Long user2Id) {
+		Long sessionId = entityIdAllocator.allocate(CallSession.class);
+		CallSessionState candidate = CallSessionState.started(sessionId, user1Id, user2Id, generateWebRTCChannelId(),
+			LocalDateTime.now());
+		Optional<CallSessionState> rematch = circuitBreaker.call(
+			() -> activeCallSessionStore.createRematch(originalSessionId, candidate),
+			Optional::empty);
+		if (rematch.isEmpty()) {
+			log.info("Rematch skipped for session {}: User {} or {} is already in a call",
+				originalSessionId, user1Id, user2Id);
+			return Optional.empty();
+		}
+
+		CallSessionState session = rematch.get();
+		if (session.sessionId().equals(sessionId)) {
+			for (Long userId : List.of(user1Id, user2Id)) {
+				if (matchQueueService.isInQueue(userId)) {
+					matchQueueService.dequeue(userId);
+				}
+			}
+			prefetchRevealSnapshot(sessionId, user1Id, user2Id);
+			eventPublisher.publishEvent(new CallSessionStartedEvent(sessionId, session.startedAt()));
+			log.info("Rematch successful: Session {} → {}, Users: {} and {}",
+				originalSessionId, sessionId, user1Id, user2Id);
+		}
+		return rematch;
+	}
+
+	/**
+	 * 진행 중 세션 조회 (Redis 장애 시 DB)
+	 */
+	private Optional<CallSessionState> findActiveSession(Long userId) {
+		return circuitBreaker.call(
+			() -> activeCallSessionStore.findActiveSessionId(userId)
+				.flatMap(activeCallSessionStore::find)
+				.filter(CallSessionState::isInProgress),
+			() -> callSessionRepository.findInProgressByUserId(userId).map(CallSessionState::from));
+	}
+
+	/**
+	 * Redis 장애 중 세션 생성 (두 사용자 중 한 명이라도 다른 세션을 점유 중이면 false)
+	 */
+	private boolean createInDatabase(CallSessionState session) {
+		try {
+			callSessionRepository.upsertAll(List.of(session));
+			log.warn("Session {} created directly in database (Redis unavailable)", session.sessionId());
+			return true;
+		} catch (DataIntegrityViolationException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 프로필 공개용 스냅샷 저장
+	 * - 두 참여자의 프로필을 IN 쿼리 1회로 조회하여 세션 단위로 캐시
+	 * - 캐시 저장은 커밋 이후 (롤백된 세션의 스냅샷이 남지 않도록)
+	 */
+	private void prefetchRevealSnapshot(Long sessionId, Long user1Id, Long user2Id) {
+		Map<Long, ProfileResponse> profiles = profileRepository.findResponsesByUserIdIn(List.of(user1Id, user2Id))
+			.stream()
+			.collect(Collectors.toMap(ProfileResponse::userId, Function.identity()));
+		TransactionUtils.afterCommit(() -> matchRevealCache.put(sessionId, user1Id, user2Id, profiles));
 	}
 
 	/**
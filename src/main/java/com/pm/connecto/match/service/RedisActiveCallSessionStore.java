@@ -0,0 +1,547 @@
+package com.pm.connecto.match.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.pm.connecto.common.redis.RedisShards;
+import com.pm.connecto.match.domain.CallSessionStatus;
+import com.pm.connecto.match.dto.ActiveCallSession;
+import com.pm.connecto.match.dto.CallSessionState;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Redis 기반 ActiveCallSessionStore
+ * - 세션 단위 상태 변경은 Lua 스크립트로 원자적으로 처리 (세션 Hash + 인덱스 + flush 대기열, 한 슬롯)
+ * - 참여자 키는 사용자별 슬롯이므로 스크립트 밖에서 SET NX로 선점, 실패 시 보상 삭제
+ * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
+ *
+ * <p>키 구조 (세션 키는 sessionId 기준 call.session.shards개 hash tag {c샤드}로 분산, 샤드마다 다른 슬롯):
+ * <ul>
+ *   <li>call:{c샤드}:session:{sessionId}: 세션 Hash (CallSessionState 필드 + version)</li>
+ *   <li>call:{c샤드}:active: 샤드의 진행 중 세션 ZSET (score = 시작 시각 epoch ms)</li>
+ *   <li>call:{c샤드}:flush:pending: 샤드의 flush 대기 ZSET (score = 다음 flush 가능 시각 epoch ms, 선점 시 미래로 이동)</li>
+ *   <li>call:{c샤드}:rematch:{originalSessionId}: 원 세션으로 생성된 재연결 세션 ID (원 세션의 샤드)</li>
+ *   <li>call:user:{userId}: 진행 중인 세션 ID (사용자별 슬롯)</li>
+ *   <li>call:layout: 세션 키를 배치한 샤드 수 (최초 기동 노드가 기록, 이후 모든 노드가 이 값을 사용)</li>
+ * </ul>
+ *
+ * <p>세션 키는 sessionId로 샤드를 계산하므로 샤드 수가 바뀌면 기존 세션을 찾을 수 없음
+ * → call.session.shards를 바꿔도 call:layout이 있으면 기존 값 유지, 전체 노드 중지 후 flush 완료된 상태에서
+ *   call:layout을 삭제해야 새 값 적용 (DEPLOYMENT.md)
+ *
+ * <p>세션 생성 순서 (중간에 노드가 죽어도 유령 통화가 DB에 기록되지 않도록):
+ * <ol>
+ *   <li>세션 Hash를 임시 TTL로 저장 (active/pending 미등록)</li>
+ *   <li>참여자 키 선점 (SET NX), 실패 시 선점한 키와 세션 Hash 삭제</li>
+ *   <li>TTL 해제 후 active/pending 등록</li>
+ * </ol>
+ * 참여자 키가 진행 중이 아닌 세션(만료, 종료 후 정리 전)을 가리키면 조회 시 정리
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class RedisActiveCallSessionStore implements ActiveCallSessionStore {
+
+	private static final String KEY_PREFIX = "call:";
+	private static final String USER_KEY_PREFIX = KEY_PREFIX + "user:";
+	// flush 확인 이후 종료 세션 보존 시간 (/match/result, /call/again 구간)
+	private static final Duration ENDED_RETENTION = Duration.ofMinutes(10);
+	// 재연결 멱등 키 보존 시간 (DB 경로로 처리되는 늦은 👍까지 덮도록 종료 세션 보존 시간보다 길게)
+	private static final Duration REMATCH_RETENTION = Duration.ofHours(1);
+	// 생성 중(참여자 선점 전) 세션 Hash 보존 시간 (생성 노드 장애 시 자동 정리)
+	private static final Duration PROVISIONAL_RETENTION = Duration.ofSeconds(30);
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	private static final String FIELD_USER1 = "user1";
+	private static final String FIELD_USER2 = "user2";
+	private static final String FIELD_STATUS = "status";
+	private static final String FIELD_CHANNEL = "channel";
+	private static final String FIELD_CREATED_AT = "createdAt";
+	private static final String FIELD_UPDATED_AT = "updatedAt";
+	private static final String FIELD_STARTED_AT = "startedAt";
+	private static final String FIELD_ENDED_AT = "endedAt";
+	private static final String FIELD_USER1_WANT_AGAIN = "user1WantAgain";
+	private static final String FIELD_USER2_WANT_AGAIN = "user2WantAgain";
+	private static final String FIELD_VERSION = "version";
+
+	/**
+	 * KEYS: session / ARGV: retentionSeconds, field/value...
+	 * 반환: 1=저장, 0=같은 ID의 세션 존재
+	 */
+	private static final DefaultRedisScript<Long> PREPARE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('exists', KEYS[1]) == 1 then
+			return 0
+		end
+		redis.call('hset', KEYS[1], unpack(ARGV, 2))
+		redis.call('expire', KEYS[1], ARGV[1])
+		return 1""", Long.class);
+
+	/**
+	 * KEYS: session, active, pending / ARGV: id, startedMillis, nowMillis
+	 * 반환: 1=등록, 0=세션 Hash 없음 (임시 TTL 만료)
+	 */
+	private static final DefaultRedisScript<Long> ACTIVATE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('persist', KEYS[1]) == 0 and redis.call('exists', KEYS[1]) == 0 then
+			return 0
+		end
+		redis.call('zadd', KEYS[2], ARGV[2], ARGV[1])
+		redis.call('zadd', KEYS[3], ARGV[3], ARGV[1])
+		return 1""", Long.class);
+
+	/**
+	 * KEYS: rematch / ARGV: id, retentionSeconds
+	 * 반환: 재연결 세션 ID (이미 선점된 경우 기존 ID)
+	 */
+	private static final DefaultRedisScript<Long> CLAIM_REMATCH_SCRIPT = new DefaultRedisScript<>("""
+		local existing = redis.call('get', KEYS[1])
+		if existing then
+			return tonumber(existing)
+		end
+		redis.call('set', KEYS[1], ARGV[1], 'EX', ARGV[2])
+		return tonumber(ARGV[1])""", Long.class);
+
+	/**
+	 * KEYS: key / ARGV: expected
+	 * 값이 expected일 때만 삭제 (다른 세션이 다시 점유한 키 보호)
+	 */
+	private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('get', KEYS[1]) == ARGV[1] then
+			return redis.call('del', KEYS[1])
+		end
+		return 0""", Long.class);
+
+	/**
+	 * KEYS: session, active, pending / ARGV: id, endedAt, nowMillis
+	 * 반환: 1=종료, 0=진행 중이 아님
+	 */
+	private static final DefaultRedisScript<Long> END_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('hget', KEYS[1], 'status') ~= 'IN_PROGRESS' then
+			return 0
+		end
+		redis.call('hset', KEYS[1], 'status', 'ENDED', 'endedAt', ARGV[2], 'updatedAt', ARGV[2])
+		redis.call('hincrby', KEYS[1], 'version', 1)
+		redis.call('zrem', KEYS[2], ARGV[1])
+		redis.call('zadd', KEYS[3], 'NX', ARGV[3], ARGV[1])
+		return 1""", Long.class);
+
+	/**
+	 * KEYS: session, pending / ARGV: id, field, value, updatedAt, nowMillis
+	 * 반환: -1=없음, -2=종료 전, 1=반영, 2=반영 후 양측 모두 재연결 희망으로 전환
+	 * - flush 확인 전까지 만료되지 않도록 TTL 해제 (ack 시 다시 설정)
+	 */
+	private static final DefaultRedisScript<Long> WANT_AGAIN_SCRIPT = new DefaultRedisScript<>("""
+		local status = redis.call('hget', KEYS[1], 'status')
+		if not status then
+			return -1
+		end
+		if status ~= 'ENDED' then
+			return -2
+		end
+		local before = redis.call('hmget', KEYS[1], 'user1WantAgain', 'user2WantAgain')
+		redis.call('hset', KEYS[1], ARGV[2], ARGV[3], 'updatedAt', ARGV[4])
+		redis.call('hincrby', KEYS[1], 'version', 1)
+		redis.call('persist', KEYS[1])
+		redis.call('zadd', KEYS[2], 'NX', ARGV[5], ARGV[1])
+		local after = redis.call('hmget', KEYS[1], 'user1WantAgain', 'user2WantAgain')
+		if (before[1] ~= '1' or before[2] ~= '1') and after[1] == '1' and after[2] == '1' then
+			return 2
+		end
+		return 1""", Long.class);
+
+	/**
+	 * KEYS: pending / ARGV: nowMillis, claimUntilMillis, limit
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+		local ids = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[3])
+		for _, id in ipairs(ids) do
+			redis.call('zadd', KEYS[1], 'XX', ARGV[2], id)
+		end
+		return ids""", List.class);
+
+	/**
+	 * KEYS: session, pending / ARGV: id, version, retentionSeconds, nowMillis
+	 * 반환: 1=대기 해제, 0=flush 이후 변경됨 (즉시 재flush 대상으로 되돌림)
+	 */
+	private static final DefaultRedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+		local version = redis.call('hget', KEYS[1], 'version')
+		if version == false or version == ARGV[2] then
+			redis.call('zrem', KEYS[2], ARGV[1])
+			if redis.call('hget', KEYS[1], 'status') == 'ENDED' then
+				redis.call('expire', KEYS[1], ARGV[3])
+			end
+			return 1
+		end
+		redis.call('zadd', KEYS[2], 'XX', ARGV[4], ARGV[1])
+		return 0""", Long.class);
+
+	private static final Logger log = LoggerFactory.getLogger(RedisActiveCallSessionStore.class);
+	private static final String LAYOUT_KEY = KEY_PREFIX + "layout";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private volatile int shards;
+	// claimPending 시작 샤드 (특정 샤드만 계속 먼저 비우지 않도록 순환)
+	private final AtomicInteger nextClaimShard = new AtomicInteger();
+
+	public RedisActiveCallSessionStore(
+		RedisTemplate<String, String> redisTemplate,
+		@Value("${call.session.shards:1}") int shards
+	) {
+		this.redisTemplate = redisTemplate;
+		this.shards = RedisShards.resolve("call.session.shards", shards);
+	}
+
+	/**
+	 * 샤드 수 확정
+	 * - call:layout이 없으면 설정값을 기록, 있으면 기록된 값 사용 (실행 중 노드와 같은 샤드 계산)
+	 * - Redis 장애로 확인하지 못하면 설정값 사용
+	 */
+	@PostConstruct
+	void loadShardLayout() {
+		try {
+			String configured = String.valueOf(shards);
+			Boolean created = redisTemplate.opsForValue().setIfAbsent(LAYOUT_KEY, configured);
+			if (Boolean.TRUE.equals(created)) {
+				return;
+			}
+			String stored = redisTemplate.opsForValue().get(LAYOUT_KEY);
+			if (stored != null && !stored.equals(configured)) {
+				log.warn("call.session.shards={} ignored, keeping {} shards stored in {} until it is reset after a drain",
+					configured, stored, LAYOUT_KEY);
+				shards = RedisShards.resolve(LAYOUT_KEY, Integer.parseInt(stored));
+			}
+		} catch (RuntimeException e) {
+			log.warn("Failed to read call session shard layout, using call.session.shards={}", shards, e);
+		}
+	}
+
+	@Override
+	public boolean create(CallSessionState state) {
+		return prepare(state) && activate(state);
+	}
+
+	@Override
+	public Optional<CallSessionState> createRematch(Long originalSessionId, CallSessionState state) {
+		if (!prepare(state)) {
+			return Optional.empty();
+		}
+		String rematchKey = rematchKey(originalSessionId);
+		Long claimed = redisTemplate.execute(CLAIM_REMATCH_SCRIPT, List.of(rematchKey),
+			String.valueOf(state.sessionId()), String.valueOf(REMATCH_RETENTION.toSeconds()));
+		if (claimed == null || !claimed.equals(state.sessionId())) {
+			redisTemplate.delete(sessionKey(state.sessionId()));
+			return claimed == null ? Optional.empty() : find(claimed);
+		}
+		if (!activate(state)) {
+			release(rematchKey, state.sessionId());
+			return Optional.empty();
+		}
+		return Optional.of(state);
+	}
+
+	@Override
+	public Optional<CallSessionState> find(Long sessionId) {
+		return fromFields(sessionId, redisTemplate.opsForHash().entries(sessionKey(sessionId)));
+	}
+
+	/**
+	 * 진행 중이 아닌 세션을 가리키는 참여자 키(생성 중 장애, 종료 후 정리 전 장애)는 정리 후 empty
+	 */
+	@Override
+	public Optional<Long> findActiveSessionId(Long userId) {
+		String value = redisTemplate.opsForValue().get(userKey(userId));
+		if (value == null) {
+			return Optional.empty();
+		}
+		Long sessionId = Long.valueOf(value);
+		Object status = redisTemplate.opsForHash().get(sessionKey(sessionId), FIELD_STATUS);
+		if (CallSessionStatus.IN_PROGRESS.name().equals(status)) {
+			return Optional.of(sessionId);
+		}
+		release(userKey(userId), sessionId);
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<CallSessionState> end(Long sessionId, LocalDateTime endedAt) {
+		Optional<CallSessionState> current = find(sessionId).filter(CallSessionState::isInProgress);
+		if (current.isEmpty()) {
+			return Optional.empty();
+		}
+		CallSessionState state = current.get();
+		int shard = shardOf(sessionId);
+		Long result = redisTemplate.execute(END_SCRIPT,
+			List.of(sessionKey(sessionId), activeKey(shard), pendingKey(shard)),
+			String.valueOf(sessionId), endedAt.toString(), String.valueOf(System.currentTimeMillis()));
+		if (result == null || result != 1L) {
+			return Optional.empty();
+		}
+		release(userKey(state.user1Id()), sessionId);
+		release(userKey(state.user2Id()), sessionId);
+		return Optional.of(state.ended(endedAt));
+	}
+
+	@Override
+	public WantAgainResult setWantAgain(Long sessionId, Long userId, boolean wantAgain, LocalDateTime updatedAt) {
+		Optional<CallSessionState> current = find(sessionId);
+		if (current.isEmpty() || !current.get().isParticipant(userId)) {
+			return WantAgainResult.NOT_FOUND;
+		}
+		String field = current.get().user1Id().equals(userId) ? FIELD_USER1_WANT_AGAIN : FIELD_USER2_WANT_AGAIN;
+		Long result = redisTemplate.execute(WANT_AGAIN_SCRIPT,
+			List.of(sessionKey(sessionId), pendingKey(shardOf(sessionId))),
+			String.valueOf(sessionId), field, flag(wantAgain), updatedAt.toString(), String.valueOf(System.currentTimeMillis()));
+		if (result == null || result == -1L) {
+			return WantAgainResult.NOT_FOUND;
+		}
+		if (result == -2L) {
+			return WantAgainResult.NOT_ENDED;
+		}
+		return result == 2L ? WantAgainResult.BOTH_WANT_AGAIN : WantAgainResult.UPDATED;
+	}
+
+	@Override
+	public List<ActiveCallSession> activeSessions() {
+		List<ActiveCallSession> sessions = new ArrayList<>();
+		for (int shard = 0; shard < shards; shard++) {
+			Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeWithScores(activeKey(shard), 0, -1);
+			if (tuples == null) {
+				continue;
+			}
+			for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+				if (tuple.getValue() != null && tuple.getScore() != null) {
+					sessions.add(new ActiveCallSession(Long.valueOf(tuple.getValue()), fromMillis(tuple.getScore().longValue())));
+				}
+			}
+		}
+		return sessions;
+	}
+
+	/**
+	 * 샤드별로 최대 limit건씩 조회 후 시작 시각 순으로 병합
+	 */
+	@Override
+	public List<Long> overdueSessionIds(LocalDateTime cutoffTime, int limit) {
+		List<ZSetOperations.TypedTuple<String>> overdue = new ArrayList<>();
+		for (int shard = 0; shard < shards; shard++) {
+			Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeByScoreWithScores(
+				activeKey(shard), Double.NEGATIVE_INFINITY, toMillis(cutoffTime), 0, limit);
+			if (tuples != null) {
+				overdue.addAll(tuples);
+			}
+		}
+		return overdue.stream()
+			.filter(tuple -> tuple.getValue() != null && tuple.getScore() != null)
+			.sorted(Comparator.comparingDouble(ZSetOperations.TypedTuple::getScore))
+			.limit(limit)
+			.map(tuple -> Long.valueOf(tuple.getValue()))
+			.toList();
+	}
+
+	/**
+	 * 샤드를 순환하며 최대 limit건 선점 (샤드별 스크립트 1회)
+	 */
+	@Override
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public List<CallSessionState> claimPending(int limit, Duration claimTimeout) {
+		long now = System.currentTimeMillis();
+		int firstShard = Math.floorMod(nextClaimShard.getAndIncrement(), shards);
+		List<String> ids = new ArrayList<>();
+		for (int offset = 0; offset < shards && ids.size() < limit; offset++) {
+			int shard = (firstShard + offset) % shards;
+			List<String> shardIds = redisTemplate.execute(CLAIM_SCRIPT, List.of(pendingKey(shard)),
+				String.valueOf(now), String.valueOf(now + claimTimeout.toMillis()), String.valueOf(limit - ids.size()));
+			if (shardIds != null) {
+				ids.addAll(shardIds);
+			}
+		}
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		List<Object> hashes = redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				for (String id : ids) {
+					operations.opsForHash().entries(sessionKey(Long.valueOf(id)));
+				}
+				return null;
+			}
+		});
+
+		List<CallSessionState> claimed = new ArrayList<>(ids.size());
+		for (int i = 0; i < ids.size(); i++) {
+			Long sessionId = Long.valueOf(ids.get(i));
+			Optional<CallSessionState> state = fromFields(sessionId, (Map<Object, Object>) hashes.get(i));
+			if (state.isPresent()) {
+				claimed.add(state.get());
+			} else {
+				// 보존 시간이 지나 Hash가 사라진 항목 (이미 flush 완료)
+				redisTemplate.opsForZSet().remove(pendingKey(shardOf(sessionId)), ids.get(i));
+			}
+		}
+		return claimed;
+	}
+
+	@Override
+	public void ackFlushed(CallSessionState flushed) {
+		Long sessionId = flushed.sessionId();
+		redisTemplate.execute(ACK_SCRIPT, List.of(sessionKey(sessionId), pendingKey(shardOf(sessionId))),
+			String.valueOf(sessionId), String.valueOf(flushed.version()),
+			String.valueOf(ENDED_RETENTION.toSeconds()), String.valueOf(System.currentTimeMillis()));
+	}
+
+	/**
+	 * 세션 Hash 임시 저장 (PROVISIONAL_RETENTION 후 만료)
+	 */
+	private boolean prepare(CallSessionState state) {
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(PROVISIONAL_RETENTION.toSeconds()));
+		toFields(state).forEach((field, value) -> {
+			args.add(field);
+			args.add(value);
+		});
+		Long result = redisTemplate.execute(PREPARE_SCRIPT, List.of(sessionKey(state.sessionId())), args.toArray());
+		return result != null && result == 1L;
+	}
+
+	/**
+	 * 참여자 키 선점 후 active/pending 등록 (선점 실패 시 보상 삭제)
+	 */
+	private boolean activate(CallSessionState state) {
+		Long sessionId = state.sessionId();
+		String id = String.valueOf(sessionId);
+		String user1Key = userKey(state.user1Id());
+		String user2Key = userKey(state.user2Id());
+
+		if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(user1Key, id))) {
+			redisTemplate.delete(sessionKey(sessionId));
+			return false;
+		}
+		if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(user2Key, id))) {
+			release(user1Key, sessionId);
+			redisTemplate.delete(sessionKey(sessionId));
+			return false;
+		}
+
+		int shard = shardOf(sessionId);
+		Long result = redisTemplate.execute(ACTIVATE_SCRIPT,
+			List.of(sessionKey(sessionId), activeKey(shard), pendingKey(shard)),
+			id, String.valueOf(toMillis(state.startedAt())), String.valueOf(System.currentTimeMillis()));
+		if (result == null || result != 1L) {
+			release(user1Key, sessionId);
+			release(user2Key, sessionId);
+			return false;
+		}
+		return true;
+	}
+
+	private void release(String key, Long sessionId) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(key), String.valueOf(sessionId));
+	}
+
+	private Map<String, String> toFields(CallSessionState state) {
+		Map<String, String> fields = new LinkedHashMap<>();
+		fields.put(FIELD_USER1, String.valueOf(state.user1Id()));
+		fields.put(FIELD_USER2, String.valueOf(state.user2Id()));
+		fields.put(FIELD_STATUS, state.status().name());
+		fields.put(FIELD_CHANNEL, state.webrtcChannelId());
+		fields.put(FIELD_CREATED_AT, state.createdAt().toString());
+		fields.put(FIELD_UPDATED_AT, state.updatedAt().toString());
+		fields.put(FIELD_STARTED_AT, state.startedAt().toString());
+		if (state.endedAt() != null) {
+			fields.put(FIELD_ENDED_AT, state.endedAt().toString());
+		}
+		fields.put(FIELD_USER1_WANT_AGAIN, flag(state.user1WantAgain()));
+		fields.put(FIELD_USER2_WANT_AGAIN, flag(state.user2WantAgain()));
+		fields.put(FIELD_VERSION, String.valueOf(state.version()));
+		return fields;
+	}
+
+	private Optional<CallSessionState> fromFields(Long sessionId, Map<Object, Object> fields) {
+		if (fields == null || !fields.containsKey(FIELD_STATUS)) {
+			return Optional.empty();
+		}
+		return Optional.of(new CallSessionState(
+			sessionId,
+			Long.valueOf((String) fields.get(FIELD_USER1)),
+			Long.valueOf((String) fields.get(FIELD_USER2)),
+			CallSessionStatus.valueOf((String) fields.get(FIELD_STATUS)),
+			(String) fields.get(FIELD_CHANNEL),
+			parseTime(fields.get(FIELD_CREATED_AT)),
+			parseTime(fields.get(FIELD_UPDATED_AT)),
+			parseTime(fields.get(FIELD_STARTED_AT)),
+			parseTime(fields.get(FIELD_ENDED_AT)),
+			"1".equals(fields.get(FIELD_USER1_WANT_AGAIN)),
+			"1".equals(fields.get(FIELD_USER2_WANT_AGAIN)),
+			Long.parseLong((String) fields.get(FIELD_VERSION))
+		));
+	}
+
+	private static LocalDateTime parseTime(Object value) {
+		return value == null ? null : LocalDateTime.parse((String) value);
+	}
+
+	private static String flag(boolean value) {
+		return value ? "1" : "0";
+	}
+
+	private static long toMillis(LocalDateTime time) {
+		return time.atZone(ZONE).toInstant().toEpochMilli();
+	}
+
+	private static LocalDateTime fromMillis(long millis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+	}
+
+	int shardOf(Long sessionId) {
+		return (int) Math.floorMod(sessionId, (long) shards);
+	}
+
+	String sessionKey(Long sessionId) {
+		return shardPrefix(shardOf(sessionId)) + "session:" + sessionId;
+	}
+
+	String rematchKey(Long originalSessionId) {
+		return shardPrefix(shardOf(originalSessionId)) + "rematch:" + originalSessionId;
+	}
+
+	static String activeKey(int shard) {
+		return shardPrefix(shard) + "active";
+	}
+
+	static String pendingKey(int shard) {
+		return shardPrefix(shard) + "flush:pending";
+	}
+
+	static String userKey(Long userId) {
+		return USER_KEY_PREFIX + userId;
+	}
+
+	// 샤드 안의 키는 같은 hash tag → 세션 스크립트가 Redis Cluster에서도 한 슬롯에서 실행
+	private static String shardPrefix(int shard) {
+		return KEY_PREFIX + "{c" + shard + "}:";
+	}
+}
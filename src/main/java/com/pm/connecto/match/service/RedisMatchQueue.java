@@ -0,0 +1,528 @@
+package com.pm.connecto.match.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import com.pm.connecto.common.exception.DuplicateResourceException;
+import com.pm.connecto.common.redis.RedisShards;
+import com.pm.connecto.common.response.ErrorCode;
+import com.pm.connecto.language.index.LanguageMask;
+
+/**
+ * Redis 기반 매칭 대기열 (클러스터 공용)
+ * - MatchQueueService가 circuit breaker를 통해 호출 (Redis 장애 시 노드 로컬 대기열로 전환)
+ * - Sorted Set을 활용한 FIFO 대기열
+ * - 대기 사용자별 언어 비트마스크(masks)로 상호 언어 교환 가능한 상대만 매칭
+ * - match.queue.shards개 샤드로 분할 (Redis Cluster에서 샤드마다 다른 슬롯 → 여러 master에 분산)
+ *   사용자는 (모국어, 학습 언어) 순서 없는 쌍마다 정해지는 샤드 전부에 등록
+ *   → 교환 가능한 두 사용자는 공통 언어 쌍의 샤드를 반드시 공유 (여러 언어를 등록해도 모든 조합으로 매칭)
+ * - 매칭은 샤드 락 안에서 후보를 찾은 뒤 두 사용자의 대기 키(match:user)를 선점해야 확정
+ *   → 여러 샤드에 등록된 사용자가 다른 샤드에서 동시에 매칭되지 않음
+ * - 샤드 수는 명시 설정 (기본 1, RedisShards), 바뀌면 먼저 기동한 노드가 대기자를 새 샤드로 이관
+ *   (롤링 배포 중 이전 노드가 쓰는 샤드도 계속 조회/정리, 대기 키에 기록된 샤드는 샤드 수와 무관하게 사용)
+ * - spring.data.redis.host가 명시적으로 설정되어 있을 때만 활성화 (테스트 환경에서는 비활성화)
+ *
+ * <p>키 구조 (샤드 키는 hash tag {q샤드}로 같은 슬롯):
+ * <ul>
+ *   <li>match:{q샤드}:queue: 대기열 ZSET (score = 대기 시작 시각 epoch ms)</li>
+ *   <li>match:{q샤드}:masks: 대기 사용자 언어 비트마스크 Hash</li>
+ *   <li>match:{q샤드}:lock: 샤드 분산 락 (후보 탐색)</li>
+ *   <li>match:user:{userId}: 등록된 샤드 목록 "0,3,5" (대기 여부, 매칭 선점, 타임아웃 관리용 TTL)</li>
+ *   <li>match:layout: 대기자를 마지막으로 배치한 샤드 수, match:layout:lock: 이관 락</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class RedisMatchQueue {
+
+	private static final Logger log = LoggerFactory.getLogger(RedisMatchQueue.class);
+	private static final String SHARD_KEY_PREFIX = "match:{q";
+	private static final String USER_QUEUE_KEY_PREFIX = "match:user:";
+	private static final String LAYOUT_KEY = "match:layout";
+	private static final String LAYOUT_LOCK_KEY = "match:layout:lock";
+	private static final String SHARD_SEPARATOR = ",";
+	static final long QUEUE_TIMEOUT_SECONDS = 300; // 5분 타임아웃
+	private static final int LOCK_WAIT_SECONDS = 3;
+	private static final int LOCK_LEASE_SECONDS = 10;
+	private static final int LAYOUT_LOCK_LEASE_SECONDS = 60;
+	private static final long NO_CANDIDATE = 0L;
+	private static final long NOT_WAITING = -1L;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedissonClient redissonClient;
+	private final int shards;
+	/**
+	 * 전체 조회/정리 대상 샤드 수 (이관 전 샤드 수가 더 크면 그 값)
+	 */
+	private volatile int knownShards;
+
+	public RedisMatchQueue(
+		RedisTemplate<String, String> redisTemplate,
+		RedissonClient redissonClient,
+		@Value("${match.queue.shards:1}") int shards
+	) {
+		this.redisTemplate = redisTemplate;
+		this.redissonClient = redissonClient;
+		this.shards = RedisShards.resolve("match.queue.shards", shards);
+		this.knownShards = this.shards;
+	}
+
+	/**
+	 * 대기열 진입
+	 * - 대기 키를 SET NX로 먼저 선점 (다른 노드 포함 중복 진입 방지)
+	 * - 언어 쌍 샤드마다 마스크 저장 후 Sorted Set에 추가 (추가 직후 탐색하는 노드가 빈 마스크를 읽지 않도록)
+	 *
+	 * @param enqueuedAtMillis 대기 시작 시각 (로컬 대기열에서 되돌릴 때는 원래 시각을 넘겨 FIFO 순서 유지)
+	 */
+	public void enqueue(Long userId, LanguageMask languageMask, long enqueuedAtMillis) {
+		List<Integer> userShards = shardsOf(languageMask);
+		Boolean reserved = redisTemplate.opsForValue().setIfAbsent(userKey(userId), encodeShards(userShards),
+			remainingMillis(enqueuedAtMillis), TimeUnit.MILLISECONDS);
+		if (!Boolean.TRUE.equals(reserved)) {
+			log.warn("User {} is already in queue", userId);
+			throw new DuplicateResourceException(ErrorCode.ALREADY_IN_QUEUE);
+		}
+
+		// 진행 중인 통화가 있는지 확인은 MatchService에서 처리
+		String member = String.valueOf(userId);
+		String encodedMask = languageMask.encode();
+		for (int shard : userShards) {
+			redisTemplate.opsForHash().put(masksKey(shard), member, encodedMask);
+			redisTemplate.opsForZSet().add(queueKey(shard), member, enqueuedAtMillis);
+		}
+		log.info("User {} entered match queue (shards {})", userId, userShards);
+	}
+
+	/**
+	 * 대기열 이탈
+	 * - 대기 키를 먼저 삭제 (진행 중인 매칭 선점은 실패) 후 등록된 샤드에서 제거
+	 * - 대기 키가 만료된 사용자(정리 전 타임아웃)는 모든 샤드에서 제거
+	 */
+	public void dequeue(Long userId) {
+		String encodedShards = redisTemplate.opsForValue().getAndDelete(userKey(userId));
+		removeFromShards(String.valueOf(userId), encodedShards != null ? decodeShards(encodedShards) : allShards());
+		log.info("User {} left match queue", userId);
+	}
+
+	/**
+	 * 대기 중인 사용자의 언어 비트마스크 갱신
+	 * - 대기열에 없는 사용자는 무시 (다음 진입 시 새 마스크로 저장됨)
+	 * - 새 언어 쌍 기준 샤드로 이동 (대기 시작 시각 유지)
+	 */
+	public void updateLanguageMask(Long userId, LanguageMask languageMask) {
+		String encodedShards = redisTemplate.opsForValue().get(userKey(userId));
+		if (encodedShards == null) {
+			return;
+		}
+		List<Integer> currentShards = decodeShards(encodedShards);
+		Double score = null;
+		for (int shard : currentShards) {
+			score = redisTemplate.opsForZSet().score(queueKey(shard), String.valueOf(userId));
+			if (score != null) {
+				break;
+			}
+		}
+		if (score == null) {
+			// 매칭/정리 중
+			return;
+		}
+		moveShards(userId, languageMask.encode(), score, currentShards, shardsOf(languageMask));
+	}
+
+	/**
+	 * 대기열에서 매칭 상대 찾기 (FIFO)
+	 * - 등록된 샤드를 차례로 샤드 락 안에서 탐색, 샤드마다 언어 호환 사용자 중 가장 오래된 사용자와 매칭
+	 * - 호환성 판정은 HMGET 1회로 받은 비트마스크의 AND 연산 2회 (후보별 추가 조회/할당 없음)
+	 * - 비트마스크로 판정할 수 없는 쌍(LanguageMask.isExact)만 compatibleUserIds로 판정 (최초 필요 시 1회 조회)
+	 * - 두 사용자의 대기 키를 선점한 경우에만 매칭 확정 후 모든 샤드에서 제거
+	 */
+	public Long findMatch(Long userId, Supplier<Set<Long>> compatibleUserIds) {
+		String encodedShards = redisTemplate.opsForValue().get(userKey(userId));
+		if (encodedShards == null) {
+			return null;
+		}
+		Supplier<Set<Long>> candidates = memoize(compatibleUserIds);
+		for (int shard : decodeShards(encodedShards)) {
+			RLock lock = redissonClient.getLock(lockKey(shard));
+			try {
+				if (!lock.tryLock(LOCK_WAIT_SECONDS, LOCK_LEASE_SECONDS, TimeUnit.SECONDS)) {
+					log.error("Failed to acquire lock for findMatch (userId: {}, shard: {})", userId, shard);
+					return null; // findMatch는 실패해도 예외를 던지지 않음 (재시도 가능)
+				}
+				long partnerId;
+				try {
+					partnerId = findMatchInShard(userId, shard, candidates);
+				} finally {
+					lock.unlock();
+				}
+				if (partnerId == NOT_WAITING) {
+					return null;
+				}
+				if (partnerId != NO_CANDIDATE) {
+					return partnerId;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.error("Interrupted while acquiring lock for findMatch (userId: {})", userId, e);
+				return null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 샤드 하나에서 매칭 (샤드 락 안에서 호출)
+	 *
+	 * @return 매칭 상대, 후보가 없으면 NO_CANDIDATE, 다른 샤드에서 이미 매칭/이탈했으면 NOT_WAITING
+	 */
+	private long findMatchInShard(Long userId, int shard, Supplier<Set<Long>> candidates) {
+		String queueKey = queueKey(shard);
+		ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
+
+		// 대기열에서 가장 오래된 사용자부터 순회 (score 기준 오름차순)
+		Set<ZSetOperations.TypedTuple<String>> queueMembers = zSetOps.rangeWithScores(queueKey, 0, -1);
+		if (queueMembers == null || queueMembers.isEmpty()) {
+			return NO_CANDIDATE;
+		}
+
+		// 대기 사용자 전체의 언어 비트마스크를 HMGET 1회로 조회 (순서는 queueMembers와 동일)
+		String userIdStr = String.valueOf(userId);
+		List<String> memberIds = new ArrayList<>(queueMembers.size());
+		Double userScore = null;
+		for (ZSetOperations.TypedTuple<String> tuple : queueMembers) {
+			memberIds.add(tuple.getValue());
+			if (userIdStr.equals(tuple.getValue())) {
+				userScore = tuple.getScore();
+			}
+		}
+		if (userScore == null) {
+			// 이 샤드에는 없음 (샤드 이동/정리 중)
+			return NO_CANDIDATE;
+		}
+		HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+		List<String> encodedMasks = hashOps.multiGet(masksKey(shard), memberIds);
+		String myEncodedMask = encodedMasks.get(memberIds.indexOf(userIdStr));
+		long myNative = LanguageMask.decodeNative(myEncodedMask);
+		long myLearning = LanguageMask.decodeLearning(myEncodedMask);
+		boolean myMaskExact = LanguageMask.isExact(myNative, myLearning);
+
+		int index = -1;
+		for (ZSetOperations.TypedTuple<String> tuple : queueMembers) {
+			index++;
+			String candidateUserIdStr = tuple.getValue();
+			Double candidateScore = tuple.getScore();
+			if (candidateUserIdStr == null || candidateScore == null || candidateUserIdStr.equals(userIdStr)) {
+				continue;
+			}
+			long candidateUserId = Long.parseLong(candidateUserIdStr);
+
+			// 언어 호환성 확인 (비트마스크 AND 연산, 판정 불가 시 후보 목록)
+			String candidateEncodedMask = encodedMasks.get(index);
+			long candidateNative = LanguageMask.decodeNative(candidateEncodedMask);
+			long candidateLearning = LanguageMask.decodeLearning(candidateEncodedMask);
+			if (!LanguageMask.compatible(myNative, myLearning, candidateNative, candidateLearning)) {
+				if (myMaskExact && LanguageMask.isExact(candidateNative, candidateLearning)) {
+					continue;
+				}
+				if (!candidates.get().contains(candidateUserId)) {
+					continue;
+				}
+			}
+
+			// 두 사용자의 대기 키 선점 (다른 샤드의 동시 매칭과 경쟁)
+			String[] claimed = claim(userId, userScore, candidateUserId, candidateScore);
+			if (claimed == null) {
+				if (!Boolean.TRUE.equals(redisTemplate.hasKey(userKey(userId)))) {
+					return NOT_WAITING;
+				}
+				// 다른 샤드에서 이미 매칭/이탈한 후보 (제거 전 항목)
+				continue;
+			}
+			removeFromShards(userIdStr, decodeShards(claimed[0]));
+			removeFromShards(candidateUserIdStr, decodeShards(claimed[1]));
+			log.info("Matched users: {} and {} (shard {})", userId, candidateUserId, shard);
+			return candidateUserId;
+		}
+		return NO_CANDIDATE;
+	}
+
+	/**
+	 * 두 사용자의 대기 키 선점 (GETDEL)
+	 * - 대기 키는 사용자마다 슬롯이 달라 한 스크립트로 묶을 수 없으므로 userId 오름차순으로 하나씩 선점
+	 *   (같은 쌍을 양쪽 사용자가 다른 샤드에서 동시에 선점해도 둘 다 실패하지 않음)
+	 * - 두 번째 선점에 실패하면 첫 번째를 남은 대기 시간으로 복구 (그 사이 재진입했으면 새 값 유지)
+	 *
+	 * @return [내 샤드 목록, 상대 샤드 목록], 실패 시 null
+	 */
+	private String[] claim(long userId, double userScore, long partnerId, double partnerScore) {
+		boolean userFirst = userId < partnerId;
+		long firstId = userFirst ? userId : partnerId;
+		long secondId = userFirst ? partnerId : userId;
+		ValueOperations<String, String> valueOps = redisTemplate.opsForValue();
+
+		String firstShards = valueOps.getAndDelete(userKey(firstId));
+		if (firstShards == null) {
+			return null;
+		}
+		String secondShards = valueOps.getAndDelete(userKey(secondId));
+		if (secondShards == null) {
+			long enqueuedAt = (long) (userFirst ? userScore : partnerScore);
+			valueOps.setIfAbsent(userKey(firstId), firstShards, remainingMillis(enqueuedAt), TimeUnit.MILLISECONDS);
+			return null;
+		}
+		return userFirst
+			? new String[] {firstShards, secondShards}
+			: new String[] {secondShards, firstShards};
+	}
+
+	/**
+	 * 대기열에 있는지 확인 (대기 키 존재 여부)
+	 * - 락 없이 호출 가능 (읽기 전용이므로)
+	 */
+	public boolean isInQueue(Long userId) {
+		return Boolean.TRUE.equals(redisTemplate.hasKey(userKey(userId)));
+	}
+
+	/**
+	 * 대기열 크기 조회 (전체 샤드 합집합, 여러 샤드에 등록된 사용자는 1명)
+	 * - 전체 대기자를 읽으므로 관리/테스트 용도
+	 */
+	public long getQueueSize() {
+		Set<String> members = new HashSet<>();
+		for (int shard : allShards()) {
+			Set<String> shardMembers = redisTemplate.opsForZSet().range(queueKey(shard), 0, -1);
+			if (shardMembers != null) {
+				members.addAll(shardMembers);
+			}
+		}
+		return members.size();
+	}
+
+	/**
+	 * 타임아웃된 사용자 정리 (대기 키는 TTL로 함께 만료)
+	 */
+	public void cleanupExpiredUsers() {
+		long currentTime = System.currentTimeMillis();
+		long expiredTime = currentTime - (QUEUE_TIMEOUT_SECONDS * 1000);
+
+		for (int shard : allShards()) {
+			String queueKey = queueKey(shard);
+			Set<String> expiredUsers = redisTemplate.opsForZSet().rangeByScore(queueKey, 0, expiredTime);
+			Long removed = redisTemplate.opsForZSet().removeRangeByScore(queueKey, 0, expiredTime);
+			if (expiredUsers != null && !expiredUsers.isEmpty()) {
+				redisTemplate.opsForHash().delete(masksKey(shard), expiredUsers.toArray());
+			}
+			if (removed != null && removed > 0) {
+				log.info("Cleaned up {} expired users from queue shard {}", removed, shard);
+			}
+		}
+	}
+
+	/**
+	 * 샤드 수 변경 시 대기자 이관 (기동 완료 시 1회, 이관 락으로 한 노드만 실행)
+	 * - match:layout에 기록된 이전 샤드 수의 대기자를 현재 샤드 수 기준 샤드로 옮김 (대기 시작 시각, 마스크 유지)
+	 * - 이전 샤드 수가 더 크면 이후에도 그 샤드까지 조회/정리 (롤링 배포 중 이전 노드가 계속 사용)
+	 * - 실패해도 기동은 계속 (대기 키에 기록된 샤드로 매칭되고, 남은 항목은 타임아웃으로 정리)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrateShardLayout() {
+		RLock lock = redissonClient.getLock(LAYOUT_LOCK_KEY);
+		try {
+			if (!lock.tryLock(LOCK_WAIT_SECONDS, LAYOUT_LOCK_LEASE_SECONDS, TimeUnit.SECONDS)) {
+				log.warn("Skipping match queue shard layout check, lock held by another node");
+				return;
+			}
+			try {
+				String stored = redisTemplate.opsForValue().get(LAYOUT_KEY);
+				int previousShards = stored != null ? Integer.parseInt(stored) : shards;
+				knownShards = Math.max(shards, previousShards);
+				if (previousShards != shards) {
+					int moved = migrate(previousShards);
+					log.info("Moved {} waiting users from {} to {} match queue shards", moved, previousShards, shards);
+				}
+				redisTemplate.opsForValue().set(LAYOUT_KEY, String.valueOf(shards));
+			} finally {
+				lock.unlock();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Interrupted while checking match queue shard layout", e);
+		} catch (RuntimeException e) {
+			log.error("Failed to migrate match queue shard layout", e);
+		}
+	}
+
+	private int migrate(int previousShards) {
+		int moved = 0;
+		for (int shard = 0; shard < previousShards; shard++) {
+			Set<ZSetOperations.TypedTuple<String>> members = redisTemplate.opsForZSet()
+				.rangeWithScores(queueKey(shard), 0, -1);
+			if (members == null) {
+				continue;
+			}
+			HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+			for (ZSetOperations.TypedTuple<String> tuple : members) {
+				String member = tuple.getValue();
+				if (member == null || tuple.getScore() == null) {
+					continue;
+				}
+				Long userId = Long.valueOf(member);
+				String encodedShards = redisTemplate.opsForValue().get(userKey(userId));
+				if (encodedShards == null) {
+					// 매칭/이탈/만료된 사용자의 남은 항목
+					removeFromShards(member, List.of(shard));
+					continue;
+				}
+				String encodedMask = hashOps.get(masksKey(shard), member);
+				List<Integer> currentShards = decodeShards(encodedShards);
+				List<Integer> targetShards = shardsOf(LanguageMask.decode(encodedMask));
+				if (!currentShards.equals(targetShards)) {
+					moveShards(userId, encodedMask != null ? encodedMask : LanguageMask.EMPTY.encode(),
+						tuple.getScore(), currentShards, targetShards);
+					moved++;
+				}
+			}
+		}
+		return moved;
+	}
+
+	/**
+	 * 대기자를 targetShards로 이동 (대기 시작 시각 유지)
+	 * - 새 샤드에 추가 → 대기 키 갱신(남은 TTL 유지) → 이전 샤드에서 제거
+	 * - 그 사이 매칭/이탈로 대기 키가 없어졌으면 새 샤드에서도 제거
+	 */
+	private void moveShards(Long userId, String encodedMask, double score, List<Integer> currentShards,
+		List<Integer> targetShards) {
+		String member = String.valueOf(userId);
+		for (int shard : targetShards) {
+			redisTemplate.opsForHash().put(masksKey(shard), member, encodedMask);
+			redisTemplate.opsForZSet().add(queueKey(shard), member, score);
+		}
+		if (currentShards.equals(targetShards)) {
+			return;
+		}
+		String userKey = userKey(userId);
+		Long ttlMillis = redisTemplate.getExpire(userKey, TimeUnit.MILLISECONDS);
+		boolean updated = ttlMillis != null && ttlMillis > 0 && Boolean.TRUE.equals(
+			redisTemplate.opsForValue().setIfPresent(userKey, encodeShards(targetShards), ttlMillis,
+				TimeUnit.MILLISECONDS));
+		if (!updated) {
+			removeFromShards(member, targetShards);
+			return;
+		}
+		removeFromShards(member, currentShards.stream().filter(shard -> !targetShards.contains(shard)).toList());
+	}
+
+	private void removeFromShards(String member, List<Integer> userShards) {
+		for (int shard : userShards) {
+			redisTemplate.opsForZSet().remove(queueKey(shard), member);
+			redisTemplate.opsForHash().delete(masksKey(shard), member);
+		}
+	}
+
+	/**
+	 * 언어 비트마스크 → 등록할 샤드 (오름차순, 중복 없음)
+	 * - (모국어 비트, 학습 언어 비트)의 순서 없는 쌍마다 샤드 1개
+	 *   → 한국어↔영어 교환 사용자는 양쪽 모두 같은 샤드, 언어가 여러 개면 조합마다 등록
+	 *   (미지원 언어는 공용 비트 하나로 표시되므로 미지원 언어가 섞인 쌍도 같은 샤드)
+	 * - 모국어나 학습 언어가 없으면 매칭될 수 없으므로 샤드 0에만 등록 (대기 상태 유지용)
+	 */
+	List<Integer> shardsOf(LanguageMask languageMask) {
+		if (shards == 1) {
+			return List.of(0);
+		}
+		Set<Integer> result = new TreeSet<>();
+		for (long natives = languageMask.nativeMask(); natives != 0L; natives &= natives - 1) {
+			int nativeBit = Long.numberOfTrailingZeros(natives);
+			for (long learnings = languageMask.learningMask(); learnings != 0L; learnings &= learnings - 1) {
+				int learningBit = Long.numberOfTrailingZeros(learnings);
+				int pair = Math.min(nativeBit, learningBit) * Long.SIZE + Math.max(nativeBit, learningBit);
+				result.add(Math.floorMod(pair * 0x9E3779B1, shards));
+			}
+		}
+		return result.isEmpty() ? List.of(0) : List.copyOf(result);
+	}
+
+	/**
+	 * 대기 시작 시각 기준 남은 대기 시간 (대기 키 TTL, 최소 1ms)
+	 */
+	private static long remainingMillis(long enqueuedAtMillis) {
+		return Math.max(1L, enqueuedAtMillis + QUEUE_TIMEOUT_SECONDS * 1000 - System.currentTimeMillis());
+	}
+
+	private List<Integer> allShards() {
+		List<Integer> all = new ArrayList<>(knownShards);
+		for (int shard = 0; shard < knownShards; shard++) {
+			all.add(shard);
+		}
+		return all;
+	}
+
+	private static Supplier<Set<Long>> memoize(Supplier<Set<Long>> supplier) {
+		return new Supplier<>() {
+			private Set<Long> value;
+
+			@Override
+			public Set<Long> get() {
+				if (value == null) {
+					value = supplier.get();
+				}
+				return value;
+			}
+		};
+	}
+
+	static String encodeShards(List<Integer> userShards) {
+		StringBuilder encoded = new StringBuilder();
+		for (int shard : userShards) {
+			if (!encoded.isEmpty()) {
+				encoded.append(SHARD_SEPARATOR);
+			}
+			encoded.append(shard);
+		}
+		return encoded.toString();
+	}
+
+	static List<Integer> decodeShards(String encoded) {
+		List<Integer> userShards = new ArrayList<>();
+		for (String shard : encoded.split(SHARD_SEPARATOR)) {
+			userShards.add(Integer.parseInt(shard));
+		}
+		return userShards;
+	}
+
+	static String userKey(Long userId) {
+		return USER_QUEUE_KEY_PREFIX + userId;
+	}
+
+	static String queueKey(int shard) {
+		return SHARD_KEY_PREFIX + shard + "}:queue";
+	}
+
+	static String masksKey(int shard) {
+		return SHARD_KEY_PREFIX + shard + "}:masks";
+	}
+
+	static String lockKey(int shard) {
+		return SHARD_KEY_PREFIX + shard + "}:lock";
+	}
+}
@@ -2,13 +2,17 @@ package com.pm.connecto.profile.domain;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.pm.connecto.common.config.HibernateCacheConfig;
+import com.pm.connecto.common.persistence.PooledSequence;
 import com.pm.connecto.user.domain.User;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -22,6 +26,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.PROFILE_REGION)
 @Table(name = "profiles", indexes = {
 	@Index(name = "idx_profile_user_id", columnList = "user_id", unique = true),
 	@Index(name = "idx_profile_nickname", columnList = "nickname", unique = true)
@@ -31,7 +37,7 @@ import lombok.NoArgsConstructor;
 public class Profile {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@PooledSequence("profiles_seq")
 	private Long id;
 
 	@OneToOne(fetch = FetchType.LAZY)
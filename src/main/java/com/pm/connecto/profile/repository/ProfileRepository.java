@@ -1,18 +1,48 @@
 package com.pm.connecto.profile.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.pm.connecto.common.config.HibernateCacheConfig;
 import com.pm.connecto.profile.domain.Profile;
+import com.pm.connecto.profile.dto.ProfileResponse;
+
+import jakarta.persistence.QueryHint;
 
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
 
+	/**
+	 * 사용자 프로필 조회 (쿼리 캐시 적용, profiles 테이블 변경 시 자동 무효화)
+	 */
 	@Query("SELECT p FROM Profile p WHERE p.user.id = :userId")
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.PROFILE_BY_USER_QUERY_REGION)
+	})
 	Optional<Profile> findByUserId(@Param("userId") Long userId);
 
+	/**
+	 * 사용자 프로필 응답 조회 (constructor expression, 엔티티 로딩/스냅샷 없음)
+	 */
+	@Query("SELECT new com.pm.connecto.profile.dto.ProfileResponse(p.id, p.user.id, p.nickname, p.profileImageUrl, p.bio) "
+		+ "FROM Profile p WHERE p.user.id = :userId")
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.PROFILE_BY_USER_QUERY_REGION)
+	})
+	Optional<ProfileResponse> findResponseByUserId(@Param("userId") Long userId);
+
+	@Query("SELECT new com.pm.connecto.profile.dto.ProfileResponse(p.id, p.user.id, p.nickname, p.profileImageUrl, p.bio) "
+		+ "FROM Profile p WHERE p.user.id IN :userIds")
+	List<ProfileResponse> findResponsesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
 	boolean existsByUserId(Long userId);
 
 	boolean existsByNickname(String nickname);
@@ -1,12 +1,15 @@
 package com.pm.connecto.profile.service;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.pm.connecto.common.config.CacheConfig;
 import com.pm.connecto.common.exception.DuplicateResourceException;
 import com.pm.connecto.common.exception.ResourceNotFoundException;
 import com.pm.connecto.common.response.ErrorCode;
 import com.pm.connecto.profile.domain.Profile;
+import com.pm.connecto.profile.dto.ProfileResponse;
 import com.pm.connecto.profile.repository.ProfileRepository;
 import com.pm.connecto.user.domain.User;
 import com.pm.connecto.user.repository.UserRepository;
@@ -22,6 +25,7 @@ public class ProfileService {
 		this.userRepository = userRepository;
 	}
 
+	@CacheEvict(cacheNames = CacheConfig.USER_ME, key = "#userId")
 	@Transactional
 	public Profile createProfile(Long userId, String nickname, String profileImageUrl, String bio) {
 		User user = userRepository.findActiveById(userId)
@@ -45,9 +49,12 @@ public class ProfileService {
 		return profileRepository.save(profile);
 	}
 
+	/**
+	 * 프로필 조회 (응답 record로 직접 projection)
+	 */
 	@Transactional(readOnly = true)
-	public Profile getProfile(Long userId) {
-		return profileRepository.findByUserId(userId)
+	public ProfileResponse getProfile(Long userId) {
+		return profileRepository.findResponseByUserId(userId)
 			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
 	}
 
@@ -62,6 +69,7 @@ public class ProfileService {
 	 * - 프로필이 없으면 예외 발생
 	 * - nickname은 optional (null이면 변경 안 함)
 	 */
+	@CacheEvict(cacheNames = CacheConfig.USER_ME, key = "#userId")
 	@Transactional
 	public Profile updateProfile(Long userId, String nickname, String profileImageUrl, String bio) {
 		Profile profile = profileRepository.findByUserId(userId)
@@ -109,8 +109,7 @@ public class UserController {
 	})
 	@GetMapping("/me/profile")
 	public ApiResponse<ProfileResponse> getMyProfile() {
-		Profile profile = profileService.getProfile(userContext.getUserId());
-		return ApiResponse.success(ProfileResponse.from(profile));
+		return ApiResponse.success(profileService.getProfile(userContext.getUserId()));
 	}
 
 	@Operation(summary = "내 프로필 생성", description = "프로필을 생성합니다. (최초 1회만 가능)")
@@ -2,14 +2,18 @@ package com.pm.connecto.user.domain;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.pm.connecto.common.config.HibernateCacheConfig;
+import com.pm.connecto.common.persistence.PooledSequence;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -18,16 +22,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "users", indexes = {
-	@Index(name = "idx_user_email", columnList = "email"),
-	@Index(name = "idx_user_status", columnList = "status")
-})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USER_REGION)
+// email 조회는 유니크 제약 인덱스 사용 (운영 스키마/인덱스는 db/migration)
+@Table(name = "users")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@PooledSequence("users_seq")
 	private Long id;
 
 	@Column(nullable = false, unique = true, length = 100)
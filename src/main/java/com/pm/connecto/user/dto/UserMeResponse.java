@@ -66,6 +66,27 @@ public record UserMeResponse(
 		}
 	}
 
+	// ========== Projection 변환 ==========
+
+	/**
+	 * 단일 조회 쿼리 결과(UserMeRow 목록)로부터 응답 조립
+	 * - 모든 행은 같은 사용자/프로필 값을 가지며 언어 정보만 다름
+	 */
+	public static UserMeResponse from(List<UserMeRow> rows) {
+		UserMeRow first = rows.get(0);
+
+		UserInfo user = new UserInfo(first.userId(), first.email(), first.createdAt());
+		ProfileInfo profile = first.profileId() == null
+			? null
+			: new ProfileInfo(first.profileId(), first.nickname(), first.profileImageUrl(), first.bio());
+		List<LanguageInfo> languages = rows.stream()
+			.filter(row -> row.languageId() != null)
+			.map(row -> new LanguageInfo(row.languageId(), row.languageCode(), row.languageType(), row.languageLevel()))
+			.toList();
+
+		return new UserMeResponse(user, profile, languages);
+	}
+
 	// ========== Builder 패턴 ==========
 
 	public static Builder builder() {
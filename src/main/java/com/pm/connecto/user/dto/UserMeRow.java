@@ -0,0 +1,41 @@
+package com.pm.connecto.user.dto;
+
+import java.time.LocalDateTime;
+
+import com.pm.connecto.language.domain.LanguageLevel;
+import com.pm.connecto.language.domain.LanguageType;
+import com.pm.connecto.user.domain.UserStatus;
+
+/**
+ * /users/me 통합 조회용 projection (User LEFT JOIN Profile LEFT JOIN Language)
+ * - 한 행 = 사용자 1명 x 언어 1개 (언어가 없으면 language* 필드가 null인 1행)
+ * - 프로필이 없으면 profile* 필드가 null
+ */
+public record UserMeRow(
+	Long userId,
+	String email,
+	UserStatus status,
+	LocalDateTime createdAt,
+	LocalDateTime deletedAt,
+	Long profileId,
+	String nickname,
+	String profileImageUrl,
+	String bio,
+	Long languageId,
+	String languageCode,
+	LanguageType languageType,
+	LanguageLevel languageLevel
+) {
+
+	public boolean isDeleted() {
+		return status == UserStatus.DELETED || deletedAt != null;
+	}
+
+	public boolean isActive() {
+		return status == UserStatus.ACTIVE;
+	}
+
+	public boolean isBlocked() {
+		return status == UserStatus.BLOCKED;
+	}
+}
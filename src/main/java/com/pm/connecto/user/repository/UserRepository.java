@@ -1,5 +1,6 @@
 package com.pm.connecto.user.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 
 import com.pm.connecto.user.domain.User;
 import com.pm.connecto.user.domain.UserStatus;
+import com.pm.connecto.user.dto.UserMeRow;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -31,6 +33,28 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	@Query("SELECT u FROM User u WHERE u.email = :email")
 	Optional<User> findByEmailForAuth(@Param("email") String email);
 
+	// ========== 통합 조회 (/users/me) ==========
+
+	/**
+	 * 사용자 + 프로필 + 언어 목록을 단일 쿼리로 조회 (상태 무관)
+	 * - 언어 개수만큼 행이 반환됨 (언어가 없으면 1행)
+	 * - 엔티티가 아닌 projection이므로 영속성 컨텍스트/dirty checking 비용 없음
+	 * 주의: 반드시 isDeleted(), isBlocked() 체크 후 사용
+	 */
+	@Query("""
+		SELECT new com.pm.connecto.user.dto.UserMeRow(
+			u.id, u.email, u.status, u.createdAt, u.deletedAt,
+			p.id, p.nickname, p.profileImageUrl, p.bio,
+			l.id, l.languageCode, l.type, l.level
+		)
+		FROM User u
+		LEFT JOIN Profile p ON p.user = u
+		LEFT JOIN Language l ON l.user = u
+		WHERE u.id = :id
+		ORDER BY l.id
+		""")
+	List<UserMeRow> findMeRowsById(@Param("id") Long id);
+
 	// ========== 일반 조회 (ACTIVE 사용자만) ==========
 
 	/**
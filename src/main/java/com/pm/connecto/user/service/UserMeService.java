@@ -2,56 +2,54 @@ package com.pm.connecto.user.service;
 
 import java.util.List;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.pm.connecto.common.config.CacheConfig;
 import com.pm.connecto.common.exception.ForbiddenException;
 import com.pm.connecto.common.exception.ResourceNotFoundException;
 import com.pm.connecto.common.exception.UnauthorizedException;
 import com.pm.connecto.common.response.ErrorCode;
-import com.pm.connecto.language.domain.Language;
-import com.pm.connecto.language.repository.LanguageRepository;
-import com.pm.connecto.profile.domain.Profile;
-import com.pm.connecto.profile.repository.ProfileRepository;
-import com.pm.connecto.user.domain.User;
 import com.pm.connecto.user.dto.UserMeResponse;
+import com.pm.connecto.user.dto.UserMeRow;
 import com.pm.connecto.user.repository.UserRepository;
 
+/**
+ * 사용자 통합 정보 조회 서비스 (/users/me)
+ * - User + Profile + Language를 단일 쿼리(findMeRowsById)로 조회
+ * - 조립된 응답은 사용자별로 캐시 (CacheConfig.USER_ME)
+ * - 캐시 무효화: ProfileService, LanguageService, UserService의 쓰기 메서드에서 @CacheEvict
+ */
 @Service
 public class UserMeService {
 
 	private final UserRepository userRepository;
-	private final ProfileRepository profileRepository;
-	private final LanguageRepository languageRepository;
 
-	public UserMeService(
-		UserRepository userRepository,
-		ProfileRepository profileRepository,
-		LanguageRepository languageRepository
-	) {
+	public UserMeService(UserRepository userRepository) {
 		this.userRepository = userRepository;
-		this.profileRepository = profileRepository;
-		this.languageRepository = languageRepository;
 	}
 
+	@Cacheable(cacheNames = CacheConfig.USER_ME, key = "#userId")
 	@Transactional(readOnly = true)
 	public UserMeResponse getMyInfo(Long userId) {
-		User user = findUserWithValidation(userId);
-		Profile profile = profileRepository.findByUserId(userId).orElse(null);
-		List<Language> languages = languageRepository.findByUserId(userId);
+		return UserMeResponse.from(findRowsWithValidation(userId));
+	}
 
-		return UserMeResponse.builder()
-			.user(user)
-			.profile(profile)
-			.languages(languages)
-			.build();
+	@Transactional(readOnly = true)
+	public UserMeResponse getUserProfile(Long targetUserId) {
+		return UserMeResponse.from(findRowsWithValidation(targetUserId));
 	}
 
-	private User findUserWithValidation(Long userId) {
-		User user = userRepository.findByIdForAuth(userId)
-			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+	private List<UserMeRow> findRowsWithValidation(Long userId) {
+		List<UserMeRow> rows = userRepository.findMeRowsById(userId);
+		if (rows.isEmpty()) {
+			throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND);
+		}
+
+		UserMeRow user = rows.get(0);
 
-		if (user.getDeletedAt() != null) {
+		if (user.deletedAt() != null) {
 			throw new UnauthorizedException(ErrorCode.DELETED_USER);
 		}
 
@@ -62,19 +60,6 @@ public class UserMeService {
 			throw new ForbiddenException(ErrorCode.INACTIVE_USER);
 		}
 
-		return user;
-	}
-
-	@Transactional(readOnly = true)
-	public UserMeResponse getUserProfile(Long targetUserId) {
-		User user = findUserWithValidation(targetUserId);
-		Profile profile = profileRepository.findByUserId(targetUserId).orElse(null);
-		List<Language> languages = languageRepository.findByUserId(targetUserId);
-
-		return UserMeResponse.builder()
-			.user(user)
-			.profile(profile)
-			.languages(languages)
-			.build();
+		return rows;
 	}
 }
@@ -1,12 +1,16 @@
 package com.pm.connecto.user.service;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.pm.connecto.common.config.CacheConfig;
 import com.pm.connecto.common.exception.DuplicateResourceException;
 import com.pm.connecto.common.exception.ResourceNotFoundException;
 import com.pm.connecto.common.response.ErrorCode;
+import com.pm.connecto.common.util.TransactionUtils;
+import com.pm.connecto.language.index.LanguageCompatibilityIndex;
 import com.pm.connecto.user.domain.User;
 import com.pm.connecto.user.repository.UserRepository;
 
@@ -15,10 +19,16 @@ public class UserService {
 
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final LanguageCompatibilityIndex languageCompatibilityIndex;
 
-	public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+	public UserService(
+		UserRepository userRepository,
+		PasswordEncoder passwordEncoder,
+		LanguageCompatibilityIndex languageCompatibilityIndex
+	) {
 		this.userRepository = userRepository;
 		this.passwordEncoder = passwordEncoder;
+		this.languageCompatibilityIndex = languageCompatibilityIndex;
 	}
 
 	@Transactional
@@ -42,6 +52,7 @@ public class UserService {
 		return !userRepository.existsByEmail(email);
 	}
 
+	@CacheEvict(cacheNames = CacheConfig.USER_ME, key = "#userId")
 	@Transactional
 	public User updateUser(Long userId, String password) {
 		User user = userRepository.findActiveById(userId)
@@ -55,11 +66,14 @@ public class UserService {
 		return user;
 	}
 
+	@CacheEvict(cacheNames = CacheConfig.USER_ME, key = "#userId")
 	@Transactional
 	public void deleteUser(Long userId) {
 		User user = userRepository.findActiveById(userId)
 			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
 
 		user.delete();
+		// 탈퇴 사용자는 매칭 후보에서 제외 (언어 행은 soft delete로 남음)
+		TransactionUtils.afterCommit(() -> languageCompatibilityIndex.removeUser(userId));
 	}
 }
@@ -0,0 +1,67 @@
+-- 기준 스키마 (Flyway 도입 이전 운영 스키마, ddl-auto로 Hibernate가 생성한 DDL과 동일)
+-- 기존 운영 DB는 baseline-on-migrate로 V1을 적용된 것으로 간주하고 V2부터 실행
+-- 이후 변경(IDENTITY → 시퀀스, 컬럼명 변경 등)은 여기서 고치지 않고 새 버전으로 추가
+-- - ID는 IDENTITY (V2에서 pooled 시퀀스로 전환)
+-- - 유니크 제약은 이름 없이 생성 (users_email_key, profiles_user_id_key, profiles_nickname_key)
+-- - enum 컬럼 CHECK 제약, FK 이름은 Hibernate가 생성한 이름
+-- - call_sessions.user1want_again / user2want_again (V4_1에서 user1_want_again / user2_want_again으로 변경)
+
+CREATE TABLE users (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	email VARCHAR(100) NOT NULL UNIQUE,
+	password VARCHAR(255) NOT NULL,
+	status VARCHAR(20) NOT NULL CHECK (status IN ('ACTIVE', 'BLOCKED', 'DELETED')),
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6) NOT NULL,
+	deleted_at TIMESTAMP(6)
+);
+CREATE INDEX idx_user_email ON users (email);
+CREATE INDEX idx_user_status ON users (status);
+
+CREATE TABLE profiles (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	user_id BIGINT NOT NULL UNIQUE,
+	nickname VARCHAR(50) NOT NULL UNIQUE,
+	profile_image_url VARCHAR(500),
+	bio VARCHAR(500),
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6) NOT NULL,
+	CONSTRAINT FK410q61iev7klncmpqfuo85ivh FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE languages (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	user_id BIGINT NOT NULL,
+	language_code VARCHAR(10) NOT NULL,
+	type VARCHAR(20) NOT NULL CHECK (type IN ('NATIVE', 'LEARNING')),
+	level VARCHAR(20) NOT NULL CHECK (level IN ('BEGINNER', 'INTERMEDIATE', 'ADVANCED')),
+	created_at TIMESTAMP(6) NOT NULL,
+	CONSTRAINT uk_user_language_type UNIQUE (user_id, language_code, type),
+	CONSTRAINT FKkt6rx7cf2t4ld45jkmnd0fc8e FOREIGN KEY (user_id) REFERENCES users (id)
+);
+CREATE INDEX idx_language_user_id ON languages (user_id);
+CREATE INDEX idx_language_code ON languages (language_code);
+CREATE INDEX idx_language_type ON languages (type);
+CREATE INDEX idx_language_matching ON languages (language_code, type, level);
+
+CREATE TABLE call_sessions (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	user1_id BIGINT NOT NULL,
+	user2_id BIGINT NOT NULL,
+	status VARCHAR(20) NOT NULL CHECK (status IN ('WAITING', 'IN_PROGRESS', 'ENDED')),
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6) NOT NULL,
+	started_at TIMESTAMP(6),
+	ended_at TIMESTAMP(6),
+	webrtc_channel_id VARCHAR(100),
+	user1want_again BOOLEAN NOT NULL,
+	user2want_again BOOLEAN NOT NULL,
+	CONSTRAINT FKhthsk6459lo3vn5wb6ifcpb9g FOREIGN KEY (user1_id) REFERENCES users (id),
+	CONSTRAINT FKnld2bjbgywk25j8l8sby1cvd1 FOREIGN KEY (user2_id) REFERENCES users (id)
+);
+CREATE INDEX idx_call_session_user1 ON call_sessions (user1_id);
+CREATE INDEX idx_call_session_user2 ON call_sessions (user2_id);
+CREATE INDEX idx_call_session_status ON call_sessions (status);
+CREATE INDEX idx_call_session_created_at ON call_sessions (created_at);
+CREATE INDEX idx_call_session_started_at ON call_sessions (started_at);
+CREATE INDEX idx_call_session_status_started ON call_sessions (status, started_at);
@@ -0,0 +1,22 @@
+-- pooled 시퀀스 ID (PooledSequenceGenerator, INCREMENT BY = connecto.id.allocation_size)
+-- pooled optimizer는 nextval 값 v에 대해 (v - 49) ~ v 범위를 사용하므로,
+-- 시퀀스가 기존 최대 ID보다 뒤처져 있으면 다음 nextval이 MAX(id) + 50이 되도록 맞춤
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS profiles_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS languages_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS call_sessions_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('users_seq', (SELECT MAX(id) FROM users) + 50, false)
+WHERE (SELECT MAX(id) FROM users) > (SELECT last_value FROM users_seq);
+SELECT setval('profiles_seq', (SELECT MAX(id) FROM profiles) + 50, false)
+WHERE (SELECT MAX(id) FROM profiles) > (SELECT last_value FROM profiles_seq);
+SELECT setval('languages_seq', (SELECT MAX(id) FROM languages) + 50, false)
+WHERE (SELECT MAX(id) FROM languages) > (SELECT last_value FROM languages_seq);
+SELECT setval('call_sessions_seq', (SELECT MAX(id) FROM call_sessions) + 50, false)
+WHERE (SELECT MAX(id) FROM call_sessions) > (SELECT last_value FROM call_sessions_seq);
+
+-- IDENTITY 해제 (ID는 애플리케이션이 시퀀스에서 할당, 파티션 편입(V5)은 IDENTITY 컬럼을 허용하지 않음)
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE profiles ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE languages ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE call_sessions ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,18 @@
+-- 진행 중 통화 참여자 (사용자당 1행, PK로 사용자당 진행 중 통화 1개 보장)
+-- 수동으로 먼저 생성한 환경도 있으므로 IF NOT EXISTS / ON CONFLICT로 재실행 가능하게 작성
+CREATE TABLE IF NOT EXISTS active_call_participants (
+	user_id BIGINT PRIMARY KEY,
+	session_id BIGINT NOT NULL REFERENCES call_sessions (id) ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS idx_active_call_participant_session ON active_call_participants (session_id);
+
+-- 기존 진행 중 세션 backfill (같은 사용자가 여러 진행 중 세션에 있으면 가장 최근 세션만 등록)
+INSERT INTO active_call_participants (user_id, session_id)
+SELECT DISTINCT ON (user_id) user_id, id
+FROM (
+	SELECT user1_id AS user_id, id, started_at FROM call_sessions WHERE status = 'IN_PROGRESS'
+	UNION ALL
+	SELECT user2_id AS user_id, id, started_at FROM call_sessions WHERE status = 'IN_PROGRESS'
+) participants
+ORDER BY user_id, started_at DESC NULLS LAST
+ON CONFLICT (user_id) DO NOTHING;
@@ -0,0 +1,4 @@
+-- 기준 스키마의 user1want_again / user2want_again을 엔티티 매핑(@Column)과 write-behind/파티션 SQL의 컬럼명으로 변경
+-- 파티션 편입(V5)은 컬럼명이 같아야 하므로 V5보다 먼저 실행
+ALTER TABLE call_sessions RENAME COLUMN user1want_again TO user1_want_again;
+ALTER TABLE call_sessions RENAME COLUMN user2want_again TO user2_want_again;
@@ -0,0 +1,25 @@
+-- 핫 패스 인덱스 (부분/커버링), 운영 중 적용을 위해 CONCURRENTLY (트랜잭션 밖 실행, .conf 참고)
+-- 실패로 INVALID 인덱스가 남으면 DROP INDEX CONCURRENTLY 후 재실행 (IF NOT EXISTS는 INVALID 인덱스도 존재로 판단)
+-- 실행 계획 회귀 테스트: HotQueryPlanTest
+
+-- 안전망 만료: WHERE status = 'IN_PROGRESS' AND started_at < ? ORDER BY started_at
+-- 진행 중 세션만 담는 부분 인덱스 (종료 세션이 쌓여도 크기가 동시 통화 수에 비례)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_call_session_in_progress_started
+	ON call_sessions (started_at) WHERE status = 'IN_PROGRESS';
+DROP INDEX CONCURRENTLY IF EXISTS idx_call_session_status_started;
+-- 선택도가 낮은 status 단독 인덱스 (위 부분 인덱스로 대체)
+DROP INDEX CONCURRENTLY IF EXISTS idx_call_session_status;
+
+-- 매칭 후보 조회 (language_code, type[, level]) → user_id 를 힙 접근 없이 반환 (index-only scan)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_language_matching_covering
+	ON languages (language_code, type, level) INCLUDE (user_id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_language_matching;
+-- uk_user_language_type (user_id, language_code, type) / 위 커버링 인덱스의 선두 컬럼과 중복
+DROP INDEX CONCURRENTLY IF EXISTS idx_language_user_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_language_code;
+-- 선택도가 낮은 type 단독 인덱스
+DROP INDEX CONCURRENTLY IF EXISTS idx_language_type;
+
+-- 이메일 유니크 제약 인덱스와 중복, status 단독 인덱스는 사용하는 쿼리 없음 (id/email 조회 후 필터)
+DROP INDEX CONCURRENTLY IF EXISTS idx_user_email;
+DROP INDEX CONCURRENTLY IF EXISTS idx_user_status;
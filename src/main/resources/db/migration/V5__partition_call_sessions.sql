@@ -0,0 +1,66 @@
+-- call_sessions 월별 범위 파티셔닝 (created_at)
+-- 기존 테이블은 과거 전체 + 이번 달을 담는 첫 파티션(call_sessions_legacy)으로 편입 (PK 인덱스 생성 + 범위 검증 1회)
+-- 이후 파티션은 CallSessionPartitionMaintenance가 미리 생성, 보존 기간이 지난 파티션은 분리 후 call_sessions_archive로 이관
+-- 편입하려면 컬럼명이 같고 IDENTITY 컬럼이 없어야 함 → V2(IDENTITY 해제), V4_1(user1_want_again 컬럼명 변경) 이후 실행
+--   (기존 스키마 기준 검증: LegacySchemaMigrationTest)
+-- 파티션 테이블의 유니크 제약은 파티션 키를 포함해야 하므로 PK는 (id, created_at)
+--   → active_call_participants.session_id FK 제거 (참여자 행은 세션 종료/만료 경로에서 함께 삭제)
+--   → users FK 생략 (편입 시 전체 검증 비용, 사용자 삭제는 soft delete)
+
+ALTER TABLE active_call_participants DROP CONSTRAINT IF EXISTS active_call_participants_session_id_fkey;
+
+ALTER TABLE call_sessions RENAME TO call_sessions_legacy;
+ALTER TABLE call_sessions_legacy RENAME CONSTRAINT call_sessions_pkey TO call_sessions_legacy_pkey;
+ALTER INDEX IF EXISTS idx_call_session_user1 RENAME TO call_sessions_legacy_user1_idx;
+ALTER INDEX IF EXISTS idx_call_session_user2 RENAME TO call_sessions_legacy_user2_idx;
+ALTER INDEX IF EXISTS idx_call_session_in_progress_started RENAME TO call_sessions_legacy_in_progress_started_idx;
+-- 파티션 범위 제거로 대체 (created_at) / 사용하는 쿼리 없음 (started_at, 만료 조회는 부분 인덱스)
+DROP INDEX IF EXISTS idx_call_session_created_at;
+DROP INDEX IF EXISTS idx_call_session_started_at;
+
+CREATE TABLE call_sessions (
+	id BIGINT NOT NULL,
+	user1_id BIGINT NOT NULL,
+	user2_id BIGINT NOT NULL,
+	status VARCHAR(20) NOT NULL,
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6) NOT NULL,
+	started_at TIMESTAMP(6),
+	ended_at TIMESTAMP(6),
+	webrtc_channel_id VARCHAR(100),
+	user1_want_again BOOLEAN NOT NULL DEFAULT FALSE,
+	user2_want_again BOOLEAN NOT NULL DEFAULT FALSE,
+	PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 편입 시 기존 파티션의 같은 정의 인덱스는 재생성 없이 연결됨
+CREATE INDEX idx_call_session_user1 ON call_sessions (user1_id);
+CREATE INDEX idx_call_session_user2 ON call_sessions (user2_id);
+CREATE INDEX idx_call_session_in_progress_started ON call_sessions (started_at) WHERE status = 'IN_PROGRESS';
+
+DO $$
+DECLARE
+	current_month DATE := date_trunc('month', now())::date;
+	month_start DATE;
+BEGIN
+	EXECUTE format('ALTER TABLE call_sessions ATTACH PARTITION call_sessions_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+		(current_month + interval '1 month')::date);
+	FOR i IN 1..3 LOOP
+		month_start := (current_month + make_interval(months => i))::date;
+		EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF call_sessions FOR VALUES FROM (%L) TO (%L)',
+			to_char(month_start, '"call_sessions_y"YYYY"m"MM'), month_start, (month_start + interval '1 month')::date);
+	END LOOP;
+END $$;
+
+-- 보존 기간이 지난 종료 세션 (상태/채널/갱신 시각 제외, 조회는 기간 단위 → BRIN)
+CREATE TABLE IF NOT EXISTS call_sessions_archive (
+	id BIGINT NOT NULL,
+	user1_id BIGINT NOT NULL,
+	user2_id BIGINT NOT NULL,
+	created_at TIMESTAMP(6) NOT NULL,
+	started_at TIMESTAMP(6),
+	ended_at TIMESTAMP(6),
+	user1_want_again BOOLEAN NOT NULL,
+	user2_want_again BOOLEAN NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_call_session_archive_created_at ON call_sessions_archive USING brin (created_at);
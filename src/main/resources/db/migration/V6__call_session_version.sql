@@ -0,0 +1,4 @@
+-- 세션 상태 버전 (write-behind upsert가 DB의 더 새로운 상태를 덮어쓰지 않도록)
+-- Redis 세션 Hash의 version을 그대로 기록, DB 경로(JPA 갱신, 만료 UPDATE)는 1씩 증가
+-- 파티션 부모에 추가하면 모든 파티션에 반영 (상수 DEFAULT → 테이블 재작성 없음)
+ALTER TABLE call_sessions ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
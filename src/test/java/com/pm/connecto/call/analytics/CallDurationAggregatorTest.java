@@ -0,0 +1,148 @@
+package com.pm.connecto.call.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import com.pm.connecto.call.dto.CallDurationSummary;
+import com.pm.connecto.match.domain.CallEndReason;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("CallDurationAggregator 테스트")
+class CallDurationAggregatorTest {
+
+	/**
+	 * 통화 시작/종료 시각 (Redis 분 단위 키는 기록 시각이 아니라 flush 구간 시작 시각 기준)
+	 */
+	private static final LocalDateTime START = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+	/**
+	 * Redis List 대용 (key → RPUSH된 값)
+	 */
+	private final Map<String, List<String>> lists = new HashMap<>();
+
+	private RedisTemplate<String, String> redisTemplate;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		ListOperations<String, String> listOperations = mock(ListOperations.class);
+		when(redisTemplate.opsForList()).thenReturn(listOperations);
+		when(listOperations.rightPush(anyString(), anyString())).thenAnswer(invocation -> {
+			lists.computeIfAbsent(invocation.getArgument(0), k -> new ArrayList<>()).add(invocation.getArgument(1));
+			return 1L;
+		});
+		// 파이프라인 안의 LRANGE를 호출 순서대로 결과 목록에 담음
+		when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+			List<Object> results = new ArrayList<>();
+			RedisOperations<String, String> pipeline = mock(RedisOperations.class);
+			ListOperations<String, String> pipelineLists = mock(ListOperations.class);
+			when(pipeline.opsForList()).thenReturn(pipelineLists);
+			when(pipelineLists.range(anyString(), anyLong(), anyLong())).thenAnswer(range -> {
+				results.add(lists.getOrDefault(range.getArgument(0), List.of()));
+				return null;
+			});
+			invocation.<SessionCallback<Object>>getArgument(0).execute(pipeline);
+			return results;
+		});
+	}
+
+	@Test
+	@DisplayName("성공: 여러 노드가 올린 구간 히스토그램을 병합해 종료 사유별 백분위를 계산한다")
+	void 노드_간_병합() {
+		// given: 노드 2개가 각각 1분 구간을 flush
+		CallDurationRecorder node1 = new CallDurationRecorder(new SimpleMeterRegistry());
+		CallDurationRecorder node2 = new CallDurationRecorder(new SimpleMeterRegistry());
+		for (int i = 1; i <= 90; i++) {
+			node1.record(CallEndReason.USER, START, START.plusSeconds(i));
+		}
+		for (int i = 0; i < 10; i++) {
+			node2.record(CallEndReason.EXPIRED, START, START.plusMinutes(5));
+		}
+		node2.record(CallEndReason.DISCONNECT, START, START.plusSeconds(30));
+
+		// when
+		aggregator(node1).flush();
+		aggregator(node2).flush();
+		CallDurationSummary summary = aggregator(node1).summarize(60, LocalDateTime.now().plusMinutes(1));
+
+		// then
+		assertThat(summary.overall().count()).isEqualTo(101);
+		assertThat(summary.byReason().get(CallEndReason.USER).count()).isEqualTo(90);
+		assertThat(summary.byReason().get(CallEndReason.USER).p50Seconds()).isCloseTo(45, within(0.1));
+		assertThat(summary.byReason().get(CallEndReason.EXPIRED).p99Seconds()).isCloseTo(300, within(0.5));
+		assertThat(summary.byReason().get(CallEndReason.DISCONNECT).count()).isEqualTo(1);
+		assertThat(summary.capReachedRatio()).isCloseTo(10.0 / 101, within(0.0001));
+	}
+
+	@Test
+	@DisplayName("성공: flush 이후에는 이미 올린 구간을 다시 올리지 않는다")
+	void 구간_중복_없음() {
+		// given
+		CallDurationRecorder recorder = new CallDurationRecorder(new SimpleMeterRegistry());
+		recorder.record(CallEndReason.USER, START, START.plusSeconds(10));
+		CallDurationAggregator aggregator = aggregator(recorder);
+
+		// when
+		aggregator.flush();
+		aggregator.flush();
+
+		// then
+		assertThat(lists.values()).hasSize(1);
+		assertThat(lists.values().iterator().next()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("성공: 시작 전에 종료된 세션은 건수 카운터에만 반영한다")
+	void 시작_전_종료() {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		CallDurationRecorder recorder = new CallDurationRecorder(meterRegistry);
+
+		// when
+		recorder.record(CallEndReason.DISCONNECT, null, START);
+
+		// then
+		assertThat(recorder.takeIntervalHistograms()).isEmpty();
+		assertThat(meterRegistry.get("call.session.ended").tag("reason", "disconnect").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공: 조회 구간은 최대 구간(1440분)으로 제한한다")
+	void 조회_구간_상한() {
+		// given
+		LocalDateTime now = START.plusMinutes(1);
+
+		// when
+		CallDurationSummary summary = aggregator(new CallDurationRecorder(new SimpleMeterRegistry()))
+			.summarize(Integer.MAX_VALUE, now);
+
+		// then
+		assertThat(Duration.between(summary.from(), summary.to())).isEqualTo(Duration.ofMinutes(1440));
+	}
+
+	private CallDurationAggregator aggregator(CallDurationRecorder recorder) {
+		return new CallDurationAggregator(recorder, redisTemplate, Duration.ofDays(7).toHours(), 1440);
+	}
+}
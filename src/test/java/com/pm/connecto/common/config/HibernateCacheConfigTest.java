@@ -0,0 +1,147 @@
+package com.pm.connecto.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pm.connecto.language.domain.Language;
+import com.pm.connecto.language.domain.LanguageLevel;
+import com.pm.connecto.language.domain.LanguageType;
+import com.pm.connecto.language.repository.LanguageRepository;
+import com.pm.connecto.profile.domain.Profile;
+import com.pm.connecto.profile.repository.ProfileRepository;
+import com.pm.connecto.profile.service.ProfileService;
+import com.pm.connecto.user.domain.User;
+import com.pm.connecto.user.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate 2차 캐시 통합 테스트
+ * - 트랜잭션 간 캐시 공유를 검증하므로 테스트 트랜잭션(@Transactional)을 사용하지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Hibernate 2차 캐시 통합 테스트")
+class HibernateCacheConfigTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProfileRepository profileRepository;
+
+	@Autowired
+	private LanguageRepository languageRepository;
+
+	@Autowired
+	private ProfileService profileService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private Long userId;
+	private Long profileId;
+
+	@BeforeEach
+	void setUp() {
+		User user = userRepository.save(new User("cache@example.com", "encodedPassword123"));
+		userId = user.getId();
+		profileId = profileRepository.save(Profile.builder().user(user).nickname("cached").bio("hello").build()).getId();
+		languageRepository.save(Language.builder()
+			.user(user).languageCode("ko").type(LanguageType.NATIVE).level(LanguageLevel.ADVANCED).build());
+		languageRepository.save(Language.builder()
+			.user(user).languageCode("en").type(LanguageType.LEARNING).level(LanguageLevel.BEGINNER).build());
+
+		entityManagerFactory.getCache().evictAll();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		languageRepository.deleteAll();
+		profileRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("성공: findByUserId 두 번째 조회는 쿼리 캐시와 엔티티 region에서 응답한다")
+	void 언어_조회_쿼리_캐시_적중() {
+		// given: 첫 조회로 캐시 적재
+		assertThat(languageRepository.findByUserId(userId)).hasSize(2);
+		statistics.clear();
+
+		// when
+		assertThat(languageRepository.findByUserId(userId)).hasSize(2);
+
+		// then
+		assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공: 프로필은 findById와 findByUserId 모두 캐시에서 응답한다")
+	void 프로필_조회_캐시_적중() {
+		// given
+		profileRepository.findByUserId(userId);
+		statistics.clear();
+
+		// when
+		Profile byUserId = profileRepository.findByUserId(userId).orElseThrow();
+		Profile byId = profileRepository.findById(profileId).orElseThrow();
+
+		// then
+		assertThat(byUserId.getNickname()).isEqualTo("cached");
+		assertThat(byId.getNickname()).isEqualTo("cached");
+		// findByUserId는 쿼리 캐시, findById는 엔티티 region에서 응답 (SQL 없음)
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+		assertThat(statistics.getDomainDataRegionStatistics(HibernateCacheConfig.PROFILE_REGION).getHitCount())
+			.isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공: 엔티티 수정 후에는 캐시가 갱신되어 최신 값이 조회된다")
+	void 프로필_수정_후_최신_값_조회() {
+		// given
+		profileRepository.findByUserId(userId);
+
+		// when
+		profileService.updateProfile(userId, "renamed", null, "bye");
+
+		// then
+		Profile profile = profileRepository.findByUserId(userId).orElseThrow();
+		assertThat(profile.getNickname()).isEqualTo("renamed");
+		assertThat(profile.getBio()).isEqualTo("bye");
+	}
+
+	@Test
+	@DisplayName("성공: 벌크 DELETE(deleteByUserId) 후에는 캐시된 언어가 조회되지 않는다")
+	void 벌크_삭제_후_캐시_무효화() {
+		// given: 쿼리 캐시 + 엔티티 region 적재
+		Long languageId = languageRepository.findByUserId(userId).get(0).getId();
+		assertThat(entityManagerFactory.getCache().contains(Language.class, languageId)).isTrue();
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> languageRepository.deleteByUserId(userId));
+
+		// then
+		assertThat(entityManagerFactory.getCache().contains(Language.class, languageId)).isFalse();
+		assertThat(languageRepository.findByUserId(userId)).isEmpty();
+		assertThat(languageRepository.findById(languageId)).isEmpty();
+	}
+}
@@ -0,0 +1,74 @@
+package com.pm.connecto.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.pm.connecto.common.limit.AdaptiveConcurrencyLimiter;
+
+@DisplayName("LazyInitializationConfig 테스트")
+class LazyInitializationConfigTest {
+
+	private DefaultListableBeanFactory beanFactory;
+
+	@BeforeEach
+	void setUp() {
+		beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("swaggerConfig",
+			BeanDefinitionBuilder.genericBeanDefinition(SwaggerConfig.class).getBeanDefinition());
+		beanFactory.registerBeanDefinition("openAPI", factoryMethodBean("swaggerConfig", "openAPI"));
+		beanFactory.registerBeanDefinition("org.springdoc.core.configuration.SpringDocConfiguration",
+			BeanDefinitionBuilder.genericBeanDefinition("org.springdoc.core.configuration.SpringDocConfiguration")
+				.getBeanDefinition());
+		beanFactory.registerBeanDefinition("openApiResource",
+			factoryMethodBean("org.springdoc.core.configuration.SpringDocConfiguration", "openApiResource"));
+		beanFactory.registerBeanDefinition("matchAdmissionLimiter",
+			BeanDefinitionBuilder.genericBeanDefinition(AdaptiveConcurrencyLimiter.class).getBeanDefinition());
+	}
+
+	@Test
+	@DisplayName("성공: Swagger 설정과 springdoc 빈은 @Bean 메서드로 등록된 빈까지 지연 초기화한다")
+	void 스웨거_빈_지연_초기화() {
+		// when
+		LazyInitializationConfig.nonHotBeanLazyInitializer(new MockEnvironment()).postProcessBeanFactory(beanFactory);
+
+		// then
+		assertThat(isLazy("swaggerConfig")).isTrue();
+		assertThat(isLazy("openAPI")).isTrue();
+		assertThat(isLazy("org.springdoc.core.configuration.SpringDocConfiguration")).isTrue();
+		assertThat(isLazy("openApiResource")).isTrue();
+		assertThat(isLazy("matchAdmissionLimiter")).isFalse();
+	}
+
+	@Test
+	@DisplayName("성공: startup.lazy-bean-prefixes로 대상을 바꿀 수 있다")
+	void 대상_접두사_설정() {
+		// given
+		MockEnvironment environment = new MockEnvironment()
+			.withProperty("startup.lazy-bean-prefixes", "com.pm.connecto.common.limit.");
+
+		// when
+		LazyInitializationConfig.nonHotBeanLazyInitializer(environment).postProcessBeanFactory(beanFactory);
+
+		// then
+		assertThat(isLazy("matchAdmissionLimiter")).isTrue();
+		assertThat(isLazy("openAPI")).isFalse();
+	}
+
+	private boolean isLazy(String beanName) {
+		return beanFactory.getBeanDefinition(beanName).isLazyInit();
+	}
+
+	private static GenericBeanDefinition factoryMethodBean(String factoryBeanName, String factoryMethodName) {
+		GenericBeanDefinition definition = new GenericBeanDefinition();
+		definition.setFactoryBeanName(factoryBeanName);
+		definition.setFactoryMethodName(factoryMethodName);
+		return definition;
+	}
+}
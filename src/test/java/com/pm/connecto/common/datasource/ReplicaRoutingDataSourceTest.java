@@ -0,0 +1,177 @@
+package com.pm.connecto.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * replica 라우팅 테스트
+ * - 서로 다른 H2 인메모리 DB 두 개 이상을 primary/replica로 사용 (각 DB의 marker 테이블 값으로 라우팅 대상 확인)
+ */
+@DisplayName("ReplicaRoutingDataSource 단위 테스트")
+class ReplicaRoutingDataSourceTest {
+
+	@AfterEach
+	void tearDown() {
+		ReplicaRoutingContext.clear();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("성공: 읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션과 트랜잭션 밖은 primary로 라우팅된다")
+	void 트랜잭션_유형별_라우팅() {
+		Routing routing = new Routing(database("primary"), List.of(database("replica")));
+
+		assertThat(routing.readOnly()).isEqualTo("replica");
+		ReplicaRoutingContext.clear();
+		assertThat(routing.readWrite()).isEqualTo("primary");
+		assertThat(routing.jdbcTemplate.queryForObject("SELECT name FROM marker", String.class)).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("성공: 같은 요청에서 쓰기 이후의 읽기는 primary로 고정되고, 요청 종료 후 해제된다")
+	void 쓰기_이후_primary_고정() {
+		Routing routing = new Routing(database("primary"), List.of(database("replica")));
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		routing.readWrite();
+		assertThat(routing.readOnly()).isEqualTo("primary");
+
+		ReplicaRoutingContext.clear();
+		assertThat(routing.readOnly()).isEqualTo("replica");
+	}
+
+	@Test
+	@DisplayName("성공: 요청 밖 스레드(스케줄러 등)는 쓰기 트랜잭션 종료 시 primary 고정이 해제된다")
+	void 요청_밖_트랜잭션_종료_시_해제() {
+		Routing routing = new Routing(database("primary"), List.of(database("replica")));
+
+		routing.readWrite();
+
+		assertThat(ReplicaRoutingContext.isPrimaryPinned()).isFalse();
+		assertThat(routing.readOnly()).isEqualTo("replica");
+	}
+
+	@Test
+	@DisplayName("성공: 명시적 계정으로 커넥션을 요청하면 primary 커넥션을 반환한다")
+	void 명시적_계정_primary() throws SQLException {
+		Routing routing = new Routing(database("primary"), List.of(database("replica")));
+
+		try (Connection connection = routing.dataSource.getConnection("sa", "");
+			ResultSet resultSet = connection.createStatement().executeQuery("SELECT name FROM marker")) {
+			assertThat(resultSet.next()).isTrue();
+			assertThat(resultSet.getString(1)).isEqualTo("primary");
+		}
+	}
+
+	@Test
+	@DisplayName("성공: 정상 replica 간에는 round-robin으로 분산된다")
+	void replica_round_robin() {
+		Routing routing = new Routing(database("primary"), List.of(database("replica-0"), database("replica-1")));
+
+		assertThat(List.of(routing.readOnly(), routing.readOnly(), routing.readOnly(), routing.readOnly()))
+			.containsExactly("replica-0", "replica-1", "replica-0", "replica-1");
+	}
+
+	@Test
+	@DisplayName("성공: replica 장애 시 primary로 폴백하고, 헬스 체크로 복구되면 다시 replica를 사용한다")
+	void replica_장애_폴백_및_복구() {
+		ToggleDataSource replica = new ToggleDataSource(database("replica"));
+		Routing routing = new Routing(database("primary"), List.of(replica));
+
+		// 장애
+		replica.down = true;
+		assertThat(routing.readOnly()).isEqualTo("primary");
+		assertThat(routing.dataSource.isReplicaHealthy(0)).isFalse();
+
+		// 복구 전까지는 시도하지 않고 primary 사용
+		replica.down = false;
+		assertThat(routing.readOnly()).isEqualTo("primary");
+
+		// 헬스 체크 후 복구
+		routing.dataSource.checkHealth();
+		assertThat(routing.dataSource.isReplicaHealthy(0)).isTrue();
+		assertThat(routing.readOnly()).isEqualTo("replica");
+	}
+
+	private static DataSource database(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:routing_" + name.replace('-', '_') + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+		jdbcTemplate.update("DELETE FROM marker");
+		jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+		return dataSource;
+	}
+
+	private static final class Routing {
+
+		private final ReplicaRoutingDataSource dataSource;
+		private final JdbcTemplate jdbcTemplate;
+		private final TransactionTemplate readOnlyTransaction;
+		private final TransactionTemplate readWriteTransaction;
+
+		private Routing(DataSource primary, List<DataSource> replicas) {
+			dataSource = new ReplicaRoutingDataSource(primary, replicas);
+			LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy(dataSource);
+			DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(lazy);
+			jdbcTemplate = new JdbcTemplate(lazy);
+			readOnlyTransaction = new TransactionTemplate(transactionManager);
+			readOnlyTransaction.setReadOnly(true);
+			readWriteTransaction = new TransactionTemplate(transactionManager);
+		}
+
+		private String readOnly() {
+			return readOnlyTransaction.execute(status -> currentMarker());
+		}
+
+		private String readWrite() {
+			return readWriteTransaction.execute(status -> currentMarker());
+		}
+
+		private String currentMarker() {
+			return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+		}
+	}
+
+	private static final class ToggleDataSource extends AbstractDataSource {
+
+		private final DataSource target;
+		private volatile boolean down;
+
+		private ToggleDataSource(DataSource target) {
+			this.target = target;
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if (down) {
+				throw new SQLException("replica down");
+			}
+			return target.getConnection();
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return getConnection();
+		}
+	}
+}
@@ -0,0 +1,316 @@
+package com.pm.connecto.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pm.connecto.common.response.ErrorResponseRenderer;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+@DisplayName("IdempotencyFilter 테스트")
+class IdempotencyFilterTest {
+
+	private static final String BODY = "{\"success\":true,\"data\":{\"matched\":false}}";
+
+	/**
+	 * Redis 대용 (SET NX PX / GET / 토큰 확인 후 PEXPIRE, SET, DEL)
+	 * - 처리 중 표시는 PENDING 값 + 만료 시각 + 소유 토큰
+	 */
+	private final Map<String, IdempotentResponse> entries = new ConcurrentHashMap<>();
+	private final Map<String, Long> pendingDeadlines = new ConcurrentHashMap<>();
+	private final Map<String, String> pendingTokens = new ConcurrentHashMap<>();
+	private final AtomicInteger executions = new AtomicInteger();
+
+	private IdempotencyStore store;
+	private IdempotencyFilter filter;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		store = mock(IdempotencyStore.class);
+		when(store.tryBegin(anyString(), any())).thenAnswer(invocation -> {
+			String key = invocation.getArgument(0);
+			expirePending(key);
+			if (entries.putIfAbsent(key, IdempotentResponse.PENDING) != null) {
+				return null;
+			}
+			String token = UUID.randomUUID().toString();
+			pendingTokens.put(key, token);
+			pendingDeadlines.put(key, deadline(invocation.getArgument(1)));
+			return token;
+		});
+		when(store.renew(anyString(), anyString(), any())).thenAnswer(invocation -> {
+			String key = invocation.getArgument(0);
+			expirePending(key);
+			if (!invocation.getArgument(1).equals(pendingTokens.get(key))) {
+				return false;
+			}
+			pendingDeadlines.put(key, deadline(invocation.getArgument(2)));
+			return true;
+		});
+		when(store.find(anyString())).thenAnswer(invocation -> {
+			expirePending(invocation.getArgument(0));
+			return Optional.ofNullable(entries.get(invocation.getArgument(0)));
+		});
+		doAnswer(invocation -> {
+			String key = invocation.getArgument(0);
+			if (invocation.getArgument(1).equals(pendingTokens.remove(key))) {
+				pendingDeadlines.remove(key);
+				entries.put(key, invocation.getArgument(2));
+			}
+			return null;
+		}).when(store).complete(anyString(), anyString(), any(), any());
+		doAnswer(invocation -> {
+			String key = invocation.getArgument(0);
+			if (invocation.getArgument(1).equals(pendingTokens.remove(key))) {
+				pendingDeadlines.remove(key);
+				entries.remove(key);
+			}
+			return null;
+		}).when(store).release(anyString(), anyString());
+
+		filter = filter(Duration.ofSeconds(5));
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+		filter.destroy();
+	}
+
+	@Test
+	@DisplayName("성공: 같은 키 재전송은 핸들러를 실행하지 않고 첫 응답을 재생한다")
+	void 재전송_재생() throws Exception {
+		// given
+		FilterChain handler = respondWith(200, new CountDownLatch(0));
+		filter.doFilter(request("key-1"), new MockHttpServletResponse(), handler);
+
+		// when
+		MockHttpServletResponse replayed = new MockHttpServletResponse();
+		filter.doFilter(request("key-1"), replayed, handler);
+
+		// then
+		assertThat(executions).hasValue(1);
+		assertThat(replayed.getStatus()).isEqualTo(200);
+		assertThat(replayed.getContentAsString()).isEqualTo(BODY);
+		assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+	}
+
+	@Test
+	@DisplayName("실패: 같은 키를 다른 요청 본문으로 재사용하면 첫 응답을 재생하지 않고 422를 반환한다")
+	void 다른_본문_재사용_422() throws Exception {
+		// given
+		FilterChain handler = respondWith(200, new CountDownLatch(0));
+		filter.doFilter(request("key-6", "{\"sessionId\":1}"), new MockHttpServletResponse(), handler);
+
+		// when
+		MockHttpServletResponse reused = new MockHttpServletResponse();
+		filter.doFilter(request("key-6", "{\"sessionId\":2}"), reused, handler);
+
+		// then
+		assertThat(executions).hasValue(1);
+		assertThat(reused.getStatus()).isEqualTo(422);
+		assertThat(reused.getContentAsString()).contains("IDEMPOTENCY_KEY_REUSED");
+		assertThat(reused.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+	}
+
+	@Test
+	@DisplayName("성공: 핸들러는 fingerprint 계산 후에도 요청 본문을 그대로 읽는다")
+	void 핸들러_본문_읽기() throws Exception {
+		// given
+		String requestBody = "{\"sessionId\":1}";
+		StringBuilder received = new StringBuilder();
+		FilterChain handler = (request, response) -> {
+			received.append(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+			((HttpServletResponse) response).setStatus(200);
+		};
+
+		// when
+		filter.doFilter(request("key-7", requestBody), new MockHttpServletResponse(), handler);
+
+		// then
+		assertThat(received.toString()).isEqualTo(requestBody);
+	}
+
+	@Test
+	@DisplayName("성공: 동시에 들어온 중복 요청은 실행 중인 요청 결과를 함께 받는다")
+	void 동시_중복_요청_병합() throws Exception {
+		// given: 첫 요청이 핸들러 안에서 대기하는 동안 중복 요청 도착
+		CountDownLatch release = new CountDownLatch(1);
+		FilterChain handler = respondWith(200, release);
+		MockHttpServletResponse first = new MockHttpServletResponse();
+		MockHttpServletResponse second = new MockHttpServletResponse();
+
+		// when
+		Future<?> running = executor.submit(() -> doFilter(request("key-2"), first, handler));
+		while (executions.get() == 0) {
+			Thread.onSpinWait();
+		}
+		Future<?> duplicate = executor.submit(() -> doFilter(request("key-2"), second, handler));
+		release.countDown();
+		running.get(5, TimeUnit.SECONDS);
+		duplicate.get(5, TimeUnit.SECONDS);
+
+		// then
+		assertThat(executions).hasValue(1);
+		assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo(BODY);
+	}
+
+	@Test
+	@DisplayName("성공: 5xx 응답은 저장하지 않고 재시도 시 다시 실행한다")
+	void 서버_오류_미저장() throws Exception {
+		// given
+		FilterChain handler = respondWith(500, new CountDownLatch(0));
+
+		// when
+		filter.doFilter(request("key-3"), new MockHttpServletResponse(), handler);
+		filter.doFilter(request("key-3"), new MockHttpServletResponse(), handler);
+
+		// then
+		assertThat(executions).hasValue(2);
+		assertThat(entries).isEmpty();
+	}
+
+	@Test
+	@DisplayName("성공: 키가 다르거나 헤더가 없으면 매번 실행한다")
+	void 키_없음_또는_다른_키() throws Exception {
+		// given
+		FilterChain handler = respondWith(200, new CountDownLatch(0));
+		MockHttpServletRequest withoutKey = request(null);
+
+		// when
+		filter.doFilter(request("key-4"), new MockHttpServletResponse(), handler);
+		filter.doFilter(request("key-5"), new MockHttpServletResponse(), handler);
+		filter.doFilter(withoutKey, new MockHttpServletResponse(), handler);
+
+		// then
+		assertThat(executions).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("성공: 핸들러가 처리 중 표시 TTL보다 오래 걸려도 표시가 연장되어 다른 노드의 중복 요청이 다시 실행하지 않는다")
+	void 처리_중_표시_연장() throws Exception {
+		// given: 처리 중 표시 TTL 150ms, 핸들러는 release까지 대기
+		IdempotencyFilter slowNode = filter(Duration.ofMillis(150));
+		IdempotencyFilter otherNode = filter(Duration.ofMillis(150));
+		CountDownLatch release = new CountDownLatch(1);
+		FilterChain handler = respondWith(200, release);
+		MockHttpServletResponse first = new MockHttpServletResponse();
+		MockHttpServletResponse duplicate = new MockHttpServletResponse();
+
+		try {
+			// when: 최초 TTL의 몇 배가 지난 뒤 다른 노드로 중복 요청
+			Future<?> running = executor.submit(() -> doFilter(slowNode, request("key-8"), first, handler));
+			while (executions.get() == 0) {
+				Thread.onSpinWait();
+			}
+			Thread.sleep(500);
+			otherNode.doFilter(request("key-8"), duplicate, handler);
+			release.countDown();
+			running.get(5, TimeUnit.SECONDS);
+
+			// then: 중복 요청은 실행 중(409)으로 응답, 핸들러는 1회만 실행되고 완료 응답이 저장됨
+			assertThat(executions).hasValue(1);
+			assertThat(duplicate.getStatus()).isEqualTo(409);
+			assertThat(first.getStatus()).isEqualTo(200);
+			assertThat(entries.get(key("key-8")).isPending()).isFalse();
+		} finally {
+			slowNode.destroy();
+			otherNode.destroy();
+		}
+	}
+
+	private FilterChain respondWith(int status, CountDownLatch release) {
+		return (request, response) -> {
+			executions.incrementAndGet();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			((HttpServletResponse) response).setStatus(status);
+			response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+		};
+	}
+
+	private void doFilter(MockHttpServletRequest request, MockHttpServletResponse response, FilterChain handler) {
+		doFilter(filter, request, response, handler);
+	}
+
+	private static void doFilter(IdempotencyFilter target, MockHttpServletRequest request,
+		MockHttpServletResponse response, FilterChain handler) {
+		try {
+			target.doFilter(request, response, handler);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private IdempotencyFilter filter(Duration inFlightTimeout) {
+		return new IdempotencyFilter(store, new ErrorResponseRenderer(new ObjectMapper()),
+			Duration.ofMinutes(5), inFlightTimeout);
+	}
+
+	/**
+	 * 만료된 처리 중 표시 제거 (Redis TTL 대용)
+	 */
+	private void expirePending(String key) {
+		Long deadline = pendingDeadlines.get(key);
+		if (deadline != null && System.nanoTime() > deadline) {
+			pendingDeadlines.remove(key);
+			pendingTokens.remove(key);
+			entries.remove(key);
+		}
+	}
+
+	private static long deadline(Duration ttl) {
+		return System.nanoTime() + ttl.toNanos();
+	}
+
+	private static String key(String idempotencyKey) {
+		return "1:POST:/match/start:" + idempotencyKey;
+	}
+
+	private static MockHttpServletRequest request(String idempotencyKey) {
+		return request(idempotencyKey, "");
+	}
+
+	private static MockHttpServletRequest request(String idempotencyKey, String body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/match/start");
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		request.setAttribute("userId", 1L);
+		if (idempotencyKey != null) {
+			request.addHeader(IdempotencyFilter.HEADER, idempotencyKey);
+		}
+		return request;
+	}
+}
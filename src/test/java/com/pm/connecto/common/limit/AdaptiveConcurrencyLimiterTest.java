@@ -0,0 +1,139 @@
+package com.pm.connecto.common.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.pm.connecto.common.exception.LockAcquisitionException;
+import com.pm.connecto.common.exception.OverloadedException;
+import com.pm.connecto.common.exception.ResourceNotFoundException;
+import com.pm.connecto.common.response.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("AdaptiveConcurrencyLimiter 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final long FAST = Duration.ofMillis(10).toNanos();
+	private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+	private SimpleMeterRegistry meterRegistry;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("성공: limit만큼 실행 중이면 대기 없이 즉시 거절한다")
+	void 한도_초과_즉시_거절() throws Exception {
+		// given: limit 2를 모두 점유
+		AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10);
+		CountDownLatch entered = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<?> first = executor.submit(() -> limiter.execute(() -> block(entered, release)));
+		Future<?> second = executor.submit(() -> limiter.execute(() -> block(entered, release)));
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// when & then
+		assertThatThrownBy(() -> limiter.execute(() -> "third"))
+			.isInstanceOf(OverloadedException.class)
+			.satisfies(e -> assertThat(((OverloadedException) e).getRetryAfter()).isEqualTo(Duration.ofSeconds(1)));
+		assertThat(meterRegistry.get("match.admission.rejected").counter().count()).isEqualTo(1);
+
+		release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		second.get(5, TimeUnit.SECONDS);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공: 지연 임계치를 넘으면 limit을 곱셈으로 줄이고 최소값 아래로는 내리지 않는다")
+	void 지연_초과_시_감소() {
+		// given
+		AdaptiveConcurrencyLimiter limiter = limiter(20, 5, 100);
+
+		// when
+		limiter.onSample(SLOW, 1, false);
+
+		// then
+		assertThat(limiter.getLimit()).isEqualTo(18.0);
+		for (int i = 0; i < 100; i++) {
+			limiter.onSample(SLOW, 1, false);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(5.0);
+		assertThat(meterRegistry.get("match.admission.limit").gauge().value()).isEqualTo(5.0);
+	}
+
+	@Test
+	@DisplayName("성공: 빠른 완료는 limit을 절반 이상 쓰고 있을 때만 덧셈으로 늘린다")
+	void 빠른_완료_시_증가() {
+		// given
+		AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+
+		// when: 한가할 때(동시 1건)는 유지
+		limiter.onSample(FAST, 1, false);
+		assertThat(limiter.getLimit()).isEqualTo(10.0);
+
+		// when: limit개 완료당 약 +1
+		for (int i = 0; i < 10; i++) {
+			limiter.onSample(FAST, 10, false);
+		}
+
+		// then
+		assertThat(limiter.getLimit()).isBetween(10.9, 11.0);
+	}
+
+	@Test
+	@DisplayName("성공: 락 획득 실패는 과부하 신호로, 일반 비즈니스 예외는 정상 완료로 취급한다")
+	void 실패_유형별_반영() {
+		// given
+		AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+
+		// when
+		assertThatThrownBy(() -> limiter.execute(() -> {
+			throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND);
+		})).isInstanceOf(ResourceNotFoundException.class);
+		double afterBusinessError = limiter.getLimit();
+		assertThatThrownBy(() -> limiter.execute(() -> {
+			throw new LockAcquisitionException();
+		})).isInstanceOf(LockAcquisitionException.class);
+
+		// then
+		assertThat(afterBusinessError).isEqualTo(10.0);
+		assertThat(limiter.getLimit()).isEqualTo(9.0);
+	}
+
+	private AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit) {
+		return new AdaptiveConcurrencyLimiter("match.admission", meterRegistry, initialLimit, minLimit, maxLimit, 0.9,
+			Duration.ofMillis(500), Duration.ofSeconds(1), e -> e instanceof LockAcquisitionException);
+	}
+
+	private static String block(CountDownLatch entered, CountDownLatch release) {
+		entered.countDown();
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return "done";
+	}
+}
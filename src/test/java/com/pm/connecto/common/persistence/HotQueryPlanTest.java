@@ -0,0 +1,260 @@
+package com.pm.connecto.common.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pm.connecto.config.StatementCountingConfig;
+import com.pm.connecto.config.StatementCountingConfig.StatementCounter;
+import com.pm.connecto.language.domain.LanguageType;
+import com.pm.connecto.language.repository.LanguageRepository;
+import com.pm.connecto.match.dto.CallSessionState;
+import com.pm.connecto.match.repository.CallSessionRepository;
+import com.pm.connecto.profile.repository.ProfileRepository;
+import com.pm.connecto.user.domain.UserStatus;
+import com.pm.connecto.user.repository.UserRepository;
+
+/**
+ * 핫 패스 쿼리 실행 계획 회귀 테스트 (PostgreSQL)
+ * - 컨테이너 PostgreSQL에 Flyway 마이그레이션 적용 + ddl-auto=validate (엔티티 매핑과 스키마 일치도 확인)
+ * - 운영과 비슷한 분포로 데이터 적재 후 ANALYZE
+ * - 리포지토리 메서드를 실제로 실행해 준비된 SQL을 수집하고 EXPLAIN (GENERIC_PLAN)으로 바인딩 값과 무관한 계획 확인
+ *   → Seq Scan이 하나라도 있으면 실패 (아직 비어 있는 미래 파티션은 스캔 비용이 0이므로 제외)
+ * - GENERIC_PLAN은 PostgreSQL 16 이상 필요, Docker가 없는 환경에서는 건너뜀
+ * - 전체 적재용 쿼리(findAllIndexEntries)와 SQL 폴백 매칭 쿼리는 대상 아님
+ */
+@SpringBootTest(properties = {
+	"spring.flyway.enabled=true",
+	"spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(StatementCountingConfig.class)
+@DisplayName("핫 패스 쿼리 실행 계획 테스트")
+class HotQueryPlanTest {
+
+	private static final int USERS = 20_000;
+	private static final int CALL_SESSIONS = 50_000;
+	private static final int IN_PROGRESS_SESSIONS = 5_000;
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private static boolean seeded;
+	private static Set<String> emptyRelations = Set.of();
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+		registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+	}
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProfileRepository profileRepository;
+
+	@Autowired
+	private LanguageRepository languageRepository;
+
+	@Autowired
+	private CallSessionRepository callSessionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private StatementCounter statementCounter;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@BeforeEach
+	void seed() {
+		if (seeded) {
+			return;
+		}
+		jdbcTemplate.execute("""
+			INSERT INTO users (id, email, password, status, created_at, updated_at)
+			SELECT g, 'user' || g || '@example.com', 'encodedPassword123',
+				CASE WHEN g %% 50 = 0 THEN 'DELETED' ELSE 'ACTIVE' END, now(), now()
+			FROM generate_series(1, %d) g""".formatted(USERS));
+		jdbcTemplate.execute("""
+			INSERT INTO profiles (id, user_id, nickname, created_at, updated_at)
+			SELECT g, g, 'nick' || g, now(), now() FROM generate_series(1, %d) g""".formatted(USERS));
+		jdbcTemplate.execute("""
+			INSERT INTO languages (id, user_id, language_code, type, level, created_at)
+			SELECT g * 2 - 1, g, (ARRAY['ko', 'en', 'ja', 'zh', 'es', 'fr', 'de', 'vi'])[g %% 8 + 1], 'NATIVE', 'ADVANCED', now()
+			FROM generate_series(1, %1$d) g
+			UNION ALL
+			SELECT g * 2, g, (ARRAY['ko', 'en', 'ja', 'zh', 'es', 'fr', 'de', 'vi'])[(g + 3) %% 8 + 1], 'LEARNING',
+				(ARRAY['BEGINNER', 'INTERMEDIATE', 'ADVANCED'])[g %% 3 + 1], now()
+			FROM generate_series(1, %1$d) g""".formatted(USERS));
+		// 진행 중 세션: 사용자 (2g-1, 2g) 쌍, 나머지는 종료된 이력
+		jdbcTemplate.execute("""
+			INSERT INTO call_sessions (id, user1_id, user2_id, status, created_at, updated_at, started_at, ended_at,
+				webrtc_channel_id, user1_want_again, user2_want_again)
+			SELECT g,
+				CASE WHEN g <= %2$d THEN g * 2 - 1 ELSE g %% %3$d + 1 END,
+				CASE WHEN g <= %2$d THEN g * 2 ELSE (g + 7) %% %3$d + 1 END,
+				CASE WHEN g <= %2$d THEN 'IN_PROGRESS' ELSE 'ENDED' END,
+				now() - g * interval '1 second', now(), now() - g * interval '1 second',
+				CASE WHEN g <= %2$d THEN NULL ELSE now() END,
+				'channel_' || g, false, false
+			FROM generate_series(1, %1$d) g""".formatted(CALL_SESSIONS, IN_PROGRESS_SESSIONS, USERS));
+		jdbcTemplate.execute("""
+			INSERT INTO active_call_participants (user_id, session_id)
+			SELECT user1_id, id FROM call_sessions WHERE status = 'IN_PROGRESS'
+			UNION ALL
+			SELECT user2_id, id FROM call_sessions WHERE status = 'IN_PROGRESS'""");
+		jdbcTemplate.execute("ANALYZE");
+		emptyRelations = Set.copyOf(jdbcTemplate.queryForList(
+			"SELECT relname FROM pg_class WHERE relkind = 'r' AND reltuples = 0", String.class));
+		seeded = true;
+	}
+
+	static Stream<Arguments> hotQueries() {
+		return Stream.of(
+			query("UserRepository.findByIdForAuth", t -> t.userRepository.findByIdForAuth(101L)),
+			query("UserRepository.findByEmailForAuth", t -> t.userRepository.findByEmailForAuth("user101@example.com")),
+			query("UserRepository.findMeRowsById", t -> t.userRepository.findMeRowsById(102L)),
+			query("UserRepository.findByIdAndStatus", t -> t.userRepository.findByIdAndStatus(103L, UserStatus.ACTIVE)),
+			query("UserRepository.findByEmailAndStatus",
+				t -> t.userRepository.findByEmailAndStatus("user104@example.com", UserStatus.ACTIVE)),
+			query("UserRepository.existsByEmailExcludingStatus",
+				t -> t.userRepository.existsByEmailExcludingStatus("user105@example.com", UserStatus.DELETED)),
+			query("ProfileRepository.findByUserId", t -> t.profileRepository.findByUserId(111L)),
+			query("ProfileRepository.findResponseByUserId", t -> t.profileRepository.findResponseByUserId(112L)),
+			query("ProfileRepository.findResponsesByUserIdIn",
+				t -> t.profileRepository.findResponsesByUserIdIn(List.of(113L, 114L))),
+			query("ProfileRepository.existsByUserId", t -> t.profileRepository.existsByUserId(115L)),
+			query("ProfileRepository.existsByNickname", t -> t.profileRepository.existsByNickname("nick116")),
+			query("ProfileRepository.existsByNicknameAndUserIdNot",
+				t -> t.profileRepository.existsByNicknameAndUserIdNot("nick117", 118L)),
+			query("LanguageRepository.findByUserId", t -> t.languageRepository.findByUserId(121L)),
+			query("LanguageRepository.findByUserIdAndType",
+				t -> t.languageRepository.findByUserIdAndType(122L, LanguageType.NATIVE)),
+			query("LanguageRepository.findResponsesByUserId", t -> t.languageRepository.findResponsesByUserId(123L)),
+			query("LanguageRepository.findResponsesByUserIdAndType",
+				t -> t.languageRepository.findResponsesByUserIdAndType(124L, LanguageType.LEARNING)),
+			query("LanguageRepository.findByIdAndUserId", t -> t.languageRepository.findByIdAndUserId(249L, 125L)),
+			query("LanguageRepository.existsByUserIdAndLanguageCodeAndType",
+				t -> t.languageRepository.existsByUserIdAndLanguageCodeAndType(126L, "ko", LanguageType.NATIVE)),
+			query("LanguageRepository.countByUserId", t -> t.languageRepository.countByUserId(127L)),
+			query("CallSessionRepository.findByIdAndUserId",
+				t -> t.callSessionRepository.findByIdAndUserId(10_001L, 10_002L)),
+			query("CallSessionRepository.findInProgressByUserId",
+				t -> t.callSessionRepository.findInProgressByUserId(1L)),
+			query("CallSessionRepository.releaseParticipants",
+				t -> t.callSessionRepository.releaseParticipants(2L)),
+			query("CallSessionRepository.expireStartedBefore",
+				t -> t.callSessionRepository.expireStartedBefore(LocalDateTime.now().minusMinutes(5), LocalDateTime.now(), 500)),
+			query("CallSessionRepository.upsertAll", t -> t.callSessionRepository.upsertAll(List.of(
+				CallSessionState.started(CALL_SESSIONS + 1L, 19_001L, 19_002L, "channel_new", LocalDateTime.now()),
+				CallSessionState.started(3L, 5L, 6L, "channel_3", LocalDateTime.now()).ended(LocalDateTime.now()))))
+		);
+	}
+
+	private static Arguments query(String name, Consumer<HotQueryPlanTest> invocation) {
+		return Arguments.of(name, invocation);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("hotQueries")
+	@DisplayName("핫 패스 쿼리는 Seq Scan 없이 인덱스로 처리된다")
+	void 핫_쿼리_실행_계획(String name, Consumer<HotQueryPlanTest> query) {
+		// given: 쿼리 실행으로 SQL 수집 (데이터는 롤백)
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		List<String> statements = transactionTemplate.execute(status -> {
+			statementCounter.reset();
+			query.accept(this);
+			List<String> prepared = statementCounter.preparedSql();
+			status.setRollbackOnly();
+			return prepared;
+		});
+		assertThat(statements).as("%s 실행 시 준비된 SQL", name).isNotEmpty();
+
+		// when & then
+		for (String sql : statements) {
+			JsonNode plan = explain(sql);
+			assertThat(seqScans(plan))
+				.as("%s%n%s%n%s", name, sql, plan.toPrettyString())
+				.isEmpty();
+		}
+	}
+
+	private JsonNode explain(String sql) {
+		String json = jdbcTemplate.queryForObject("EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + toPositional(sql), String.class);
+		try {
+			return objectMapper.readTree(json).get(0).get("Plan");
+		} catch (Exception e) {
+			throw new IllegalStateException("Cannot parse plan for: " + sql, e);
+		}
+	}
+
+	/**
+	 * JDBC 바인딩 자리(?)를 GENERIC_PLAN용 $n으로 변환 (문자열 리터럴 내부 제외)
+	 */
+	private static String toPositional(String sql) {
+		StringBuilder result = new StringBuilder(sql.length() + 16);
+		boolean inLiteral = false;
+		int index = 0;
+		for (char c : sql.toCharArray()) {
+			if (c == '\'') {
+				inLiteral = !inLiteral;
+			}
+			if (c == '?' && !inLiteral) {
+				result.append('$').append(++index);
+			} else {
+				result.append(c);
+			}
+		}
+		return result.toString();
+	}
+
+	private static List<String> seqScans(JsonNode plan) {
+		List<String> relations = new ArrayList<>();
+		collectSeqScans(plan, relations);
+		return relations;
+	}
+
+	private static void collectSeqScans(JsonNode node, List<String> relations) {
+		if ("Seq Scan".equals(node.path("Node Type").asText())
+			&& !emptyRelations.contains(node.path("Relation Name").asText())) {
+			relations.add(node.path("Relation Name").asText());
+		}
+		for (JsonNode child : node.path("Plans")) {
+			collectSeqScans(child, relations);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.pm.connecto.common.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 마이그레이션 적용 테스트 (PostgreSQL)
+ * - 기존 운영 DB: ddl-auto로 생성된 스키마(db/legacy/pre-flyway-schema.sql)에 baseline-on-migrate로 V2부터 적용
+ * - 새 DB: V1부터 적용
+ * - 두 경로 모두 call_sessions가 파티션 테이블이 되고 기존 행이 첫 파티션에 남는지 확인
+ * - Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("스키마 마이그레이션 테스트")
+class LegacySchemaMigrationTest {
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private DataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("DROP SCHEMA public CASCADE");
+		jdbcTemplate.execute("CREATE SCHEMA public");
+	}
+
+	@Test
+	@DisplayName("Flyway 도입 이전 스키마에 V2부터 적용하면 기존 통화 세션이 파티션으로 편입된다")
+	void 기존_스키마_마이그레이션() {
+		// given - IDENTITY id, user1want_again 컬럼을 가진 기존 스키마와 데이터
+		new ResourceDatabasePopulator(new ClassPathResource("db/legacy/pre-flyway-schema.sql")).execute(dataSource);
+		Long user1Id = insertLegacyUser("legacy1@test.com");
+		Long user2Id = insertLegacyUser("legacy2@test.com");
+		LocalDateTime createdAt = LocalDateTime.now().minusMonths(2);
+		Long sessionId = jdbcTemplate.queryForObject("""
+			INSERT INTO call_sessions (user1_id, user2_id, status, created_at, updated_at, started_at,
+				user1want_again, user2want_again)
+			VALUES (?, ?, 'IN_PROGRESS', ?, ?, ?, TRUE, FALSE)
+			RETURNING id
+			""", Long.class, user1Id, user2Id, createdAt, createdAt, createdAt);
+
+		// when
+		migrate(true);
+
+		// then
+		assertPartitioned();
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT user1_want_again FROM call_sessions WHERE id = ?", Boolean.class, sessionId)).isTrue();
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM active_call_participants WHERE session_id = ?", Integer.class, sessionId)).isEqualTo(2);
+		assertThat(jdbcTemplate.queryForObject("SELECT nextval('call_sessions_seq')", Long.class))
+			.isGreaterThan(sessionId);
+		assertThat(jdbcTemplate.queryForObject("""
+			SELECT COUNT(*) FROM information_schema.columns
+			WHERE table_schema = 'public' AND is_identity = 'YES'
+			""", Integer.class)).isZero();
+	}
+
+	@Test
+	@DisplayName("새 DB에는 V1부터 적용된다")
+	void 새_DB_마이그레이션() {
+		// when
+		migrate(false);
+
+		// then
+		assertPartitioned();
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM flyway_schema_history WHERE version = '1' AND success", Integer.class)).isEqualTo(1);
+	}
+
+	private Long insertLegacyUser(String email) {
+		return jdbcTemplate.queryForObject("""
+			INSERT INTO users (email, password, status, created_at, updated_at)
+			VALUES (?, 'password', 'ACTIVE', now(), now())
+			RETURNING id
+			""", Long.class, email);
+	}
+
+	private void migrate(boolean baselineOnMigrate) {
+		// 운영 설정(application-prod.yaml)과 동일
+		Flyway.configure()
+			.dataSource(dataSource)
+			.locations("classpath:db/migration")
+			.baselineOnMigrate(baselineOnMigrate)
+			.baselineVersion("1")
+			.load()
+			.migrate();
+	}
+
+	private void assertPartitioned() {
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT relkind::text FROM pg_class WHERE oid = 'call_sessions'::regclass", String.class)).isEqualTo("p");
+		assertThat(jdbcTemplate.queryForList("""
+			SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+			WHERE i.inhparent = 'call_sessions'::regclass
+			""", String.class)).contains("call_sessions_legacy").hasSizeGreaterThan(1);
+	}
+}
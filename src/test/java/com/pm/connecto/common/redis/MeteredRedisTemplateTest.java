@@ -0,0 +1,89 @@
+package com.pm.connecto.common.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("MeteredRedisTemplate 테스트")
+class MeteredRedisTemplateTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private MeteredRedisTemplate template;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+		when(connectionFactory.getConnection()).thenReturn(mock(RedisConnection.class));
+		template = new MeteredRedisTemplate(meterRegistry);
+		template.setConnectionFactory(connectionFactory);
+		template.afterPropertiesSet();
+	}
+
+	@Test
+	@DisplayName("성공: 실행 중 명령 수, 연결 대기, 명령 지연을 기록한다")
+	void 명령_메트릭_기록() {
+		// given
+		AtomicReference<Double> inFlightDuringCommand = new AtomicReference<>();
+
+		// when
+		template.execute((RedisCallback<Object>) connection -> {
+			inFlightDuringCommand.set(meterRegistry.get("redis.client.commands.in-flight").gauge().value());
+			return null;
+		});
+
+		// then
+		assertThat(inFlightDuringCommand.get()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("redis.client.commands.in-flight").gauge().value()).isZero();
+		assertThat(meterRegistry.get("redis.client.connection.wait").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("redis.client.commands").tag("outcome", "success").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공: 실패한 명령은 outcome=error로 기록한다")
+	void 실패_명령_기록() {
+		// when & then
+		assertThatThrownBy(() -> template.execute((RedisCallback<Object>) connection -> {
+			throw new QueryTimeoutException("injected timeout");
+		})).isInstanceOf(QueryTimeoutException.class);
+		assertThat(meterRegistry.get("redis.client.commands").tag("outcome", "error").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("redis.client.commands.in-flight").gauge().value()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공: 파이프라인 안의 명령은 바깥 실행 1건으로 기록한다")
+	void 파이프라인_단일_기록() {
+		// when
+		List<Object> results = template.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+				ops.opsForValue().get("a");
+				ops.opsForValue().get("b");
+				return null;
+			}
+		});
+
+		// then
+		assertThat(results).isNotNull();
+		assertThat(meterRegistry.get("redis.client.commands").tag("outcome", "success").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("redis.client.connection.wait").timer().count()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,89 @@
+package com.pm.connecto.common.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pm.connecto.common.exception.ForbiddenException;
+import com.pm.connecto.common.exception.LockAcquisitionException;
+
+@DisplayName("ErrorResponseRenderer 단위 테스트")
+class ErrorResponseRendererTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	private final ErrorResponseRenderer renderer = new ErrorResponseRenderer(objectMapper);
+
+	@Nested
+	@DisplayName("캐시된 에러 본문")
+	class CachedBodyTest {
+
+		@Test
+		@DisplayName("성공: 모든 ErrorCode의 캐시 본문이 ApiResponse.error 직렬화 결과와 같다")
+		void 캐시_본문_ApiResponse_동일() throws Exception {
+			LocalDateTime timestamp = LocalDateTime.of(2024, 1, 23, 10, 30, 0, 123_000_000);
+
+			for (ErrorCode errorCode : ErrorCode.values()) {
+				JsonNode cached = objectMapper.readTree(renderer.render(errorCode, timestamp));
+				JsonNode expected = objectMapper.valueToTree(ApiResponse.error(errorCode));
+
+				assertThat(cached.get("success").asBoolean()).isFalse();
+				assertThat(cached.get("code")).isEqualTo(expected.get("code"));
+				assertThat(cached.get("message")).isEqualTo(expected.get("message"));
+				assertThat(cached.get("timestamp").asText()).isEqualTo("2024-01-23T10:30:00.123");
+			}
+		}
+
+		@Test
+		@DisplayName("성공: 상세 메시지가 있으면 해당 메시지로 직렬화된다")
+		void 상세_메시지_직렬화() throws Exception {
+			byte[] body = renderer.render(ErrorCode.MAX_LIMIT_EXCEEDED, "최대 10개까지만 \"등록\"할 수 있습니다.");
+
+			JsonNode node = objectMapper.readTree(body);
+			assertThat(node.get("code").asText()).isEqualTo("MAX_LIMIT_EXCEEDED");
+			assertThat(node.get("message").asText()).isEqualTo("최대 10개까지만 \"등록\"할 수 있습니다.");
+		}
+
+		@Test
+		@DisplayName("성공: 서블릿 응답에 상태 코드와 JSON 본문을 기록한다")
+		void 서블릿_응답_기록() throws Exception {
+			MockHttpServletResponse response = new MockHttpServletResponse();
+
+			renderer.write(response, 401, ErrorCode.USER_NOT_FOUND);
+
+			assertThat(response.getStatus()).isEqualTo(401);
+			assertThat(response.getContentType()).startsWith("application/json");
+			JsonNode node = objectMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8));
+			assertThat(node.get("code").asText()).isEqualTo("USER_NOT_FOUND");
+		}
+	}
+
+	@Nested
+	@DisplayName("stackless 예외")
+	class StacklessExceptionTest {
+
+		@Test
+		@DisplayName("성공: 비즈니스 예외는 스택 트레이스를 채우지 않는다")
+		void 비즈니스_예외_스택_트레이스_없음() {
+			assertThat(new ForbiddenException(ErrorCode.ACCESS_DENIED).getStackTrace()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("성공: 락 획득 실패 예외는 장애 추적을 위해 스택 트레이스를 유지한다")
+		void 락_예외_스택_트레이스_유지() {
+			assertThat(new LockAcquisitionException().getStackTrace()).isNotEmpty();
+		}
+	}
+}
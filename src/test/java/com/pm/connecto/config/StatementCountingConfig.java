@@ -0,0 +1,122 @@
+package com.pm.connecto.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 테스트용 JDBC 실행 횟수 측정 설정
+ * - JPA/JDBC가 사용하는 DataSource(빈 이름 dataSource)를 프록시로 감싸 Statement 실행(execute*, executeBatch) 횟수를 DB 왕복 수로 집계
+ *   (라우팅 DataSource 내부 풀까지 감싸면 이중 집계, 구체 타입 주입도 깨지므로 제외)
+ * - Hibernate Statistics로는 잡히지 않는 JdbcTemplate 실행까지 포함
+ * - prepareStatement에 전달된 SQL도 기록 (실행 계획 검증용)
+ */
+@TestConfiguration
+public class StatementCountingConfig {
+
+	@Bean
+	public static StatementCounter statementCounter() {
+		return new StatementCounter();
+	}
+
+	@Bean
+	public static BeanPostProcessor statementCountingDataSourcePostProcessor(StatementCounter statementCounter) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+					return statementCounter.wrap(dataSource);
+				}
+				return bean;
+			}
+		};
+	}
+
+	public static class StatementCounter {
+
+		private static final Set<String> EXECUTE_METHODS = Set.of(
+			"execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch"
+		);
+
+		private final AtomicInteger count = new AtomicInteger();
+		private final List<String> preparedSql = new CopyOnWriteArrayList<>();
+
+		public int count() {
+			return count.get();
+		}
+
+		/**
+		 * reset 이후 prepareStatement/prepareCall로 준비된 SQL (준비 순서)
+		 */
+		public List<String> preparedSql() {
+			return List.copyOf(preparedSql);
+		}
+
+		public void reset() {
+			count.set(0);
+			preparedSql.clear();
+		}
+
+		private DataSource wrap(DataSource target) {
+			return proxy(DataSource.class, target, (proxy, method, args) -> {
+				Object result = invoke(method, target, args);
+				return result instanceof Connection connection ? wrapConnection(connection) : result;
+			});
+		}
+
+		private Connection wrapConnection(Connection target) {
+			return proxy(Connection.class, target, (proxy, method, args) -> {
+				if (method.getName().startsWith("prepare") && args != null && args[0] instanceof String sql) {
+					preparedSql.add(sql);
+				}
+				Object result = invoke(method, target, args);
+				if (result instanceof CallableStatement statement) {
+					return wrapStatement(CallableStatement.class, statement);
+				}
+				if (result instanceof PreparedStatement statement) {
+					return wrapStatement(PreparedStatement.class, statement);
+				}
+				if (result instanceof Statement statement) {
+					return wrapStatement(Statement.class, statement);
+				}
+				return result;
+			});
+		}
+
+		private <T extends Statement> T wrapStatement(Class<T> type, T target) {
+			return proxy(type, target, (proxy, method, args) -> {
+				if (EXECUTE_METHODS.contains(method.getName())) {
+					count.incrementAndGet();
+				}
+				return invoke(method, target, args);
+			});
+		}
+
+		private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+			return type.cast(Proxy.newProxyInstance(target.getClass().getClassLoader(), new Class<?>[] {type}, handler));
+		}
+
+		private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+}
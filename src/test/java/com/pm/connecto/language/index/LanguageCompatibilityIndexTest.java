@@ -0,0 +1,131 @@
+package com.pm.connecto.language.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.pm.connecto.language.domain.LanguageType;
+import com.pm.connecto.language.dto.LanguageIndexEntry;
+import com.pm.connecto.language.index.LanguageCompatibilityIndex.LanguageKey;
+
+@DisplayName("LanguageCompatibilityIndex 단위 테스트")
+class LanguageCompatibilityIndexTest {
+
+	private LanguageCompatibilityIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new LanguageCompatibilityIndex();
+		index.rebuild(() -> List.of(
+			// 1: ko 원어민, en/ja 학습
+			new LanguageIndexEntry(1L, "ko", LanguageType.NATIVE),
+			new LanguageIndexEntry(1L, "en", LanguageType.LEARNING),
+			new LanguageIndexEntry(1L, "ja", LanguageType.LEARNING),
+			// 2: en 원어민, ko 학습 → 1과 상호 매칭
+			new LanguageIndexEntry(2L, "en", LanguageType.NATIVE),
+			new LanguageIndexEntry(2L, "ko", LanguageType.LEARNING),
+			// 3: ja 원어민, ko 학습 → 1의 두 번째 학습 언어로 상호 매칭
+			new LanguageIndexEntry(3L, "ja", LanguageType.NATIVE),
+			new LanguageIndexEntry(3L, "ko", LanguageType.LEARNING),
+			// 4: en 원어민, zh 학습 → 단방향이므로 제외
+			new LanguageIndexEntry(4L, "en", LanguageType.NATIVE),
+			new LanguageIndexEntry(4L, "zh", LanguageType.LEARNING)
+		));
+	}
+
+	@Nested
+	@DisplayName("상호 매칭 후보 조회")
+	class FindReciprocalCandidatesTest {
+
+		@Test
+		@DisplayName("성공: 모든 학습 언어를 고려하여 상호 매칭 후보를 반환한다")
+		void 모든_언어_고려_상호_매칭() {
+			assertThat(index.isReady()).isTrue();
+			assertThat(index.findReciprocalCandidates(1L)).containsExactly(2L, 3L);
+			assertThat(index.findReciprocalCandidates(2L)).containsExactly(1L);
+		}
+
+		@Test
+		@DisplayName("성공: 단방향 호환 사용자는 후보에서 제외된다")
+		void 단방향_호환_제외() {
+			assertThat(index.findReciprocalCandidates(4L)).isEmpty();
+		}
+
+		@Test
+		@DisplayName("성공: 비트 레지스트리에 없는 언어 코드도 코드 단위로 매칭한다")
+		void 미지원_언어_코드_매칭() {
+			index.add(5L, "ko", LanguageType.NATIVE);
+			index.add(5L, "xx", LanguageType.LEARNING);
+			index.add(6L, "xx", LanguageType.NATIVE);
+			index.add(6L, "ko", LanguageType.LEARNING);
+			index.add(7L, "yy", LanguageType.NATIVE);
+			index.add(7L, "ko", LanguageType.LEARNING);
+
+			assertThat(index.findReciprocalCandidates(5L)).containsExactly(6L);
+		}
+
+		@Test
+		@DisplayName("성공: 인덱스에 없는 사용자는 빈 결과를 반환한다")
+		void 미등록_사용자_빈_결과() {
+			assertThat(index.findReciprocalCandidates(999L)).isEmpty();
+		}
+	}
+
+	@Nested
+	@DisplayName("증분 갱신")
+	class IncrementalUpdateTest {
+
+		@Test
+		@DisplayName("성공: 언어 추가/삭제가 즉시 반영된다")
+		void 추가_삭제_반영() {
+			index.add(4L, "ko", LanguageType.LEARNING);
+			assertThat(index.findReciprocalCandidates(1L)).containsExactly(2L, 3L, 4L);
+
+			index.remove(2L, "ko", LanguageType.LEARNING);
+			assertThat(index.findReciprocalCandidates(1L)).containsExactly(3L, 4L);
+		}
+
+		@Test
+		@DisplayName("성공: 탈퇴한 사용자는 누구의 후보에도 포함되지 않는다")
+		void 탈퇴_사용자_제거() {
+			index.removeUser(2L);
+
+			assertThat(index.findReciprocalCandidates(1L)).containsExactly(3L);
+			assertThat(index.findReciprocalCandidates(2L)).isEmpty();
+			assertThat(index.userCount()).isEqualTo(3);
+		}
+
+		@Test
+		@DisplayName("성공: 언어 전체 교체 시 기존 언어가 모두 제거된다")
+		void 전체_교체_반영() {
+			index.replace(1L, List.of(
+				new LanguageKey("ko", LanguageType.NATIVE),
+				new LanguageKey("zh", LanguageType.LEARNING)
+			));
+
+			assertThat(index.findReciprocalCandidates(1L)).isEmpty();
+			assertThat(index.findReciprocalCandidates(2L)).isEmpty();
+		}
+
+		@Test
+		@DisplayName("성공: 재구성 중 발생한 갱신은 새 인덱스에 재적용된다")
+		void 재구성_중_갱신_유실_없음() {
+			index.rebuild(() -> {
+				// DB 조회 도중 다른 트랜잭션이 커밋된 상황
+				index.add(5L, "en", LanguageType.NATIVE);
+				index.add(5L, "ko", LanguageType.LEARNING);
+				return List.of(
+					new LanguageIndexEntry(1L, "ko", LanguageType.NATIVE),
+					new LanguageIndexEntry(1L, "en", LanguageType.LEARNING)
+				);
+			});
+
+			assertThat(index.findReciprocalCandidates(1L)).containsExactly(5L);
+		}
+	}
+}
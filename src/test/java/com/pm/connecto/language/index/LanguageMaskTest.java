@@ -0,0 +1,87 @@
+package com.pm.connecto.language.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LanguageMask 단위 테스트")
+class LanguageMaskTest {
+
+	private static final LanguageMask KO_TO_EN = LanguageMask.EMPTY.withNative("ko").withLearning("en");
+	private static final LanguageMask EN_TO_KO = LanguageMask.EMPTY.withNative("en").withLearning("ko");
+	private static final LanguageMask EN_TO_JA = LanguageMask.EMPTY.withNative("en").withLearning("ja");
+
+	@Test
+	@DisplayName("성공: 상호 언어 교환 가능한 경우 호환으로 판정한다")
+	void 상호_호환() {
+		assertThat(compatible(KO_TO_EN, EN_TO_KO)).isTrue();
+		assertThat(compatible(EN_TO_KO, KO_TO_EN)).isTrue();
+	}
+
+	@Test
+	@DisplayName("성공: 단방향 호환은 비호환으로 판정한다")
+	void 단방향_비호환() {
+		assertThat(compatible(KO_TO_EN, EN_TO_JA)).isFalse();
+	}
+
+	@Test
+	@DisplayName("성공: 언어 정보가 없는 사용자는 누구와도 호환되지 않는다")
+	void 언어_미등록_비호환() {
+		assertThat(compatible(LanguageMask.EMPTY, KO_TO_EN)).isFalse();
+		assertThat(compatible(EN_TO_JA, LanguageMask.EMPTY)).isFalse();
+		assertThat(compatible(LanguageMask.EMPTY, LanguageMask.EMPTY)).isFalse();
+	}
+
+	@Test
+	@DisplayName("성공: 마스크가 저장되지 않은 대기자는 빈 마스크로 복원되어 비호환으로 판정한다")
+	void 마스크_미저장_비호환() {
+		assertThat(LanguageMask.compatible(
+			LanguageMask.decodeNative(null), LanguageMask.decodeLearning(null),
+			KO_TO_EN.nativeMask(), KO_TO_EN.learningMask())).isFalse();
+	}
+
+	@Test
+	@DisplayName("성공: 미지원 언어 코드는 공용 비트로 표시되고 비트마스크만으로 판정하지 않는다")
+	void 미지원_언어_코드() {
+		// given: 형식은 유효하지만 레지스트리에 없는 언어 코드
+		LanguageMask koToXx = LanguageMask.EMPTY.withNative("ko").withLearning("xx");
+		LanguageMask xxToKo = LanguageMask.EMPTY.withNative("xx").withLearning("ko");
+		LanguageMask yyToKo = LanguageMask.EMPTY.withNative("yy").withLearning("ko");
+
+		// then
+		assertThat(LanguageBitRegistry.bitOf("xx")).isEqualTo(LanguageBitRegistry.NO_BIT);
+		assertThat(koToXx.isEmpty()).isFalse();
+		assertThat(LanguageMask.isExact(koToXx.nativeMask(), koToXx.learningMask())).isFalse();
+		assertThat(LanguageMask.isExact(KO_TO_EN.nativeMask(), KO_TO_EN.learningMask())).isTrue();
+		// 공용 비트는 호환 근거가 아님 (xx와 yy를 구분할 수 없음)
+		assertThat(compatible(koToXx, xxToKo)).isFalse();
+		assertThat(compatible(koToXx, yyToKo)).isFalse();
+		assertThat(LanguageMask.decode(koToXx.encode())).isEqualTo(koToXx);
+	}
+
+	@Test
+	@DisplayName("성공: 미지원 언어 코드가 있어도 지원 언어끼리 호환되면 호환으로 판정한다")
+	void 미지원_언어_코드_지원_언어_호환() {
+		LanguageMask koAndXxToEn = KO_TO_EN.withNative("xx");
+
+		assertThat(compatible(koAndXxToEn, EN_TO_KO)).isTrue();
+	}
+
+	@Test
+	@DisplayName("성공: 인코딩한 마스크를 그대로 복원한다")
+	void 인코딩_복원() {
+		LanguageMask mask = KO_TO_EN.withLearning("sw");
+
+		String encoded = mask.encode();
+
+		assertThat(LanguageMask.decode(encoded)).isEqualTo(mask);
+		assertThat(LanguageMask.decodeNative(encoded)).isEqualTo(mask.nativeMask());
+		assertThat(LanguageMask.decodeLearning(encoded)).isEqualTo(mask.learningMask());
+		assertThat(LanguageMask.decode(null)).isEqualTo(LanguageMask.EMPTY);
+	}
+
+	private static boolean compatible(LanguageMask me, LanguageMask other) {
+		return LanguageMask.compatible(me.nativeMask(), me.learningMask(), other.nativeMask(), other.learningMask());
+	}
+}
@@ -0,0 +1,84 @@
+package com.pm.connecto.language.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pm.connecto.language.domain.Language;
+import com.pm.connecto.language.domain.LanguageLevel;
+import com.pm.connecto.language.domain.LanguageType;
+import com.pm.connecto.language.index.LanguageCompatibilityIndex;
+import com.pm.connecto.language.index.LanguageMask;
+import com.pm.connecto.language.repository.LanguageRepository;
+import com.pm.connecto.user.domain.User;
+import com.pm.connecto.user.repository.UserRepository;
+
+/**
+ * 매칭 대기열용 언어 비트마스크 통합 테스트
+ * - 노드 로컬 인덱스에 반영되지 않은 언어(다른 노드에서 등록)도 마스크에 포함되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("LanguageService.getLanguageMask 통합 테스트")
+class LanguageServiceMaskTest {
+
+	@Autowired
+	private LanguageService languageService;
+
+	@Autowired
+	private LanguageRepository languageRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private LanguageCompatibilityIndex languageCompatibilityIndex;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(new User("mask@example.com", "encodedPassword123"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		languageRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("성공: 인덱스에 아직 없는 언어도 DB 기준으로 마스크에 반영한다")
+	void 인덱스_미반영_언어_마스크() {
+		// given: 인덱스는 적재 완료 상태지만 이 사용자의 언어는 모름 (다른 노드에서 등록)
+		languageCompatibilityIndex.rebuild(List::of);
+		languageRepository.saveAll(List.of(
+			language("ko", LanguageType.NATIVE),
+			language("en", LanguageType.LEARNING)
+		));
+
+		// when
+		LanguageMask mask = languageService.getLanguageMask(user.getId());
+
+		// then
+		assertThat(languageCompatibilityIndex.maskOf(user.getId()).isEmpty()).isTrue();
+		assertThat(mask).isEqualTo(LanguageMask.EMPTY.withNative("ko").withLearning("en"));
+	}
+
+	private Language language(String languageCode, LanguageType type) {
+		return Language.builder()
+			.user(user)
+			.languageCode(languageCode)
+			.type(type)
+			.level(LanguageLevel.BEGINNER)
+			.build();
+	}
+}
@@ -0,0 +1,187 @@
+package com.pm.connecto.language.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pm.connecto.config.StatementCountingConfig;
+import com.pm.connecto.config.StatementCountingConfig.StatementCounter;
+import com.pm.connecto.language.domain.Language;
+import com.pm.connecto.language.domain.LanguageLevel;
+import com.pm.connecto.language.domain.LanguageType;
+import com.pm.connecto.language.dto.LanguageRequest.LanguageItem;
+import com.pm.connecto.language.repository.LanguageRepository;
+import com.pm.connecto.user.domain.User;
+import com.pm.connecto.user.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 언어 전체 교체(diff 기반) 통합 테스트
+ * - DB 왕복 수가 언어 개수와 무관하게 일정한지 검증
+ * - 사용자 조회 1 + 기존 언어 조회 1 + DELETE 1 + UPDATE batch 1 + INSERT batch 1
+ * - 신규 언어 ID는 pooled 시퀀스에서 메모리 할당 (given 단계에서 시퀀스 선조회됨)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(StatementCountingConfig.class)
+@DisplayName("LanguageService.replaceLanguages 통합 테스트")
+class LanguageServiceReplaceTest {
+
+	private static final int FULL_DIFF_STATEMENTS = 5;
+
+	@Autowired
+	private LanguageService languageService;
+
+	@Autowired
+	private LanguageRepository languageRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StatementCounter statementCounter;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = userRepository.save(new User("replace@example.com", "encodedPassword123")).getId();
+	}
+
+	@AfterEach
+	void tearDown() {
+		languageRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("성공: 10개 언어 교체 시 삭제/레벨 변경/추가가 일정한 왕복 수로 처리된다")
+	void 언어_10개_교체_왕복_수_일정() {
+		// given: 기존 10개 (ko NATIVE + 9개 LEARNING)
+		languageService.replaceLanguages(userId, List.of(
+			item("ko", LanguageType.NATIVE, LanguageLevel.ADVANCED),
+			item("en", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("ja", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("zh-CN", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("es", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("fr", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("de", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("it", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("pt", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("ru", LanguageType.LEARNING, LanguageLevel.BEGINNER)
+		));
+		Map<String, Long> idsBefore = languageIdsByCode();
+
+		// when: 4개 유지, 3개 레벨 변경, 3개 삭제 후 3개 추가
+		resetCounter();
+		List<Language> result = languageService.replaceLanguages(userId, List.of(
+			item("ko", LanguageType.NATIVE, LanguageLevel.ADVANCED),
+			item("en", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("ja", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("zh-CN", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("es", LanguageType.LEARNING, LanguageLevel.INTERMEDIATE),
+			item("fr", LanguageType.LEARNING, LanguageLevel.INTERMEDIATE),
+			item("de", LanguageType.LEARNING, LanguageLevel.ADVANCED),
+			item("vi", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("th", LanguageType.LEARNING, LanguageLevel.BEGINNER),
+			item("ar", LanguageType.LEARNING, LanguageLevel.BEGINNER)
+		));
+
+		// then
+		assertThat(statementCounter.count()).isEqualTo(FULL_DIFF_STATEMENTS);
+		assertThat(result).hasSize(10);
+		assertThat(languageRepository.findByUserId(userId))
+			.extracting(Language::getLanguageCode, Language::getLevel)
+			.containsExactlyInAnyOrder(
+				tuple("ko", LanguageLevel.ADVANCED),
+				tuple("en", LanguageLevel.BEGINNER),
+				tuple("ja", LanguageLevel.BEGINNER),
+				tuple("zh-CN", LanguageLevel.BEGINNER),
+				tuple("es", LanguageLevel.INTERMEDIATE),
+				tuple("fr", LanguageLevel.INTERMEDIATE),
+				tuple("de", LanguageLevel.ADVANCED),
+				tuple("vi", LanguageLevel.BEGINNER),
+				tuple("th", LanguageLevel.BEGINNER),
+				tuple("ar", LanguageLevel.BEGINNER)
+			);
+
+		// 유지/레벨 변경된 언어는 기존 행(ID)을 그대로 사용
+		Map<String, Long> idsAfter = languageIdsByCode();
+		for (String code : List.of("ko", "en", "ja", "zh-CN", "es", "fr", "de")) {
+			assertThat(idsAfter.get(code)).isEqualTo(idsBefore.get(code));
+		}
+	}
+
+	@Test
+	@DisplayName("성공: 왕복 수는 변경되는 언어 개수와 무관하다")
+	void 왕복_수_언어_개수_무관() {
+		// given
+		languageService.replaceLanguages(userId, List.of(
+			item("ko", LanguageType.NATIVE, LanguageLevel.ADVANCED),
+			item("en", LanguageType.LEARNING, LanguageLevel.BEGINNER)
+		));
+
+		// when: 1개씩 삭제/레벨 변경/추가
+		resetCounter();
+		languageService.replaceLanguages(userId, List.of(
+			item("ko", LanguageType.NATIVE, LanguageLevel.INTERMEDIATE),
+			item("ja", LanguageType.LEARNING, LanguageLevel.BEGINNER)
+		));
+
+		// then
+		assertThat(statementCounter.count()).isEqualTo(FULL_DIFF_STATEMENTS);
+	}
+
+	@Test
+	@DisplayName("성공: 변경이 없으면 쓰기 쿼리를 실행하지 않는다")
+	void 변경_없음_쓰기_없음() {
+		// given
+		List<LanguageItem> items = List.of(
+			item("ko", LanguageType.NATIVE, LanguageLevel.ADVANCED),
+			item("en", LanguageType.LEARNING, LanguageLevel.BEGINNER)
+		);
+		languageService.replaceLanguages(userId, items);
+
+		// when
+		resetCounter();
+		List<Language> result = languageService.replaceLanguages(userId, items);
+
+		// then: 사용자 조회 + 기존 언어 조회
+		assertThat(statementCounter.count()).isEqualTo(2);
+		assertThat(result).hasSize(2);
+	}
+
+	/**
+	 * 2차 캐시(쿼리 캐시 포함)를 비우고 측정 시작 (기존 언어 조회가 캐시 적중으로 빠지지 않도록)
+	 */
+	private void resetCounter() {
+		entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+		statementCounter.reset();
+	}
+
+	private Map<String, Long> languageIdsByCode() {
+		return languageRepository.findByUserId(userId).stream()
+			.collect(Collectors.toMap(Language::getLanguageCode, Language::getId));
+	}
+
+	private static LanguageItem item(String languageCode, LanguageType type, LanguageLevel level) {
+		return new LanguageItem(languageCode, type, level);
+	}
+}
@@ -0,0 +1,89 @@
+package com.pm.connecto.match.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.pm.connecto.match.domain.CallSession;
+import com.pm.connecto.match.dto.ExpiredCallSession;
+import com.pm.connecto.user.domain.User;
+
+@DataJpaTest
+@DisplayName("CallSessionExpiryRepository 테스트")
+class CallSessionExpiryRepositoryTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private CallSessionRepository callSessionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private User user1;
+	private User user2;
+	private LocalDateTime now;
+
+	@BeforeEach
+	void setUp() {
+		user1 = entityManager.persist(new User("expiry1@example.com", "encodedPassword123"));
+		user2 = entityManager.persist(new User("expiry2@example.com", "encodedPassword123"));
+		now = LocalDateTime.now();
+	}
+
+	@Test
+	@DisplayName("성공: cutoff 이전에 시작된 진행 중 세션만 limit 단위로 종료하고 참여자를 반환한다")
+	void 배치_단위_만료() {
+		// given
+		Long old1 = startedSession(now.minusMinutes(9));
+		Long old2 = startedSession(now.minusMinutes(8));
+		Long old3 = startedSession(now.minusMinutes(7));
+		Long recent = startedSession(now.minusMinutes(1));
+		Long waiting = entityManager.persistAndFlush(new CallSession(user1, user2)).getId();
+		entityManager.clear();
+		LocalDateTime cutoff = now.minusMinutes(5);
+
+		// when
+		List<ExpiredCallSession> first = callSessionRepository.expireStartedBefore(cutoff, now, 2);
+		List<ExpiredCallSession> second = callSessionRepository.expireStartedBefore(cutoff, now, 2);
+		List<ExpiredCallSession> third = callSessionRepository.expireStartedBefore(cutoff, now, 2);
+
+		// then
+		assertThat(first).extracting(ExpiredCallSession::sessionId).containsExactlyInAnyOrder(old1, old2);
+		assertThat(first).allSatisfy(expired -> {
+			assertThat(expired.user1Id()).isEqualTo(user1.getId());
+			assertThat(expired.user2Id()).isEqualTo(user2.getId());
+			assertThat(expired.startedAt()).isBefore(cutoff);
+		});
+		assertThat(second).extracting(ExpiredCallSession::sessionId).containsExactly(old3);
+		assertThat(third).isEmpty();
+
+		assertThat(statusOf(old1)).isEqualTo("ENDED");
+		assertThat(statusOf(old3)).isEqualTo("ENDED");
+		assertThat(statusOf(recent)).isEqualTo("IN_PROGRESS");
+		assertThat(statusOf(waiting)).isEqualTo("WAITING");
+		assertThat(callSessionRepository.findById(old1).orElseThrow().getEndedAt()).isNotNull();
+	}
+
+	private Long startedSession(LocalDateTime startedAt) {
+		CallSession session = new CallSession(user1, user2);
+		session.start("channel");
+		Long id = entityManager.persistAndFlush(session).getId();
+		jdbcTemplate.update("UPDATE call_sessions SET started_at = ? WHERE id = ?", startedAt, id);
+		return id;
+	}
+
+	private String statusOf(Long sessionId) {
+		return jdbcTemplate.queryForObject("SELECT status FROM call_sessions WHERE id = ?", String.class, sessionId);
+	}
+}
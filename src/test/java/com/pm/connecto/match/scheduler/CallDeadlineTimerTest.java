@@ -0,0 +1,150 @@
+package com.pm.connecto.match.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.pm.connecto.match.domain.CallSessionStatus;
+import com.pm.connecto.match.dto.ActiveCallSession;
+import com.pm.connecto.match.dto.CallSessionState;
+import com.pm.connecto.match.dto.ExpiredCallSession;
+import com.pm.connecto.match.event.CallSessionsExpiredEvent;
+import com.pm.connecto.match.repository.CallSessionRepository;
+import com.pm.connecto.match.service.ActiveCallSessionStore;
+import com.pm.connecto.match.service.CallSessionExpiryService;
+import com.pm.connecto.match.service.InMemoryActiveCallSessionStore;
+import com.pm.connecto.match.service.MatchRevealCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("CallDeadlineTimer 테스트")
+class CallDeadlineTimerTest {
+
+	private static final long TICK_MILLIS = 10;
+
+	private CallSessionExpiryService expiryService;
+	private ActiveCallSessionStore activeCallSessionStore;
+	private CallDeadlineTimer timer;
+
+	@BeforeEach
+	void setUp() {
+		expiryService = mock(CallSessionExpiryService.class);
+		activeCallSessionStore = mock(ActiveCallSessionStore.class);
+		when(expiryService.expireSessions(any())).thenReturn(List.of());
+		timer = new CallDeadlineTimer(expiryService, activeCallSessionStore, new SimpleMeterRegistry(), TICK_MILLIS, 500);
+	}
+
+	@AfterEach
+	void tearDown() {
+		timer.shutdown();
+	}
+
+	@Test
+	@DisplayName("성공: 시작 시각 + 최대 통화 시간에 세션을 종료한다")
+	void 마감_시각_종료() {
+		// given
+		LocalDateTime startedAt = deadlineIn(200);
+
+		// when
+		timer.arm(1L, startedAt);
+
+		// then
+		verify(expiryService, after(100).never()).expireSessions(any());
+		verify(expiryService, timeout(1000)).expireSessions(List.of(1L));
+		assertThat(timer.armedCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공: 해제된 세션은 마감 시각이 지나도 종료하지 않는다")
+	void 해제된_세션_무시() {
+		// given
+		timer.arm(1L, deadlineIn(50));
+
+		// when
+		timer.cancel(1L);
+
+		// then
+		verify(expiryService, after(300).never()).expireSessions(any());
+		assertThat(timer.armedCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공: 기동 시 저장소의 진행 중 세션을 재등록하고 이미 지난 마감은 즉시 종료한다")
+	void 기동_시_재등록() {
+		// given
+		when(activeCallSessionStore.activeSessions()).thenReturn(List.of(
+			new ActiveCallSession(1L, deadlineIn(-1000)),
+			new ActiveCallSession(2L, deadlineIn(60_000))
+		));
+
+		// when
+		timer.rearmActiveSessions();
+
+		// then
+		verify(expiryService, timeout(1000)).expireSessions(List.of(1L));
+		assertThat(timer.armedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공: 마감 시각에 저장소의 진행 중 세션이 실제로 종료되고 만료 이벤트가 발행된다")
+	void 마감_시각_저장소_종료() {
+		// given: 실제 만료 서비스 + 저장소 (DB 경로, reveal 캐시, 이벤트 발행만 mock)
+		InMemoryActiveCallSessionStore store = new InMemoryActiveCallSessionStore();
+		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+		CallSessionExpiryService realExpiryService = new CallSessionExpiryService(mock(CallSessionRepository.class),
+			store, mock(MatchRevealCache.class), eventPublisher, mock(PlatformTransactionManager.class));
+		CallDeadlineTimer realTimer = new CallDeadlineTimer(realExpiryService, store, new SimpleMeterRegistry(),
+			TICK_MILLIS, 500);
+		LocalDateTime startedAt = deadlineIn(100);
+		store.create(CallSessionState.started(1L, 17L, 42L, "channel_deadline", startedAt));
+		store.create(CallSessionState.started(2L, 18L, 43L, "channel_running", deadlineIn(60_000)));
+
+		try {
+			// when
+			realTimer.rearmActiveSessions();
+
+			// then
+			ArgumentCaptor<CallSessionsExpiredEvent> event = ArgumentCaptor.forClass(CallSessionsExpiredEvent.class);
+			verify(eventPublisher, timeout(1000)).publishEvent(event.capture());
+			assertThat(event.getValue().sessions()).extracting(ExpiredCallSession::sessionId).containsExactly(1L);
+			assertThat(store.find(1L)).get().extracting(CallSessionState::status).isEqualTo(CallSessionStatus.ENDED);
+			assertThat(store.find(1L).orElseThrow().endedAt()).isAfterOrEqualTo(
+				startedAt.plus(CallSessionExpiryService.MAX_CALL_DURATION));
+			assertThat(store.findActiveSessionId(17L)).isEmpty();
+			assertThat(store.find(2L).orElseThrow().isInProgress()).isTrue();
+			assertThat(realTimer.armedCount()).isEqualTo(1);
+		} finally {
+			realTimer.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("성공: 휠 한 바퀴가 최대 통화 시간보다 길다")
+	void 휠_크기() {
+		long rotationMillis = CallDeadlineTimer.ticksPerWheel(100) * 100L;
+
+		assertThat(rotationMillis).isGreaterThan(CallSessionExpiryService.MAX_CALL_DURATION.toMillis());
+	}
+
+	private LocalDateTime deadlineIn(long millis) {
+		return LocalDateTime.now()
+			.minus(CallSessionExpiryService.MAX_CALL_DURATION)
+			.plusNanos(millis * 1_000_000);
+	}
+}
@@ -0,0 +1,163 @@
+package com.pm.connecto.match.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.pm.connecto.match.dto.CallSessionPartition;
+import com.pm.connecto.match.repository.CallSessionRepository;
+import com.pm.connecto.match.scheduler.SchedulerLease.Lease;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("CallSessionPartitionMaintenance 테스트")
+class CallSessionPartitionMaintenanceTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 4, 30);
+	private static final int BATCH_SIZE = 100;
+
+	private CallSessionRepository repository;
+	private SchedulerLease schedulerLease;
+	private Lease lease;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(CallSessionRepository.class);
+		schedulerLease = mock(SchedulerLease.class);
+		lease = mock(Lease.class);
+		when(schedulerLease.tryAcquire(anyString(), any())).thenReturn(Optional.of(lease));
+		when(lease.hasTimeFor(any())).thenReturn(true);
+		when(repository.isPartitioned()).thenReturn(true);
+		when(repository.findDetachedPartitions()).thenReturn(List.of());
+	}
+
+	@Test
+	@DisplayName("성공: 마지막 파티션 이후부터 monthsAhead개월까지 빈 달 없이 파티션을 만든다")
+	void 미래_파티션_생성() {
+		// given: legacy가 11월 1일까지 담당
+		when(repository.findPartitions()).thenReturn(List.of(
+			partition("call_sessions_legacy", 2026, 11)
+		));
+
+		// when
+		maintenance(10).maintain(NOW);
+
+		// then: 2026-11 ~ 2027-01 (이번 달 + 3)
+		verify(repository).createMonthlyPartition(YearMonth.of(2026, 11));
+		verify(repository).createMonthlyPartition(YearMonth.of(2026, 12));
+		verify(repository).createMonthlyPartition(YearMonth.of(2027, 1));
+		verify(repository, times(3)).createMonthlyPartition(any());
+	}
+
+	@Test
+	@DisplayName("성공: 보존 기간이 지난 파티션 중 모든 세션이 종료된 파티션만 분리한다")
+	void 보존_기간_경과_파티션_분리() {
+		// given: 보존 6개월 → 2026-04-01 이전 상한만 대상
+		CallSessionPartition expired = partition("call_sessions_y2026m02", 2026, 3);
+		CallSessionPartition unfinished = partition("call_sessions_y2026m03", 2026, 4);
+		CallSessionPartition retained = partition("call_sessions_y2026m04", 2026, 5);
+		when(repository.findPartitions()).thenReturn(List.of(expired, unfinished, retained,
+			partition("call_sessions_y2027m01", 2027, 2)));
+		when(repository.hasUnfinishedSessions("call_sessions_y2026m03")).thenReturn(true);
+
+		// when
+		maintenance(10).maintain(NOW);
+
+		// then
+		verify(repository).detachPartition(expired);
+		verify(repository, never()).detachPartition(unfinished);
+		verify(repository, never()).detachPartition(retained);
+		verify(repository, never()).createMonthlyPartition(any());
+	}
+
+	@Test
+	@DisplayName("성공: 분리된 테이블은 배치 단위로 이관하고 비면 삭제한다")
+	void 분리_테이블_이관_후_삭제() {
+		// given
+		when(repository.findPartitions()).thenReturn(List.of(partition("call_sessions_y2027m01", 2027, 2)));
+		when(repository.findDetachedPartitions()).thenReturn(List.of("call_sessions_y2026m01"));
+		when(repository.archiveChunk(eq("call_sessions_y2026m01"), eq(BATCH_SIZE), any())).thenReturn(BATCH_SIZE, BATCH_SIZE, 7);
+
+		// when
+		maintenance(10).maintain(NOW);
+
+		// then
+		InOrder order = inOrder(repository);
+		order.verify(repository, times(3)).archiveChunk(eq("call_sessions_y2026m01"), eq(BATCH_SIZE), any());
+		order.verify(repository).dropDetachedPartition("call_sessions_y2026m01");
+	}
+
+	@Test
+	@DisplayName("성공: 실행당 배치 한도에 도달하면 삭제하지 않고 다음 실행으로 넘긴다")
+	void 배치_한도_도달() {
+		// given
+		when(repository.findPartitions()).thenReturn(List.of(partition("call_sessions_y2027m01", 2027, 2)));
+		when(repository.findDetachedPartitions()).thenReturn(List.of("call_sessions_y2026m01"));
+		when(repository.archiveChunk(anyString(), anyInt(), any())).thenReturn(BATCH_SIZE);
+
+		// when
+		maintenance(2).maintain(NOW);
+
+		// then
+		verify(repository, times(2)).archiveChunk(eq("call_sessions_y2026m01"), eq(BATCH_SIZE), any());
+		verify(repository, never()).dropDetachedPartition(anyString());
+	}
+
+	@Test
+	@DisplayName("성공: 다른 노드가 lease를 인계받았거나 남은 lease 시간이 배치 상한보다 짧으면 이관을 중단한다")
+	void lease_인계_시_중단() {
+		// given
+		when(repository.findPartitions()).thenReturn(List.of(partition("call_sessions_y2027m01", 2027, 2)));
+		when(repository.findDetachedPartitions()).thenReturn(List.of("call_sessions_y2026m01"));
+		when(repository.archiveChunk(anyString(), anyInt(), any())).thenReturn(BATCH_SIZE);
+		when(lease.hasTimeFor(any())).thenReturn(false);
+
+		// when
+		maintenance(10).maintain(NOW);
+
+		// then
+		verify(repository, times(1)).archiveChunk(eq("call_sessions_y2026m01"), eq(BATCH_SIZE), any());
+		verify(repository, never()).dropDetachedPartition(anyString());
+	}
+
+	@Test
+	@DisplayName("성공: 파티셔닝되지 않은 DB에서는 아무것도 하지 않는다")
+	void 파티셔닝_미적용() {
+		// given
+		when(repository.isPartitioned()).thenReturn(false);
+
+		// when
+		maintenance(10).maintain(NOW);
+
+		// then
+		verify(repository, never()).findPartitions();
+		verify(repository, never()).createMonthlyPartition(any());
+		verify(repository, never()).findDetachedPartitions();
+	}
+
+	private CallSessionPartitionMaintenance maintenance(int maxBatchesPerRun) {
+		return new CallSessionPartitionMaintenance(repository, schedulerLease, new SimpleMeterRegistry(),
+			3, 6, BATCH_SIZE, maxBatchesPerRun, 0);
+	}
+
+	private static CallSessionPartition partition(String name, int upperYear, int upperMonth) {
+		return new CallSessionPartition(name, LocalDateTime.of(upperYear, upperMonth, 1, 0, 0), false);
+	}
+}
@@ -0,0 +1,203 @@
+package com.pm.connecto.match.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import com.pm.connecto.match.dto.ExpiredCallSession;
+import com.pm.connecto.match.service.CallSessionExpiryService;
+import com.pm.connecto.match.service.MatchQueueService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 다중 노드 스케줄러 lease 테스트
+ * - 노드마다 별도 SchedulerLease, Redis는 공유 상태를 가진 가짜 RedissonClient로 대체
+ */
+@DisplayName("CallSessionScheduler 클러스터 단일 실행 테스트")
+class CallSessionSchedulerTest {
+
+	private FakeLeaseStore store;
+	private RedissonClient redissonClient;
+	private CallSessionExpiryService expiryService;
+	private MatchQueueService matchQueueService;
+
+	@BeforeEach
+	void setUp() {
+		store = new FakeLeaseStore();
+		redissonClient = fakeRedisson(store);
+		expiryService = mock(CallSessionExpiryService.class);
+		matchQueueService = mock(MatchQueueService.class);
+		when(expiryService.expireStartedBefore(any(), anyInt())).thenReturn(List.of());
+	}
+
+	@ParameterizedTest(name = "노드 {0}개")
+	@ValueSource(ints = {1, 3, 8})
+	@DisplayName("성공: 노드 수와 관계없이 주기당 작업은 1회만 실행된다")
+	void 주기당_단일_실행(int nodeCount) throws Exception {
+		// given
+		List<CallSessionScheduler> nodes = new ArrayList<>();
+		for (int i = 0; i < nodeCount; i++) {
+			nodes.add(scheduler(500));
+		}
+		int intervals = 3;
+
+		// when
+		for (int interval = 0; interval < intervals; interval++) {
+			runConcurrently(nodes);
+			store.expireLeases();
+		}
+
+		// then
+		verify(expiryService, times(intervals)).expireStartedBefore(any(), anyInt());
+		verify(matchQueueService, times(intervals)).cleanupExpiredUsers();
+	}
+
+	@Test
+	@DisplayName("성공: lease가 만료되어 다른 노드가 인계받으면 이전 실행은 다음 배치 전에 중단된다")
+	void 인계_시_fencing() {
+		// given
+		CallSessionScheduler slowNode = scheduler(1);
+		SchedulerLease otherNode = new SchedulerLease(redissonClient);
+		ExpiredCallSession expired = new ExpiredCallSession(1L, 10L, 20L, LocalDateTime.now().minusMinutes(6));
+		when(expiryService.expireStartedBefore(any(), anyInt())).thenAnswer(invocation -> {
+			// 첫 배치 처리 중 lease 만료 → 다른 노드가 획득
+			store.expireLeases();
+			assertThat(otherNode.tryAcquire("call-expiry", Duration.ofSeconds(55))).isPresent();
+			return List.of(expired);
+		});
+
+		// when
+		slowNode.expireLongCalls();
+
+		// then
+		verify(expiryService, times(1)).expireStartedBefore(any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("성공: fencing token은 획득할 때마다 증가한다")
+	void fencing_token_증가() {
+		SchedulerLease lease = new SchedulerLease(redissonClient);
+
+		long first = lease.tryAcquire("job", Duration.ofSeconds(1)).orElseThrow().token();
+		assertThat(lease.tryAcquire("job", Duration.ofSeconds(1))).isEmpty();
+		store.expireLeases();
+		SchedulerLease.Lease second = lease.tryAcquire("job", Duration.ofSeconds(1)).orElseThrow();
+
+		assertThat(second.token()).isGreaterThan(first);
+		assertThat(second.isCurrent()).isTrue();
+	}
+
+	@Test
+	@DisplayName("성공: 남은 lease 시간이 배치 상한보다 짧으면 token이 최신이어도 배치를 시작하지 않는다")
+	void lease_남은_시간_확인() {
+		SchedulerLease lease = new SchedulerLease(redissonClient);
+
+		SchedulerLease.Lease acquired = lease.tryAcquire("job", Duration.ofSeconds(30)).orElseThrow();
+
+		assertThat(acquired.remaining()).isLessThanOrEqualTo(Duration.ofSeconds(30));
+		assertThat(acquired.hasTimeFor(Duration.ofSeconds(20))).isTrue();
+		assertThat(acquired.hasTimeFor(Duration.ofSeconds(31))).isFalse();
+		assertThat(acquired.isCurrent()).isTrue();
+	}
+
+	private CallSessionScheduler scheduler(int batchSize) {
+		return new CallSessionScheduler(expiryService, matchQueueService, new SchedulerLease(redissonClient),
+			new SimpleMeterRegistry(), batchSize, 20);
+	}
+
+	private void runConcurrently(List<CallSessionScheduler> nodes) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(nodes.size());
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>();
+			for (CallSessionScheduler node : nodes) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					node.expireLongCalls();
+					node.cleanupExpiredQueueUsers();
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RedissonClient fakeRedisson(FakeLeaseStore store) {
+		RedissonClient client = mock(RedissonClient.class);
+		RScript script = mock(RScript.class);
+		when(client.getScript(any(Codec.class))).thenReturn(script);
+		when(script.<Long>eval(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class), anyList(), any(), any()))
+			.thenAnswer(invocation -> {
+				List<Object> keys = invocation.getArgument(3);
+				return store.acquire((String) keys.get(0), (String) keys.get(1));
+			});
+		when(client.<String>getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> {
+			String key = invocation.getArgument(0);
+			return mock(RBucket.class, bucketCall -> "get".equals(bucketCall.getMethod().getName())
+				? store.counter(key)
+				: null);
+		});
+		return client;
+	}
+
+	/**
+	 * ACQUIRE_SCRIPT와 같은 의미의 인메모리 구현 (스크립트 원자성 = synchronized)
+	 */
+	private static final class FakeLeaseStore {
+
+		private final Set<String> leases = new HashSet<>();
+		private final Map<String, Long> counters = new HashMap<>();
+
+		synchronized Long acquire(String leaseKey, String fenceKey) {
+			if (!leases.add(leaseKey)) {
+				return 0L;
+			}
+			return counters.merge(fenceKey, 1L, Long::sum);
+		}
+
+		synchronized String counter(String fenceKey) {
+			Long value = counters.get(fenceKey);
+			return value == null ? null : String.valueOf(value);
+		}
+
+		synchronized void expireLeases() {
+			leases.clear();
+		}
+	}
+}
@@ -0,0 +1,242 @@
+package com.pm.connecto.match.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pm.connecto.common.persistence.EntityIdAllocator;
+import com.pm.connecto.match.domain.CallSession;
+import com.pm.connecto.match.domain.CallSessionStatus;
+import com.pm.connecto.match.dto.CallSessionState;
+import com.pm.connecto.match.repository.CallSessionRepository;
+import com.pm.connecto.match.service.InMemoryActiveCallSessionStore;
+import com.pm.connecto.user.domain.User;
+import com.pm.connecto.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * write-behind 장애 복구 테스트
+ * - 저장소(Redis 역할)에 반영되어 응답한 세션은 flusher가 어느 단계에서 중단되어도 call_sessions에 반영됨을 검증
+ * - 노드 재시작은 같은 저장소 인스턴스를 새 CallSessionWriteBehind에 넘겨 재현
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("CallSessionWriteBehind 장애 복구 테스트")
+class CallSessionWriteBehindTest {
+
+	private static final int BATCH_SIZE = 10;
+	private static final long CLAIM_TIMEOUT_MILLIS = 300;
+
+	@Autowired
+	private CallSessionRepository callSessionRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityIdAllocator entityIdAllocator;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private InMemoryActiveCallSessionStore store;
+	private Long user1Id;
+	private Long user2Id;
+
+	@BeforeEach
+	void setUp() {
+		store = new InMemoryActiveCallSessionStore();
+		user1Id = userRepository.save(new User("writebehind1@example.com", "encodedPassword123")).getId();
+		user2Id = userRepository.save(new User("writebehind2@example.com", "encodedPassword123")).getId();
+	}
+
+	@AfterEach
+	void tearDown() {
+		// 참여자 행은 DB cascade가 없어 세션보다 먼저 직접 삭제
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+			callSessionRepository.findAll().forEach(cs -> callSessionRepository.releaseParticipants(cs.getId())));
+		callSessionRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("성공: 선점 직후 중단된 세션은 선점 만료 후 다른 노드가 반영한다")
+	void 선점_후_중단() throws InterruptedException {
+		// given
+		CallSessionState session = createSession(user1Id, user2Id);
+		CallSessionWriteBehind nodeB = writeBehind();
+		// 노드 A: 선점 직후 프로세스 종료 (DB 반영/ack 없음)
+		assertThat(store.claimPending(BATCH_SIZE, Duration.ofMillis(CLAIM_TIMEOUT_MILLIS))).hasSize(1);
+
+		// when & then: 선점 중에는 다른 노드가 가져가지 않음
+		assertThat(nodeB.flushBatch()).isZero();
+		assertThat(callSessionRepository.findById(session.sessionId())).isEmpty();
+
+		Thread.sleep(CLAIM_TIMEOUT_MILLIS + 50);
+		nodeB.flush();
+
+		CallSession persisted = callSessionRepository.findById(session.sessionId()).orElseThrow();
+		assertThat(persisted.getStatus()).isEqualTo(CallSessionStatus.IN_PROGRESS);
+		assertThat(persisted.getWebrtcChannelId()).isEqualTo(session.webrtcChannelId());
+		assertThat(store.pendingCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공: DB 반영 후 ack 전에 중단되어도 재반영으로 최신 상태가 저장된다")
+	void 반영_후_ack_전_중단() throws InterruptedException {
+		// given
+		CallSessionState session = createSession(user1Id, user2Id);
+		store.failAcks(true);
+		writeBehind().flush();
+		assertThat(callSessionRepository.findById(session.sessionId())).isPresent();
+		assertThat(store.pendingCount()).isEqualTo(1);
+		store.failAcks(false);
+
+		// 재시작 전 종료 + 재연결 의사 반영
+		store.end(session.sessionId(), LocalDateTime.now());
+		store.setWantAgain(session.sessionId(), user1Id, true, LocalDateTime.now());
+
+		// when
+		Thread.sleep(CLAIM_TIMEOUT_MILLIS + 50);
+		writeBehind().flush();
+
+		// then
+		CallSession persisted = callSessionRepository.findById(session.sessionId()).orElseThrow();
+		assertThat(persisted.getStatus()).isEqualTo(CallSessionStatus.ENDED);
+		assertThat(persisted.getEndedAt()).isNotNull();
+		assertThat(persisted.getUser1WantAgain()).isTrue();
+		assertThat(callSessionRepository.count()).isEqualTo(1);
+		assertThat(store.pendingCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공: flush 도중 변경된 세션은 대기열에 남아 다음 flush에서 최신 상태로 반영된다")
+	void flush_도중_변경() {
+		// given
+		CallSessionState session = createSession(user1Id, user2Id);
+		store.afterClaim(() -> store.end(session.sessionId(), LocalDateTime.now()));
+		CallSessionWriteBehind writeBehind = writeBehind();
+
+		// when
+		writeBehind.flushBatch();
+
+		// then: 선점 시점(IN_PROGRESS) 상태가 반영되었지만 대기열 유지
+		assertThat(callSessionRepository.findById(session.sessionId()).orElseThrow().getStatus())
+			.isEqualTo(CallSessionStatus.IN_PROGRESS);
+		assertThat(store.pendingCount()).isEqualTo(1);
+
+		writeBehind.flushBatch();
+		assertThat(callSessionRepository.findById(session.sessionId()).orElseThrow().getStatus())
+			.isEqualTo(CallSessionStatus.ENDED);
+		assertThat(store.pendingCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공: DB보다 version이 낮은 상태는 늦게 반영되어도 최신 상태를 덮어쓰지 않는다")
+	void 이전_version_반영_무시() {
+		// given
+		CallSessionState started = createSession(user1Id, user2Id);
+		CallSessionState ended = started.ended(LocalDateTime.now());
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> callSessionRepository.upsertAll(List.of(ended)));
+
+		// when: 다른 노드가 선점했던 이전(IN_PROGRESS) 상태가 늦게 도착
+		transactionTemplate.executeWithoutResult(status -> callSessionRepository.upsertAll(List.of(started)));
+
+		// then
+		CallSession persisted = callSessionRepository.findById(started.sessionId()).orElseThrow();
+		assertThat(persisted.getStatus()).isEqualTo(CallSessionStatus.ENDED);
+		assertThat(persisted.getVersion()).isEqualTo(ended.version());
+		assertThat(callSessionRepository.findInProgressByUserId(user1Id)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("성공: 반영할 수 없는 세션이 있어도 같은 배치의 다른 세션은 반영되고 실패한 세션만 대기열에 남는다")
+	void 배치_내_실패_격리() {
+		// given
+		CallSessionState valid = createSession(user1Id, user2Id);
+		CallSessionState orphan = createSession(-1L, -2L);
+
+		// when
+		writeBehind().flush();
+
+		// then
+		assertThat(callSessionRepository.findById(valid.sessionId())).isPresent();
+		assertThat(callSessionRepository.findById(orphan.sessionId())).isEmpty();
+		assertThat(store.pendingCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공: 진행 중 세션은 참여자 키로 조회되고, 같은 사용자의 두 번째 진행 중 세션은 DB가 거부한다")
+	void 사용자당_진행_중_세션_1개() {
+		// given
+		CallSessionState first = createSession(user1Id, user2Id);
+		writeBehind().flush();
+		Long user3Id = userRepository.save(new User("writebehind3@example.com", "encodedPassword123")).getId();
+		CallSessionState second = CallSessionState.started(entityIdAllocator.allocate(CallSession.class),
+			user1Id, user3Id, "channel_second", LocalDateTime.now());
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		// when & then: 저장소를 우회한 중복 진행 중 세션은 제약 위반
+		assertThat(callSessionRepository.findInProgressByUserId(user2Id))
+			.map(CallSession::getId).contains(first.sessionId());
+		assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+			status -> callSessionRepository.upsertAll(List.of(second))))
+			.isInstanceOf(DataIntegrityViolationException.class);
+
+		// 첫 세션 종료가 반영되면 참여자 해제 → 두 번째 세션 반영 가능
+		store.end(first.sessionId(), LocalDateTime.now());
+		writeBehind().flush();
+		assertThat(callSessionRepository.findInProgressByUserId(user1Id)).isEmpty();
+		assertThat(callSessionRepository.findInProgressByUserId(user2Id)).isEmpty();
+
+		transactionTemplate.executeWithoutResult(status -> callSessionRepository.upsertAll(List.of(second)));
+		assertThat(callSessionRepository.findInProgressByUserId(user3Id))
+			.map(CallSession::getId).contains(second.sessionId());
+	}
+
+	@Test
+	@DisplayName("성공: 선할당 ID는 JPA 저장과 같은 시퀀스 범위를 공유하여 충돌하지 않는다")
+	void 선할당_ID_충돌_없음() {
+		// given
+		CallSessionState preAllocated = createSession(user1Id, user2Id);
+		writeBehind().flush();
+
+		// when
+		User user1 = userRepository.findById(user1Id).orElseThrow();
+		User user2 = userRepository.findById(user2Id).orElseThrow();
+		CallSession saved = callSessionRepository.save(new CallSession(user1, user2));
+
+		// then
+		assertThat(saved.getId()).isNotEqualTo(preAllocated.sessionId());
+		assertThat(callSessionRepository.count()).isEqualTo(2);
+	}
+
+	private CallSessionState createSession(Long user1Id, Long user2Id) {
+		long sessionId = entityIdAllocator.allocate(CallSession.class);
+		CallSessionState state = CallSessionState.started(sessionId, user1Id, user2Id, "channel_" + sessionId,
+			LocalDateTime.now());
+		assertThat(store.create(state)).isTrue();
+		return state;
+	}
+
+	private CallSessionWriteBehind writeBehind() {
+		return new CallSessionWriteBehind(store, callSessionRepository, transactionManager, new SimpleMeterRegistry(),
+			BATCH_SIZE, CLAIM_TIMEOUT_MILLIS);
+	}
+}
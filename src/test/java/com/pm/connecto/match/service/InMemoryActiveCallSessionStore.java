@@ -0,0 +1,173 @@
+package com.pm.connecto.match.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.pm.connecto.match.domain.CallSessionStatus;
+import com.pm.connecto.match.dto.ActiveCallSession;
+import com.pm.connecto.match.dto.CallSessionState;
+
+/**
+ * RedisActiveCallSessionStore와 같은 의미의 인메모리 구현 (Lua 스크립트 원자성 = synchronized)
+ * - 노드 재시작을 흉내 낼 때는 같은 인스턴스를 새 flusher에 넘겨 Redis 상태가 유지되는 상황을 재현
+ */
+public class InMemoryActiveCallSessionStore implements ActiveCallSessionStore {
+
+	private final Map<Long, CallSessionState> sessions = new HashMap<>();
+	private final Map<Long, Long> activeByUser = new HashMap<>();
+	private final Map<Long, Long> pending = new LinkedHashMap<>();
+	private final Map<Long, Long> rematchByOriginal = new HashMap<>();
+	private volatile boolean failAcks;
+	private volatile Runnable afterClaim = () -> { };
+
+	@Override
+	public synchronized boolean create(CallSessionState state) {
+		if (activeByUser.containsKey(state.user1Id()) || activeByUser.containsKey(state.user2Id())) {
+			return false;
+		}
+		sessions.put(state.sessionId(), state);
+		activeByUser.put(state.user1Id(), state.sessionId());
+		activeByUser.put(state.user2Id(), state.sessionId());
+		pending.put(state.sessionId(), System.currentTimeMillis());
+		return true;
+	}
+
+	@Override
+	public synchronized Optional<CallSessionState> createRematch(Long originalSessionId, CallSessionState state) {
+		Long existing = rematchByOriginal.get(originalSessionId);
+		if (existing != null) {
+			return Optional.ofNullable(sessions.get(existing));
+		}
+		if (!create(state)) {
+			return Optional.empty();
+		}
+		rematchByOriginal.put(originalSessionId, state.sessionId());
+		return Optional.of(state);
+	}
+
+	@Override
+	public synchronized Optional<CallSessionState> find(Long sessionId) {
+		return Optional.ofNullable(sessions.get(sessionId));
+	}
+
+	@Override
+	public synchronized Optional<Long> findActiveSessionId(Long userId) {
+		return Optional.ofNullable(activeByUser.get(userId));
+	}
+
+	@Override
+	public synchronized Optional<CallSessionState> end(Long sessionId, LocalDateTime endedAt) {
+		CallSessionState current = sessions.get(sessionId);
+		if (current == null || !current.isInProgress()) {
+			return Optional.empty();
+		}
+		CallSessionState ended = current.ended(endedAt);
+		sessions.put(sessionId, ended);
+		activeByUser.remove(ended.user1Id(), sessionId);
+		activeByUser.remove(ended.user2Id(), sessionId);
+		pending.putIfAbsent(sessionId, System.currentTimeMillis());
+		return Optional.of(ended);
+	}
+
+	@Override
+	public synchronized WantAgainResult setWantAgain(Long sessionId, Long userId, boolean wantAgain,
+		LocalDateTime updatedAt) {
+		CallSessionState current = sessions.get(sessionId);
+		if (current == null || !current.isParticipant(userId)) {
+			return WantAgainResult.NOT_FOUND;
+		}
+		if (!current.isEnded()) {
+			return WantAgainResult.NOT_ENDED;
+		}
+		boolean user1 = current.user1Id().equals(userId);
+		CallSessionState updated = new CallSessionState(current.sessionId(), current.user1Id(), current.user2Id(),
+			CallSessionStatus.ENDED, current.webrtcChannelId(), current.createdAt(), updatedAt, current.startedAt(),
+			current.endedAt(), user1 ? wantAgain : current.user1WantAgain(), user1 ? current.user2WantAgain() : wantAgain,
+			current.version() + 1);
+		sessions.put(sessionId, updated);
+		pending.putIfAbsent(sessionId, System.currentTimeMillis());
+		boolean wasBoth = current.user1WantAgain() && current.user2WantAgain();
+		return !wasBoth && updated.user1WantAgain() && updated.user2WantAgain()
+			? WantAgainResult.BOTH_WANT_AGAIN
+			: WantAgainResult.UPDATED;
+	}
+
+	@Override
+	public synchronized List<ActiveCallSession> activeSessions() {
+		return sessions.values().stream()
+			.filter(CallSessionState::isInProgress)
+			.map(state -> new ActiveCallSession(state.sessionId(), state.startedAt()))
+			.toList();
+	}
+
+	@Override
+	public synchronized List<Long> overdueSessionIds(LocalDateTime cutoffTime, int limit) {
+		return sessions.values().stream()
+			.filter(CallSessionState::isInProgress)
+			.filter(state -> !state.startedAt().isAfter(cutoffTime))
+			.sorted(Comparator.comparing(CallSessionState::startedAt))
+			.limit(limit)
+			.map(CallSessionState::sessionId)
+			.toList();
+	}
+
+	@Override
+	public List<CallSessionState> claimPending(int limit, Duration claimTimeout) {
+		List<CallSessionState> claimed = claim(limit, claimTimeout);
+		afterClaim.run();
+		return claimed;
+	}
+
+	private synchronized List<CallSessionState> claim(int limit, Duration claimTimeout) {
+		long now = System.currentTimeMillis();
+		List<CallSessionState> claimed = new ArrayList<>();
+		for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+			if (claimed.size() == limit) {
+				break;
+			}
+			if (entry.getValue() <= now) {
+				entry.setValue(now + claimTimeout.toMillis());
+				claimed.add(sessions.get(entry.getKey()));
+			}
+		}
+		return claimed;
+	}
+
+	@Override
+	public synchronized void ackFlushed(CallSessionState flushed) {
+		if (failAcks) {
+			throw new IllegalStateException("simulated crash before ack");
+		}
+		CallSessionState current = sessions.get(flushed.sessionId());
+		if (current == null || current.version() == flushed.version()) {
+			pending.remove(flushed.sessionId());
+		} else {
+			pending.computeIfPresent(flushed.sessionId(), (id, score) -> System.currentTimeMillis());
+		}
+	}
+
+	/**
+	 * ack 직전 프로세스 종료 재현
+	 */
+	public void failAcks(boolean failAcks) {
+		this.failAcks = failAcks;
+	}
+
+	/**
+	 * 선점 직후 실행할 동작 (flush 도중 변경 재현)
+	 */
+	public void afterClaim(Runnable afterClaim) {
+		this.afterClaim = afterClaim;
+	}
+
+	public synchronized int pendingCount() {
+		return pending.size();
+	}
+}
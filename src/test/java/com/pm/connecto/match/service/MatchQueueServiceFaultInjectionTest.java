@@ -0,0 +1,161 @@
+package com.pm.connecto.match.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import com.pm.connecto.common.resilience.CircuitBreaker;
+import com.pm.connecto.language.index.LanguageMask;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Redis 장애 주입 테스트
+ * - RedisMatchQueue가 주입된 지연 후 연결 실패를 던지는 상황에서 매칭 시도(enqueue + findMatch) 지연 측정
+ */
+@DisplayName("MatchQueueService 장애 주입 테스트")
+class MatchQueueServiceFaultInjectionTest {
+
+	private static final int FAILURE_THRESHOLD = 5;
+	private static final long INJECTED_LATENCY_MILLIS = 200;
+	private static final LanguageMask KOREAN_LEARNER = new LanguageMask(1L, 2L);
+	private static final LanguageMask ENGLISH_LEARNER = new LanguageMask(2L, 1L);
+
+	private RedisMatchQueue redisMatchQueue;
+
+	@BeforeEach
+	void setUp() {
+		redisMatchQueue = mock(RedisMatchQueue.class);
+	}
+
+	@Test
+	@DisplayName("성공: Redis 장애 중에도 breaker가 열린 뒤에는 로컬 대기열로 즉시 매칭한다 (p99 측정)")
+	void 장애_중_로컬_매칭_p99() {
+		// given: Redis 연결 타임아웃 상황 (호출마다 200ms 후 실패)
+		Answer<Object> outage = invocation -> {
+			Thread.sleep(INJECTED_LATENCY_MILLIS);
+			throw new RedisConnectionFailureException("injected outage");
+		};
+		doAnswer(outage).when(redisMatchQueue).enqueue(anyLong(), any(), anyLong());
+		when(redisMatchQueue.findMatch(anyLong(), any())).thenAnswer(outage);
+		MatchQueueService service = service(Duration.ofMinutes(1));
+		Histogram latency = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+		int attempts = 1000;
+		int matched = 0;
+
+		// when
+		for (long userId = 1; userId <= attempts; userId++) {
+			long start = System.nanoTime();
+			service.enqueue(userId, userId % 2 == 0 ? KOREAN_LEARNER : ENGLISH_LEARNER);
+			Long partner = service.findMatch(userId, Set::of);
+			latency.recordValue(System.nanoTime() - start);
+			if (partner != null) {
+				matched++;
+			}
+		}
+
+		// then: 장애 호출은 breaker가 열리기 전 FAILURE_THRESHOLD번뿐, 이후 Redis 호출 없음
+		long p99Millis = TimeUnit.NANOSECONDS.toMillis(latency.getValueAtPercentile(99));
+		assertThat(latency.getMaxValue()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(INJECTED_LATENCY_MILLIS));
+		assertThat(p99Millis).isLessThan(50);
+		verify(redisMatchQueue, times(FAILURE_THRESHOLD)).enqueue(anyLong(), any(), anyLong());
+		assertThat(matched).isEqualTo(attempts / 2);
+		assertThat(service.getQueueSize()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공: 복구 후 로컬 대기자를 원래 대기 시작 시각으로 Redis에 되돌린다")
+	void 복구_후_재합류() throws InterruptedException {
+		// given: 장애로 breaker가 열린 뒤 로컬 대기열에 진입
+		doThrow(new RedisConnectionFailureException("injected outage"))
+			.when(redisMatchQueue).enqueue(anyLong(), any(), anyLong());
+		MatchQueueService service = service(Duration.ofMillis(50));
+		for (long userId = 1; userId <= FAILURE_THRESHOLD + 1; userId++) {
+			service.enqueue(userId, KOREAN_LEARNER);
+		}
+		assertThat(service.isInQueue(1L)).isTrue();
+
+		// when: Redis 복구, open 시간 경과 후 재합류
+		reset(redisMatchQueue);
+		doNothing().when(redisMatchQueue).enqueue(anyLong(), any(), anyLong());
+		when(redisMatchQueue.findMatch(anyLong(), any())).thenReturn(null);
+		Thread.sleep(100);
+		service.reconcile();
+
+		// then
+		ArgumentCaptor<Long> enqueuedAt = ArgumentCaptor.forClass(Long.class);
+		verify(redisMatchQueue, times(FAILURE_THRESHOLD + 1))
+			.enqueue(anyLong(), eq(KOREAN_LEARNER), enqueuedAt.capture());
+		assertThat(enqueuedAt.getAllValues()).isSorted();
+		assertThat(service.isInQueue(1L)).isFalse();
+		assertThat(service.findMatch(1L, Set::of)).isNull();
+		verify(redisMatchQueue).findMatch(eq(1L), any());
+	}
+
+	@Test
+	@DisplayName("성공: 비트마스크로 판정할 수 없는 대기자는 언어 호환 사용자 목록으로 판정한다")
+	void 비트마스크_판정_불가_후보_목록() {
+		// given: breaker가 열려 로컬 대기열 사용, 1은 마스크 없이(비트가 없는 언어 등) 대기
+		doThrow(new RedisConnectionFailureException("injected outage"))
+			.when(redisMatchQueue).enqueue(anyLong(), any(), anyLong());
+		MatchQueueService service = service(Duration.ofMinutes(1));
+		LanguageMask otherLanguages = new LanguageMask(4L, 8L);
+		for (long userId = 100; userId < 100 + FAILURE_THRESHOLD; userId++) {
+			service.enqueue(userId, otherLanguages);
+		}
+		service.enqueue(1L, LanguageMask.EMPTY);
+		service.enqueue(2L, ENGLISH_LEARNER);
+
+		// when & then
+		assertThat(service.findMatch(2L, Set::of)).isNull();
+		assertThat(service.findMatch(2L, () -> Set.of(1L))).isEqualTo(1L);
+		assertThat(service.isInQueue(1L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("성공: 장애 중 이탈은 복구 후 Redis에 반영한다")
+	void 장애_중_이탈_보관() throws InterruptedException {
+		// given
+		doThrow(new RedisConnectionFailureException("injected outage")).when(redisMatchQueue).dequeue(anyLong());
+		MatchQueueService service = service(Duration.ofMillis(50));
+		for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+			service.dequeue(1L);
+		}
+
+		// when
+		reset(redisMatchQueue);
+		Thread.sleep(100);
+		service.reconcile();
+
+		// then
+		verify(redisMatchQueue).dequeue(1L);
+	}
+
+	private MatchQueueService service(Duration openDuration) {
+		CircuitBreaker breaker = new CircuitBreaker("match.redis.breaker", new SimpleMeterRegistry(),
+			FAILURE_THRESHOLD, openDuration, e -> e instanceof DataAccessException);
+		return new MatchQueueService(redisMatchQueue, breaker, new SimpleMeterRegistry());
+	}
+}
@@ -0,0 +1,130 @@
+package com.pm.connecto.match.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.pm.connecto.common.persistence.EntityIdAllocator;
+import com.pm.connecto.common.resilience.CircuitBreaker;
+import com.pm.connecto.language.service.LanguageService;
+import com.pm.connecto.match.dto.CallSessionState;
+import com.pm.connecto.match.event.CallSessionStartedEvent;
+import com.pm.connecto.match.repository.CallSessionRepository;
+import com.pm.connecto.profile.repository.ProfileRepository;
+import com.pm.connecto.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("MatchService 재연결 테스트")
+class MatchServiceRematchTest {
+
+	private static final Long ORIGINAL_SESSION_ID = 100L;
+	private static final Long USER1_ID = 1L;
+	private static final Long USER2_ID = 2L;
+
+	private final AtomicLong ids = new AtomicLong(1_000);
+	private InMemoryActiveCallSessionStore store;
+	private MatchQueueService matchQueueService;
+	private ApplicationEventPublisher eventPublisher;
+	private MatchService matchService;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		store = new InMemoryActiveCallSessionStore();
+		matchQueueService = mock(MatchQueueService.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+		EntityIdAllocator entityIdAllocator = mock(EntityIdAllocator.class);
+		when(entityIdAllocator.allocate(any())).thenAnswer(invocation -> ids.incrementAndGet());
+		ProfileRepository profileRepository = mock(ProfileRepository.class);
+		when(profileRepository.findResponsesByUserIdIn(any())).thenReturn(List.of());
+
+		matchService = new MatchService(mock(CallSessionRepository.class), profileRepository,
+			mock(UserRepository.class), matchQueueService, mock(MatchRevealCache.class), mock(LanguageService.class),
+			store, entityIdAllocator,
+			new CircuitBreaker("match.redis.breaker", new SimpleMeterRegistry(), 5, Duration.ofSeconds(5), e -> false),
+			eventPublisher);
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("성공: 양쪽이 동시에 재연결해도 원 세션 기준으로 새 세션은 1개만 생성된다")
+	void 동시_재연결_멱등() throws Exception {
+		// given
+		CountDownLatch start = new CountDownLatch(1);
+		Callable<Optional<CallSessionState>> tap = () -> {
+			start.await();
+			return matchService.rematch(ORIGINAL_SESSION_ID, USER1_ID, USER2_ID);
+		};
+
+		// when
+		Future<Optional<CallSessionState>> first = executor.submit(tap);
+		Future<Optional<CallSessionState>> second = executor.submit(tap);
+		start.countDown();
+
+		// then: 두 호출 모두 같은 세션, 두 사용자 모두 그 세션에 참여 중
+		Long sessionId = first.get().orElseThrow().sessionId();
+		assertThat(second.get().orElseThrow().sessionId()).isEqualTo(sessionId);
+		assertThat(store.findActiveSessionId(USER1_ID)).contains(sessionId);
+		assertThat(store.findActiveSessionId(USER2_ID)).contains(sessionId);
+		verify(eventPublisher, times(1)).publishEvent(any(CallSessionStartedEvent.class));
+	}
+
+	@Test
+	@DisplayName("성공: 다시 대기열에 들어가 있던 사용자는 대기열에서 제거된다")
+	void 대기열_제거() {
+		// given
+		when(matchQueueService.isInQueue(USER2_ID)).thenReturn(true);
+
+		// when
+		Optional<CallSessionState> rematch = matchService.rematch(ORIGINAL_SESSION_ID, USER1_ID, USER2_ID);
+
+		// then
+		assertThat(rematch).isPresent();
+		verify(matchQueueService).dequeue(USER2_ID);
+		verify(matchQueueService, never()).dequeue(USER1_ID);
+	}
+
+	@Test
+	@DisplayName("실패: 한 명이 이미 다른 사용자와 통화 중이면 재연결하지 않는다")
+	void 다른_통화_중() {
+		// given
+		store.create(CallSessionState.started(50L, USER2_ID, 3L, "channel_other", LocalDateTime.now()));
+
+		// when
+		Optional<CallSessionState> rematch = matchService.rematch(ORIGINAL_SESSION_ID, USER1_ID, USER2_ID);
+
+		// then
+		assertThat(rematch).isEmpty();
+		assertThat(store.findActiveSessionId(USER1_ID)).isEmpty();
+		verify(matchQueueService, never()).dequeue(anyLong());
+		verify(eventPublisher, never()).publishEvent(any(CallSessionStartedEvent.class));
+	}
+}
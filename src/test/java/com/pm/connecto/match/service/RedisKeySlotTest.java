@@ -0,0 +1,167 @@
+package com.pm.connecto.match.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.pm.connecto.common.redis.RedisShards;
+import com.pm.connecto.language.index.LanguageMask;
+import com.pm.connecto.match.dto.CallSessionState;
+
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * Redis Cluster 슬롯 테스트
+ * - 다중 키 스크립트의 KEYS가 한 슬롯에 모이는지 (CROSSSLOT 방지)
+ */
+@DisplayName("Redis 키 슬롯 테스트")
+class RedisKeySlotTest {
+
+	@Test
+	@DisplayName("성공: 세션 생성/재연결 스크립트의 키는 한 슬롯에 속하고, 참여자 키는 스크립트에 포함되지 않는다")
+	@SuppressWarnings("unchecked")
+	void 세션_스크립트_단일_슬롯() {
+		// given
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.setIfAbsent(anyString(), anyString())).willReturn(true);
+		// 재연결 선점은 새 세션 ID, 나머지 스크립트는 성공(1) 반환
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willAnswer(invocation -> {
+			List<String> scriptKeys = invocation.getArgument(1);
+			return scriptKeys.get(0).contains(":rematch:") ? 1001L : 1L;
+		});
+		RedisActiveCallSessionStore store = new RedisActiveCallSessionStore(redisTemplate, 8);
+		CallSessionState state = CallSessionState.started(1001L, 17L, 90210L, "channel_test", LocalDateTime.now());
+
+		// when
+		store.create(state);
+		store.createRematch(1000L, state);
+
+		// then
+		ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+		verify(redisTemplate, atLeastOnce()).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+		assertThat(keys.getAllValues()).hasSizeGreaterThanOrEqualTo(4)
+			.allSatisfy(scriptKeys -> assertThat(slots(scriptKeys)).hasSize(1))
+			.noneSatisfy(scriptKeys -> assertThat(scriptKeys).contains(RedisActiveCallSessionStore.userKey(17L)));
+	}
+
+	@Test
+	@DisplayName("성공: 세션 키는 샤드 안에서 한 슬롯, 샤드끼리는 서로 다른 슬롯에 분산된다")
+	@SuppressWarnings("unchecked")
+	void 세션_샤드_슬롯() {
+		// given
+		RedisActiveCallSessionStore store = new RedisActiveCallSessionStore(mock(RedisTemplate.class), 8);
+		Set<Integer> shardSlots = new HashSet<>();
+
+		// when
+		for (long sessionId = 1; sessionId <= 8; sessionId++) {
+			int shard = store.shardOf(sessionId);
+			Set<Integer> slots = slots(List.of(store.sessionKey(sessionId), store.rematchKey(sessionId),
+				RedisActiveCallSessionStore.activeKey(shard), RedisActiveCallSessionStore.pendingKey(shard)));
+			assertThat(slots).hasSize(1);
+			shardSlots.addAll(slots);
+		}
+
+		// then
+		assertThat(shardSlots).hasSize(8);
+	}
+
+	@Test
+	@DisplayName("성공: 샤드 수는 명시값을 그대로 쓰고, 1 미만이면 예외가 발생한다")
+	void 샤드_수_명시값() {
+		assertThat(RedisShards.resolve("shards", 1)).isEqualTo(1);
+		assertThat(RedisShards.resolve("shards", 16)).isEqualTo(16);
+		assertThatThrownBy(() -> RedisShards.resolve("shards", 0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("성공: 대기열 샤드 키는 샤드 안에서 한 슬롯, 샤드끼리는 서로 다른 슬롯에 분산된다")
+	void 대기열_샤드_슬롯() {
+		// given
+		Set<Integer> shardSlots = new HashSet<>();
+
+		// when
+		for (int shard = 0; shard < 8; shard++) {
+			Set<Integer> slots = slots(List.of(RedisMatchQueue.queueKey(shard), RedisMatchQueue.masksKey(shard),
+				RedisMatchQueue.lockKey(shard)));
+			assertThat(slots).hasSize(1);
+			shardSlots.addAll(slots);
+		}
+
+		// then
+		assertThat(shardSlots).hasSize(8);
+	}
+
+	@Test
+	@DisplayName("성공: 서로 교환 가능한 단일 언어 사용자는 같은 샤드에 배정된다")
+	@SuppressWarnings("unchecked")
+	void 교환_상대_같은_샤드() {
+		// given
+		RedisMatchQueue queue = new RedisMatchQueue(mock(RedisTemplate.class), mock(RedissonClient.class), 8);
+		Set<Integer> usedShards = new HashSet<>();
+
+		// when & then: 언어 i를 쓰고 j를 배우는 사용자 ↔ j를 쓰고 i를 배우는 사용자
+		for (int i = 0; i < 10; i++) {
+			for (int j = 0; j < 10; j++) {
+				if (i == j) {
+					continue;
+				}
+				List<Integer> shards = queue.shardsOf(new LanguageMask(1L << i, 1L << j));
+				assertThat(shards).hasSize(1);
+				assertThat(queue.shardsOf(new LanguageMask(1L << j, 1L << i))).isEqualTo(shards);
+				usedShards.addAll(shards);
+			}
+		}
+		assertThat(usedShards).hasSizeGreaterThan(1);
+	}
+
+	@Test
+	@DisplayName("성공: 여러 언어를 등록한 사용자는 가장 낮은 언어가 아닌 조합으로 교환하는 상대와도 샤드를 공유한다")
+	@SuppressWarnings("unchecked")
+	void 다중_언어_교환_상대_같은_샤드() {
+		// given
+		RedisMatchQueue queue = new RedisMatchQueue(mock(RedisTemplate.class), mock(RedissonClient.class), 8);
+
+		// when & then: 모국어 0,1,2 / 학습 3,4 사용자 ↔ 모국어 k(3,4) / 학습 i(0,1,2) 사용자
+		List<Integer> multiLanguageShards = queue.shardsOf(new LanguageMask(0b00111L, 0b11000L));
+		for (int i = 0; i < 3; i++) {
+			for (int k = 3; k < 5; k++) {
+				assertThat(queue.shardsOf(new LanguageMask(1L << k, 1L << i)))
+					.allSatisfy(shard -> assertThat(multiLanguageShards).contains(shard));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("성공: 샤드 목록은 대기 키 값으로 인코딩/디코딩되고 이전 단일 샤드 값도 읽는다")
+	void 샤드_목록_인코딩() {
+		assertThat(RedisMatchQueue.decodeShards(RedisMatchQueue.encodeShards(List.of(0, 3, 5))))
+			.containsExactly(0, 3, 5);
+		assertThat(RedisMatchQueue.decodeShards("2")).containsExactly(2);
+	}
+
+	private static Set<Integer> slots(List<String> keys) {
+		return keys.stream().map(SlotHash::getSlot).collect(Collectors.toSet());
+	}
+}
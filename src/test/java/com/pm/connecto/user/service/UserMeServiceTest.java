@@ -0,0 +1,133 @@
+package com.pm.connecto.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.pm.connecto.language.domain.Language;
+import com.pm.connecto.language.domain.LanguageLevel;
+import com.pm.connecto.language.domain.LanguageType;
+import com.pm.connecto.language.repository.LanguageRepository;
+import com.pm.connecto.language.service.LanguageService;
+import com.pm.connecto.profile.domain.Profile;
+import com.pm.connecto.profile.repository.ProfileRepository;
+import com.pm.connecto.user.domain.User;
+import com.pm.connecto.user.dto.UserMeResponse;
+import com.pm.connecto.user.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * /users/me 통합 조회 쿼리 수 및 캐시 테스트
+ * - 캐시 put/evict가 커밋 이후에 반영되므로 테스트 트랜잭션(@Transactional)을 사용하지 않음
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("UserMeService 통합 테스트")
+class UserMeServiceTest {
+
+	@Autowired
+	private UserMeService userMeService;
+
+	@Autowired
+	private LanguageService languageService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProfileRepository profileRepository;
+
+	@Autowired
+	private LanguageRepository languageRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		User user = userRepository.save(new User("me@example.com", "encodedPassword123"));
+		userId = user.getId();
+		profileRepository.save(Profile.builder().user(user).nickname("connecto").bio("hello").build());
+		languageRepository.save(Language.builder()
+			.user(user).languageCode("ko").type(LanguageType.NATIVE).level(LanguageLevel.ADVANCED).build());
+		languageRepository.save(Language.builder()
+			.user(user).languageCode("en").type(LanguageType.LEARNING).level(LanguageLevel.BEGINNER).build());
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		languageRepository.deleteAll();
+		profileRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("성공: 캐시 miss 시 쿼리 1회, hit 시 쿼리 0회")
+	void 캐시_miss_1회_hit_0회() {
+		// when: 캐시 miss
+		UserMeResponse first = userMeService.getMyInfo(userId);
+
+		// then
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(first.user().email()).isEqualTo("me@example.com");
+		assertThat(first.profile().nickname()).isEqualTo("connecto");
+		assertThat(first.languages()).extracting(UserMeResponse.LanguageInfo::languageCode)
+			.containsExactly("ko", "en");
+
+		// when: 캐시 hit
+		statistics.clear();
+		UserMeResponse second = userMeService.getMyInfo(userId);
+
+		// then
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(second).isEqualTo(first);
+	}
+
+	@Test
+	@DisplayName("성공: 언어 변경 시 캐시가 무효화되어 최신 정보가 조회된다")
+	void 언어_변경_시_캐시_무효화() {
+		// given
+		userMeService.getMyInfo(userId);
+
+		// when
+		languageService.addLanguage(userId, "ja", LanguageType.LEARNING, LanguageLevel.INTERMEDIATE);
+		statistics.clear();
+		UserMeResponse result = userMeService.getMyInfo(userId);
+
+		// then
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(result.languages()).extracting(UserMeResponse.LanguageInfo::languageCode)
+			.containsExactly("ko", "en", "ja");
+	}
+
+	@Test
+	@DisplayName("성공: 프로필과 언어가 없는 사용자도 단일 쿼리로 조회된다")
+	void 프로필_언어_없는_사용자_조회() {
+		// given
+		Long emptyUserId = userRepository.save(new User("empty@example.com", "encodedPassword123")).getId();
+		statistics.clear();
+
+		// when
+		UserMeResponse result = userMeService.getMyInfo(emptyUserId);
+
+		// then
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(result.profile()).isNull();
+		assertThat(result.languages()).isEmpty();
+	}
+}
@@ -21,6 +21,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import com.pm.connecto.common.exception.DuplicateResourceException;
 import com.pm.connecto.common.exception.ResourceNotFoundException;
 import com.pm.connecto.common.response.ErrorCode;
+import com.pm.connecto.language.index.LanguageCompatibilityIndex;
 import com.pm.connecto.user.domain.User;
 import com.pm.connecto.user.repository.UserRepository;
 
@@ -34,6 +35,9 @@ class UserServiceTest {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private LanguageCompatibilityIndex languageCompatibilityIndex;
+
 	@InjectMocks
 	private UserService userService;
 
@@ -169,6 +173,7 @@ class UserServiceTest {
 			// then
 			assertThat(user.isDeleted()).isTrue();
 			assertThat(user.getDeletedAt()).isNotNull();
+			verify(languageCompatibilityIndex).removeUser(userId);
 		}
 
 		@Test
@@ -0,0 +1,106 @@
+-- Flyway 도입 이전 운영 스키마 (기준 커밋의 엔티티로 ddl-auto가 생성한 PostgreSQL DDL 그대로)
+-- LegacySchemaMigrationTest에서 baseline-on-migrate 경로 검증용
+
+    create table call_sessions (
+        user1want_again boolean not null,
+        user2want_again boolean not null,
+        created_at timestamp(6) not null,
+        ended_at timestamp(6),
+        id bigint generated by default as identity,
+        started_at timestamp(6),
+        updated_at timestamp(6) not null,
+        user1_id bigint not null,
+        user2_id bigint not null,
+        status varchar(20) not null check (status in ('WAITING','IN_PROGRESS','ENDED')),
+        webrtc_channel_id varchar(100),
+        primary key (id)
+    );
+
+    create table languages (
+        created_at timestamp(6) not null,
+        id bigint generated by default as identity,
+        user_id bigint not null,
+        language_code varchar(10) not null,
+        level varchar(20) not null check (level in ('BEGINNER','INTERMEDIATE','ADVANCED')),
+        type varchar(20) not null check (type in ('NATIVE','LEARNING')),
+        primary key (id),
+        constraint uk_user_language_type unique (user_id, language_code, type)
+    );
+
+    create table profiles (
+        created_at timestamp(6) not null,
+        id bigint generated by default as identity,
+        updated_at timestamp(6) not null,
+        user_id bigint not null unique,
+        nickname varchar(50) not null unique,
+        bio varchar(500),
+        profile_image_url varchar(500),
+        primary key (id)
+    );
+
+    create table users (
+        created_at timestamp(6) not null,
+        deleted_at timestamp(6),
+        id bigint generated by default as identity,
+        updated_at timestamp(6) not null,
+        status varchar(20) not null check (status in ('ACTIVE','BLOCKED','DELETED')),
+        email varchar(100) not null unique,
+        password varchar(255) not null,
+        primary key (id)
+    );
+
+    create index idx_call_session_user1
+       on call_sessions (user1_id);
+
+    create index idx_call_session_user2
+       on call_sessions (user2_id);
+
+    create index idx_call_session_status
+       on call_sessions (status);
+
+    create index idx_call_session_created_at
+       on call_sessions (created_at);
+
+    create index idx_call_session_started_at
+       on call_sessions (started_at);
+
+    create index idx_call_session_status_started
+       on call_sessions (status, started_at);
+
+    create index idx_language_user_id
+       on languages (user_id);
+
+    create index idx_language_code
+       on languages (language_code);
+
+    create index idx_language_type
+       on languages (type);
+
+    create index idx_language_matching
+       on languages (language_code, type, level);
+
+    create index idx_user_email
+       on users (email);
+
+    create index idx_user_status
+       on users (status);
+
+    alter table if exists call_sessions
+       add constraint FKhthsk6459lo3vn5wb6ifcpb9g
+       foreign key (user1_id)
+       references users;
+
+    alter table if exists call_sessions
+       add constraint FKnld2bjbgywk25j8l8sby1cvd1
+       foreign key (user2_id)
+       references users;
+
+    alter table if exists languages
+       add constraint FKkt6rx7cf2t4ld45jkmnd0fc8e
+       foreign key (user_id)
+       references users;
+
+    alter table if exists profiles
+       add constraint FK410q61iev7klncmpqfuo85ivh
+       foreign key (user_id)
+       references users;